@@ -0,0 +1,141 @@
+package com.yakrooms.be.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.yakrooms.be.config.JacksonConfig;
+import com.yakrooms.be.config.RedisConfig;
+import com.yakrooms.be.dto.cache.HotelCardCacheDto;
+import com.yakrooms.be.dto.cache.HotelListingCacheDto;
+import com.yakrooms.be.dto.cache.PageCacheDto;
+import com.yakrooms.be.model.enums.HotelType;
+
+/**
+ * Cost of serializing cached pages of 20 hotel DTOs with the cache ObjectMapper.
+ *
+ * Each operation runs through the mapper as ObjectMapper.writeValueAsBytes and
+ * readValue resolve it per call, and through an ObjectWriter or ObjectReader
+ * resolved once for the page type, as JsonCodecs hands them out. Module
+ * "blackbird" registers JacksonConfig's module on the application mapper the
+ * cache mapper is copied from; "none" leaves it out. Setup fails if Blackbird
+ * changes the output.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 8, time = 1)
+@Fork(2)
+public class DtoSerializationBenchmark {
+
+    @Param({"none", "blackbird"})
+    public String module;
+
+    private ObjectMapper mapper;
+    private JavaType listingsType;
+    private ObjectWriter listingsWriter;
+    private ObjectWriter cardsWriter;
+    private ObjectReader listingsReader;
+    private PageCacheDto<HotelListingCacheDto> listings;
+    private PageCacheDto<HotelCardCacheDto> cards;
+    private byte[] listingsJson;
+
+    @Setup
+    public void setup() throws Exception {
+        // What spring.jackson.* and Spring Boot give the application mapper
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ObjectMapper plain = new RedisConfig().cacheObjectMapper(builder.build());
+        mapper = "blackbird".equals(module)
+                ? new RedisConfig().cacheObjectMapper(builder.modulesToInstall(new JacksonConfig().blackbirdModule()).build())
+                : plain;
+
+        List<HotelListingCacheDto> listingItems = new ArrayList<>();
+        List<HotelCardCacheDto> cardItems = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            HotelType type = HotelType.values()[i % HotelType.values().length];
+            HotelListingCacheDto listing = new HotelListingCacheDto();
+            listing.setId((long) i);
+            listing.setName("Hotel " + i);
+            listing.setAddress("Norzin Lam " + i);
+            listing.setDistrict("Thimphu");
+            listing.setLocality("Changzamtok");
+            listing.setDescription("A quiet hotel near the clock tower with valley views " + i);
+            listing.setPhone("+975-2-33" + i);
+            listing.setVerified(true);
+            listing.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, i));
+            listing.setPhotoUrls(List.of("https://cdn.example/h" + i + "a.jpg", "https://cdn.example/h" + i + "b.jpg"));
+            listing.setAmenities(List.of("WIFI", "PARKING", "BREAKFAST"));
+            listing.setHotelType(type);
+            listing.setLowestPrice(1500.0 + i);
+            listing.setAverageRating(4.2);
+            listingItems.add(listing);
+            cardItems.add(new HotelCardCacheDto((long) i, "Hotel " + i, "Thimphu", "Changzamtok", type, 1500.0 + i,
+                    "https://cdn.example/h" + i + "a.jpg", 4.2));
+        }
+        listings = new PageCacheDto<>(listingItems, 0, 20, 200, 10, true, false, 20, false);
+        cards = new PageCacheDto<>(cardItems, 0, 20, 200, 10, true, false, 20, false);
+
+        listingsType = mapper.getTypeFactory().constructParametricType(PageCacheDto.class, HotelListingCacheDto.class);
+        listingsWriter = mapper.writerFor(listingsType);
+        cardsWriter = mapper.writerFor(mapper.getTypeFactory()
+                .constructParametricType(PageCacheDto.class, HotelCardCacheDto.class));
+        listingsReader = mapper.readerFor(listingsType);
+        listingsJson = plain.writeValueAsBytes(listings);
+        if (!Arrays.equals(listingsJson, mapper.writeValueAsBytes(listings))
+                || !Arrays.equals(plain.writeValueAsBytes(cards), mapper.writeValueAsBytes(cards))) {
+            throw new IllegalStateException("Output differs from the plain cache mapper");
+        }
+    }
+
+    @Benchmark
+    public byte[] writeListings() throws Exception {
+        return mapper.writeValueAsBytes(listings);
+    }
+
+    @Benchmark
+    public byte[] writeListingsWithTypedWriter() throws Exception {
+        return listingsWriter.writeValueAsBytes(listings);
+    }
+
+    @Benchmark
+    public byte[] writeCards() throws Exception {
+        return mapper.writeValueAsBytes(cards);
+    }
+
+    @Benchmark
+    public byte[] writeCardsWithTypedWriter() throws Exception {
+        return cardsWriter.writeValueAsBytes(cards);
+    }
+
+    @Benchmark
+    public Object readListings() throws Exception {
+        return mapper.readValue(listingsJson, listingsType);
+    }
+
+    @Benchmark
+    public Object readListingsWithTypedReader() throws Exception {
+        return listingsReader.readValue(listingsJson);
+    }
+}
@@ -0,0 +1,183 @@
+package com.yakrooms.be.config;
+
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Bounded executors, one per slow external dependency, so a stalled SMTP
+ * server or Firebase endpoint only fills its own queue and never ties up
+ * request threads or the other dependencies.
+ *
+ * Full queues reject new tasks (TaskRejectedException); callers log and drop
+ * background work or fail fast instead of running it on their own thread.
+ * Tasks run with the submitter's MDC and security context.
+ *
+ * Spring Boot exports executor.active, executor.pool.size and executor.queued
+ * for every executor bean, tagged with the bean name (name=mailExecutor); this
+ * configuration adds, with the same tag:
+ * - executor.task.wait: time from submission until a worker picks the task up
+ * - executor.task.execution: time spent running the task
+ * - executor.rejected: tasks refused because the queue was full
+ */
+@Configuration
+public class ExecutorConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorConfig.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean virtualThreads;
+
+    public ExecutorConfig(MeterRegistry meterRegistry,
+                          @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.meterRegistry = meterRegistry;
+        // Pool threads become virtual in virtual-thread mode; the pool size still bounds concurrency
+        this.virtualThreads = virtualThreads && Runtime.version().feature() >= 21;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor(
+            @Value("${app.executors.mail.core-pool-size:2}") int corePoolSize,
+            @Value("${app.executors.mail.max-pool-size:4}") int maxPoolSize,
+            @Value("${app.executors.mail.queue-capacity:200}") int queueCapacity) {
+        return boundedExecutor("mailExecutor", "mail-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor firebaseExecutor(
+            @Value("${app.executors.firebase.core-pool-size:4}") int corePoolSize,
+            @Value("${app.executors.firebase.max-pool-size:16}") int maxPoolSize,
+            @Value("${app.executors.firebase.queue-capacity:100}") int queueCapacity) {
+        return boundedExecutor("firebaseExecutor", "firebase-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor uploadThingExecutor(
+            @Value("${app.executors.upload-thing.core-pool-size:1}") int corePoolSize,
+            @Value("${app.executors.upload-thing.max-pool-size:2}") int maxPoolSize,
+            @Value("${app.executors.upload-thing.queue-capacity:50}") int queueCapacity) {
+        return boundedExecutor("uploadThingExecutor", "uploadThing-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${app.executors.notification.core-pool-size:2}") int corePoolSize,
+            @Value("${app.executors.notification.max-pool-size:4}") int maxPoolSize,
+            @Value("${app.executors.notification.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("notificationExecutor", "notification-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    // Long-running hotel deletion jobs, kept off the single scheduler thread
+    @Bean
+    public ThreadPoolTaskExecutor hotelDeletionExecutor(
+            @Value("${app.executors.hotel-deletion.core-pool-size:1}") int corePoolSize,
+            @Value("${app.executors.hotel-deletion.max-pool-size:1}") int maxPoolSize,
+            @Value("${app.executors.hotel-deletion.queue-capacity:50}") int queueCapacity) {
+        return boundedExecutor("hotelDeletionExecutor", "hotelDeletion-", corePoolSize, maxPoolSize, queueCapacity);
+    }
+
+    // The STOMP broker's messageBrokerTaskScheduler makes Boot skip its own
+    // taskScheduler, which left @Scheduled jobs on the broker's heartbeat threads
+    // and spring.task.scheduling.* unused; @Scheduled picks this one by name
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+        ThreadPoolTaskScheduler scheduler = builder.build();
+        scheduler.setVirtualThreads(virtualThreads);
+        return scheduler;
+    }
+
+    private ThreadPoolTaskExecutor boundedExecutor(String name, String threadNamePrefix,
+                                                   int corePoolSize, int maxPoolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setVirtualThreads(virtualThreads);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(Math.max(corePoolSize, maxPoolSize));
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setTaskDecorator(new InstrumentedTaskDecorator(name, meterRegistry));
+        executor.setRejectedExecutionHandler(new CountingAbortPolicy(name,
+                Counter.builder("executor.rejected").tag("name", name).register(meterRegistry)));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    /**
+     * Carries the submitter's MDC and security context into the task and
+     * times queue wait and execution. Decoration happens on submit, so the
+     * wait timer starts when the task is queued.
+     */
+    private static final class InstrumentedTaskDecorator implements TaskDecorator {
+        private final Timer waitTimer;
+        private final Timer executionTimer;
+
+        private InstrumentedTaskDecorator(String name, MeterRegistry meterRegistry) {
+            this.waitTimer = Timer.builder("executor.task.wait").tag("name", name).register(meterRegistry);
+            this.executionTimer = Timer.builder("executor.task.execution").tag("name", name).register(meterRegistry);
+        }
+
+        @Override
+        public Runnable decorate(Runnable runnable) {
+            Map<String, String> mdc = MDC.getCopyOfContextMap();
+            Runnable withSecurityContext = DelegatingSecurityContextRunnable.create(runnable, null);
+            long submittedAt = System.nanoTime();
+            return () -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                Map<String, String> previous = MDC.getCopyOfContextMap();
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                } else {
+                    MDC.clear();
+                }
+                try {
+                    withSecurityContext.run();
+                } finally {
+                    executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    if (previous != null) {
+                        MDC.setContextMap(previous);
+                    } else {
+                        MDC.clear();
+                    }
+                }
+            };
+        }
+    }
+
+    private static final class CountingAbortPolicy implements RejectedExecutionHandler {
+        private final String name;
+        private final Counter rejected;
+        private final ThreadPoolExecutor.AbortPolicy abort = new ThreadPoolExecutor.AbortPolicy();
+
+        private CountingAbortPolicy(String name, Counter rejected) {
+            this.name = name;
+            this.rejected = rejected;
+        }
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            rejected.increment();
+            logger.warn("{} executor saturated ({} active, {} queued), rejecting task",
+                    name, executor.getActiveCount(), executor.getQueue().size());
+            abort.rejectedExecution(runnable, executor);
+        }
+    }
+}
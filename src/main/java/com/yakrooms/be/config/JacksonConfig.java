@@ -0,0 +1,36 @@
+package com.yakrooms.be.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * Serialization tuning for the application's ObjectMapper.
+ *
+ * Spring Boot registers every Module bean on the mapper it builds from the
+ * spring.jackson.* properties, and that mapper backs MVC and the STOMP
+ * message converter. RedisConfig's cacheObjectMapper is a copy of it, so
+ * cache entries get the same modules.
+ *
+ * Blackbird replaces reflective getter, setter and constructor calls with
+ * generated lambdas; it does not change the JSON written or accepted.
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Writers and readers of the shared mapper, resolved once per type
+     */
+    @Bean
+    public JsonCodecs jsonCodecs(ObjectMapper objectMapper) {
+        return new JsonCodecs(objectMapper);
+    }
+}
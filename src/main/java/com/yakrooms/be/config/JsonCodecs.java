@@ -0,0 +1,81 @@
+package com.yakrooms.be.config;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Per-type ObjectWriters and ObjectReaders of one ObjectMapper.
+ *
+ * A writer or reader built for a type resolves its root serializer or
+ * deserializer once; writeValueAsBytes, treeToValue and convertValue look it
+ * up again on every call. Services serializing the same few DTO types over
+ * and over (cached pages, cached responses, WebSocket payloads, idempotent
+ * replays) get them here. The maps only grow with the number of DTO classes.
+ *
+ * JacksonConfig defines the instance for the shared mapper and RedisConfig
+ * the one for the cache mapper ("cacheJsonCodecs").
+ */
+public class JsonCodecs {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private final Map<JavaType, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public JsonCodecs(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writer for values of the given runtime type; null values use the plain mapper writer.
+     */
+    public ObjectWriter writerFor(Object value) {
+        if (value == null) {
+            return objectMapper.writer();
+        }
+        return writers.computeIfAbsent(value.getClass(), objectMapper::writerFor);
+    }
+
+    public ObjectReader readerFor(Class<?> type) {
+        return readerFor(objectMapper.constructType(type));
+    }
+
+    public ObjectReader readerFor(JavaType type) {
+        return readers.computeIfAbsent(type, objectMapper::readerFor);
+    }
+
+    public JavaType parametricType(Class<?> rawClass, Class<?>... parameterClasses) {
+        return objectMapper.getTypeFactory().constructParametricType(rawClass, parameterClasses);
+    }
+
+    public <T> T convertValue(Object value, Class<T> type) {
+        return convertValue(value, objectMapper.constructType(type));
+    }
+
+    /**
+     * Same as ObjectMapper.convertValue, through the cached writer and reader.
+     *
+     * @throws IllegalArgumentException if the value cannot be converted, like ObjectMapper.convertValue
+     */
+    public <T> T convertValue(Object value, JavaType type) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            TokenBuffer buffer = new TokenBuffer(objectMapper, false);
+            writerFor(value).writeValue(buffer, value);
+            try (JsonParser parser = buffer.asParser()) {
+                return readerFor(type).readValue(parser);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+}
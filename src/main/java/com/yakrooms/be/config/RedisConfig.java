@@ -2,13 +2,14 @@ package com.yakrooms.be.config;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -17,6 +18,7 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
@@ -45,41 +47,43 @@ public class RedisConfig {
     @Value("${app.cache.top-hotels.ttl:1800000}")
     private long topHotelsTtl;
 
+    @Value("${app.cache.occupancy-analytics.ttl:600000}")
+    private long occupancyAnalyticsTtl;
+
     /**
-     * Create ObjectMapper optimized for DTO serialization
-     * Much simpler since we're not dealing with JPA entities and proxies
+     * ObjectMapper for cached DTOs: a copy of the application mapper that also
+     * reads and writes fields, so DTOs without setters round-trip through Redis.
+     * Modules of the application mapper, Blackbird included (see JacksonConfig),
+     * carry over with the copy. Not a default candidate, so it never replaces Spring Boot's mapper for
+     * MVC and STOMP; inject it with @Qualifier("cacheObjectMapper").
      */
-    private ObjectMapper createCacheObjectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        
+    @Bean(name = "cacheObjectMapper", defaultCandidate = false)
+    public ObjectMapper cacheObjectMapper(ObjectMapper objectMapper) {
+        ObjectMapper cacheObjectMapper = objectMapper.copy();
+
         // Configure visibility and features for DTOs
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        
-        // Register Java 8 time module for LocalDateTime support
-        objectMapper.registerModule(new JavaTimeModule());
-        
-        // Configure date/time serialization
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        
+        cacheObjectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        cacheObjectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        cacheObjectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        cacheObjectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
         // Configure to handle collections and arrays properly
-        objectMapper.configure(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED, false);
-        objectMapper.configure(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS, false);
-        
+        cacheObjectMapper.configure(SerializationFeature.WRITE_SINGLE_ELEM_ARRAYS_UNWRAPPED, false);
+        cacheObjectMapper.configure(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS, false);
+
         // Handle null values gracefully
-        objectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
-        objectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT, true);
+        cacheObjectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+        cacheObjectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_ARRAY_AS_NULL_OBJECT, true);
 
-        return objectMapper;
+        return cacheObjectMapper;
     }
 
     /**
-     * Expose the cache ObjectMapper as a bean for reuse (e.g., manual cache conversions)
+     * Writers and readers of the cache mapper, resolved once per type
      */
-    @Bean(name = "cacheObjectMapper")
-    public ObjectMapper cacheObjectMapper() {
-        return createCacheObjectMapper();
+    @Bean(name = "cacheJsonCodecs", defaultCandidate = false)
+    public JsonCodecs cacheJsonCodecs(@Qualifier("cacheObjectMapper") ObjectMapper cacheObjectMapper) {
+        return new JsonCodecs(cacheObjectMapper);
     }
 
     /**
@@ -89,17 +93,15 @@ public class RedisConfig {
     @Bean
     @ConditionalOnClass(RedisConnectionFactory.class)
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = false)
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+            @Qualifier("cacheObjectMapper") ObjectMapper cacheObjectMapper) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        // Use the configured ObjectMapper
-        ObjectMapper objectMapper = createCacheObjectMapper();
-
         // Configure GenericJackson2JsonRedisSerializer - handles proxies better
-        // Use our configured ObjectMapper with JavaTimeModule support
+        // Use the cache ObjectMapper, with JavaTimeModule support from the application mapper
         GenericJackson2JsonRedisSerializer genericJackson2JsonRedisSerializer = 
-            new GenericJackson2JsonRedisSerializer(objectMapper);
+            new GenericJackson2JsonRedisSerializer(cacheObjectMapper);
 
         // Set serializers
         template.setKeySerializer(new StringRedisSerializer());
@@ -118,14 +120,12 @@ public class RedisConfig {
     @Bean("redisCacheManager")
     @ConditionalOnClass(RedisConnectionFactory.class)
     @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = false)
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
-        // Use the configured ObjectMapper
-        ObjectMapper objectMapper = createCacheObjectMapper();
-
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+            @Qualifier("cacheObjectMapper") ObjectMapper cacheObjectMapper) {
         // Configure GenericJackson2JsonRedisSerializer for cache - handles proxies better
-        // Use our configured ObjectMapper with JavaTimeModule support
+        // Use the cache ObjectMapper, with JavaTimeModule support from the application mapper
         GenericJackson2JsonRedisSerializer genericJackson2JsonRedisSerializer = 
-            new GenericJackson2JsonRedisSerializer(objectMapper);
+            new GenericJackson2JsonRedisSerializer(cacheObjectMapper);
 
         // Default cache configuration
         RedisCacheConfiguration defaultCacheConfig = RedisCacheConfiguration.defaultCacheConfig()
@@ -157,10 +157,26 @@ public class RedisConfig {
         cacheConfigurations.put("userHotels", defaultCacheConfig
                 .entryTtl(Duration.ofMillis(hotelListingsTtl)));
 
+        // Occupancy analytics per hotel/window - 10 minutes
+        cacheConfigurations.put("occupancyAnalytics", defaultCacheConfig
+                .entryTtl(Duration.ofMillis(occupancyAnalyticsTtl)));
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .transactionAware()
                 .build();
     }
+
+    /**
+     * Pub/sub listener container shared by the WebSocket relay and token revocation sync
+     * Only when either of them runs in redis mode
+     */
+    @Bean
+    @ConditionalOnExpression("'${app.websocket.relay.mode:local}' == 'redis' or '${app.token-revocation.sync:local}' == 'redis'")
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
\ No newline at end of file
@@ -4,10 +4,12 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.converter.DefaultContentTypeResolver;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.socket.config.annotation.*;
@@ -20,6 +22,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private static final Logger logger = LoggerFactory.getLogger(WebSocketConfig.class);
 
+	private final ObjectMapper objectMapper;
+	private final WebSocketTelemetry webSocketTelemetry;
+
+	@Value("${app.websocket.send-time-limit-ms:10000}")
+	private int sendTimeLimitMs;
+
+	@Value("${app.websocket.send-buffer-size-limit:524288}")
+	private int sendBufferSizeLimit;
+
+	@Value("${app.websocket.message-size-limit:65536}")
+	private int messageSizeLimit;
+
+	@Value("${app.websocket.inbound.core-pool-size:4}")
+	private int inboundCorePoolSize;
+
+	@Value("${app.websocket.inbound.max-pool-size:16}")
+	private int inboundMaxPoolSize;
+
+	@Value("${app.websocket.inbound.queue-capacity:1000}")
+	private int inboundQueueCapacity;
+
+	@Value("${app.websocket.outbound.core-pool-size:4}")
+	private int outboundCorePoolSize;
+
+	@Value("${app.websocket.outbound.max-pool-size:16}")
+	private int outboundMaxPoolSize;
+
+	@Value("${app.websocket.outbound.queue-capacity:5000}")
+	private int outboundQueueCapacity;
+
+	// Shared application mapper, so STOMP payloads serialize like REST responses
+	public WebSocketConfig(ObjectMapper objectMapper, WebSocketTelemetry webSocketTelemetry) {
+		this.objectMapper = objectMapper;
+		this.webSocketTelemetry = webSocketTelemetry;
+	}
+
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry config) {
 		logger.info("Configuring WebSocket message broker");
@@ -52,6 +90,36 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		logger.info("WebSocket endpoints registered successfully");
 	}
 
+	@Override
+	public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+		// A session that cannot take its frames within the send time limit, or
+		// whose pending frames exceed the buffer limit, is closed instead of
+		// holding an outbound worker thread
+		registration.setSendTimeLimit(sendTimeLimitMs)
+				.setSendBufferSizeLimit(sendBufferSizeLimit)
+				.setMessageSizeLimit(messageSizeLimit);
+		logger.info("WebSocket transport limits: send time {} ms, send buffer {} bytes, message size {} bytes",
+				sendTimeLimitMs, sendBufferSizeLimit, messageSizeLimit);
+	}
+
+	@Override
+	public void configureClientInboundChannel(ChannelRegistration registration) {
+		registration.taskExecutor()
+				.corePoolSize(inboundCorePoolSize)
+				.maxPoolSize(inboundMaxPoolSize)
+				.queueCapacity(inboundQueueCapacity);
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		// Bounded queue: when full, messages are rejected and counted as dropped
+		registration.taskExecutor()
+				.corePoolSize(outboundCorePoolSize)
+				.maxPoolSize(outboundMaxPoolSize)
+				.queueCapacity(outboundQueueCapacity);
+		registration.interceptors(webSocketTelemetry);
+	}
+
 	@Override
 	public boolean configureMessageConverters(List<MessageConverter> messageConverters) {
 		logger.info("Configuring WebSocket message converters");
@@ -60,7 +128,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 		resolver.setDefaultMimeType(MimeTypeUtils.APPLICATION_JSON);
 
 		MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
-		converter.setObjectMapper(new ObjectMapper());
+		converter.setObjectMapper(objectMapper);
 		converter.setContentTypeResolver(resolver);
 
 		messageConverters.add(converter);
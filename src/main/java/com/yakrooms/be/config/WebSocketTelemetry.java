@@ -0,0 +1,207 @@
+package com.yakrooms.be.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import com.yakrooms.be.util.WebSocketDestinations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * WebSocket session and channel telemetry exported through Micrometer.
+ *
+ * - websocket.sessions.active: connected STOMP sessions
+ * - websocket.subscriptions{channel}: subscriptions per destination channel (bookings, hotels,
+ *   rooms, users, or other for any destination the application does not publish to); a
+ *   channel's gauge is removed when its last subscription goes away
+ * - websocket.outbound.queued.bytes: payload bytes waiting in the client outbound channel
+ * - websocket.outbound.dropped: outbound messages rejected by the bounded outbound executor
+ * - websocket.sessions.slow_consumer_disconnects: sessions closed for exceeding the send time or buffer limit
+ * - websocket.executor.{active,pool.size,queue.size}{channel=inbound|outbound}
+ *
+ * Registered as an interceptor on the client outbound channel to track queued bytes.
+ */
+@Component
+public class WebSocketTelemetry implements ExecutorChannelInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketTelemetry.class);
+
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<ThreadPoolTaskExecutor> inboundExecutor;
+    private final ObjectProvider<ThreadPoolTaskExecutor> outboundExecutor;
+
+    // session id -> (subscription id -> channel)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, ChannelSubscriptions> subscriptionsByChannel = new ConcurrentHashMap<>();
+    private final AtomicLong outboundQueuedBytes = new AtomicLong();
+    private final Counter droppedMessages;
+    private final Counter slowConsumerDisconnects;
+
+    public WebSocketTelemetry(MeterRegistry meterRegistry,
+                              @Qualifier("clientInboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> inboundExecutor,
+                              @Qualifier("clientOutboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> outboundExecutor) {
+        this.meterRegistry = meterRegistry;
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+
+        Gauge.builder("websocket.sessions.active", sessions, Map::size).register(meterRegistry);
+        Gauge.builder("websocket.outbound.queued.bytes", outboundQueuedBytes, AtomicLong::get)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.droppedMessages = Counter.builder("websocket.outbound.dropped").register(meterRegistry);
+        this.slowConsumerDisconnects = Counter.builder("websocket.sessions.slow_consumer_disconnects").register(meterRegistry);
+    }
+
+    // The channel executors are created by the broker configuration, which
+    // depends on this interceptor, so their gauges are bound once the context is up
+    @EventListener(ApplicationReadyEvent.class)
+    public void bindExecutorMetrics() {
+        bindExecutor("inbound", inboundExecutor.getIfAvailable());
+        bindExecutor("outbound", outboundExecutor.getIfAvailable());
+    }
+
+    @EventListener
+    public void onConnect(SessionConnectEvent event) {
+        String sessionId = StompHeaderAccessor.wrap(event.getMessage()).getSessionId();
+        if (sessionId != null) {
+            sessions.putIfAbsent(sessionId, new ConcurrentHashMap<>());
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        // Destinations are chosen by the client, so only known channels get their own tag
+        String channel = WebSocketDestinations.knownChannelOf(accessor.getDestination());
+        String previous = subscriptions.put(accessor.getSubscriptionId(), channel);
+        if (previous == null) {
+            addSubscription(channel);
+        } else if (!previous.equals(channel)) {
+            // Subscription id reused for another destination
+            removeSubscription(previous);
+            addSubscription(channel);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        String channel = subscriptions.remove(accessor.getSubscriptionId());
+        if (channel != null) {
+            removeSubscription(channel);
+        }
+    }
+
+    // May be published more than once per session, so removal is idempotent
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions == null) {
+            return;
+        }
+        for (String channel : subscriptions.values()) {
+            removeSubscription(channel);
+        }
+        if (CloseStatus.SESSION_NOT_RELIABLE.equals(event.getCloseStatus())) {
+            slowConsumerDisconnects.increment();
+            logger.warn("Disconnected slow WebSocket consumer {}", event.getSessionId());
+        }
+    }
+
+    // Outbound channel: bytes are queued from send until a worker picks the message up
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        outboundQueuedBytes.addAndGet(payloadSize(message));
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        if (!sent || ex != null) {
+            outboundQueuedBytes.addAndGet(-payloadSize(message));
+            droppedMessages.increment();
+        }
+    }
+
+    @Override
+    public Message<?> beforeHandle(Message<?> message, MessageChannel channel, MessageHandler handler) {
+        outboundQueuedBytes.addAndGet(-payloadSize(message));
+        return message;
+    }
+
+    private void addSubscription(String channel) {
+        subscriptionsByChannel.compute(channel, (key, subscriptions) -> {
+            if (subscriptions == null) {
+                AtomicInteger count = new AtomicInteger();
+                Gauge gauge = Gauge.builder("websocket.subscriptions", count, AtomicInteger::get)
+                        .tag("channel", key)
+                        .register(meterRegistry);
+                subscriptions = new ChannelSubscriptions(count, gauge);
+            }
+            subscriptions.count.incrementAndGet();
+            return subscriptions;
+        });
+    }
+
+    private void removeSubscription(String channel) {
+        subscriptionsByChannel.computeIfPresent(channel, (key, subscriptions) -> {
+            if (subscriptions.count.decrementAndGet() > 0) {
+                return subscriptions;
+            }
+            meterRegistry.remove(subscriptions.gauge);
+            return null;
+        });
+    }
+
+    private void bindExecutor(String channel, ThreadPoolTaskExecutor executor) {
+        if (executor == null) {
+            return;
+        }
+        Gauge.builder("websocket.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("channel", channel).register(meterRegistry);
+        Gauge.builder("websocket.executor.pool.size", executor, ThreadPoolTaskExecutor::getPoolSize)
+                .tag("channel", channel).register(meterRegistry);
+        Gauge.builder("websocket.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .tag("channel", channel).register(meterRegistry);
+    }
+
+    private static long payloadSize(Message<?> message) {
+        Object payload = message.getPayload();
+        return payload instanceof byte[] bytes ? bytes.length : 0;
+    }
+
+    private record ChannelSubscriptions(AtomicInteger count, Gauge gauge) {
+    }
+}
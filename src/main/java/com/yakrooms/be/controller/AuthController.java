@@ -19,8 +19,12 @@ import com.yakrooms.be.model.entity.User;
 import com.yakrooms.be.repository.UserRepository;
 import com.yakrooms.be.service.FirebaseService;
 import com.yakrooms.be.service.RefreshTokenService;
+import com.yakrooms.be.service.TokenRevocationService;
 import com.yakrooms.be.util.CookieUtil;
 import com.yakrooms.be.security.JwtAuthenticationDetails;
+import com.yakrooms.be.security.JwtUtil;
+
+import io.jsonwebtoken.Claims;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -40,6 +44,12 @@ public class AuthController {
 	
 	@Autowired
 	UserRepository userRepository;
+	
+	@Autowired
+	JwtUtil jwtUtil;
+	
+	@Autowired
+	TokenRevocationService tokenRevocationService;
 
 	@PostMapping("/firebase")
 	public ResponseEntity<?> firebaseLogin(@RequestBody Map<String, String> request,
@@ -232,15 +242,28 @@ public class AuthController {
 	 * Logout user and revoke all refresh tokens
 	 */
 	@PostMapping("/logout")
-	public ResponseEntity<Map<String, Object>> logout(Authentication authentication, HttpServletResponse response) {
+	public ResponseEntity<Map<String, Object>> logout(Authentication authentication, HttpServletRequest request,
+	                                                  HttpServletResponse response) {
 		try {
+			// /auth/logout skips JwtFilter, so fall back to the access token cookie
+			String accessToken = null;
 			if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails) {
-				JwtAuthenticationDetails details = (JwtAuthenticationDetails) authentication.getDetails();
-				Long userId = details.getUserId();
+				accessToken = ((JwtAuthenticationDetails) authentication.getDetails()).getToken();
+			} else {
+				accessToken = cookieUtil.getAccessTokenFromCookie(request);
+			}
+			
+			if (accessToken != null && jwtUtil.validateAccessToken(accessToken)) {
+				Claims claims = jwtUtil.extractAllClaims(accessToken);
+				Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
 				
 				// Revoke all refresh tokens for the user
 				int revokedCount = refreshTokenService.revokeAllUserTokens(userId);
 				
+				// Revoke outstanding access tokens, which would otherwise stay valid until they expire
+				tokenRevocationService.revokeToken(claims.get(JwtUtil.CLAIM_JTI, String.class), claims.getExpiration());
+				tokenRevocationService.revokeAllForUser(userId);
+				
 				// Clear all cookies
 				cookieUtil.clearAllTokenCookies(response);
 				
@@ -8,9 +8,11 @@ import java.util.HashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,9 +21,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 
 import com.yakrooms.be.dto.request.BookingRequest;
@@ -30,10 +36,13 @@ import com.yakrooms.be.dto.response.BookingResponse;
 import com.yakrooms.be.dto.response.BookingExtensionResponse;
 import com.yakrooms.be.dto.response.PagedResponse;
 import com.yakrooms.be.dto.response.CancellationRequestResponse;
+import com.yakrooms.be.service.BookingExportService;
 import com.yakrooms.be.service.BookingService;
+import com.yakrooms.be.service.IdempotencyService;
 import com.yakrooms.be.service.UnifiedBookingService;
 import com.yakrooms.be.util.PageUtils;
 import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.model.enums.ExportFormat;
 import com.yakrooms.be.repository.RoomRepository;
 import com.yakrooms.be.exception.ResourceNotFoundException;
 import com.yakrooms.be.exception.BusinessException;
@@ -56,53 +65,68 @@ public class BookingController {
 	@Autowired
 	private UnifiedBookingService unifiedBookingService;
 
+	@Autowired
+	private BookingExportService bookingExportService;
+
+	@Autowired
+	private IdempotencyService idempotencyService;
+
+	@Value("${app.export.request-timeout-ms:600000}")
+	private long exportTimeoutMs;
+
 	// Create a booking - GUEST, HOTEL_ADMIN, and STAFF can create
 	@PreAuthorize("hasAnyRole('GUEST', 'HOTEL_ADMIN', 'STAFF')")
 	@PostMapping
 	public ResponseEntity<BookingResponse> createBooking(
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
 			@Valid @RequestBody BookingRequest request) {
 		
-		try {
-			BookingResponse response = unifiedBookingService.createBooking(request);
-			return ResponseEntity.ok(response);
-		} catch (Exception e) {
-			logger.error("Failed to create booking: {}", e.getMessage());
-			throw new RuntimeException("Failed to create booking: " + e.getMessage());
-		}
+		return idempotencyService.execute("booking-create", idempotencyKey, request, BookingResponse.class, () -> {
+			try {
+				BookingResponse response = unifiedBookingService.createBooking(request);
+				return ResponseEntity.ok(response);
+			} catch (Exception e) {
+				logger.error("Failed to create booking: {}", e.getMessage());
+				throw new RuntimeException("Failed to create booking: " + e.getMessage());
+			}
+		});
 	}
 	//Not used anywhere 
 	// Create a single-night booking (checkout date auto-set to next day) - GUEST, HOTEL_ADMIN, and STAFF can create
 	@PreAuthorize("hasAnyRole('GUEST', 'HOTEL_ADMIN', 'STAFF')")
 	@PostMapping("/single-night")
 	public ResponseEntity<BookingResponse> createSingleNightBooking(
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
 			@Valid @RequestBody BookingRequest request) {
 		
-		try {
-			logger.info("Creating single-night booking for room: {} with auto-checkout", request.getRoomId());
+		return idempotencyService.execute("booking-create-single-night", idempotencyKey, request, BookingResponse.class, () -> {
+			try {
+				logger.info("Creating single-night booking for room: {} with auto-checkout", request.getRoomId());
 			
-			// Validate that check-in date is provided
-			if (request.getCheckInDate() == null) {
-				logger.error("Check-in date is required for single-night booking");
-				throw new IllegalArgumentException("Check-in date is required for single-night booking");
-			}
+				// Validate that check-in date is provided
+				if (request.getCheckInDate() == null) {
+					logger.error("Check-in date is required for single-night booking");
+					throw new IllegalArgumentException("Check-in date is required for single-night booking");
+				}
 			
-			// Log the auto-checkout behavior for transparency
-			LocalDate autoCheckoutDate = request.getCheckInDate().plusDays(1);
-			logger.info("Auto-setting checkout date to: {} for check-in: {}", 
-					   autoCheckoutDate, request.getCheckInDate());
+				// Log the auto-checkout behavior for transparency
+				LocalDate autoCheckoutDate = request.getCheckInDate().plusDays(1);
+				logger.info("Auto-setting checkout date to: {} for check-in: {}", 
+						   autoCheckoutDate, request.getCheckInDate());
 			
-			BookingResponse response = unifiedBookingService.createSingleNightBooking(request);
+				BookingResponse response = unifiedBookingService.createSingleNightBooking(request);
 			
-			logger.info("Successfully created single-night booking with ID: {}", response.getId());
-			return ResponseEntity.ok(response);
+				logger.info("Successfully created single-night booking with ID: {}", response.getId());
+				return ResponseEntity.ok(response);
 			
-		} catch (IllegalArgumentException e) {
-			logger.error("Invalid request for single-night booking: {}", e.getMessage());
-			throw new RuntimeException("Invalid request: " + e.getMessage());
-		} catch (Exception e) {
-			logger.error("Failed to create single-night booking: {}", e.getMessage());
-			throw new RuntimeException("Failed to create single-night booking: " + e.getMessage());
-		}
+			} catch (IllegalArgumentException e) {
+				logger.error("Invalid request for single-night booking: {}", e.getMessage());
+				throw new RuntimeException("Invalid request: " + e.getMessage());
+			} catch (Exception e) {
+				logger.error("Failed to create single-night booking: {}", e.getMessage());
+				throw new RuntimeException("Failed to create single-night booking: " + e.getMessage());
+			}
+		});
 	}
 	
 	// Get all bookings for hotel - Only HOTEL_ADMIN and STAFF can access
@@ -197,26 +221,30 @@ public class BookingController {
 	@PreAuthorize("hasAnyRole('GUEST', 'HOTEL_ADMIN', 'STAFF')")
 	@PutMapping("/{bookingId}/extend")
 	public ResponseEntity<BookingExtensionResponse> extendBooking(
+			@RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
 			@PathVariable Long bookingId,
 			@Valid @RequestBody BookingExtensionRequest request) {
 		
-		try {
-			logger.info("Extending booking: {} with request: {}", bookingId, request);
+		return idempotencyService.execute("booking-extend", idempotencyKey, List.of(bookingId, request),
+				BookingExtensionResponse.class, () -> {
+			try {
+				logger.info("Extending booking: {} with request: {}", bookingId, request);
 			
-			BookingExtensionResponse response = unifiedBookingService.extendBooking(bookingId, request);
+				BookingExtensionResponse response = unifiedBookingService.extendBooking(bookingId, request);
 			
-			if (response.isSuccess()) {
-				return ResponseEntity.ok(response);
-			} else {
-				return ResponseEntity.badRequest().body(response);
-			}
+				if (response.isSuccess()) {
+					return ResponseEntity.ok(response);
+				} else {
+					return ResponseEntity.badRequest().body(response);
+				}
 			
-		} catch (Exception e) {
-			logger.error("Failed to extend booking: {} - {}", bookingId, e.getMessage());
-			BookingExtensionResponse errorResponse = new BookingExtensionResponse(
-				bookingId, "Failed to extend booking: " + e.getMessage(), false);
-			return ResponseEntity.badRequest().body(errorResponse);
-		}
+			} catch (Exception e) {
+				logger.error("Failed to extend booking: {} - {}", bookingId, e.getMessage());
+				BookingExtensionResponse errorResponse = new BookingExtensionResponse(
+					bookingId, "Failed to extend booking: " + e.getMessage(), false);
+				return ResponseEntity.badRequest().body(errorResponse);
+			}
+		});
 	}
 
 	// Get all bookings for a user - Only GUEST can access their own bookings
@@ -226,6 +254,18 @@ public class BookingController {
 		return ResponseEntity.ok(bookingService.getAllBookingsByUserId(userId));
 	}
 
+	// Stream all bookings for a user as NDJSON or CSV - Only GUEST can access their own bookings
+	@PreAuthorize("hasRole('GUEST')")
+	@GetMapping("/user/{userId}/export")
+	public WebAsyncTask<Void> exportUserBookings(
+			@PathVariable Long userId,
+			@RequestParam(defaultValue = "ndjson") String format,
+			HttpServletResponse response) {
+		ExportFormat exportFormat = ExportFormat.fromString(format);
+		StreamingResponseBody body = out -> bookingExportService.exportUserBookings(userId, exportFormat, out);
+		return exportResponse(response, "user-" + userId + "-bookings", exportFormat, body);
+	}
+
 	// Get all bookings for a user with pagination - Only GUEST can access their own bookings
 	@PreAuthorize("hasRole('GUEST')")
 	@GetMapping("/user/{userId}/page")
@@ -254,6 +294,18 @@ public class BookingController {
 		return ResponseEntity.ok(bookingService.getBookingsByHotel(hotelId));
 	}
 
+	// Stream all bookings for a hotel as NDJSON or CSV - Only HOTEL_ADMIN and STAFF can access
+	@PreAuthorize("hasAnyRole('HOTEL_ADMIN', 'STAFF')")
+	@GetMapping("/hotel/{hotelId}/export")
+	public WebAsyncTask<Void> exportHotelBookings(
+			@PathVariable Long hotelId,
+			@RequestParam(defaultValue = "ndjson") String format,
+			HttpServletResponse response) {
+		ExportFormat exportFormat = ExportFormat.fromString(format);
+		StreamingResponseBody body = out -> bookingExportService.exportHotelBookings(hotelId, exportFormat, out);
+		return exportResponse(response, "hotel-" + hotelId + "-bookings", exportFormat, body);
+	}
+
 	// Get a single booking detail - HOTEL_ADMIN, STAFF, and GUEST can access
 	@PreAuthorize("hasAnyRole('HOTEL_ADMIN', 'STAFF', 'GUEST')")
 	@GetMapping("/{id}")
@@ -594,7 +646,17 @@ public class BookingController {
             return ResponseEntity.internalServerError().body(errorResponse);
         }
     }
-    
-
 
+	// Exports can outlast the default async request timeout, so the task carries its own
+	private WebAsyncTask<Void> exportResponse(HttpServletResponse response, String fileName, ExportFormat format,
+			StreamingResponseBody body) {
+		response.setContentType(format.getContentType() + ";charset=UTF-8");
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+				"attachment; filename=\"" + fileName + "." + format.getExtension() + "\"");
+		return new WebAsyncTask<>(exportTimeoutMs, () -> {
+			body.writeTo(response.getOutputStream());
+			response.flushBuffer();
+			return null;
+		});
+	}
 }
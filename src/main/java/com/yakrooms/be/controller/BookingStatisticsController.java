@@ -2,20 +2,27 @@ package com.yakrooms.be.controller;
 
 import com.yakrooms.be.dto.BookingStatisticsDTO;
 import com.yakrooms.be.dto.MonthlyRevenueStatsDTO;
-import com.yakrooms.be.service.BookingService;
+import com.yakrooms.be.dto.OccupancyAnalyticsDTO;
+import com.yakrooms.be.service.BookingRollupService;
+import com.yakrooms.be.service.OccupancyAnalyticsService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/booking-statistics")
 public class BookingStatisticsController {
 
     @Autowired
-    private BookingService bookingService;
+    private BookingRollupService bookingRollupService;
+
+    @Autowired
+    private OccupancyAnalyticsService occupancyAnalyticsService;
 
     // Get monthly booking statistics - Only HOTEL_ADMIN and STAFF can access
     @PreAuthorize("hasAnyRole('HOTEL_ADMIN', 'STAFF')")
@@ -23,7 +30,7 @@ public class BookingStatisticsController {
     public ResponseEntity<List<BookingStatisticsDTO>> getBookingStatisticsByMonth(
             @RequestParam String startDate) {
         try {
-            List<BookingStatisticsDTO> statistics = bookingService.getBookingStatisticsByMonth(startDate);
+            List<BookingStatisticsDTO> statistics = bookingRollupService.getBookingStatisticsByMonth(startDate);
             return ResponseEntity.ok(statistics);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -37,7 +44,7 @@ public class BookingStatisticsController {
             @PathVariable Long hotelId,
             @RequestParam String startDate) {
         try {
-            List<BookingStatisticsDTO> statistics = bookingService.getBookingStatisticsByMonthAndHotel(startDate, hotelId);
+            List<BookingStatisticsDTO> statistics = bookingRollupService.getBookingStatisticsByMonthAndHotel(startDate, hotelId);
             return ResponseEntity.ok(statistics);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
@@ -51,10 +58,40 @@ public class BookingStatisticsController {
             @PathVariable Long hotelId,
             @RequestParam String startDate) {
         try {
-            List<MonthlyRevenueStatsDTO> revenueStats = bookingService.getMonthlyRevenueStats(hotelId, startDate);
+            List<MonthlyRevenueStatsDTO> revenueStats = bookingRollupService.getMonthlyRevenueStats(hotelId, startDate);
             return ResponseEntity.ok(revenueStats);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().build();
         }
     }
-} 
\ No newline at end of file
+
+    // Get occupancy, ADR and RevPAR for a hotel and date window - Only HOTEL_ADMIN and STAFF can access
+    @PreAuthorize("hasAnyRole('HOTEL_ADMIN', 'STAFF')")
+    @GetMapping("/occupancy/{hotelId}")
+    public ResponseEntity<OccupancyAnalyticsDTO> getOccupancyAnalytics(
+            @PathVariable Long hotelId,
+            @RequestParam String startDate,
+            @RequestParam String endDate) {
+        try {
+            return ResponseEntity.ok(occupancyAnalyticsService.getOccupancyAnalytics(hotelId, startDate, endDate));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // Rebuild daily rollups from booking history - Only SUPER_ADMIN can access
+    @PreAuthorize("hasRole('SUPER_ADMIN')")
+    @PostMapping("/rollups/backfill")
+    public ResponseEntity<Map<String, Object>> backfillRollups(
+            @RequestParam(required = false) Long hotelId) {
+        Map<String, Object> response = new HashMap<>();
+        if (hotelId != null) {
+            response.put("hotelId", hotelId);
+            response.put("rowsWritten", bookingRollupService.backfillHotel(hotelId));
+        } else {
+            response.put("hotelsBackfilled", bookingRollupService.backfillAll());
+        }
+        response.put("success", true);
+        return ResponseEntity.ok(response);
+    }
+} 
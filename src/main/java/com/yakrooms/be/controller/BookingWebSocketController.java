@@ -53,6 +53,9 @@ public class BookingWebSocketController {
         status.put("endpoints", Map.of(
             "general", "/topic/bookings",
             "hotel_specific", "/topic/hotels/{hotelId}/bookings",
+            "hotel_specific_batched", "/topic/hotels/{hotelId}/bookings/batched",
+            "hotel_room_status", "/topic/hotels/{hotelId}/room-status",
+            "hotel_room_status_batched", "/topic/hotels/{hotelId}/room-status/batched",
             "user_specific", "/queue/users/{userId}/bookings"
         ));
         
@@ -3,12 +3,20 @@ package com.yakrooms.be.controller;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,16 +28,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.yakrooms.be.dto.HotelListingDto;
+import com.yakrooms.be.dto.HotelSuggestionDTO;
+import com.yakrooms.be.dto.cache.HotelCardCacheDto;
 import com.yakrooms.be.dto.request.HotelRequest;
 import com.yakrooms.be.dto.request.HotelDeletionRequest;
+import com.yakrooms.be.dto.response.HotelDeletionJobResponse;
 import com.yakrooms.be.dto.response.HotelResponse;
 import com.yakrooms.be.dto.response.PagedResponse;
-import com.yakrooms.be.dto.cache.HotelListingPageCacheDto;
-import com.yakrooms.be.dto.cache.HotelSearchPageCacheDto;
-import com.yakrooms.be.projection.HotelWithPriceProjection;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.HotelAutocompleteService;
+import com.yakrooms.be.service.HotelDeletionJobService;
 import com.yakrooms.be.service.HotelService;
+import com.yakrooms.be.service.ResponseCacheService;
 import com.yakrooms.be.util.PageUtils;
 
 @RestController
@@ -39,6 +52,24 @@ public class HotelController {
 	@Autowired
 	private HotelService hotelService;
 
+	@Autowired
+	private HotelAutocompleteService hotelAutocompleteService;
+
+	@Autowired
+	private HotelDeletionJobService hotelDeletionJobService;
+
+	@Autowired
+	private CatalogVersionService catalogVersionService;
+
+	@Autowired
+	private ResponseCacheService responseCacheService;
+
+	@Value("${app.catalog.http-cache.max-age-seconds:60}")
+	private long catalogMaxAgeSeconds;
+
+	@Value("${app.catalog.http-cache.stale-while-revalidate-seconds:300}")
+	private long catalogStaleWhileRevalidateSeconds;
+
 	// Create new hotel - GUEST users can create hotels (promotes to HOTEL_ADMIN)
 	@PreAuthorize("hasAnyRole('GUEST', 'HOTEL_ADMIN')")
 	@PostMapping("/{userId}")
@@ -57,17 +88,24 @@ public class HotelController {
 	// Get hotel details by hotel ID - Public access
 	@PreAuthorize("permitAll()")
 	@GetMapping("/details/{hotelId}")
-	public ResponseEntity<HotelResponse> getHotelByHotelId(@PathVariable Long hotelId) {
-		return ResponseEntity.ok(hotelService.getHotelById(hotelId));
+	public ResponseEntity<byte[]> getHotelByHotelId(@PathVariable Long hotelId, WebRequest webRequest) {
+		return conditionalGet(webRequest, "details:" + hotelId, hotelETag(hotelId),
+				() -> hotelService.getHotelById(hotelId));
 	}
 
-	// Get all hotels with pagination - Public access
+	// Get all hotels with pagination - Public access; fields= returns lean cards
 	@PreAuthorize("permitAll()")
 	@GetMapping("/list")
-	public ResponseEntity<PagedResponse<HotelListingPageCacheDto>> getAllHotels(
-			@PageableDefault(size = 10) Pageable pageable) {
-		Page<HotelListingPageCacheDto> page = hotelService.getAllHotels(pageable);
-		return ResponseEntity.ok(PageUtils.toPagedResponse(page));
+	public ResponseEntity<byte[]> getAllHotels(
+			@PageableDefault(size = 10) Pageable pageable,
+			@RequestParam(required = false) String fields, WebRequest webRequest) {
+		if (fields != null) {
+			Set<String> cardFields = parseCardFields(fields);
+			return conditionalGet(webRequest, "list:" + pageKey(pageable) + ":" + cardFields, catalogETag(),
+					() -> PageUtils.toPagedResponse(hotelService.getHotelCards(pageable, false, cardFields)));
+		}
+		return conditionalGet(webRequest, "list:" + pageKey(pageable), catalogETag(),
+				() -> PageUtils.toPagedResponse(hotelService.getAllHotels(pageable)));
 	}
 
 	// Get all hotels for super admin - Only SUPER_ADMIN can access
@@ -88,22 +126,34 @@ public class HotelController {
 		return ResponseEntity.ok(PageUtils.toPagedResponse(hotels));
 	}
 
-	// Get hotels sorted by lowest price - Public access
+	// Get hotels sorted by lowest price - Public access; fields= returns lean cards
 	@PreAuthorize("permitAll()")
 	@GetMapping("/sortedByLowestPrice")
-	public ResponseEntity<PagedResponse<HotelListingPageCacheDto>> getAllHotelsSortedByLowestPrice(
-			@PageableDefault(size = 10) Pageable pageable) {
-		Page<HotelListingPageCacheDto> page = hotelService.getAllHotelsSortedByLowestPrice(pageable);
-		return ResponseEntity.ok(PageUtils.toPagedResponse(page));
+	public ResponseEntity<byte[]> getAllHotelsSortedByLowestPrice(
+			@PageableDefault(size = 10) Pageable pageable,
+			@RequestParam(required = false) String fields, WebRequest webRequest) {
+		if (fields != null) {
+			Set<String> cardFields = parseCardFields(fields);
+			return conditionalGet(webRequest, "lowestPrice:" + pageKey(pageable) + ":" + cardFields, catalogETag(),
+					() -> PageUtils.toPagedResponse(hotelService.getHotelCards(pageable, false, cardFields)));
+		}
+		return conditionalGet(webRequest, "lowestPrice:" + pageKey(pageable), catalogETag(),
+				() -> PageUtils.toPagedResponse(hotelService.getAllHotelsSortedByLowestPrice(pageable)));
 	}
 
-	// Get hotels sorted by highest price - Public access
+	// Get hotels sorted by highest price - Public access; fields= returns lean cards
 	@PreAuthorize("permitAll()")
 	@GetMapping("/sortedByHighestPrice")
-	public ResponseEntity<PagedResponse<HotelListingPageCacheDto>> getAllHotelsSortedByHighestPrice(
-			@PageableDefault(size = 10) Pageable pageable) {
-		Page<HotelListingPageCacheDto> page = hotelService.getAllHotelsSortedByHighestPrice(pageable);
-		return ResponseEntity.ok(PageUtils.toPagedResponse(page));
+	public ResponseEntity<byte[]> getAllHotelsSortedByHighestPrice(
+			@PageableDefault(size = 10) Pageable pageable,
+			@RequestParam(required = false) String fields, WebRequest webRequest) {
+		if (fields != null) {
+			Set<String> cardFields = parseCardFields(fields);
+			return conditionalGet(webRequest, "highestPrice:" + pageKey(pageable) + ":" + cardFields, catalogETag(),
+					() -> PageUtils.toPagedResponse(hotelService.getHotelCards(pageable, true, cardFields)));
+		}
+		return conditionalGet(webRequest, "highestPrice:" + pageKey(pageable), catalogETag(),
+				() -> PageUtils.toPagedResponse(hotelService.getAllHotelsSortedByHighestPrice(pageable)));
 	}
 
 	// Update a hotel by ID - Only HOTEL_ADMIN can update
@@ -113,24 +163,42 @@ public class HotelController {
 		return ResponseEntity.ok(hotelService.updateHotel(id, request));
 	}
 
-	// Search hotels - Public access
+	// Search hotels - Public access; fields= returns lean cards
 	@PreAuthorize("permitAll()")
 	@GetMapping("/search")
-	public ResponseEntity<PagedResponse<HotelSearchPageCacheDto>> searchHotels(
+	public ResponseEntity<byte[]> searchHotels(
 			@RequestParam(required = false) String district, 
 			@RequestParam(required = false) String locality,
 			@RequestParam(required = false) String hotelType,
-			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size) {
+			@RequestParam(defaultValue = "0") int page, @RequestParam(defaultValue = "10") int size,
+			@RequestParam(required = false) String fields, WebRequest webRequest) {
 
-		Page<HotelSearchPageCacheDto> results = hotelService.searchHotels(district, locality, hotelType, page, size);
-		return ResponseEntity.ok(PageUtils.toPagedResponse(results));
+		String cacheKey = String.join(":", "search", String.valueOf(district), String.valueOf(locality),
+				String.valueOf(hotelType), Integer.toString(page), Integer.toString(size));
+		if (fields != null) {
+			Set<String> cardFields = parseCardFields(fields);
+			return conditionalGet(webRequest, cacheKey + ":" + cardFields, catalogETag(),
+					() -> PageUtils.toPagedResponse(
+							hotelService.searchHotelCards(district, locality, hotelType, page, size, cardFields)));
+		}
+		return conditionalGet(webRequest, cacheKey, catalogETag(),
+				() -> PageUtils.toPagedResponse(hotelService.searchHotels(district, locality, hotelType, page, size)));
+	}
+
+	// Autocomplete districts, localities and hotel names - Public access
+	@PreAuthorize("permitAll()")
+	@GetMapping("/autocomplete")
+	public ResponseEntity<List<HotelSuggestionDTO>> autocomplete(
+			@RequestParam("q") String query,
+			@RequestParam(defaultValue = "8") int limit) {
+		return ResponseEntity.ok(hotelAutocompleteService.suggest(query, limit));
 	}
 
 	// Get top three hotels - Public access
 	@PreAuthorize("permitAll()")
 	@GetMapping("/topThree")
-	public ResponseEntity<List<HotelWithPriceProjection>> getTopThreeHotels() {
-		return ResponseEntity.ok(hotelService.getTopThreeHotels());
+	public ResponseEntity<byte[]> getTopThreeHotels(WebRequest webRequest) {
+		return conditionalGet(webRequest, "topThree", catalogETag(), hotelService::getTopThreeHotels);
 	}
 
 	// Request hotel deletion - Only HOTEL_ADMIN can request deletion
@@ -141,12 +209,19 @@ public class HotelController {
 		return ResponseEntity.ok(result);
 	}
 
-	// Delete a hotel by ID - Only HOTEL_ADMIN can delete (existing method for confirmation)
+	// Delete a hotel by ID - Only SUPER_ADMIN can delete; runs as a background job
 	@PreAuthorize("hasAnyRole('SUPER_ADMIN')")
 	@DeleteMapping("/{id}")
-	public ResponseEntity<Void> deleteHotel(@PathVariable Long id) {
-		hotelService.deleteHotel(id);
-		return ResponseEntity.noContent().build();
+	public ResponseEntity<HotelDeletionJobResponse> deleteHotel(@PathVariable Long id) {
+		HotelDeletionJobResponse job = hotelService.deleteHotel(id);
+		return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+	}
+
+	// Progress of the latest deletion job for a hotel - Only SUPER_ADMIN
+	@PreAuthorize("hasRole('SUPER_ADMIN')")
+	@GetMapping("/{id}/deletion")
+	public ResponseEntity<HotelDeletionJobResponse> getHotelDeletionStatus(@PathVariable Long id) {
+		return ResponseEntity.ok(hotelDeletionJobService.getLatestJob(id));
 	}
 
 	// Verify hotel listing - Only SUPER_ADMIN can verify
@@ -186,4 +261,80 @@ public class HotelController {
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
 		}
 	}
+
+	// Answers 304 from the catalog version alone when the client's ETag is current; otherwise writes the
+	// cached JSON bytes for this version, building them only on a miss. Gzip-capable clients get their own
+	// ETag, since a strong ETag must not name both the compressed and the identity bytes
+	private ResponseEntity<byte[]> conditionalGet(WebRequest webRequest, String cacheKey, String etag, Supplier<?> body) {
+		CacheControl cacheControl = CacheControl.maxAge(catalogMaxAgeSeconds, TimeUnit.SECONDS)
+				.cachePublic()
+				.staleWhileRevalidate(catalogStaleWhileRevalidateSeconds, TimeUnit.SECONDS);
+		boolean gzip = acceptsGzip(webRequest.getHeader(HttpHeaders.ACCEPT_ENCODING));
+		String representationETag = etag != null && gzip ? etag.substring(0, etag.length() - 1) + "-gzip\"" : etag;
+		// checkNotModified also sets the ETag header on the response
+		if (representationETag != null && webRequest.checkNotModified(representationETag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.cacheControl(cacheControl)
+					.varyBy(HttpHeaders.ACCEPT_ENCODING)
+					.build();
+		}
+
+		ResponseCacheService.CachedResponse response = responseCacheService.get(cacheKey, etag, body);
+		ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+				.cacheControl(cacheControl)
+				.contentType(MediaType.APPLICATION_JSON)
+				.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (gzip && response.gzipped() != null) {
+			// The container does not compress a response that already has a Content-Encoding
+			return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(response.gzipped());
+		}
+		return builder.body(response.json());
+	}
+
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.trim().split(";");
+			if (parts[0].trim().equalsIgnoreCase("gzip")) {
+				return parts.length < 2 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+			}
+		}
+		return false;
+	}
+
+	// fields=card selects every card field; otherwise a comma-separated list of card fields
+	private static Set<String> parseCardFields(String fields) {
+		Set<String> selected = new TreeSet<>();
+		for (String field : fields.split(",")) {
+			String name = field.trim();
+			if (name.equals("card")) {
+				selected.addAll(HotelCardCacheDto.FIELDS);
+			} else if (HotelCardCacheDto.FIELDS.contains(name)) {
+				selected.add(name);
+			} else if (!name.isEmpty()) {
+				throw new IllegalArgumentException("Unsupported field '" + name + "'; use card or any of "
+						+ new TreeSet<>(HotelCardCacheDto.FIELDS));
+			}
+		}
+		if (selected.isEmpty()) {
+			selected.addAll(HotelCardCacheDto.FIELDS);
+		}
+		return selected;
+	}
+
+	private static String pageKey(Pageable pageable) {
+		return pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort();
+	}
+
+	private String catalogETag() {
+		Long version = catalogVersionService.getCatalogVersion();
+		return version != null ? "\"c" + version + "\"" : null;
+	}
+
+	private String hotelETag(Long hotelId) {
+		Long version = catalogVersionService.getHotelVersion(hotelId);
+		return version != null ? "\"h" + hotelId + "-" + version + "\"" : null;
+	}
 }
\ No newline at end of file
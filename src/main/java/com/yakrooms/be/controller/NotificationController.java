@@ -2,20 +2,28 @@ package com.yakrooms.be.controller;
 
 import com.yakrooms.be.dto.NotificationDTO;
 import com.yakrooms.be.dto.mapper.NotificationMapper;
+import com.yakrooms.be.dto.response.PagedResponse;
 import com.yakrooms.be.model.entity.Notification;
 import com.yakrooms.be.model.entity.User;
 import com.yakrooms.be.repository.UserRepository;
 import com.yakrooms.be.service.NotificationService;
+import com.yakrooms.be.util.PageUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/notifications")
 public class NotificationController {
+    private static final int MAX_FEED_PAGE_SIZE = 100;
+
     @Autowired
     private NotificationService notificationService;
     @Autowired
@@ -30,12 +38,31 @@ public class NotificationController {
         return ResponseEntity.ok(dtos);
     }
 
+    // Paginated notification feed, newest first - All authenticated users can access their own notifications
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'HOTEL_ADMIN', 'STAFF', 'GUEST')")
+    @GetMapping("/user/{userId}/feed")
+    public ResponseEntity<PagedResponse<NotificationDTO>> getNotificationFeed(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean unreadOnly) {
+        Pageable pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_FEED_PAGE_SIZE));
+        Page<NotificationDTO> feed = notificationService.getNotificationFeed(userId, unreadOnly, pageable);
+        return ResponseEntity.ok(PageUtils.toPagedResponse(feed));
+    }
+
+    // Unread notification count for the badge - All authenticated users can access their own count
+    @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'HOTEL_ADMIN', 'STAFF', 'GUEST')")
+    @GetMapping("/user/{userId}/unread-count")
+    public ResponseEntity<Map<String, Long>> getUnreadCount(@PathVariable Long userId) {
+        return ResponseEntity.ok(Map.of("unreadCount", notificationService.getUnreadCount(userId)));
+    }
+
     // Mark all unread notifications as read for a user - All authenticated users can mark their own notifications as read
     @PreAuthorize("hasAnyRole('SUPER_ADMIN', 'HOTEL_ADMIN', 'STAFF', 'GUEST')")
     @PutMapping("/user/{userId}/markAllRead")
     public ResponseEntity<Void> markAllAsRead(@PathVariable Long userId) {
-        User user = userRepository.findByIdWithCollections(userId).orElseThrow(() -> new RuntimeException("User not found"));
-        notificationService.markAllAsRead(user);
+        notificationService.markAllAsRead(userId);
         return ResponseEntity.ok().build();
     }
 
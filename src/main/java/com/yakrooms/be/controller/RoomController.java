@@ -6,7 +6,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,15 +21,19 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.yakrooms.be.dto.RoomAvailabilityEvent;
 import com.yakrooms.be.dto.RoomResponseDTO;
 import com.yakrooms.be.dto.RoomBookedDatesDTO;
 import com.yakrooms.be.dto.RoomStatusDTO;
 import com.yakrooms.be.dto.request.RoomRequest;
 import com.yakrooms.be.dto.response.PagedResponse;
+import com.yakrooms.be.service.AvailabilityStreamService;
 import com.yakrooms.be.service.RoomService;
 import com.yakrooms.be.service.RoomAvailabilityScheduler;
 import com.yakrooms.be.util.PageUtils;
 
+import reactor.core.publisher.Flux;
+
 @RestController
 @RequestMapping("/api/rooms")
 public class RoomController {
@@ -38,6 +44,9 @@ public class RoomController {
 	@Autowired
 	private RoomAvailabilityScheduler roomAvailabilityScheduler;
 
+	@Autowired
+	private AvailabilityStreamService availabilityStreamService;
+
 	// Create new room - Only HOTEL_ADMIN and STAFF can create
 	@PreAuthorize("hasAnyRole('HOTEL_ADMIN', 'STAFF', 'GUEST')")
 	@PostMapping("/hotel/{hotelId}")
@@ -80,6 +89,18 @@ public class RoomController {
 		return ResponseEntity.ok(bookedDates);
 	}
 
+	// Stream availability changes for a room as Server-Sent Events - Public access
+	@GetMapping(value = "/{roomId}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<RoomAvailabilityEvent>> streamRoomAvailability(@PathVariable Long roomId) {
+		return availabilityStreamService.streamRoom(roomId);
+	}
+
+	// Stream availability changes for all rooms of a hotel as Server-Sent Events - Public access
+	@GetMapping(value = "/hotel/{hotelId}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public Flux<ServerSentEvent<RoomAvailabilityEvent>> streamHotelAvailability(@PathVariable Long hotelId) {
+		return availabilityStreamService.streamHotel(hotelId);
+	}
+
 	// Update room information - Only HOTEL_ADMIN and STAFF can update
 	@PreAuthorize("hasAnyRole('HOTEL_ADMIN', 'STAFF')")
 	@PutMapping("/{roomId}")
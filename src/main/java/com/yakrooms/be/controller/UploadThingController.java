@@ -1,6 +1,7 @@
 package com.yakrooms.be.controller;
 
 import com.yakrooms.be.dto.UploadThingDeleteResponse;
+import com.yakrooms.be.service.FileDeletionQueueService;
 import com.yakrooms.be.service.UploadThingService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -11,7 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
 
 /**
  * REST controller for UploadThing file operations.
@@ -26,93 +26,61 @@ public class UploadThingController {
     private static final Logger logger = LoggerFactory.getLogger(UploadThingController.class);
 
     private final UploadThingService uploadThingService;
+    private final FileDeletionQueueService fileDeletionQueueService;
 
     @Autowired
-    public UploadThingController(UploadThingService uploadThingService) {
+    public UploadThingController(UploadThingService uploadThingService,
+                                 FileDeletionQueueService fileDeletionQueueService) {
         this.uploadThingService = uploadThingService;
+        this.fileDeletionQueueService = fileDeletionQueueService;
     }
 
     /**
-     * Deletes multiple files from UploadThing using hybrid approach.
+     * Queues multiple files for deletion from UploadThing.
+     * Accepts file keys or UploadThing URLs; the files are deleted in the background.
      * 
      * @param fileKeys List of file keys to delete
-     * @return ResponseEntity containing the deletion results
+     * @return ResponseEntity (202) describing the queued deletion
      */
     @DeleteMapping("/files")
     public ResponseEntity<UploadThingDeleteResponse> deleteFiles(
             @RequestBody @Valid @NotEmpty(message = "File keys list cannot be empty") List<String> fileKeys) {
         
-        logger.info("Received request to delete {} files (redirecting to hybrid approach)", fileKeys.size());
-        
-        try {
-            // Redirect to hybrid approach since direct API is not working
-            UploadThingDeleteResponse response = uploadThingService.deleteFilesHybrid(fileKeys);
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            logger.error("Failed to delete files: {}", e.getMessage(), e);
-            return ResponseEntity.internalServerError()
-                    .body(createErrorResponse("Failed to delete files: " + e.getMessage()));
-        }
+        logger.info("Received request to delete {} files, queuing", fileKeys.size());
+        return queueDeletion(fileKeys);
     }
 
     /**
-     * Deletes a single file from UploadThing using hybrid approach.
+     * Queues a single file for deletion from UploadThing.
      * 
      * @param fileKey The file key to delete
-     * @return ResponseEntity containing the deletion result
+     * @return ResponseEntity (202) describing the queued deletion
      */
     @DeleteMapping("/files/{fileKey}")
     public ResponseEntity<UploadThingDeleteResponse> deleteFile(
             @PathVariable @Valid @NotEmpty(message = "File key cannot be empty") String fileKey) {
         
-        logger.info("Received request to delete file: {} (redirecting to hybrid approach)", fileKey);
-        
-        try {
-            // Redirect to hybrid approach since direct API is not working
-            UploadThingDeleteResponse response = uploadThingService.deleteFilesHybrid(List.of(fileKey));
-            return ResponseEntity.ok(response);
-        } catch (Exception e) {
-            logger.error("Failed to delete file {}: {}", fileKey, e.getMessage(), e);
-            return ResponseEntity.internalServerError()
-                    .body(createErrorResponse("Failed to delete file: " + e.getMessage()));
-        }
+        logger.info("Received request to delete file: {}, queuing", fileKey);
+        return queueDeletion(List.of(fileKey));
     }
 
     /**
-     * Deletes multiple files from UploadThing asynchronously using hybrid approach.
+     * Queues multiple files for deletion from UploadThing.
+     * Kept for existing clients; behaves exactly like DELETE /files.
      * 
      * @param fileKeys List of file keys to delete
-     * @return ResponseEntity containing a CompletableFuture with the deletion results
+     * @return ResponseEntity (202) describing the queued deletion
      */
     @DeleteMapping("/files/async")
-    public ResponseEntity<CompletableFuture<UploadThingDeleteResponse>> deleteFilesAsync(
+    public ResponseEntity<UploadThingDeleteResponse> deleteFilesAsync(
             @RequestBody @Valid @NotEmpty(message = "File keys list cannot be empty") List<String> fileKeys) {
         
-        logger.info("Received async request to delete {} files using hybrid approach", fileKeys.size());
-        
-        try {
-            // Use hybrid approach for async deletion as well
-            CompletableFuture<UploadThingDeleteResponse> future = CompletableFuture.supplyAsync(() -> {
-                try {
-                    return uploadThingService.deleteFilesHybrid(fileKeys);
-                } catch (Exception e) {
-                    logger.error("Async hybrid deletion failed", e);
-                    return createErrorResponse("Failed to delete files: " + e.getMessage());
-                }
-            });
-            return ResponseEntity.accepted().body(future);
-        } catch (Exception e) {
-            logger.error("Failed to initiate async file deletion: {}", e.getMessage(), e);
-            CompletableFuture<UploadThingDeleteResponse> errorFuture = CompletableFuture.completedFuture(
-                    createErrorResponse("Failed to initiate file deletion: " + e.getMessage()));
-            return ResponseEntity.internalServerError().body(errorFuture);
-        }
+        logger.info("Received async request to delete {} files, queuing", fileKeys.size());
+        return queueDeletion(fileKeys);
     }
 
-
-
     /**
-     * Deletes files using the hybrid Node.js approach.
+     * Deletes files immediately using the hybrid Node.js approach, bypassing the queue.
      * 
      * @param fileKeys List of file keys to delete
      * @return ResponseEntity with deletion results
@@ -150,6 +118,20 @@ public class UploadThingController {
         }
     }
 
+    private ResponseEntity<UploadThingDeleteResponse> queueDeletion(List<String> fileKeys) {
+        try {
+            int queued = fileDeletionQueueService.enqueue(fileKeys);
+            UploadThingDeleteResponse response = new UploadThingDeleteResponse();
+            response.setSuccess(true);
+            response.setMessage("Queued " + queued + " file(s) for deletion");
+            return ResponseEntity.accepted().body(response);
+        } catch (Exception e) {
+            logger.error("Failed to queue file deletion: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError()
+                    .body(createErrorResponse("Failed to queue file deletion: " + e.getMessage()));
+        }
+    }
+
     /**
      * Creates an error response with the given message.
      * 
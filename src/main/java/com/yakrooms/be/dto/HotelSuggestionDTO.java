@@ -0,0 +1,87 @@
+package com.yakrooms.be.dto;
+
+/**
+ * DTO representing a single autocomplete suggestion for the hotel search box.
+ * A suggestion is either a district, a locality (with its district) or a hotel name.
+ * 
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public class HotelSuggestionDTO {
+
+    public enum SuggestionType {
+        DISTRICT,
+        LOCALITY,
+        HOTEL
+    }
+
+    private SuggestionType type;
+    private String text;
+    private String district;
+    private Long hotelId;
+    private long weight;
+
+    // Default constructor
+    public HotelSuggestionDTO() {}
+
+    // Constructor with all fields
+    public HotelSuggestionDTO(SuggestionType type, String text, String district, Long hotelId, long weight) {
+        this.type = type;
+        this.text = text;
+        this.district = district;
+        this.hotelId = hotelId;
+        this.weight = weight;
+    }
+
+    // Getters and Setters
+    public SuggestionType getType() {
+        return type;
+    }
+
+    public void setType(SuggestionType type) {
+        this.type = type;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public String getDistrict() {
+        return district;
+    }
+
+    public void setDistrict(String district) {
+        this.district = district;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public void setWeight(long weight) {
+        this.weight = weight;
+    }
+
+    @Override
+    public String toString() {
+        return "HotelSuggestionDTO{" +
+                "type=" + type +
+                ", text='" + text + '\'' +
+                ", district='" + district + '\'' +
+                ", hotelId=" + hotelId +
+                ", weight=" + weight +
+                '}';
+    }
+}
@@ -0,0 +1,114 @@
+package com.yakrooms.be.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO for a hotel's occupancy analytics over a date window.
+ * Contains window totals plus breakdowns per day, per month and per room type.
+ * 
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public class OccupancyAnalyticsDTO {
+
+    private Long hotelId;
+    private LocalDate startDate;
+    private LocalDate endDate; // Inclusive
+    private int roomCount;
+    private OccupancyMetricsDTO summary;
+    private List<OccupancyMetricsDTO> daily = new ArrayList<>();
+    private List<OccupancyMetricsDTO> monthly = new ArrayList<>();
+    private List<OccupancyMetricsDTO> roomTypes = new ArrayList<>();
+    private LocalDateTime generatedAt;
+
+    // Default constructor
+    public OccupancyAnalyticsDTO() {}
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDate endDate) {
+        this.endDate = endDate;
+    }
+
+    public int getRoomCount() {
+        return roomCount;
+    }
+
+    public void setRoomCount(int roomCount) {
+        this.roomCount = roomCount;
+    }
+
+    public OccupancyMetricsDTO getSummary() {
+        return summary;
+    }
+
+    public void setSummary(OccupancyMetricsDTO summary) {
+        this.summary = summary;
+    }
+
+    public List<OccupancyMetricsDTO> getDaily() {
+        return daily;
+    }
+
+    public void setDaily(List<OccupancyMetricsDTO> daily) {
+        this.daily = daily;
+    }
+
+    public List<OccupancyMetricsDTO> getMonthly() {
+        return monthly;
+    }
+
+    public void setMonthly(List<OccupancyMetricsDTO> monthly) {
+        this.monthly = monthly;
+    }
+
+    public List<OccupancyMetricsDTO> getRoomTypes() {
+        return roomTypes;
+    }
+
+    public void setRoomTypes(List<OccupancyMetricsDTO> roomTypes) {
+        this.roomTypes = roomTypes;
+    }
+
+    public LocalDateTime getGeneratedAt() {
+        return generatedAt;
+    }
+
+    public void setGeneratedAt(LocalDateTime generatedAt) {
+        this.generatedAt = generatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "OccupancyAnalyticsDTO{" +
+                "hotelId=" + hotelId +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", roomCount=" + roomCount +
+                ", summary=" + summary +
+                ", generatedAt=" + generatedAt +
+                '}';
+    }
+}
@@ -0,0 +1,106 @@
+package com.yakrooms.be.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * DTO holding occupancy, average daily rate (ADR) and revenue per available room (RevPAR)
+ * for one slice of an occupancy analytics window: a day, a month, a room type or the whole window.
+ * 
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public class OccupancyMetricsDTO {
+
+    private String label;
+    private long availableRoomNights;
+    private long soldRoomNights;
+    private BigDecimal revenue;
+    private double occupancyRate; // Percentage, 0-100
+    private BigDecimal averageDailyRate;
+    private BigDecimal revPar;
+
+    // Default constructor
+    public OccupancyMetricsDTO() {}
+
+    // Constructor with all fields
+    public OccupancyMetricsDTO(String label, long availableRoomNights, long soldRoomNights, BigDecimal revenue,
+                               double occupancyRate, BigDecimal averageDailyRate, BigDecimal revPar) {
+        this.label = label;
+        this.availableRoomNights = availableRoomNights;
+        this.soldRoomNights = soldRoomNights;
+        this.revenue = revenue;
+        this.occupancyRate = occupancyRate;
+        this.averageDailyRate = averageDailyRate;
+        this.revPar = revPar;
+    }
+
+    // Getters and Setters
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public long getAvailableRoomNights() {
+        return availableRoomNights;
+    }
+
+    public void setAvailableRoomNights(long availableRoomNights) {
+        this.availableRoomNights = availableRoomNights;
+    }
+
+    public long getSoldRoomNights() {
+        return soldRoomNights;
+    }
+
+    public void setSoldRoomNights(long soldRoomNights) {
+        this.soldRoomNights = soldRoomNights;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public double getOccupancyRate() {
+        return occupancyRate;
+    }
+
+    public void setOccupancyRate(double occupancyRate) {
+        this.occupancyRate = occupancyRate;
+    }
+
+    public BigDecimal getAverageDailyRate() {
+        return averageDailyRate;
+    }
+
+    public void setAverageDailyRate(BigDecimal averageDailyRate) {
+        this.averageDailyRate = averageDailyRate;
+    }
+
+    public BigDecimal getRevPar() {
+        return revPar;
+    }
+
+    public void setRevPar(BigDecimal revPar) {
+        this.revPar = revPar;
+    }
+
+    @Override
+    public String toString() {
+        return "OccupancyMetricsDTO{" +
+                "label='" + label + '\'' +
+                ", availableRoomNights=" + availableRoomNights +
+                ", soldRoomNights=" + soldRoomNights +
+                ", revenue=" + revenue +
+                ", occupancyRate=" + occupancyRate +
+                ", averageDailyRate=" + averageDailyRate +
+                ", revPar=" + revPar +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+package com.yakrooms.be.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Availability delta streamed to room and hotel watchers over SSE when a
+ * booking is created, changed or removed.
+ *
+ * The streams are public, so an event describes the room's calendar and
+ * nothing about the booking behind the change. BOOKED means {@code dates}
+ * became blocked; RELEASED means {@code dates} became free again, leaving out
+ * nights another booking still holds. {@code bookedDates} carries the room's
+ * full set of blocked dates after the change, the same list
+ * /api/rooms/{roomId}/booked-dates returns. Both lists are null if they could
+ * not be loaded; clients then fall back to booked-dates.
+ */
+public class RoomAvailabilityEvent {
+    public static final String BOOKED = "BOOKED";
+    public static final String RELEASED = "RELEASED";
+
+    private Long roomId;
+    private Long hotelId;
+    private String eventType;
+    private List<LocalDate> dates;
+    private List<LocalDate> bookedDates;
+    private LocalDateTime timestamp;
+
+    // Default constructor
+    public RoomAvailabilityEvent() {
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public RoomAvailabilityEvent(Long roomId, Long hotelId, String eventType,
+                                 List<LocalDate> dates, List<LocalDate> bookedDates) {
+        this.roomId = roomId;
+        this.hotelId = hotelId;
+        this.eventType = eventType;
+        this.dates = dates;
+        this.bookedDates = bookedDates;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public List<LocalDate> getDates() {
+        return dates;
+    }
+
+    public void setDates(List<LocalDate> dates) {
+        this.dates = dates;
+    }
+
+    public List<LocalDate> getBookedDates() {
+        return bookedDates;
+    }
+
+    public void setBookedDates(List<LocalDate> bookedDates) {
+        this.bookedDates = bookedDates;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "RoomAvailabilityEvent{" +
+                "roomId=" + roomId +
+                ", hotelId=" + hotelId +
+                ", eventType='" + eventType + '\'' +
+                ", dates=" + dates +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
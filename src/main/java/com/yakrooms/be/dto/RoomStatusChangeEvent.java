@@ -0,0 +1,82 @@
+package com.yakrooms.be.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Delta pushed to hotel dashboards when a room's status board entry changes.
+ * {@code room} is null for ROOM_REMOVED events.
+ */
+public class RoomStatusChangeEvent {
+    public static final String ROOM_STATUS_UPDATED = "ROOM_STATUS_UPDATED";
+    public static final String ROOM_REMOVED = "ROOM_REMOVED";
+
+    private Long hotelId;
+    private Long roomId;
+    private String eventType;
+    private RoomStatusDTO room;
+    private LocalDateTime timestamp;
+
+    // Default constructor
+    public RoomStatusChangeEvent() {
+        this.timestamp = LocalDateTime.now();
+    }
+
+    public RoomStatusChangeEvent(Long hotelId, Long roomId, String eventType, RoomStatusDTO room) {
+        this.hotelId = hotelId;
+        this.roomId = roomId;
+        this.eventType = eventType;
+        this.room = room;
+        this.timestamp = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public void setEventType(String eventType) {
+        this.eventType = eventType;
+    }
+
+    public RoomStatusDTO getRoom() {
+        return room;
+    }
+
+    public void setRoom(RoomStatusDTO room) {
+        this.room = room;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public String toString() {
+        return "RoomStatusChangeEvent{" +
+                "hotelId=" + hotelId +
+                ", roomId=" + roomId +
+                ", eventType='" + eventType + '\'' +
+                ", timestamp=" + timestamp +
+                '}';
+    }
+}
@@ -9,6 +9,9 @@ import java.time.LocalDate;
  */
 public class RoomStatusDTO {
     
+    @JsonProperty("roomId")
+    private Long roomId;
+    
     @JsonProperty("roomNumber")
     private String roomNumber;
     
@@ -21,6 +24,12 @@ public class RoomStatusDTO {
     @JsonProperty("guestName")
     private String guestName;
     
+    @JsonProperty("bookingId")
+    private Long bookingId;
+    
+    @JsonProperty("checkInDate")
+    private LocalDate checkInDate;
+    
     @JsonProperty("checkOutDate")
     private LocalDate checkOutDate;
 
@@ -37,7 +46,24 @@ public class RoomStatusDTO {
         this.checkOutDate = checkOutDate;
     }
 
+    // Constructor for room status board entries
+    public RoomStatusDTO(Long roomId, String roomNumber, String roomType, String roomStatus,
+                        String guestName, Long bookingId, LocalDate checkInDate, LocalDate checkOutDate) {
+        this(roomNumber, roomType, roomStatus, guestName, checkOutDate);
+        this.roomId = roomId;
+        this.bookingId = bookingId;
+        this.checkInDate = checkInDate;
+    }
+
     // Getters and setters
+    public Long getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(Long roomId) {
+        this.roomId = roomId;
+    }
+
     public String getRoomNumber() {
         return roomNumber;
     }
@@ -70,6 +96,22 @@ public class RoomStatusDTO {
         this.guestName = guestName;
     }
 
+    public Long getBookingId() {
+        return bookingId;
+    }
+
+    public void setBookingId(Long bookingId) {
+        this.bookingId = bookingId;
+    }
+
+    public LocalDate getCheckInDate() {
+        return checkInDate;
+    }
+
+    public void setCheckInDate(LocalDate checkInDate) {
+        this.checkInDate = checkInDate;
+    }
+
     public LocalDate getCheckOutDate() {
         return checkOutDate;
     }
@@ -81,10 +123,13 @@ public class RoomStatusDTO {
     @Override
     public String toString() {
         return "RoomStatusDTO{" +
-                "roomNumber='" + roomNumber + '\'' +
+                "roomId=" + roomId +
+                ", roomNumber='" + roomNumber + '\'' +
                 ", roomType='" + roomType + '\'' +
                 ", roomStatus='" + roomStatus + '\'' +
                 ", guestName='" + guestName + '\'' +
+                ", bookingId=" + bookingId +
+                ", checkInDate=" + checkInDate +
                 ", checkOutDate=" + checkOutDate +
                 '}';
     }
@@ -96,19 +141,25 @@ public class RoomStatusDTO {
 
         RoomStatusDTO that = (RoomStatusDTO) o;
 
+        if (roomId != null ? !roomId.equals(that.roomId) : that.roomId != null) return false;
         if (roomNumber != null ? !roomNumber.equals(that.roomNumber) : that.roomNumber != null) return false;
         if (roomType != null ? !roomType.equals(that.roomType) : that.roomType != null) return false;
         if (roomStatus != null ? !roomStatus.equals(that.roomStatus) : that.roomStatus != null) return false;
         if (guestName != null ? !guestName.equals(that.guestName) : that.guestName != null) return false;
+        if (bookingId != null ? !bookingId.equals(that.bookingId) : that.bookingId != null) return false;
+        if (checkInDate != null ? !checkInDate.equals(that.checkInDate) : that.checkInDate != null) return false;
         return checkOutDate != null ? checkOutDate.equals(that.checkOutDate) : that.checkOutDate == null;
     }
 
     @Override
     public int hashCode() {
-        int result = roomNumber != null ? roomNumber.hashCode() : 0;
+        int result = roomId != null ? roomId.hashCode() : 0;
+        result = 31 * result + (roomNumber != null ? roomNumber.hashCode() : 0);
         result = 31 * result + (roomType != null ? roomType.hashCode() : 0);
         result = 31 * result + (roomStatus != null ? roomStatus.hashCode() : 0);
         result = 31 * result + (guestName != null ? guestName.hashCode() : 0);
+        result = 31 * result + (bookingId != null ? bookingId.hashCode() : 0);
+        result = 31 * result + (checkInDate != null ? checkInDate.hashCode() : 0);
         result = 31 * result + (checkOutDate != null ? checkOutDate.hashCode() : 0);
         return result;
     }
@@ -0,0 +1,71 @@
+package com.yakrooms.be.dto.cache;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.yakrooms.be.model.enums.HotelType;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Cache DTO for hotel cards in listing and search pages
+ * Only the columns a card shows; fields left out of a sparse fieldset are null and omitted from JSON
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class HotelCardCacheDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    /** Field names accepted in a fields= selection */
+    public static final Set<String> FIELDS = Set.copyOf(List.of(
+        "id", "name", "district", "locality", "hotelType", "lowestPrice", "photoUrl", "averageRating"));
+
+    private Long id;
+    private String name;
+    private String district;
+    private String locality;
+    private HotelType hotelType;
+    private Double lowestPrice;
+    private String photoUrl;
+    private Double averageRating;
+
+    // Default constructor
+    public HotelCardCacheDto() {}
+
+    // Constructor with all fields
+    public HotelCardCacheDto(Long id, String name, String district, String locality, HotelType hotelType,
+                             Double lowestPrice, String photoUrl, Double averageRating) {
+        this.id = id;
+        this.name = name;
+        this.district = district;
+        this.locality = locality;
+        this.hotelType = hotelType;
+        this.lowestPrice = lowestPrice;
+        this.photoUrl = photoUrl;
+        this.averageRating = averageRating;
+    }
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getDistrict() { return district; }
+    public void setDistrict(String district) { this.district = district; }
+
+    public String getLocality() { return locality; }
+    public void setLocality(String locality) { this.locality = locality; }
+
+    public HotelType getHotelType() { return hotelType; }
+    public void setHotelType(HotelType hotelType) { this.hotelType = hotelType; }
+
+    public Double getLowestPrice() { return lowestPrice; }
+    public void setLowestPrice(Double lowestPrice) { this.lowestPrice = lowestPrice; }
+
+    public String getPhotoUrl() { return photoUrl; }
+    public void setPhotoUrl(String photoUrl) { this.photoUrl = photoUrl; }
+
+    public Double getAverageRating() { return averageRating; }
+    public void setAverageRating(Double averageRating) { this.averageRating = averageRating; }
+}
@@ -0,0 +1,55 @@
+package com.yakrooms.be.dto.cache;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.model.enums.Role;
+
+/**
+ * Immutable copy of the user fields a login needs, held by the login cache
+ * Shared between request threads, so logins rebuild a fresh User from it instead of sharing an entity
+ *
+ * @param loadedAtMillis when the row was read; a token revocation after this makes the snapshot stale
+ */
+public record LoginUserSnapshot(Long id,
+                                String email,
+                                String name,
+                                String phone,
+                                String profilePicUrl,
+                                Set<Role> roles,
+                                Long hotelId,
+                                LocalDateTime updatedAt,
+                                long loadedAtMillis) {
+
+    public LoginUserSnapshot {
+        roles = roles == null ? Set.of() : Set.copyOf(roles);
+    }
+
+    public static LoginUserSnapshot of(User user, long loadedAtMillis) {
+        return new LoginUserSnapshot(user.getId(), user.getEmail(), user.getName(), user.getPhone(),
+                user.getProfilePicUrl(), user.getRoles(), user.getHotel() != null ? user.getHotel().getId() : null,
+                user.getUpdatedAt(), loadedAtMillis);
+    }
+
+    /**
+     * Build a detached User for token minting and the login response; never save it
+     */
+    public User toUser() {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        user.setName(name);
+        user.setPhone(phone);
+        user.setProfilePicUrl(profilePicUrl);
+        user.setRoles(roles);
+        user.setUpdatedAt(updatedAt);
+        if (hotelId != null) {
+            Hotel hotel = new Hotel();
+            hotel.setId(hotelId);
+            user.setHotel(hotel);
+        }
+        return user;
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -518,4 +519,82 @@ public class CacheMapper {
             projection.getAverageRating()
         );
     }
+
+    /**
+     * Convert HotelCardProjection to HotelCardCacheDto
+     */
+    public HotelCardCacheDto toHotelCardCacheDto(HotelCardProjection projection) {
+        if (projection == null) {
+            return null;
+        }
+
+        return new HotelCardCacheDto(
+            projection.getId(),
+            projection.getName(),
+            projection.getDistrict(),
+            projection.getLocality(),
+            projection.getHotelType(),
+            projection.getLowestPrice(),
+            projection.getPhotoUrl(),
+            projection.getAverageRating()
+        );
+    }
+
+    /**
+     * Convert Page<HotelCardProjection> to PageCacheDto<HotelCardCacheDto>
+     */
+    public PageCacheDto<HotelCardCacheDto> toHotelCardPageCacheDto(Page<HotelCardProjection> page) {
+        if (page == null) {
+            return null;
+        }
+
+        List<HotelCardCacheDto> content = page.getContent().stream()
+            .map(this::toHotelCardCacheDto)
+            .collect(Collectors.toList());
+
+        return new PageCacheDto<>(
+            content,
+            page.getNumber(),
+            page.getSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.isFirst(),
+            page.isLast(),
+            page.getNumberOfElements(),
+            page.isEmpty()
+        );
+    }
+
+    /**
+     * Copy a card page keeping only the selected card fields; an empty selection keeps all of them
+     */
+    public PageCacheDto<HotelCardCacheDto> retainCardFields(PageCacheDto<HotelCardCacheDto> page, Set<String> fields) {
+        if (page == null || fields == null || fields.isEmpty() || fields.containsAll(HotelCardCacheDto.FIELDS)) {
+            return page;
+        }
+
+        List<HotelCardCacheDto> content = page.getContent().stream()
+            .map(card -> new HotelCardCacheDto(
+                fields.contains("id") ? card.getId() : null,
+                fields.contains("name") ? card.getName() : null,
+                fields.contains("district") ? card.getDistrict() : null,
+                fields.contains("locality") ? card.getLocality() : null,
+                fields.contains("hotelType") ? card.getHotelType() : null,
+                fields.contains("lowestPrice") ? card.getLowestPrice() : null,
+                fields.contains("photoUrl") ? card.getPhotoUrl() : null,
+                fields.contains("averageRating") ? card.getAverageRating() : null))
+            .collect(Collectors.toList());
+
+        return new PageCacheDto<>(
+            content,
+            page.getPageNumber(),
+            page.getPageSize(),
+            page.getTotalElements(),
+            page.getTotalPages(),
+            page.isFirst(),
+            page.isLast(),
+            page.getNumberOfElements(),
+            page.isEmpty()
+        );
+    }
 }
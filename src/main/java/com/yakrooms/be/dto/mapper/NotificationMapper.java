@@ -2,6 +2,7 @@ package com.yakrooms.be.dto.mapper;
 
 import com.yakrooms.be.dto.NotificationDTO;
 import com.yakrooms.be.model.entity.Notification;
+import com.yakrooms.be.projection.NotificationFeedProjection;
 
 public class NotificationMapper {
     public static NotificationDTO toDto(Notification n) {
@@ -41,4 +42,20 @@ public class NotificationMapper {
             n.getCreatedAt()
         );
     }
-} 
\ No newline at end of file
+
+    public static NotificationDTO toDto(NotificationFeedProjection p) {
+        if (p == null) {
+            return null;
+        }
+        return new NotificationDTO(
+            p.getId(),
+            p.getUsername(),
+            p.getRoomNumber(),
+            p.getTitle(),
+            p.getMessage(),
+            p.getType(),
+            p.getIsRead(),
+            p.getCreatedAt()
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package com.yakrooms.be.dto.mapper;
 
 import com.yakrooms.be.dto.RoomStatusDTO;
+import com.yakrooms.be.projection.RoomStatusBoardProjection;
 import com.yakrooms.be.projection.RoomStatusProjection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -33,6 +34,26 @@ public class RoomStatusMapper {
         );
     }
 
+    /**
+     * Convert a room status board row, including room and booking identifiers
+     */
+    public RoomStatusDTO toDto(RoomStatusBoardProjection projection) {
+        if (projection == null) {
+            return null;
+        }
+
+        return new RoomStatusDTO(
+            projection.getRoomId(),
+            projection.getRoomNumber(),
+            projection.getRoomType(),
+            projection.getRoomStatus(),
+            projection.getGuestName(),
+            projection.getBookingId(),
+            projection.getCheckInDate(),
+            projection.getCheckOutDate()
+        );
+    }
+
     /**
      * Convert a list of RoomStatusProjection to list of RoomStatusDTO
      */
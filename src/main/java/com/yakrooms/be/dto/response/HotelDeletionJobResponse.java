@@ -0,0 +1,62 @@
+package com.yakrooms.be.dto.response;
+
+import java.time.LocalDateTime;
+
+import com.yakrooms.be.model.enums.HotelDeletionStatus;
+import com.yakrooms.be.model.enums.HotelDeletionStep;
+
+/**
+ * Response DTO for background hotel deletion jobs
+ * Step is the one currently running (or next to run); DONE once the hotel is gone
+ */
+public class HotelDeletionJobResponse {
+
+    private Long jobId;
+    private Long hotelId;
+    private String hotelName;
+    private HotelDeletionStatus status;
+    private HotelDeletionStep step;
+    private long deletedRows;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+
+    // Constructors
+    public HotelDeletionJobResponse() {}
+
+    // Getters and Setters
+    public Long getJobId() { return jobId; }
+    public void setJobId(Long jobId) { this.jobId = jobId; }
+
+    public Long getHotelId() { return hotelId; }
+    public void setHotelId(Long hotelId) { this.hotelId = hotelId; }
+
+    public String getHotelName() { return hotelName; }
+    public void setHotelName(String hotelName) { this.hotelName = hotelName; }
+
+    public HotelDeletionStatus getStatus() { return status; }
+    public void setStatus(HotelDeletionStatus status) { this.status = status; }
+
+    public HotelDeletionStep getStep() { return step; }
+    public void setStep(HotelDeletionStep step) { this.step = step; }
+
+    public long getDeletedRows() { return deletedRows; }
+    public void setDeletedRows(long deletedRows) { this.deletedRows = deletedRows; }
+
+    public int getAttempts() { return attempts; }
+    public void setAttempts(int attempts) { this.attempts = attempts; }
+
+    public String getLastError() { return lastError; }
+    public void setLastError(String lastError) { this.lastError = lastError; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+    public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+    public LocalDateTime getCompletedAt() { return completedAt; }
+    public void setCompletedAt(LocalDateTime completedAt) { this.completedAt = completedAt; }
+}
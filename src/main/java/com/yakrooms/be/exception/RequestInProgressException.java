@@ -0,0 +1,21 @@
+package com.yakrooms.be.exception;
+
+/**
+ * Thrown for a retry whose earlier request is still running. Answered with
+ * 409 and a Retry-After header instead of holding the retry's thread.
+ */
+public class RequestInProgressException extends ResourceConflictException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final long retryAfterSeconds;
+
+    public RequestInProgressException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -8,6 +8,10 @@ import java.math.BigDecimal;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import com.yakrooms.be.model.listener.BookingRollupListener;
+import com.yakrooms.be.model.listener.RoomStatusBoardListener;
+import com.yakrooms.be.model.listener.RoomAvailabilityListener;
+import com.yakrooms.be.model.listener.OccupancyAnalyticsListener;
 import com.yakrooms.be.model.enums.BookingStatus;
 import com.yakrooms.be.model.enums.PaymentStatus;
 import jakarta.validation.constraints.*;
@@ -26,8 +30,12 @@ import jakarta.persistence.*;
     @Index(name = "idx_booking_created_at", columnList = "created_at"),
     @Index(name = "idx_booking_cid", columnList = "cid"),
     @Index(name = "idx_booking_destination", columnList = "destination"),
-    @Index(name = "idx_booking_guest_name", columnList = "guest_name")
+    @Index(name = "idx_booking_guest_name", columnList = "guest_name"),
+    @Index(name = "idx_booking_hotel_created", columnList = "hotel_id, created_at"),
+    @Index(name = "idx_booking_updated_at", columnList = "updated_at")
 })
+@EntityListeners({BookingRollupListener.class, RoomStatusBoardListener.class, RoomAvailabilityListener.class,
+        OccupancyAnalyticsListener.class})
 @NamedEntityGraphs({
     @NamedEntityGraph(
         name = "Booking.withDetails",
@@ -0,0 +1,151 @@
+package com.yakrooms.be.model.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.*;
+
+/**
+ * Per-hotel, per-day booking rollup.
+ * Rows are written by native upserts in BookingDailyRollupRepository and only read through JPA.
+ */
+@Entity
+@Table(name = "booking_daily_rollup",
+    uniqueConstraints = @UniqueConstraint(name = "uk_booking_rollup_hotel_date", columnNames = {"hotel_id", "stat_date"}),
+    indexes = {
+        @Index(name = "idx_booking_rollup_date", columnList = "stat_date")
+    })
+public class BookingDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "hotel_id", nullable = false)
+    private Long hotelId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "booking_count", nullable = false)
+    private long bookingCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "revenue_booking_count", nullable = false)
+    private long revenueBookingCount;
+
+    @Column(name = "room_nights", nullable = false)
+    private long roomNights;
+
+    @Column(name = "revenue", nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "refreshed_at", nullable = false)
+    private LocalDateTime refreshedAt;
+
+    public BookingDailyRollup() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getHotelId() {
+        return hotelId;
+    }
+
+    public void setHotelId(Long hotelId) {
+        this.hotelId = hotelId;
+    }
+
+    public LocalDate getStatDate() {
+        return statDate;
+    }
+
+    public void setStatDate(LocalDate statDate) {
+        this.statDate = statDate;
+    }
+
+    public long getBookingCount() {
+        return bookingCount;
+    }
+
+    public void setBookingCount(long bookingCount) {
+        this.bookingCount = bookingCount;
+    }
+
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+
+    public void setCancelledCount(long cancelledCount) {
+        this.cancelledCount = cancelledCount;
+    }
+
+    public long getRevenueBookingCount() {
+        return revenueBookingCount;
+    }
+
+    public void setRevenueBookingCount(long revenueBookingCount) {
+        this.revenueBookingCount = revenueBookingCount;
+    }
+
+    public long getRoomNights() {
+        return roomNights;
+    }
+
+    public void setRoomNights(long roomNights) {
+        this.roomNights = roomNights;
+    }
+
+    public BigDecimal getRevenue() {
+        return revenue;
+    }
+
+    public void setRevenue(BigDecimal revenue) {
+        this.revenue = revenue;
+    }
+
+    public LocalDateTime getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    public void setRefreshedAt(LocalDateTime refreshedAt) {
+        this.refreshedAt = refreshedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BookingDailyRollup that = (BookingDailyRollup) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    @Override
+    public String toString() {
+        return "BookingDailyRollup{" +
+                "hotelId=" + hotelId +
+                ", statDate=" + statDate +
+                ", bookingCount=" + bookingCount +
+                ", cancelledCount=" + cancelledCount +
+                ", revenueBookingCount=" + revenueBookingCount +
+                ", roomNights=" + roomNights +
+                ", revenue=" + revenue +
+                '}';
+    }
+}
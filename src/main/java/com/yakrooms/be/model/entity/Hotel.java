@@ -7,6 +7,7 @@ import org.hibernate.annotations.BatchSize;
 
 
 import com.yakrooms.be.model.enums.HotelType;
+import com.yakrooms.be.model.listener.CatalogVersionListener;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.HashSet;
@@ -23,7 +24,7 @@ import java.util.Objects;
     @Index(name = "idx_hotel_district_type_verified", columnList = "district,hotel_type,is_verified"),
     @Index(name = "idx_hotel_district_locality", columnList = "district,locality")
 })
-
+@EntityListeners(CatalogVersionListener.class)
 public class Hotel {
 
     @Id
@@ -1,6 +1,7 @@
 package com.yakrooms.be.model.entity;
 
 import jakarta.persistence.*;
+import com.yakrooms.be.model.listener.NotificationCounterListener;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
 
@@ -10,8 +11,12 @@ import java.time.LocalDateTime;
     @Index(name = "idx_notification_booking_id", columnList = "booking_id"),
     @Index(name = "idx_notification_type", columnList = "type"),
     @Index(name = "idx_notification_is_read", columnList = "is_read"),
-    @Index(name = "idx_notification_created_at", columnList = "created_at")
+    @Index(name = "idx_notification_created_at", columnList = "created_at"),
+    @Index(name = "idx_notification_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_notification_user_read", columnList = "user_id, is_read"),
+    @Index(name = "idx_notification_type_created", columnList = "type, created_at")
 })
+@EntityListeners(NotificationCounterListener.class)
 public class Notification {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
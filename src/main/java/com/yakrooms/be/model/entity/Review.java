@@ -7,6 +7,8 @@ import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 import java.time.LocalDateTime;
 
+import com.yakrooms.be.model.listener.CatalogVersionListener;
+
 @Entity
 @Table(name = "reviews", indexes = {
         // Most common query: get reviews by hotel (with pagination/sorting by date)
@@ -35,6 +37,7 @@ import java.time.LocalDateTime;
         @NamedAttributeNode("hotel")
     }
 )
+@EntityListeners(CatalogVersionListener.class)
 public class Review {
 
     @Id
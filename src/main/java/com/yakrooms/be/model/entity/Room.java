@@ -13,6 +13,9 @@ import org.hibernate.annotations.FetchMode;
 import org.hibernate.annotations.BatchSize;
 
 import com.yakrooms.be.model.enums.RoomType;
+import com.yakrooms.be.model.listener.CatalogVersionListener;
+import com.yakrooms.be.model.listener.OccupancyAnalyticsListener;
+import com.yakrooms.be.model.listener.RoomStatusBoardListener;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.OnDelete;
@@ -28,6 +31,7 @@ import org.hibernate.annotations.OnDeleteAction;
     @Index(name = "idx_room_hotel_available", columnList = "hotel_id,is_available"),
     @Index(name = "idx_room_created_at", columnList = "created_at")
 })
+@EntityListeners({RoomStatusBoardListener.class, CatalogVersionListener.class, OccupancyAnalyticsListener.class})
 
 public class Room {
     
@@ -11,6 +11,7 @@ import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.BatchSize;
 
 import com.yakrooms.be.model.enums.Role;
+import com.yakrooms.be.model.listener.UserLoginCacheListener;
 
 @Entity
 @Table(name = "users", indexes = {
@@ -19,6 +20,7 @@ import com.yakrooms.be.model.enums.Role;
     @Index(name = "idx_user_active", columnList = "is_active"),
     @Index(name = "idx_user_email_active", columnList = "email,is_active")
 })
+@EntityListeners(UserLoginCacheListener.class)
 public class User {
 
     @Id
@@ -0,0 +1,34 @@
+package com.yakrooms.be.model.enums;
+
+public enum ExportFormat {
+	NDJSON("application/x-ndjson", "ndjson"),
+	CSV("text/csv", "csv");
+
+	private final String contentType;
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String getExtension() {
+		return extension;
+	}
+
+	public static ExportFormat fromString(String value) {
+		if (value == null || value.isBlank()) {
+			return NDJSON;
+		}
+		for (ExportFormat format : values()) {
+			if (format.name().equalsIgnoreCase(value.trim())) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("Unsupported export format: " + value);
+	}
+}
@@ -0,0 +1,5 @@
+package com.yakrooms.be.model.enums;
+
+public enum HotelDeletionStatus {
+	PENDING, RUNNING, COMPLETED, FAILED
+}
@@ -0,0 +1,13 @@
+package com.yakrooms.be.model.enums;
+
+/**
+ * Steps of a hotel deletion job, in the order they run.
+ * Children go before the rows they reference; HOTEL removes the hotel itself.
+ */
+public enum HotelDeletionStep {
+	NOTIFICATIONS, BOOKINGS, ROOMS, STAFF, REVIEWS, RESTAURANT, USERS, HOTEL, DONE;
+
+	public HotelDeletionStep next() {
+		return this == DONE ? DONE : values()[ordinal() + 1];
+	}
+}
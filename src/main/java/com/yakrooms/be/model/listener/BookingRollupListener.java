@@ -0,0 +1,36 @@
+package com.yakrooms.be.model.listener;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.service.BookingRollupService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener that marks the hotel-day a booking belongs to as dirty, so its
+ * daily rollup row is recomputed shortly after the change commits.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+@Component
+public class BookingRollupListener {
+
+    private final BookingRollupService bookingRollupService;
+
+    public BookingRollupListener(@Lazy BookingRollupService bookingRollupService) {
+        this.bookingRollupService = bookingRollupService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onBookingChanged(Booking booking) {
+        if (booking.getHotel() == null || booking.getCreatedAt() == null) {
+            return;
+        }
+        bookingRollupService.markDirty(booking.getHotel().getId(), booking.getCreatedAt().toLocalDate());
+    }
+}
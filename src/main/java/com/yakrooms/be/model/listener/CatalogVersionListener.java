@@ -0,0 +1,54 @@
+package com.yakrooms.be.model.listener;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.Review;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.service.CatalogVersionService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on hotels, rooms and reviews that marks the owning hotel as
+ * changed, so the catalog ETags move and the hotel caches are evicted after
+ * commit. Room updates are skipped: almost all of them are availability flips
+ * on check-in and check-out, which the catalog does not show, so
+ * RoomServiceImpl marks room edits itself.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+@Component
+public class CatalogVersionListener {
+
+    private final CatalogVersionService catalogVersionService;
+
+    public CatalogVersionListener(@Lazy CatalogVersionService catalogVersionService) {
+        this.catalogVersionService = catalogVersionService;
+    }
+
+    @PostPersist
+    @PostRemove
+    public void onAddedOrRemoved(Object entity) {
+        markHotelOf(entity);
+    }
+
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        if (!(entity instanceof Room)) {
+            markHotelOf(entity);
+        }
+    }
+
+    private void markHotelOf(Object entity) {
+        if (entity instanceof Hotel hotel) {
+            catalogVersionService.markHotelChanged(hotel.getId());
+        } else if (entity instanceof Room room && room.getHotel() != null) {
+            catalogVersionService.markHotelChanged(room.getHotel().getId());
+        } else if (entity instanceof Review review && review.getHotel() != null) {
+            catalogVersionService.markHotelChanged(review.getHotel().getId());
+        }
+    }
+}
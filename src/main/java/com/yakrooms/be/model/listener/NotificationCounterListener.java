@@ -0,0 +1,45 @@
+package com.yakrooms.be.model.listener;
+
+import java.util.List;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.yakrooms.be.model.entity.Notification;
+import com.yakrooms.be.service.NotificationCounterService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener that keeps the Redis unread-notification counters in step with
+ * notifications saved or removed through the entity manager. Bulk JPQL and
+ * native statements bypass it and update the counters themselves.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+@Component
+public class NotificationCounterListener {
+
+    private final NotificationCounterService notificationCounterService;
+
+    public NotificationCounterListener(@Lazy NotificationCounterService notificationCounterService) {
+        this.notificationCounterService = notificationCounterService;
+    }
+
+    @PostPersist
+    public void onNotificationCreated(Notification notification) {
+        if (notification.getUser() != null && !notification.isRead()) {
+            notificationCounterService.increment(notification.getUser().getId());
+        }
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onNotificationChanged(Notification notification) {
+        // The previous read flag is unknown here, so let the next read recount
+        if (notification.getUser() != null) {
+            notificationCounterService.evict(List.of(notification.getUser().getId()));
+        }
+    }
+}
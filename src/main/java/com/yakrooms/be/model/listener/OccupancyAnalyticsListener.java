@@ -0,0 +1,38 @@
+package com.yakrooms.be.model.listener;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.service.OccupancyAnalyticsService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on bookings and rooms that evicts the hotel's cached occupancy
+ * analytics after commit, since both sold and available room nights change.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+@Component
+public class OccupancyAnalyticsListener {
+
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+
+    public OccupancyAnalyticsListener(@Lazy OccupancyAnalyticsService occupancyAnalyticsService) {
+        this.occupancyAnalyticsService = occupancyAnalyticsService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChanged(Object entity) {
+        if (entity instanceof Booking booking && booking.getHotel() != null) {
+            occupancyAnalyticsService.evictHotel(booking.getHotel().getId());
+        } else if (entity instanceof Room room && room.getHotel() != null) {
+            occupancyAnalyticsService.evictHotel(room.getHotel().getId());
+        }
+    }
+}
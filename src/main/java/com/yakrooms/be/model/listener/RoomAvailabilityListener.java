@@ -0,0 +1,37 @@
+package com.yakrooms.be.model.listener;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.service.AvailabilityStreamService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener that streams a booking's effect on its room's availability to
+ * SSE watchers after commit. Instantiated by Hibernate through Spring's bean
+ * container.
+ */
+@Component
+public class RoomAvailabilityListener {
+
+    private final AvailabilityStreamService availabilityStreamService;
+
+    public RoomAvailabilityListener(@Lazy AvailabilityStreamService availabilityStreamService) {
+        this.availabilityStreamService = availabilityStreamService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onBookingChanged(Booking booking) {
+        availabilityStreamService.publishBookingChange(booking, false);
+    }
+
+    @PostRemove
+    public void onBookingRemoved(Booking booking) {
+        availabilityStreamService.publishBookingChange(booking, true);
+    }
+}
@@ -0,0 +1,50 @@
+package com.yakrooms.be.model.listener;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.service.RoomStatusBoardService;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener on bookings and rooms that marks the affected room as changed,
+ * so its room status board entry is recomputed and pushed after commit.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+@Component
+public class RoomStatusBoardListener {
+
+    private final RoomStatusBoardService roomStatusBoardService;
+
+    public RoomStatusBoardListener(@Lazy RoomStatusBoardService roomStatusBoardService) {
+        this.roomStatusBoardService = roomStatusBoardService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onChanged(Object entity) {
+        if (entity instanceof Booking booking) {
+            if (booking.getRoom() != null) {
+                roomStatusBoardService.markRoomChanged(booking.getRoom().getId());
+            }
+        } else if (entity instanceof Room room) {
+            roomStatusBoardService.markRoomChanged(room.getId());
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(Object entity) {
+        if (entity instanceof Booking booking) {
+            if (booking.getRoom() != null) {
+                roomStatusBoardService.markRoomChanged(booking.getRoom().getId());
+            }
+        } else if (entity instanceof Room room && room.getHotel() != null) {
+            roomStatusBoardService.markRoomRemoved(room.getHotel().getId(), room.getId());
+        }
+    }
+}
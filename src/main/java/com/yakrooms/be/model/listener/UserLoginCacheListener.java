@@ -0,0 +1,33 @@
+package com.yakrooms.be.model.listener;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.service.LoginActivityService;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * JPA listener that drops a user from the login cache when the user is
+ * updated or removed through the entity manager, so the next login reloads
+ * roles and hotel. Role-only changes leave the users row untouched and bulk
+ * JPQL statements bypass it, so the services making them evict explicitly.
+ * Instantiated by Hibernate through Spring's bean container.
+ */
+@Component
+public class UserLoginCacheListener {
+
+    private final LoginActivityService loginActivityService;
+
+    public UserLoginCacheListener(@Lazy LoginActivityService loginActivityService) {
+        this.loginActivityService = loginActivityService;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        loginActivityService.evictUser(user.getEmail());
+    }
+}
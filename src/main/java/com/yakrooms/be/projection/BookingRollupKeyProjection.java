@@ -0,0 +1,8 @@
+package com.yakrooms.be.projection;
+
+import java.time.LocalDate;
+
+public interface BookingRollupKeyProjection {
+    Long getHotelId();
+    LocalDate getStatDate();
+}
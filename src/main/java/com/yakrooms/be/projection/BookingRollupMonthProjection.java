@@ -0,0 +1,12 @@
+package com.yakrooms.be.projection;
+
+import java.math.BigDecimal;
+
+public interface BookingRollupMonthProjection {
+    String getMonthYear();
+    Long getBookingCount();
+    Long getCancelledCount();
+    Long getRevenueBookingCount();
+    Long getRoomNights();
+    BigDecimal getRevenue();
+}
@@ -0,0 +1,14 @@
+package com.yakrooms.be.projection;
+
+import com.yakrooms.be.model.enums.HotelType;
+
+public interface HotelCardProjection {
+    Long getId();
+    String getName();
+    String getDistrict();
+    String getLocality();
+    HotelType getHotelType();
+    Double getLowestPrice();
+    String getPhotoUrl();
+    Double getAverageRating();
+}
@@ -0,0 +1,8 @@
+package com.yakrooms.be.projection;
+
+public interface HotelSuggestionSourceProjection {
+    Long getId();
+    String getName();
+    String getDistrict();
+    String getLocality();
+}
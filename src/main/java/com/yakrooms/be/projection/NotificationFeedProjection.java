@@ -0,0 +1,14 @@
+package com.yakrooms.be.projection;
+
+import java.time.LocalDateTime;
+
+public interface NotificationFeedProjection {
+    Long getId();
+    String getUsername();
+    String getRoomNumber();
+    String getTitle();
+    String getMessage();
+    String getType();
+    boolean getIsRead();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,10 @@
+package com.yakrooms.be.projection;
+
+import java.time.LocalDate;
+
+public interface RoomStatusBoardProjection extends RoomStatusProjection {
+	Long getRoomId();
+    Long getHotelId();
+    Long getBookingId();
+    LocalDate getCheckInDate();
+}
@@ -0,0 +1,123 @@
+package com.yakrooms.be.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.yakrooms.be.model.entity.BookingDailyRollup;
+import com.yakrooms.be.projection.BookingRollupMonthProjection;
+
+@Repository
+public interface BookingDailyRollupRepository extends JpaRepository<BookingDailyRollup, Long> {
+
+    // Recompute one hotel-day from the booking table - range scan on idx_booking_hotel_created.
+    // The aggregate always yields one row, so a day whose bookings were all deleted is zeroed.
+    @Modifying
+    @Query(value = """
+        INSERT INTO booking_daily_rollup
+            (hotel_id, stat_date, booking_count, cancelled_count, revenue_booking_count, room_nights, revenue, refreshed_at)
+        SELECT
+            :hotelId,
+            :statDate,
+            COUNT(b.id),
+            COALESCE(SUM(b.status = 'CANCELLED'), 0),
+            COALESCE(SUM(b.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')), 0),
+            COALESCE(SUM(CASE WHEN b.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')
+                THEN DATEDIFF(b.check_out_date, b.check_in_date) ELSE 0 END), 0),
+            COALESCE(SUM(CASE WHEN b.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')
+                THEN b.total_price ELSE 0 END), 0),
+            NOW()
+        FROM booking b
+        WHERE b.hotel_id = :hotelId
+        AND b.created_at >= :dayStart
+        AND b.created_at < :dayEnd
+        ON DUPLICATE KEY UPDATE
+            booking_count = VALUES(booking_count),
+            cancelled_count = VALUES(cancelled_count),
+            revenue_booking_count = VALUES(revenue_booking_count),
+            room_nights = VALUES(room_nights),
+            revenue = VALUES(revenue),
+            refreshed_at = VALUES(refreshed_at)
+        """, nativeQuery = true)
+    int refreshDay(@Param("hotelId") Long hotelId,
+                   @Param("statDate") LocalDate statDate,
+                   @Param("dayStart") LocalDateTime dayStart,
+                   @Param("dayEnd") LocalDateTime dayEnd);
+
+    // Backfill every day of one hotel's booking history in a single pass
+    @Modifying
+    @Query(value = """
+        INSERT INTO booking_daily_rollup
+            (hotel_id, stat_date, booking_count, cancelled_count, revenue_booking_count, room_nights, revenue, refreshed_at)
+        SELECT
+            b.hotel_id,
+            DATE(b.created_at),
+            COUNT(b.id),
+            SUM(b.status = 'CANCELLED'),
+            SUM(b.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')),
+            SUM(CASE WHEN b.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')
+                THEN DATEDIFF(b.check_out_date, b.check_in_date) ELSE 0 END),
+            SUM(CASE WHEN b.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT')
+                THEN b.total_price ELSE 0 END),
+            NOW()
+        FROM booking b
+        WHERE b.hotel_id = :hotelId
+        GROUP BY b.hotel_id, DATE(b.created_at)
+        ON DUPLICATE KEY UPDATE
+            booking_count = VALUES(booking_count),
+            cancelled_count = VALUES(cancelled_count),
+            revenue_booking_count = VALUES(revenue_booking_count),
+            room_nights = VALUES(room_nights),
+            revenue = VALUES(revenue),
+            refreshed_at = VALUES(refreshed_at)
+        """, nativeQuery = true)
+    int backfillHotel(@Param("hotelId") Long hotelId);
+
+    @Modifying
+    @Query("DELETE FROM BookingDailyRollup r WHERE r.hotelId = :hotelId")
+    int deleteByHotelIdInBatch(@Param("hotelId") Long hotelId);
+
+    @Query(value = "SELECT DISTINCT b.hotel_id FROM booking b", nativeQuery = true)
+    List<Long> findHotelIdsWithBookings();
+
+    // Monthly totals for one hotel - range scan on the (hotel_id, stat_date) unique key
+    @Query(value = """
+        SELECT
+            DATE_FORMAT(r.stat_date, '%Y-%m') as monthYear,
+            SUM(r.booking_count) as bookingCount,
+            SUM(r.cancelled_count) as cancelledCount,
+            SUM(r.revenue_booking_count) as revenueBookingCount,
+            SUM(r.room_nights) as roomNights,
+            SUM(r.revenue) as revenue
+        FROM booking_daily_rollup r
+        WHERE r.hotel_id = :hotelId
+        AND r.stat_date >= :startDate
+        GROUP BY DATE_FORMAT(r.stat_date, '%Y-%m')
+        ORDER BY monthYear
+        """, nativeQuery = true)
+    List<BookingRollupMonthProjection> findMonthlyTotalsByHotel(@Param("hotelId") Long hotelId,
+                                                                @Param("startDate") LocalDate startDate);
+
+    // Monthly totals across all hotels - range scan on idx_booking_rollup_date
+    @Query(value = """
+        SELECT
+            DATE_FORMAT(r.stat_date, '%Y-%m') as monthYear,
+            SUM(r.booking_count) as bookingCount,
+            SUM(r.cancelled_count) as cancelledCount,
+            SUM(r.revenue_booking_count) as revenueBookingCount,
+            SUM(r.room_nights) as roomNights,
+            SUM(r.revenue) as revenue
+        FROM booking_daily_rollup r
+        WHERE r.stat_date >= :startDate
+        GROUP BY DATE_FORMAT(r.stat_date, '%Y-%m')
+        HAVING SUM(r.booking_count) > 0
+        ORDER BY monthYear
+        """, nativeQuery = true)
+    List<BookingRollupMonthProjection> findMonthlyTotals(@Param("startDate") LocalDate startDate);
+}
@@ -20,6 +20,7 @@ import com.yakrooms.be.dto.BookingStatisticsDTO;
 import com.yakrooms.be.dto.MonthlyRevenueStatsDTO;
 import com.yakrooms.be.model.entity.Booking;
 import com.yakrooms.be.model.enums.BookingStatus;
+import com.yakrooms.be.projection.BookingRollupKeyProjection;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -98,7 +99,15 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
         ORDER BY b.checkInDate ASC
         """)
     List<Booking> findAllActiveBookingsByRoomId(@Param("roomId") Long roomId);
-    
+
+    // Same bookings as above as bare [checkInDate, checkOutDate] pairs (availability stream snapshots)
+    @Query("""
+        SELECT b.checkInDate, b.checkOutDate FROM Booking b
+        WHERE b.room.id = :roomId
+        AND b.status IN ('PENDING', 'CONFIRMED', 'CHECKED_IN', 'CANCELLATION_REQUESTED', 'CANCELLATION_REJECTED')
+        """)
+    List<Object[]> findActiveBookingRangesByRoomId(@Param("roomId") Long roomId);
+
     // Room availability scheduler queries - optimized for bulk operations
     @Query("SELECT DISTINCT b.room.id FROM Booking b " +
            "WHERE b.checkOutDate = :checkoutDate " +
@@ -183,14 +192,22 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     Optional<Booking> findByPasscode(String passcode);
 
     // Batch operations for performance
+    // Skips the entity listeners: pass the same ids to BookingRollupService.markBookingsDirty
+    // and evict the hotels through OccupancyAnalyticsService.evictHotel.
+    // updated_at is set so the rollup reconcile job picks the rows up as well.
     @Modifying
-    @Query("UPDATE Booking b SET b.status = :status WHERE b.id IN :bookingIds")
+    @Query("UPDATE Booking b SET b.status = :status, b.updatedAt = CURRENT_TIMESTAMP WHERE b.id IN :bookingIds")
     void updateStatusForBookings(@Param("bookingIds") List<Long> bookingIds, @Param("status") BookingStatus status);
     
     // Batch delete operations
+    // Skips the entity listeners: follow with BookingRollupService.deleteHotelRollups
     @Modifying
     @Query("DELETE FROM Booking b WHERE b.hotel.id = :hotelId")
     void deleteByHotelIdInBatch(@Param("hotelId") Long hotelId);
+
+    // Id chunks for the background hotel deletion job
+    @Query("SELECT b.id FROM Booking b WHERE b.hotel.id = :hotelId")
+    List<Long> findIdsByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
     
     // Fetch bookings with cancellation request notifications for specific hotel
     @EntityGraph("Booking.withDetails")
@@ -268,6 +285,26 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     List<MonthlyRevenueStatsDTO> getMonthlyRevenueStats(@Param("hotelId") Long hotelId,
                                                         @Param("startDate") LocalDate startDate);
 
+    // Hotel-days touched since a watermark - drives the booking rollup reconcile job
+    @Query(value = """
+        SELECT DISTINCT
+            b.hotel_id as hotelId,
+            DATE(b.created_at) as statDate
+        FROM booking b
+        WHERE b.updated_at >= :since
+        """, nativeQuery = true)
+    List<BookingRollupKeyProjection> findRollupKeysUpdatedSince(@Param("since") LocalDateTime since);
+
+    // Hotel-days of specific bookings - for bulk updates, which skip the rollup entity listener
+    @Query(value = """
+        SELECT DISTINCT
+            b.hotel_id as hotelId,
+            DATE(b.created_at) as statDate
+        FROM booking b
+        WHERE b.id IN :bookingIds
+        """, nativeQuery = true)
+    List<BookingRollupKeyProjection> findRollupKeysByIds(@Param("bookingIds") List<Long> bookingIds);
+
     // Performance monitoring queries
     @Query("""
         SELECT b FROM Booking b 
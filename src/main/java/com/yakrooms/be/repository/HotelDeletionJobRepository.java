@@ -0,0 +1,60 @@
+package com.yakrooms.be.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.yakrooms.be.model.entity.HotelDeletionJob;
+import com.yakrooms.be.model.enums.HotelDeletionStatus;
+import com.yakrooms.be.model.enums.HotelDeletionStep;
+
+@Repository
+public interface HotelDeletionJobRepository extends JpaRepository<HotelDeletionJob, Long> {
+
+    Optional<HotelDeletionJob> findFirstByHotelIdOrderByIdDesc(Long hotelId);
+
+    Optional<HotelDeletionJob> findFirstByHotelIdAndStatusInOrderByIdDesc(Long hotelId,
+                                                                          Collection<HotelDeletionStatus> statuses);
+
+    boolean existsByHotelIdAndStatusIn(Long hotelId, Collection<HotelDeletionStatus> statuses);
+
+    // Jobs waiting for a worker: new ones, and running ones whose worker stopped heart-beating
+    @Query("""
+        SELECT j.id FROM HotelDeletionJob j
+        WHERE j.status = com.yakrooms.be.model.enums.HotelDeletionStatus.PENDING
+        OR (j.status = com.yakrooms.be.model.enums.HotelDeletionStatus.RUNNING AND j.heartbeatAt < :staleBefore)
+        ORDER BY j.id ASC
+        """)
+    List<Long> findRunnableIds(@Param("staleBefore") LocalDateTime staleBefore);
+
+    // Conditional claim - only one node gets 1 back for the same job
+    @Modifying
+    @Query("""
+        UPDATE HotelDeletionJob j
+        SET j.status = com.yakrooms.be.model.enums.HotelDeletionStatus.RUNNING,
+            j.heartbeatAt = :now, j.updatedAt = :now
+        WHERE j.id = :id
+        AND (j.status = com.yakrooms.be.model.enums.HotelDeletionStatus.PENDING
+             OR (j.status = com.yakrooms.be.model.enums.HotelDeletionStatus.RUNNING AND j.heartbeatAt < :staleBefore))
+        """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("staleBefore") LocalDateTime staleBefore);
+
+    // Checkpoint written in the same transaction as the chunk it accounts for
+    @Modifying
+    @Query("""
+        UPDATE HotelDeletionJob j
+        SET j.step = :step, j.deletedRows = j.deletedRows + :rows, j.heartbeatAt = :now, j.updatedAt = :now
+        WHERE j.id = :id
+        """)
+    int recordProgress(@Param("id") Long id,
+                       @Param("step") HotelDeletionStep step,
+                       @Param("rows") long rows,
+                       @Param("now") LocalDateTime now);
+}
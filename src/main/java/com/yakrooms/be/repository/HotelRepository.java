@@ -12,7 +12,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.projection.HotelCardProjection;
 import com.yakrooms.be.projection.HotelListingProjection;
+import com.yakrooms.be.projection.HotelSuggestionSourceProjection;
 import com.yakrooms.be.projection.HotelWithCollectionsAndRatingProjection;
 import com.yakrooms.be.projection.HotelWithLowestPriceProjection;
 import com.yakrooms.be.projection.HotelWithPriceProjection;
@@ -131,7 +133,7 @@ public interface HotelRepository extends JpaRepository<Hotel, Long>, JpaSpecific
             AND (:district IS NULL OR LOWER(h.district) LIKE LOWER(CONCAT('%', :district, '%')))
             AND (:locality IS NULL OR LOWER(h.locality) LIKE LOWER(CONCAT('%', :locality, '%')))
             AND (:hotelType IS NULL OR h.hotel_type = :hotelType)
-            ORDER BY COALESCE(rm.min_price, 999999) ASC
+            ORDER BY COALESCE(rm.min_price, 999999) ASC, h.id ASC
             """, 
             countQuery = """
             SELECT COUNT(*) 
@@ -220,7 +222,7 @@ public interface HotelRepository extends JpaRepository<Hotel, Long>, JpaSpecific
                 GROUP BY hotel_id
             ) rv ON rv.hotel_id = h.id
             WHERE h.is_verified = 1
-            ORDER BY COALESCE(rm.min_price, 999999) ASC
+            ORDER BY COALESCE(rm.min_price, 999999) ASC, h.id ASC
             """, 
             countQuery = "SELECT COUNT(*) FROM hotels WHERE is_verified = 1", 
             nativeQuery = true)
@@ -265,16 +267,150 @@ public interface HotelRepository extends JpaRepository<Hotel, Long>, JpaSpecific
                 GROUP BY hotel_id
             ) rv ON rv.hotel_id = h.id
             WHERE h.is_verified = 1
-            ORDER BY COALESCE(rm.min_price, 0) DESC
+            ORDER BY COALESCE(rm.min_price, 0) DESC, h.id ASC
             """, 
             countQuery = "SELECT COUNT(*) FROM hotels WHERE is_verified = 1", 
             nativeQuery = true)
     Page<HotelWithLowestPriceProjection> findAllVerifiedHotelsWithLowestPriceDesc(Pageable pageable);
 
+    // Hotel cards by lowest price - only the card columns and one photo instead of the full photo list.
+    // Ties are broken by id as in the full listing queries, so a card page holds the same hotels as its full page
+    @Query(value = """
+            SELECT
+                h.id as id,
+                h.name as name,
+                h.district as district,
+                h.locality as locality,
+                h.hotel_type as hotelType,
+                COALESCE(rm.min_price, 0) as lowestPrice,
+                hp.url as photoUrl,
+                COALESCE(rv.avg_rating, 0) as averageRating
+            FROM hotels h
+            LEFT JOIN (
+                SELECT hotel_id, MIN(price) as min_price
+                FROM room
+                GROUP BY hotel_id
+            ) rm ON rm.hotel_id = h.id
+            LEFT JOIN (
+                SELECT hotel_id, MIN(url) as url
+                FROM hotel_photo_urls
+                GROUP BY hotel_id
+            ) hp ON hp.hotel_id = h.id
+            LEFT JOIN (
+                SELECT hotel_id, AVG(rating) as avg_rating
+                FROM reviews
+                GROUP BY hotel_id
+            ) rv ON rv.hotel_id = h.id
+            WHERE h.is_verified = 1
+            ORDER BY COALESCE(rm.min_price, 999999) ASC, h.id ASC
+            """,
+            countQuery = "SELECT COUNT(*) FROM hotels WHERE is_verified = 1",
+            nativeQuery = true)
+    Page<HotelCardProjection> findVerifiedHotelCardsByLowestPrice(Pageable pageable);
+
+    // Hotel cards by highest price
+    @Query(value = """
+            SELECT
+                h.id as id,
+                h.name as name,
+                h.district as district,
+                h.locality as locality,
+                h.hotel_type as hotelType,
+                COALESCE(rm.min_price, 0) as lowestPrice,
+                hp.url as photoUrl,
+                COALESCE(rv.avg_rating, 0) as averageRating
+            FROM hotels h
+            LEFT JOIN (
+                SELECT hotel_id, MIN(price) as min_price
+                FROM room
+                GROUP BY hotel_id
+            ) rm ON rm.hotel_id = h.id
+            LEFT JOIN (
+                SELECT hotel_id, MIN(url) as url
+                FROM hotel_photo_urls
+                GROUP BY hotel_id
+            ) hp ON hp.hotel_id = h.id
+            LEFT JOIN (
+                SELECT hotel_id, AVG(rating) as avg_rating
+                FROM reviews
+                GROUP BY hotel_id
+            ) rv ON rv.hotel_id = h.id
+            WHERE h.is_verified = 1
+            ORDER BY COALESCE(rm.min_price, 0) DESC, h.id ASC
+            """,
+            countQuery = "SELECT COUNT(*) FROM hotels WHERE is_verified = 1",
+            nativeQuery = true)
+    Page<HotelCardProjection> findVerifiedHotelCardsByHighestPrice(Pageable pageable);
+
+    // Hotel cards matching search filters, by lowest price
+    @Query(value = """
+            SELECT
+                h.id as id,
+                h.name as name,
+                h.district as district,
+                h.locality as locality,
+                h.hotel_type as hotelType,
+                COALESCE(rm.min_price, 0) as lowestPrice,
+                hp.url as photoUrl,
+                COALESCE(rv.avg_rating, 0) as averageRating
+            FROM hotels h
+            LEFT JOIN (
+                SELECT hotel_id, MIN(price) as min_price
+                FROM room
+                GROUP BY hotel_id
+            ) rm ON rm.hotel_id = h.id
+            LEFT JOIN (
+                SELECT hotel_id, MIN(url) as url
+                FROM hotel_photo_urls
+                GROUP BY hotel_id
+            ) hp ON hp.hotel_id = h.id
+            LEFT JOIN (
+                SELECT hotel_id, AVG(rating) as avg_rating
+                FROM reviews
+                GROUP BY hotel_id
+            ) rv ON rv.hotel_id = h.id
+            WHERE h.is_verified = 1
+            AND (:district IS NULL OR LOWER(h.district) LIKE LOWER(CONCAT('%', :district, '%')))
+            AND (:locality IS NULL OR LOWER(h.locality) LIKE LOWER(CONCAT('%', :locality, '%')))
+            AND (:hotelType IS NULL OR h.hotel_type = :hotelType)
+            ORDER BY COALESCE(rm.min_price, 999999) ASC, h.id ASC
+            """,
+            countQuery = """
+            SELECT COUNT(*)
+            FROM hotels h
+            WHERE h.is_verified = 1
+            AND (:district IS NULL OR LOWER(h.district) LIKE LOWER(CONCAT('%', :district, '%')))
+            AND (:locality IS NULL OR LOWER(h.locality) LIKE LOWER(CONCAT('%', :locality, '%')))
+            AND (:hotelType IS NULL OR h.hotel_type = :hotelType)
+            """,
+            nativeQuery = true)
+    Page<HotelCardProjection> findVerifiedHotelCardsFiltered(
+        @Param("district") String district,
+        @Param("locality") String locality,
+        @Param("hotelType") String hotelType,
+        Pageable pageable
+    );
+
     // Verification status check - optimized with index
     @Query("SELECT CASE WHEN COUNT(h) > 0 THEN true ELSE false END FROM Hotel h WHERE h.id = :id AND h.isVerified = true")
     boolean isHotelVerified(@Param("id") Long id);
 
     // Find hotels with deletion requests - optimized with index
     Page<Hotel> findByDeletionRequestedTrue(Pageable pageable);
+
+    // Autocomplete source rows - only the columns the suggestion trie indexes
+    @Query(value = """
+            SELECT
+                h.id as id,
+                h.name as name,
+                h.district as district,
+                h.locality as locality
+            FROM hotels h
+            WHERE h.is_verified = 1
+            """, nativeQuery = true)
+    List<HotelSuggestionSourceProjection> findAllVerifiedSuggestionSources();
+
+    // Hotel name only - avoids loading the entity for labels in statistics responses
+    @Query("SELECT h.name FROM Hotel h WHERE h.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.yakrooms.be.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.yakrooms.be.model.entity.NotificationArchive;
+
+@Repository
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    // Copy a chunk of live notifications; IGNORE makes a repeated chunk a no-op
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO notifications_archive
+            (id, user_id, booking_id, title, message, type, is_read, created_at, archived_at)
+        SELECT id, user_id, booking_id, title, message, type, is_read, created_at, NOW()
+        FROM notifications
+        WHERE id IN (:ids)
+        """, nativeQuery = true)
+    int archive(@Param("ids") Collection<Long> ids);
+
+    // Bounded delete of expired archive rows - range scan on idx_notification_archive_archived
+    @Modifying
+    @Query(value = "DELETE FROM notifications_archive WHERE archived_at < :cutoff LIMIT :limit", nativeQuery = true)
+    int deleteArchivedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // InnoDB's row estimate - cheap enough for a gauge, unlike COUNT(*)
+    @Query(value = """
+        SELECT TABLE_ROWS FROM information_schema.TABLES
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications_archive'
+        """, nativeQuery = true)
+    Number estimateRowCount();
+}
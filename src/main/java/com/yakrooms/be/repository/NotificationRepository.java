@@ -2,10 +2,15 @@ package com.yakrooms.be.repository;
 
 import com.yakrooms.be.model.entity.Notification;
 import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.projection.NotificationFeedProjection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,8 +18,17 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     // Batch delete operations
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.booking.room.hotel.id = :hotelId")
+    @Query("DELETE FROM Notification n WHERE n.booking.hotel.id = :hotelId")
     void deleteByHotelIdInBatch(@Param("hotelId") Long hotelId);
+
+    // Id chunks for the background hotel deletion job
+    @Query("SELECT n.id FROM Notification n WHERE n.booking.hotel.id = :hotelId")
+    List<Long> findIdsByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
+
+    // Recipients of a chunk, whose unread counters a bulk delete invalidates
+    @Query("SELECT DISTINCT n.user.id FROM Notification n WHERE n.id IN :ids")
+    List<Long> findUserIdsByIds(@Param("ids") Collection<Long> ids);
+
     List<Notification> findByUser(User user);
     List<Notification> findByUserAndIsReadFalse(User user);
     
@@ -27,6 +41,61 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     @Query("SELECT n FROM Notification n LEFT JOIN FETCH n.user LEFT JOIN FETCH n.booking LEFT JOIN FETCH n.booking.room WHERE n.user.id = :userId")
     List<Notification> findByUserIdWithAssociations(@Param("userId") Long userId);
     
+    // Paginated feed, newest first - columns only, served by idx_notification_user_created
+    @Query(value = """
+        SELECT n.id AS id, u.name AS username, r.roomNumber AS roomNumber, n.title AS title,
+               n.message AS message, n.type AS type, n.isRead AS isRead, n.createdAt AS createdAt
+        FROM Notification n
+        JOIN n.user u
+        LEFT JOIN n.booking b
+        LEFT JOIN b.room r
+        WHERE u.id = :userId
+        AND (:unreadOnly = false OR n.isRead = false)
+        ORDER BY n.createdAt DESC, n.id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(n) FROM Notification n
+        WHERE n.user.id = :userId
+        AND (:unreadOnly = false OR n.isRead = false)
+        """)
+    Page<NotificationFeedProjection> findFeedByUserId(@Param("userId") Long userId,
+                                                      @Param("unreadOnly") boolean unreadOnly,
+                                                      Pageable pageable);
+
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.user.id = :userId AND n.isRead = false")
+    long countUnreadByUserId(@Param("userId") Long userId);
+
+    // Single statement instead of loading and saving every unread row
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.user.id = :userId AND n.isRead = false")
+    int markAllAsReadByUserId(@Param("userId") Long userId);
+
+    // Retention chunks, oldest first - range scan on idx_notification_type_created
+    @Query("SELECT n.id FROM Notification n WHERE n.type = :type AND n.createdAt < :cutoff ORDER BY n.createdAt ASC")
+    List<Long> findIdsByTypeCreatedBefore(@Param("type") String type,
+                                          @Param("cutoff") LocalDateTime cutoff,
+                                          Pageable pageable);
+
+    // Retention chunks for types without a NotificationType constant
+    @Query("""
+        SELECT n.id FROM Notification n
+        WHERE (n.type IS NULL OR n.type NOT IN :types) AND n.createdAt < :cutoff
+        ORDER BY n.createdAt ASC
+        """)
+    List<Long> findIdsByOtherTypesCreatedBefore(@Param("types") Collection<String> types,
+                                                @Param("cutoff") LocalDateTime cutoff,
+                                                Pageable pageable);
+
+    @Query("SELECT MIN(n.createdAt) FROM Notification n")
+    LocalDateTime findOldestCreatedAt();
+
+    // InnoDB's row estimate - cheap enough for a gauge, unlike COUNT(*)
+    @Query(value = """
+        SELECT TABLE_ROWS FROM information_schema.TABLES
+        WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'notifications'
+        """, nativeQuery = true)
+    Number estimateRowCount();
+
     // Find notification by booking and type
     @Query("SELECT n FROM Notification n WHERE n.booking = :booking AND n.type = :type")
     Optional<Notification> findByBookingAndType(@Param("booking") com.yakrooms.be.model.entity.Booking booking, @Param("type") String type);
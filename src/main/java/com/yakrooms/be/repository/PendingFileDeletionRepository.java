@@ -0,0 +1,50 @@
+package com.yakrooms.be.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.yakrooms.be.model.entity.PendingFileDeletion;
+
+@Repository
+public interface PendingFileDeletionRepository extends JpaRepository<PendingFileDeletion, Long> {
+
+    // Idempotent enqueue - a key that is already queued is left as it is
+    @Modifying
+    @Query(value = """
+        INSERT IGNORE INTO pending_file_deletion (file_key, attempts, next_attempt_at, created_at)
+        VALUES (:fileKey, 0, NOW(), NOW())
+        """, nativeQuery = true)
+    int enqueue(@Param("fileKey") String fileKey);
+
+    // Due deletions, oldest first - range scan on idx_pending_file_deletion_due
+    @Query("""
+        SELECT p FROM PendingFileDeletion p
+        WHERE p.nextAttemptAt <= :now
+        AND p.attempts < :maxAttempts
+        ORDER BY p.nextAttemptAt ASC
+        """)
+    List<PendingFileDeletion> findDue(@Param("now") LocalDateTime now,
+                                      @Param("maxAttempts") int maxAttempts,
+                                      Pageable pageable);
+
+    @Modifying
+    @Query("""
+        UPDATE PendingFileDeletion p
+        SET p.attempts = p.attempts + 1, p.nextAttemptAt = :nextAttemptAt, p.lastError = :error
+        WHERE p.id IN :ids
+        """)
+    int markFailed(@Param("ids") Collection<Long> ids,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("error") String error);
+
+    // Deletions that ran out of attempts and need a look
+    long countByAttemptsGreaterThanEqual(int attempts);
+}
@@ -2,6 +2,7 @@ package com.yakrooms.be.repository;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -20,5 +21,9 @@ public interface RestaurantRepository extends JpaRepository<Restaurant, Long>{
 	@Query("DELETE FROM Restaurant r WHERE r.hotel.id = :hotelId")
 	void deleteByHotelIdInBatch(@Param("hotelId") Long hotelId);
 
+	// Id chunks for the background hotel deletion job
+	@Query("SELECT r.id FROM Restaurant r WHERE r.hotel.id = :hotelId")
+	List<Long> findIdsByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
+
 
 }
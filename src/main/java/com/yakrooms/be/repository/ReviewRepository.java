@@ -23,6 +23,10 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("DELETE FROM Review r WHERE r.hotel.id = :hotelId")
     void deleteByHotelIdInBatch(@Param("hotelId") Long hotelId);
 
+    // Id chunks for the background hotel deletion job
+    @Query("SELECT r.id FROM Review r WHERE r.hotel.id = :hotelId")
+    List<Long> findIdsByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
+
     @Query("SELECT AVG(r.rating) FROM Review r WHERE r.hotel.id = :hotelId")
     Optional<Double> findAverageRatingByHotel(@Param("hotelId") Long hotelId);
 
@@ -1,5 +1,6 @@
 package com.yakrooms.be.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,7 +13,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.yakrooms.be.model.entity.Room;
-import com.yakrooms.be.projection.RoomStatusProjection;
+import com.yakrooms.be.projection.RoomStatusBoardProjection;
 
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
@@ -24,6 +25,10 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
     @Modifying
     @Query("DELETE FROM Room r WHERE r.hotel.id = :hotelId")
     int deleteByHotelIdInBatch(@Param("hotelId") Long hotelId);
+
+    // Id chunks for the background hotel deletion job
+    @Query("SELECT r.id FROM Room r WHERE r.hotel.id = :hotelId")
+    List<Long> findIdsByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
     
     // Check if any rooms exist for hotel before deletion
     @Query("SELECT COUNT(r) FROM Room r WHERE r.hotel.id = :hotelId")
@@ -95,15 +100,20 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
 
     @Query(value = "SELECT ri.room_id, ri.url FROM room_image_urls ri WHERE ri.room_id IN :roomIds", nativeQuery = true)
     List<Object[]> findImageUrlsByRoomIds(@Param("roomIds") List<Long> roomIds);
+
+    @Query(value = "SELECT ri.url FROM room_image_urls ri JOIN room r ON r.id = ri.room_id WHERE r.hotel_id = :hotelId", nativeQuery = true)
+    List<String> findImageUrlsByHotelId(@Param("hotelId") Long hotelId);
     
     // Bulk update room availability for scheduler operations
     @Modifying
     @Query("UPDATE Room r SET r.isAvailable = :available WHERE r.id IN :roomIds")
     int bulkUpdateRoomAvailability(@Param("roomIds") List<Long> roomIds, @Param("available") boolean available);
 
-    // Room status projections - optimized for dashboard/status views
+    // Room status board - current/next booking per room; the booking scan is limited to the hotel
     @Query(value = """
             SELECT
+                r.id AS roomId,
+                r.hotel_id AS hotelId,
                 r.room_number AS roomNumber,
                 r.room_type AS roomType,
                 CASE
@@ -121,29 +131,36 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
                     WHEN b.status = 'CANCELLATION_REQUESTED' THEN COALESCE(CONCAT(u.name, ' (Cancellation Requested)'), CONCAT(b.guest_name, ' (Cancellation Requested)'), 'Guest (Cancellation Requested)')
                     ELSE 'No guest'
                 END AS guestName,
+                b.id AS bookingId,
+                b.check_in_date AS checkInDate,
                 b.check_out_date AS checkOutDate
             FROM room r
             LEFT JOIN (
-                SELECT 
+                SELECT
+                    id,
                     room_id,
                     status,
                     user_id,
+                    check_in_date,
                     check_out_date,
                     guest_name
                 FROM (
-                    SELECT 
+                    SELECT
+                        id,
                         room_id,
                         status,
                         user_id,
+                        check_in_date,
                         check_out_date,
                         guest_name,
                         ROW_NUMBER() OVER (
-                            PARTITION BY room_id 
+                            PARTITION BY room_id
                             ORDER BY ABS(DATEDIFF(check_in_date, CURDATE())) ASC,
                                      check_in_date ASC
                         ) as rn
-                    FROM booking 
-                    WHERE status IN ('CHECKED_IN', 'CONFIRMED', 'CANCELLATION_REJECTED', 'CANCELLATION_REQUESTED')
+                    FROM booking
+                    WHERE hotel_id = :hotelId
+                    AND status IN ('CHECKED_IN', 'CONFIRMED', 'CANCELLATION_REJECTED', 'CANCELLATION_REQUESTED')
                 ) ranked_bookings
                 WHERE rn = 1
             ) b ON r.id = b.room_id
@@ -151,10 +168,13 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
             WHERE r.hotel_id = :hotelId
             ORDER BY r.room_number
             """, nativeQuery = true)
-    Page<RoomStatusProjection> getRoomStatusByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
+    List<RoomStatusBoardProjection> findRoomStatusBoardByHotelId(@Param("hotelId") Long hotelId);
 
+    // Room status board rows for individual rooms, used to apply incremental changes
     @Query(value = """
             SELECT
+                r.id AS roomId,
+                r.hotel_id AS hotelId,
                 r.room_number AS roomNumber,
                 r.room_type AS roomType,
                 CASE
@@ -172,39 +192,42 @@ public interface RoomRepository extends JpaRepository<Room, Long> {
                     WHEN b.status = 'CANCELLATION_REQUESTED' THEN COALESCE(CONCAT(u.name, ' (Cancellation Requested)'), CONCAT(b.guest_name, ' (Cancellation Requested)'), 'Guest (Cancellation Requested)')
                     ELSE 'No guest'
                 END AS guestName,
+                b.id AS bookingId,
+                b.check_in_date AS checkInDate,
                 b.check_out_date AS checkOutDate
             FROM room r
             LEFT JOIN (
-                SELECT 
+                SELECT
+                    id,
                     room_id,
                     status,
                     user_id,
+                    check_in_date,
                     check_out_date,
                     guest_name
                 FROM (
-                    SELECT 
+                    SELECT
+                        id,
                         room_id,
                         status,
                         user_id,
+                        check_in_date,
                         check_out_date,
                         guest_name,
                         ROW_NUMBER() OVER (
-                            PARTITION BY room_id 
+                            PARTITION BY room_id
                             ORDER BY ABS(DATEDIFF(check_in_date, CURDATE())) ASC,
                                      check_in_date ASC
                         ) as rn
-                    FROM booking 
-                    WHERE status IN ('CHECKED_IN', 'CONFIRMED', 'CANCELLATION_REJECTED', 'CANCELLATION_REQUESTED')
+                    FROM booking
+                    WHERE room_id IN (:roomIds)
+                    AND status IN ('CHECKED_IN', 'CONFIRMED', 'CANCELLATION_REJECTED', 'CANCELLATION_REQUESTED')
                 ) ranked_bookings
                 WHERE rn = 1
             ) b ON r.id = b.room_id
             LEFT JOIN users u ON b.user_id = u.id
-            WHERE r.hotel_id = :hotelId 
-            AND r.room_number LIKE CONCAT('%', :roomNumber, '%')
+            WHERE r.id IN (:roomIds)
             ORDER BY r.room_number
             """, nativeQuery = true)
-    Page<RoomStatusProjection> getRoomStatusByHotelIdAndRoomNumber(
-            @Param("hotelId") Long hotelId, 
-            @Param("roomNumber") String roomNumber, 
-            Pageable pageable);
+    List<RoomStatusBoardProjection> findRoomStatusBoardByRoomIds(@Param("roomIds") Collection<Long> roomIds);
 }
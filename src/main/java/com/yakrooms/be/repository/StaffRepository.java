@@ -20,6 +20,10 @@ public interface StaffRepository extends JpaRepository<Staff, Long> {
     @Modifying
     @Query("DELETE FROM Staff s WHERE s.hotel.id = :hotelId")
     void deleteByHotelIdInBatch(@Param("hotelId") Long hotelId);
+
+    // Id chunks for the background hotel deletion job
+    @Query("SELECT s.id FROM Staff s WHERE s.hotel.id = :hotelId")
+    List<Long> findIdsByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
     
     // Optimized query using projection to avoid N+1 and LazyInitializationException
     @Query("SELECT " +
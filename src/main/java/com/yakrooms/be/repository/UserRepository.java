@@ -74,6 +74,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "LEFT JOIN FETCH u.roles " +
            "WHERE u.hotel.id = :hotelId")
     List<User> findByHotelIdWithRoles(@Param("hotelId") Long hotelId);
+
+    // Id chunks for the background hotel deletion job
+    @Query("SELECT u.id FROM User u WHERE u.hotel.id = :hotelId")
+    List<Long> findIdsByHotelId(@Param("hotelId") Long hotelId, Pageable pageable);
     
     @Query("SELECT DISTINCT u FROM User u " +
            "LEFT JOIN FETCH u.roles " +
@@ -0,0 +1,62 @@
+package com.yakrooms.be.security;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yakrooms.be.service.ConcurrencyLimitService;
+
+/**
+ * Sheds load with 503 when a request's concurrency budget is full, instead
+ * of letting it queue for locks and pool connections. Runs after the rate
+ * limiter so throttled requests never take a slot.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitFilter.class);
+
+    @Autowired
+    private ConcurrencyLimitService concurrencyLimitService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        ConcurrencyLimitService.Route route = concurrencyLimitService.routeFor(request.getMethod(), path);
+        if (route == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        if (!concurrencyLimitService.tryAcquire(route)) {
+            logger.debug("Shedding {} {}: {} concurrency budget is full", request.getMethod(), path, route.budget());
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"Service busy\",\"message\":\"Too many requests in progress, please retry shortly\"}");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            // 5xx means timeouts, lock waits or pool exhaustion as often as bugs; 4xx says nothing about load
+            dropped = response.getStatus() >= 500;
+        } finally {
+            concurrencyLimitService.release(route, System.nanoTime() - startedAt, dropped);
+        }
+    }
+}
@@ -12,6 +12,10 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
+import com.yakrooms.be.service.TokenRevocationService;
+
+import io.jsonwebtoken.Claims;
+
 
 @Component
 public class JwtAuthenticationProvider implements AuthenticationProvider {
@@ -19,6 +23,9 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
         if (authentication instanceof JwtAuthenticationToken) {
@@ -28,9 +35,14 @@ public class JwtAuthenticationProvider implements AuthenticationProvider {
             try {
                 if (jwtUtil.validateAccessToken(token)) {
                     // Extract user information from JWT
-                    String email = jwtUtil.extractEmail(token);
-                    Long userId = jwtUtil.extractUserId(token);
-                    String rolesString = jwtUtil.extractRoles(token);
+                    Claims claims = jwtUtil.extractAllClaims(token);
+                    String email = claims.getSubject();
+                    Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+                    String rolesString = claims.get(JwtUtil.CLAIM_ROLES, String.class);
+                    
+                    if (tokenRevocationService.isRevoked(userId, claims.get(JwtUtil.CLAIM_JTI, String.class), claims.getIssuedAt())) {
+                        throw new BadCredentialsException("JWT token has been revoked");
+                    }
                     
                     // Convert roles string to authorities
                     List<SimpleGrantedAuthority> authorities = new ArrayList<>();
@@ -17,8 +17,11 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.yakrooms.be.service.TokenRevocationService;
 import com.yakrooms.be.util.CookieUtil;
 
+import io.jsonwebtoken.Claims;
+
 public class JwtFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
@@ -28,6 +31,9 @@ public class JwtFilter extends OncePerRequestFilter {
     
     @Autowired
     private JwtUtil jwtUtil;
+    
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
 
     // List of public endpoints that don't require JWT processing (MORE SPECIFIC FIRST)
     private static final List<String> PUBLIC_ENDPOINTS = List.of(
@@ -42,6 +48,8 @@ public class JwtFilter extends OncePerRequestFilter {
         "/api/hotels/sortedByHighestPrice",
         "/api/rooms/available/**",
         "/api/rooms/*/booked-dates",
+        "/api/rooms/*/availability/stream",
+        "/api/rooms/hotel/*/availability/stream",
         "/api/reviews/hotel/**",
         "/api/reviews/averageRating",
         "/api/getIntouch",
@@ -127,9 +135,17 @@ public class JwtFilter extends OncePerRequestFilter {
             // Validate access token
             if (jwtUtil.validateAccessToken(token)) {
                 // Extract user information from JWT
-                String email = jwtUtil.extractEmail(token);
-                Long userId = jwtUtil.extractUserId(token);
-                String rolesString = jwtUtil.extractRoles(token);
+                Claims claims = jwtUtil.extractAllClaims(token);
+                String email = claims.getSubject();
+                Long userId = claims.get(JwtUtil.CLAIM_USER_ID, Long.class);
+                String rolesString = claims.get(JwtUtil.CLAIM_ROLES, String.class);
+                
+                // Reject tokens revoked before expiry (logout, role changes)
+                if (tokenRevocationService.isRevoked(userId, claims.get(JwtUtil.CLAIM_JTI, String.class), claims.getIssuedAt())) {
+                    logger.debug("Revoked access token for user: " + email);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
                 
                 // Convert roles string to authorities
                 List<SimpleGrantedAuthority> authorities = new ArrayList<>();
@@ -172,6 +172,13 @@ public class JwtUtil {
 		}
 	}
 	
+	/**
+	 * Extract all claims from token in a single parse
+	 */
+	public Claims extractAllClaims(String token) {
+		return parseToken(token);
+	}
+	
 	/**
 	 * Extract email from token
 	 */
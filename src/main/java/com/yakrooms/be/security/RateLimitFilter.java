@@ -0,0 +1,66 @@
+package com.yakrooms.be.security;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.yakrooms.be.service.RateLimitService;
+
+/**
+ * Rejects requests over their client's rate limit with 429 and Retry-After.
+ * Runs after JwtFilter so authenticated requests are limited per user rather
+ * than per IP.
+ *
+ * The IP is the connection's remote address. Behind a proxy, Tomcat's
+ * RemoteIpValve (server.forward-headers-strategy=native) replaces it with the
+ * last X-Forwarded-For hop not in server.tomcat.remoteip.internal-proxies, so
+ * a client cannot pick its own bucket by sending the header itself.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        long waitMs = rateLimitService.tryAcquire(request.getMethod(), path, currentUserId(), request.getRemoteAddr());
+        if (waitMs <= 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (waitMs + 999) / 1000);
+        logger.debug("Rate limited {} {} for {}s", request.getMethod(), path, retryAfterSeconds);
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests\",\"message\":\"Rate limit exceeded, retry after "
+                + retryAfterSeconds + " seconds\"}");
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails details) {
+            return details.getUserId();
+        }
+        return null;
+    }
+}
@@ -32,6 +32,16 @@ public class SecurityConfig {
         return new JwtFilter();
     }
 
+    @Bean
+    public RateLimitFilter rateLimitFilter() {
+        return new RateLimitFilter();
+    }
+
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter() {
+        return new ConcurrencyLimitFilter();
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
         return config.getAuthenticationManager();
@@ -88,10 +98,13 @@ public class SecurityConfig {
                 .requestMatchers("/api/hotels/topThree").permitAll()
                 .requestMatchers("/api/hotels/details/**").permitAll()
                 .requestMatchers("/api/hotels/search").permitAll()
+                .requestMatchers("/api/hotels/autocomplete").permitAll()
                 .requestMatchers("/api/hotels/sortedByLowestPrice").permitAll()
                 .requestMatchers("/api/hotels/sortedByHighestPrice").permitAll()
                 .requestMatchers("/api/rooms/available/**").permitAll()
                 .requestMatchers("/api/rooms/*/booked-dates").permitAll()
+                .requestMatchers("/api/rooms/*/availability/stream").permitAll()
+                .requestMatchers("/api/rooms/hotel/*/availability/stream").permitAll()
                 .requestMatchers("/api/reviews/hotel/*/testimonials/paginated").permitAll()
                 .requestMatchers("/api/reviews/averageRating").permitAll()
                 .requestMatchers("/api/getIntouch").permitAll()
@@ -111,7 +124,9 @@ public class SecurityConfig {
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
-            .addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtFilter(), UsernamePasswordAuthenticationFilter.class)
+            .addFilterAfter(rateLimitFilter(), JwtFilter.class)
+            .addFilterAfter(concurrencyLimitFilter(), RateLimitFilter.class);
 
         return http.build();
     }
@@ -155,7 +170,16 @@ public class SecurityConfig {
             "Access-Control-Request-Method",
             "Access-Control-Request-Headers",
             "X-XSRF-TOKEN",  // Spring Security CSRF token header
-            "X-CSRF-TOKEN"  // Alternative CSRF token header
+            "X-CSRF-TOKEN",  // Alternative CSRF token header
+            "Idempotency-Key",  // Safe retries of booking writes
+            "If-None-Match"  // Conditional catalog requests
+        ));
+        
+        // Let browser clients read retry hints, replay markers and catalog ETags
+        configuration.setExposedHeaders(Arrays.asList(
+            "Retry-After",
+            "Idempotent-Replayed",
+            "ETag"
         ));
         
         // Allow credentials (cookies, authorization headers)
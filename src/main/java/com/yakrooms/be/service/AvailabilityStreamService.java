@@ -0,0 +1,43 @@
+package com.yakrooms.be.service;
+
+import org.springframework.http.codec.ServerSentEvent;
+
+import com.yakrooms.be.dto.RoomAvailabilityEvent;
+import com.yakrooms.be.model.entity.Booking;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Service streaming room availability deltas to anonymous watchers over
+ * Server-Sent Events, driven by booking lifecycle changes.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface AvailabilityStreamService {
+
+    /**
+     * Stream availability changes for one room.
+     *
+     * @param roomId The room ID
+     * @return SSE stream of availability events and heartbeat comments
+     */
+    Flux<ServerSentEvent<RoomAvailabilityEvent>> streamRoom(Long roomId);
+
+    /**
+     * Stream availability changes for every room of a hotel.
+     *
+     * @param hotelId The hotel ID
+     * @return SSE stream of availability events and heartbeat comments
+     */
+    Flux<ServerSentEvent<RoomAvailabilityEvent>> streamHotel(Long hotelId);
+
+    /**
+     * Publish a booking change to the room's and hotel's watchers after the
+     * current transaction commits. Does nothing when nobody is watching.
+     *
+     * @param booking The created, updated or removed booking
+     * @param removed Whether the booking was deleted
+     */
+    void publishBookingChange(Booking booking, boolean removed);
+}
@@ -0,0 +1,35 @@
+package com.yakrooms.be.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.yakrooms.be.model.enums.ExportFormat;
+
+/**
+ * Service streaming booking exports straight to an output stream.
+ * 
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface BookingExportService {
+
+    /**
+     * Stream every booking of a hotel, newest first.
+     * 
+     * @param hotelId The hotel ID
+     * @param format Output format
+     * @param out Destination stream, flushed periodically and left open
+     * @return Number of bookings written
+     */
+    long exportHotelBookings(Long hotelId, ExportFormat format, OutputStream out) throws IOException;
+
+    /**
+     * Stream every booking of a user, newest first.
+     * 
+     * @param userId The user ID
+     * @param format Output format
+     * @param out Destination stream, flushed periodically and left open
+     * @return Number of bookings written
+     */
+    long exportUserBookings(Long userId, ExportFormat format, OutputStream out) throws IOException;
+}
@@ -0,0 +1,70 @@
+package com.yakrooms.be.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.yakrooms.be.dto.BookingStatisticsDTO;
+import com.yakrooms.be.dto.MonthlyRevenueStatsDTO;
+
+/**
+ * Service maintaining per-hotel, per-day booking rollups and serving the
+ * statistics endpoints from them instead of scanning the booking table.
+ * 
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface BookingRollupService {
+
+    /**
+     * Mark a hotel-day as changed. The rollup row is recomputed after the
+     * current transaction commits.
+     * 
+     * @param hotelId The hotel ID
+     * @param statDate The day the booking was created
+     */
+    void markDirty(Long hotelId, LocalDate statDate);
+
+    /**
+     * Mark the hotel-days of the given bookings as changed. Bulk JPQL updates
+     * skip the entity listener that normally does this, so they must call it
+     * with the ids they touched, inside the same transaction.
+     * 
+     * @param bookingIds IDs of the bookings a bulk update changed
+     */
+    void markBookingsDirty(List<Long> bookingIds);
+
+    /**
+     * Recompute all pending dirty hotel-days.
+     * 
+     * @return Number of rollup rows refreshed
+     */
+    int flushDirtyDays();
+
+    /**
+     * Rebuild every rollup row of a hotel from its booking history.
+     * 
+     * @param hotelId The hotel ID
+     * @return Number of rollup rows written
+     */
+    int backfillHotel(Long hotelId);
+
+    /**
+     * Rebuild rollups for every hotel that has bookings.
+     * 
+     * @return Number of hotels backfilled
+     */
+    int backfillAll();
+
+    /**
+     * Drop all rollup rows of a hotel, used when the hotel is deleted.
+     * 
+     * @param hotelId The hotel ID
+     */
+    void deleteHotelRollups(Long hotelId);
+
+    List<BookingStatisticsDTO> getBookingStatisticsByMonth(String startDate);
+
+    List<BookingStatisticsDTO> getBookingStatisticsByMonthAndHotel(String startDate, Long hotelId);
+
+    List<MonthlyRevenueStatsDTO> getMonthlyRevenueStats(Long hotelId, String startDate);
+}
@@ -1,10 +1,12 @@
 package com.yakrooms.be.service;
 
 import com.yakrooms.be.dto.BookingChangeEvent;
+import com.yakrooms.be.dto.RoomStatusChangeEvent;
 
 public interface BookingWebSocketService {
     void broadcastBookingStatusChange(BookingChangeEvent event);
     void broadcastToHotel(Long hotelId, BookingChangeEvent event);
     void broadcastToUser(Long userId, BookingChangeEvent event);
     void notifyBookingUpdates(Long hotelId, String message);
+    void broadcastRoomStatusChange(RoomStatusChangeEvent event);
 } 
\ No newline at end of file
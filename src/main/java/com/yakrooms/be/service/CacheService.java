@@ -1,8 +1,10 @@
 package com.yakrooms.be.service;
 
+import com.yakrooms.be.dto.OccupancyAnalyticsDTO;
 import com.yakrooms.be.dto.cache.*;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -41,6 +43,14 @@ public interface CacheService {
     void putHotelListingsPageInCache(String sortType, int page, int size, HotelListingPageCacheDto listings);
     void evictHotelListingsPageFromCache();
 
+    // Hotel Card Page Cache Operations (lean cards, stored next to and cleared with the listing and search pages)
+    Optional<PageCacheDto<HotelCardCacheDto>> getHotelCardsPageFromCache(String sortType, int page, int size);
+    void putHotelCardsPageInCache(String sortType, int page, int size, PageCacheDto<HotelCardCacheDto> cards);
+    Optional<PageCacheDto<HotelCardCacheDto>> getHotelCardSearchPageFromCache(String district, String locality,
+                                                                             String hotelType, int page, int size);
+    void putHotelCardSearchPageInCache(String district, String locality, String hotelType, int page, int size,
+                                       PageCacheDto<HotelCardCacheDto> cards);
+
     // Top Hotels Cache Operations
     Optional<List<HotelTopCacheDto>> getTopHotelsFromCache();
     void putTopHotelsInCache(List<HotelTopCacheDto> topHotels);
@@ -51,6 +61,11 @@ public interface CacheService {
     void putUserHotelsInCache(Long userId, HotelListingCacheDto userHotels);
     void evictUserHotelsFromCache(Long userId);
 
+    // Occupancy Analytics Cache Operations
+    Optional<OccupancyAnalyticsDTO> getOccupancyAnalyticsFromCache(Long hotelId, LocalDate startDate, LocalDate endDate);
+    void putOccupancyAnalyticsInCache(Long hotelId, LocalDate startDate, LocalDate endDate, OccupancyAnalyticsDTO analytics);
+    void evictOccupancyAnalyticsFromCache(Long hotelId);
+
     // Bulk Cache Operations
     void evictAllHotelCaches();
     void evictAllCaches();
@@ -0,0 +1,37 @@
+package com.yakrooms.be.service;
+
+/**
+ * Service keeping change counters for the public hotel catalog, used as
+ * version-based ETags so conditional requests are answered without loading
+ * the catalog.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface CatalogVersionService {
+
+    /**
+     * Current version of the whole catalog. It changes whenever any hotel,
+     * room or review in the catalog changes.
+     *
+     * @return The catalog version, or null if it cannot be read
+     */
+    Long getCatalogVersion();
+
+    /**
+     * Current version of one hotel's details. It changes whenever the hotel,
+     * one of its rooms or one of its reviews changes.
+     *
+     * @param hotelId The hotel ID
+     * @return The hotel version, or null if it cannot be read
+     */
+    Long getHotelVersion(Long hotelId);
+
+    /**
+     * Mark a hotel as changed. The catalog and hotel versions move and the
+     * hotel caches are evicted after the current transaction commits.
+     *
+     * @param hotelId The hotel ID
+     */
+    void markHotelChanged(Long hotelId);
+}
@@ -0,0 +1,37 @@
+package com.yakrooms.be.service;
+
+/**
+ * Service interface for adaptive per-budget concurrency limits
+ */
+public interface ConcurrencyLimitService {
+
+    /**
+     * Find the concurrency budget and route a request runs under
+     * @param method HTTP method
+     * @param path Request path without context path
+     * @return The budget and route, or null if the request is not limited
+     */
+    Route routeFor(String method, String path);
+
+    /**
+     * Take a slot in the route's budget without waiting
+     * @param route The route from routeFor
+     * @return true if the request may proceed; it must then call release
+     */
+    boolean tryAcquire(Route route);
+
+    /**
+     * Return a slot and record how the request went
+     * @param route The route from routeFor
+     * @param latencyNanos How long the request held the slot
+     * @param dropped true if the request failed in a way that signals overload
+     */
+    void release(Route route, long latencyNanos, boolean dropped);
+
+    /**
+     * A budget and the method and pattern a request matched in it; latencies
+     * are only compared between requests of the same route
+     */
+    record Route(String budget, String key) {
+    }
+}
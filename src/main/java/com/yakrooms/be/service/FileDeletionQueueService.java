@@ -0,0 +1,32 @@
+package com.yakrooms.be.service;
+
+import java.util.Collection;
+
+/**
+ * Service queueing UploadThing file deletions durably and sending them to
+ * UploadThing in batches off the request path.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface FileDeletionQueueService {
+
+    /**
+     * Queue files for deletion as part of the current transaction, so the
+     * deletion happens if and only if the change dropping them commits.
+     * Accepts UploadThing URLs or bare file keys; other values (external
+     * URLs, blanks) are ignored. Queuing a key twice is a no-op.
+     *
+     * @param urlsOrKeys UploadThing URLs or file keys
+     * @return Number of newly queued keys
+     */
+    int enqueue(Collection<String> urlsOrKeys);
+
+    /**
+     * Send due deletions to UploadThing in batches of the configured size.
+     * Failed batches are retried with exponential backoff.
+     *
+     * @return Number of files deleted
+     */
+    int flush();
+}
@@ -0,0 +1,51 @@
+package com.yakrooms.be.service;
+
+import java.util.List;
+
+import com.yakrooms.be.dto.HotelSuggestionDTO;
+import com.yakrooms.be.model.entity.Hotel;
+
+/**
+ * Service for search box autocomplete over districts, localities and hotel names.
+ * Suggestions are served from an in-memory prefix trie that is built from verified
+ * hotels at startup and updated incrementally as hotels change.
+ * 
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface HotelAutocompleteService {
+
+    /**
+     * Get the top suggestions for a typed prefix.
+     * 
+     * @param prefix The text typed so far
+     * @param limit Maximum number of suggestions to return
+     * @return Suggestions ordered by weight, highest first
+     */
+    List<HotelSuggestionDTO> suggest(String prefix, int limit);
+
+    /**
+     * Re-index a hotel after it was created, edited or verified.
+     * Unverified hotels are removed from the index since they are not searchable.
+     * Applied after the current transaction commits, if there is one.
+     * 
+     * @param hotel The hotel in its current state
+     */
+    void indexHotel(Hotel hotel);
+
+    /**
+     * Remove a deleted hotel from the index.
+     * Applied after the current transaction commits, if there is one.
+     * 
+     * @param hotelId The deleted hotel ID
+     */
+    void removeHotel(Long hotelId);
+
+    /**
+     * Rebuild the whole index from the database. The current index keeps
+     * serving lookups until the new one is complete.
+     * 
+     * @return Number of hotels indexed
+     */
+    int rebuildIndex();
+}
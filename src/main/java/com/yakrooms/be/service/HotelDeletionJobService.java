@@ -0,0 +1,47 @@
+package com.yakrooms.be.service;
+
+import com.yakrooms.be.dto.response.HotelDeletionJobResponse;
+
+/**
+ * Service deleting hotels in the background, one bounded chunk per table at
+ * a time, with a persisted checkpoint so an interrupted job resumes where it
+ * stopped.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface HotelDeletionJobService {
+
+    /**
+     * Submit a hotel for deletion. The hotel is unverified at once, which
+     * hides it from listings and search. Returns the hotel's active job
+     * instead of starting a second one; a failed job is replaced by a new one.
+     *
+     * @param hotelId Hotel ID
+     * @return The pending or running job
+     */
+    HotelDeletionJobResponse submit(Long hotelId);
+
+    /**
+     * Progress of the most recent deletion job for a hotel.
+     *
+     * @param hotelId Hotel ID
+     * @return Latest job for the hotel
+     */
+    HotelDeletionJobResponse getLatestJob(Long hotelId);
+
+    /**
+     * Whether the hotel has a pending or running deletion job. Such a hotel
+     * takes no new bookings and cannot be verified again.
+     *
+     * @param hotelId Hotel ID
+     * @return true while a deletion job is active
+     */
+    boolean isBeingDeleted(Long hotelId);
+
+    /**
+     * Hand pending jobs, and running jobs whose worker stopped making
+     * progress, to the deletion executor.
+     */
+    void processPendingJobs();
+}
@@ -3,6 +3,7 @@ package com.yakrooms.be.service;
 import org.springframework.data.domain.Pageable;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
@@ -10,9 +11,12 @@ import org.springframework.stereotype.Service;
 import com.yakrooms.be.dto.HotelListingDto;
 import com.yakrooms.be.dto.request.HotelRequest;
 import com.yakrooms.be.dto.request.HotelDeletionRequest;
+import com.yakrooms.be.dto.response.HotelDeletionJobResponse;
 import com.yakrooms.be.dto.response.HotelResponse;
+import com.yakrooms.be.dto.cache.HotelCardCacheDto;
 import com.yakrooms.be.dto.cache.HotelListingPageCacheDto;
 import com.yakrooms.be.dto.cache.HotelSearchPageCacheDto;
+import com.yakrooms.be.dto.cache.PageCacheDto;
 import com.yakrooms.be.projection.HotelWithPriceProjection;
 
 @Service
@@ -23,7 +27,7 @@ public interface HotelService {
     Page<HotelListingPageCacheDto> getAllHotels(Pageable pageable);
     HotelResponse updateHotel(Long id, HotelRequest request);
     HotelResponse getHotelById(Long hotelId);
-    void deleteHotel(Long id);
+    HotelDeletionJobResponse deleteHotel(Long id);
     Map<String, Object> verifyHotel(Long id);
 //    Page<HotelResponse> searchHotels(String district, String hotelType, int page, int size);
     Page<HotelSearchPageCacheDto> searchHotels(String district, String locality, String hotelType, int page, int size);
@@ -31,6 +35,11 @@ public interface HotelService {
     public Page<HotelResponse> getAllHotelsForSuperAdmin(Pageable pageable);
     Page<HotelListingPageCacheDto> getAllHotelsSortedByLowestPrice(Pageable pageable);
     Page<HotelListingPageCacheDto> getAllHotelsSortedByHighestPrice(Pageable pageable);
+
+    // Lean hotel cards for listing and search pages; fields selects card fields, empty for all of them
+    Page<PageCacheDto<HotelCardCacheDto>> getHotelCards(Pageable pageable, boolean highestPriceFirst, Set<String> fields);
+    Page<PageCacheDto<HotelCardCacheDto>> searchHotelCards(String district, String locality, String hotelType,
+                                                           int page, int size, Set<String> fields);
     
     // Hotel deletion request methods
     Map<String, Object> requestHotelDeletion(HotelDeletionRequest request);
@@ -0,0 +1,32 @@
+package com.yakrooms.be.service;
+
+import java.util.function.Supplier;
+
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Service interface for replaying retried requests that carry an Idempotency-Key
+ */
+public interface IdempotencyService {
+
+    String HEADER = "Idempotency-Key";
+    String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /**
+     * Run an operation at most once per idempotency key and caller.
+     * The first call runs the action and stores its response; a retry with
+     * the same key gets the stored response, or a conflict with Retry-After
+     * if the first call is still running.
+     * @param operation Name of the operation the key is scoped to
+     * @param idempotencyKey Client-supplied key; null runs the action without idempotency
+     * @param request Request content, used to reject reuse of a key for a different request
+     * @param responseType Response body type, used to restore stored responses
+     * @param action The operation
+     * @return The action's response, or the stored one for a retry
+     * @throws IllegalArgumentException if the key is invalid
+     * @throws com.yakrooms.be.exception.IdempotencyKeyReuseException if the key was used for a different request
+     * @throws com.yakrooms.be.exception.RequestInProgressException if the first call is still running
+     */
+    <T> ResponseEntity<T> execute(String operation, String idempotencyKey, Object request,
+                                  Class<T> responseType, Supplier<ResponseEntity<T>> action);
+}
@@ -0,0 +1,59 @@
+package com.yakrooms.be.service;
+
+import java.time.LocalDateTime;
+
+import com.yakrooms.be.dto.cache.LoginUserSnapshot;
+
+/**
+ * Service interface for the login hot path: a short-lived cache of users by
+ * email and a write-behind buffer for per-login updates to the users table
+ */
+public interface LoginActivityService {
+
+    /**
+     * Get a recently loaded user with roles and hotel
+     * @param email The user's email
+     * @return The cached snapshot, or null if not cached, expired or the
+     *         user's tokens were revoked since it was loaded
+     */
+    LoginUserSnapshot getCachedUser(String email);
+
+    /**
+     * Cache a snapshot of a user loaded with roles and hotel for later logins
+     * @param user The snapshot
+     */
+    void cacheUser(LoginUserSnapshot user);
+
+    /**
+     * Drop a cached user after a change to its roles or hotel; dropped again
+     * once the current transaction commits, so a login in between cannot
+     * cache the old row
+     * @param email The user's email
+     */
+    void evictUser(String email);
+
+    /**
+     * Record a login; written to the database with the next flush
+     * @param userId The user ID
+     * @param loginAt The login time
+     */
+    void recordLogin(Long userId, LocalDateTime loginAt);
+
+    /**
+     * Record a changed name or profile picture; written with the next flush
+     * unless the row was updated after expectedUpdatedAt
+     * @param userId The user ID
+     * @param name The new name
+     * @param profilePicUrl The new profile picture URL
+     * @param expectedUpdatedAt The row's updated_at when the user was loaded
+     * @param updatedAt The updated_at to write
+     */
+    void recordProfileChange(Long userId, String name, String profilePicUrl,
+                             LocalDateTime expectedUpdatedAt, LocalDateTime updatedAt);
+
+    /**
+     * Write all buffered updates in JDBC batches
+     * @return Number of users written
+     */
+    int flush();
+}
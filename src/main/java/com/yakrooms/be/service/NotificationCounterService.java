@@ -0,0 +1,46 @@
+package com.yakrooms.be.service;
+
+import java.util.Collection;
+
+/**
+ * Service keeping per-user unread notification counts in Redis, so the
+ * notification badge is a single key read instead of a count query.
+ *
+ * Updates are applied after the surrounding transaction commits. A missing
+ * counter is rebuilt from the database on the next read.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface NotificationCounterService {
+
+    /**
+     * Unread notification count for a user.
+     *
+     * @param userId User ID
+     * @return Number of unread notifications
+     */
+    long getUnreadCount(Long userId);
+
+    /**
+     * Count a new unread notification for a user.
+     *
+     * @param userId User ID
+     */
+    void increment(Long userId);
+
+    /**
+     * Set a user's count to zero after all their notifications were read.
+     *
+     * @param userId User ID
+     */
+    void reset(Long userId);
+
+    /**
+     * Drop counters whose change is not known exactly (bulk deletes, updates),
+     * so they are recounted on the next read.
+     *
+     * @param userIds User IDs
+     */
+    void evict(Collection<Long> userIds);
+}
@@ -0,0 +1,19 @@
+package com.yakrooms.be.service;
+
+/**
+ * Service applying per-type retention to notifications: expired rows are
+ * moved to notifications_archive (or deleted) in small chunks, and the
+ * archive itself is trimmed after its own retention period.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface NotificationRetentionService {
+
+    /**
+     * Archive or delete expired notifications, up to the per-run limit.
+     *
+     * @return Number of notifications removed from the live table
+     */
+    int purgeExpired();
+}
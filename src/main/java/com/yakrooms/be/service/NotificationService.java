@@ -1,8 +1,11 @@
 package com.yakrooms.be.service;
 
+import com.yakrooms.be.dto.NotificationDTO;
 import com.yakrooms.be.model.entity.Booking;
 import com.yakrooms.be.model.entity.Notification;
 import com.yakrooms.be.model.entity.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import java.util.List;
 
 public interface NotificationService {
@@ -10,10 +13,27 @@ public interface NotificationService {
     List<Notification> getAllNotifications(User user);
     List<Notification> getAllNotificationsByUserId(Long userId);
     void markAllAsRead(User user);
+    int markAllAsRead(Long userId);
     void deleteAllNotifications(User user);
     void deleteNotificationById(Long notificationId);
     void deleteNotificationsByIds(List<Long> notificationIds);
     
+    /**
+     * Page of a user's notifications, newest first, read as a projection
+     * @param userId The recipient
+     * @param unreadOnly Only return unread notifications
+     * @param pageable Page and size
+     * @return Page of notifications
+     */
+    Page<NotificationDTO> getNotificationFeed(Long userId, boolean unreadOnly, Pageable pageable);
+
+    /**
+     * Unread notification count for the badge, served from the Redis counter
+     * @param userId The recipient
+     * @return Number of unread notifications
+     */
+    long getUnreadCount(Long userId);
+    
     // ========== UNIFIED NOTIFICATION CREATION ==========
     
     /**
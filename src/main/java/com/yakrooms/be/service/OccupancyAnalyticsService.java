@@ -0,0 +1,31 @@
+package com.yakrooms.be.service;
+
+import com.yakrooms.be.dto.OccupancyAnalyticsDTO;
+
+/**
+ * Service computing occupancy rate, average daily rate (ADR) and RevPAR for a hotel.
+ * 
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface OccupancyAnalyticsService {
+
+    /**
+     * Compute occupancy analytics for a hotel over an inclusive date window.
+     * Results are cached per hotel and window.
+     * 
+     * @param hotelId The hotel ID
+     * @param startDate First night of the window (yyyy-MM-dd)
+     * @param endDate Last night of the window (yyyy-MM-dd)
+     * @return Window totals with daily, monthly and room type breakdowns
+     */
+    OccupancyAnalyticsDTO getOccupancyAnalytics(Long hotelId, String startDate, String endDate);
+
+    /**
+     * Drop every cached result of a hotel once the current transaction
+     * commits, e.g. after one of its bookings or rooms changed.
+     * 
+     * @param hotelId The hotel ID
+     */
+    void evictHotel(Long hotelId);
+}
@@ -0,0 +1,18 @@
+package com.yakrooms.be.service;
+
+/**
+ * Service interface for per-client request rate limiting
+ */
+public interface RateLimitService {
+
+    /**
+     * Take one token for a request from its client's bucket
+     * @param method HTTP method
+     * @param path Request path without context path
+     * @param userId Authenticated user ID, or null; limits by IP when null
+     * @param clientIp Client IP address
+     * @return 0 if the request may proceed (or its route is not limited),
+     *         otherwise the milliseconds until a token is available
+     */
+    long tryAcquire(String method, String path, Long userId, String clientIp);
+}
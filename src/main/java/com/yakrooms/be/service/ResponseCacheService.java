@@ -0,0 +1,39 @@
+package com.yakrooms.be.service;
+
+import java.util.function.Supplier;
+
+/**
+ * Service caching the serialized JSON of hot public responses, so repeat
+ * requests skip the service call, DTO mapping and serialization.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface ResponseCacheService {
+
+    /**
+     * Serialized response for a canonical request at a catalog version.
+     * A cached entry is returned only if it was built at the same version;
+     * otherwise the body is built, serialized and cached.
+     *
+     * @param key Canonical request key (endpoint and normalized parameters)
+     * @param version Version the response must match, e.g. the catalog ETag; null builds without caching
+     * @param body Builds the response body on a miss
+     * @return The serialized response
+     */
+    CachedResponse get(String key, String version, Supplier<?> body);
+
+    /**
+     * Drop all cached responses, e.g. after a catalog change.
+     */
+    void invalidateAll();
+
+    /**
+     * Serialized response body.
+     *
+     * @param json The JSON bytes
+     * @param gzipped The same bytes gzip-compressed, or null if the body is too small to be worth it
+     */
+    record CachedResponse(byte[] json, byte[] gzipped) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.yakrooms.be.service;
+
+import java.util.Collection;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.yakrooms.be.dto.RoomStatusDTO;
+
+/**
+ * Service keeping an in-memory room status board per hotel (current or next
+ * booking, guest, check-out date and display status for every room) and
+ * pushing per-room deltas to hotel dashboards over WebSocket.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface RoomStatusBoardService {
+
+    /**
+     * Page through a hotel's board, ordered by room number.
+     *
+     * @param hotelId The hotel ID
+     * @param pageable Page request
+     * @return Page of room status entries
+     */
+    Page<RoomStatusDTO> getRoomStatus(Long hotelId, Pageable pageable);
+
+    /**
+     * Page through the board entries whose room number contains the given text.
+     *
+     * @param hotelId The hotel ID
+     * @param roomNumber Room number fragment, case-insensitive
+     * @param pageable Page request
+     * @return Page of matching room status entries
+     */
+    Page<RoomStatusDTO> searchByRoomNumber(Long hotelId, String roomNumber, Pageable pageable);
+
+    /**
+     * Mark a room as changed. Its entry is recomputed and pushed after the
+     * current transaction commits.
+     *
+     * @param roomId The room ID
+     */
+    void markRoomChanged(Long roomId);
+
+    /**
+     * Mark several rooms as changed, e.g. after a bulk availability update.
+     *
+     * @param roomIds The room IDs
+     */
+    void markRoomsChanged(Collection<Long> roomIds);
+
+    /**
+     * Mark a room as deleted. Its entry is dropped and a removal pushed after
+     * the current transaction commits.
+     *
+     * @param hotelId The hotel the room belonged to
+     * @param roomId The room ID
+     */
+    void markRoomRemoved(Long hotelId, Long roomId);
+
+    /**
+     * Drop a hotel's board after the current transaction commits, so the
+     * next read reloads it.
+     *
+     * @param hotelId The hotel ID
+     */
+    void evictHotel(Long hotelId);
+
+    /**
+     * Recompute and push all pending room changes.
+     *
+     * @return Number of rooms processed
+     */
+    int flushChanges();
+}
@@ -0,0 +1,39 @@
+package com.yakrooms.be.service;
+
+import java.util.Collection;
+import java.util.Date;
+
+/**
+ * Service interface for revoking access tokens before they expire
+ */
+public interface TokenRevocationService {
+
+    /**
+     * Revoke a single access token
+     * @param jti The token's JWT ID
+     * @param expiresAt The token's expiry; the revocation is dropped after it
+     */
+    void revokeToken(String jti, Date expiresAt);
+
+    /**
+     * Revoke every access token issued to a user up to now
+     * @param userId The user ID
+     */
+    void revokeAllForUser(Long userId);
+
+    /**
+     * Revoke every access token issued to each of the users up to now,
+     * after the current transaction commits (immediately if there is none)
+     * @param userIds The user IDs
+     */
+    void revokeAllForUsers(Collection<Long> userIds);
+
+    /**
+     * Check whether an access token has been revoked
+     * @param userId The token's user ID
+     * @param jti The token's JWT ID
+     * @param issuedAt The token's issue time
+     * @return true if the token was revoked by jti or by a later user revocation
+     */
+    boolean isRevoked(Long userId, String jti, Date issuedAt);
+}
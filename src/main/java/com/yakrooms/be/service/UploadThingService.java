@@ -5,6 +5,9 @@ import com.yakrooms.be.exception.BusinessException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -13,6 +16,7 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -28,18 +32,27 @@ public class UploadThingService {
     private static final Logger logger = LoggerFactory.getLogger(UploadThingService.class);
 
     private final WebClient webClient;
+    private final Executor uploadThingExecutor;
+    private final String deleteScript;
 
     @Autowired
-    public UploadThingService(WebClient uploadThingWebClient) {
+    public UploadThingService(WebClient uploadThingWebClient,
+                              @Qualifier("uploadThingExecutor") Executor uploadThingExecutor,
+                              @Value("${uploadthing.delete-script:uploadthing-delete.js}") String deleteScript) {
         this.webClient = uploadThingWebClient;
+        this.uploadThingExecutor = uploadThingExecutor;
+        this.deleteScript = deleteScript;
     }
 
     /**
      * Deletes multiple files from UploadThing asynchronously using hybrid approach.
      * 
      * @param fileKeys List of file keys to delete
+     * Runs on the bounded UploadThing executor, so deletions cannot pile up
+     * threads while the Node.js script or UploadThing is slow.
+     * 
      * @return CompletableFuture that completes when deletion is finished
-     * @throws BusinessException if the deletion fails
+     * @throws BusinessException if the deletion fails or the executor is saturated
      */
     public CompletableFuture<UploadThingDeleteResponse> deleteFilesAsync(List<String> fileKeys) {
         if (fileKeys == null || fileKeys.isEmpty()) {
@@ -49,14 +62,18 @@ public class UploadThingService {
 
         logger.info("Starting async deletion of {} files using hybrid approach", fileKeys.size());
         
-        return CompletableFuture.supplyAsync(() -> {
-            try {
-                return deleteFilesHybrid(fileKeys);
-            } catch (Exception e) {
-                logger.error("Async hybrid deletion failed: {}", e.getMessage(), e);
-                throw new BusinessException("Failed to delete files: " + e.getMessage());
-            }
-        });
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return deleteFilesHybrid(fileKeys);
+                } catch (Exception e) {
+                    logger.error("Async hybrid deletion failed: {}", e.getMessage(), e);
+                    throw new BusinessException("Failed to delete files: " + e.getMessage());
+                }
+            }, uploadThingExecutor);
+        } catch (TaskRejectedException e) {
+            throw new BusinessException("File deletion queue is full, please retry later");
+        }
     }
 
 
@@ -116,7 +133,7 @@ public class UploadThingService {
         try {
             // Build the command to run the Node.js script
             ProcessBuilder processBuilder = new ProcessBuilder();
-            processBuilder.command("node", "uploadthing-delete.js");
+            processBuilder.command("node", deleteScript);
             processBuilder.command().addAll(fileKeys);
             
             // Set environment variables
@@ -0,0 +1,45 @@
+package com.yakrooms.be.service;
+
+import java.util.Collection;
+
+/**
+ * Delivers STOMP messages to subscribers on every application node.
+ *
+ * In local mode messages go straight to this node's simple broker. In redis
+ * mode they are published to a Redis pub/sub channel and each node, including
+ * the sender, hands them to its own broker.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+public interface WebSocketRelayService {
+
+    /**
+     * Serialize a payload and deliver it to a broker destination on all nodes.
+     *
+     * @param destination STOMP destination, e.g. /topic/hotels/{hotelId}/bookings
+     * @param payload Message body, serialized as JSON
+     */
+    void send(String destination, Object payload);
+
+    /**
+     * Serialize a payload once and deliver the same bytes to several destinations.
+     *
+     * @param destinations STOMP destinations
+     * @param payload Message body, serialized as JSON
+     */
+    void send(Collection<String> destinations, Object payload);
+
+    /**
+     * Deliver a payload to a destination as one object per frame, as
+     * {@link #send(String, Object)} does, and buffer it for the destination's
+     * batched counterpart (destination + /batched). Everything buffered within
+     * the coalescing window goes to the batched destination as one JSON array
+     * frame; frames there are always arrays, even when they carry a single
+     * event. Clients opt in to batching by subscribing to that destination.
+     *
+     * @param destination STOMP destination
+     * @param payload Message body, serialized as JSON when buffered
+     */
+    void sendCoalesced(String destination, Object payload);
+}
@@ -0,0 +1,269 @@
+package com.yakrooms.be.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.dto.RoomAvailabilityEvent;
+import com.yakrooms.be.exception.ResourceNotFoundException;
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.model.enums.BookingStatus;
+import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.repository.RoomRepository;
+import com.yakrooms.be.service.AvailabilityStreamService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Implementation of AvailabilityStreamService.
+ *
+ * Every watched room and hotel has one shared multicast sink, so an event is
+ * built once and handed to all of its watchers. Sinks are reference counted
+ * and dropped when their last watcher disconnects; nothing is kept or computed
+ * for rooms nobody watches. Each watcher gets a small bounded buffer that drops
+ * its oldest events when the client falls behind, a heartbeat comment from one
+ * shared timer keeps proxies from closing idle connections, and streams end
+ * after a maximum duration so EventSource clients reconnect and abandoned
+ * connections are reclaimed.
+ *
+ * Booking changes are published after commit on a single dedicated thread,
+ * which keeps events for a room in order and runs at most one booked-dates
+ * snapshot query at a time however many watchers there are. The streams are
+ * anonymous, so events are built from that snapshot and only say which nights
+ * were blocked or released, never which booking changed or its exact stay.
+ *
+ * Gauges: availability.stream.watchers and availability.stream.channels.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class AvailabilityStreamServiceImpl implements AvailabilityStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AvailabilityStreamServiceImpl.class);
+
+    private static final String EVENT_NAME = "availability";
+
+    // Statuses that block a room's dates, as in BookingRepository.findAllActiveBookingsByRoomId
+    private static final List<BookingStatus> BLOCKING_STATUSES = List.of(
+            BookingStatus.PENDING, BookingStatus.CONFIRMED, BookingStatus.CHECKED_IN,
+            BookingStatus.CANCELLATION_REQUESTED, BookingStatus.CANCELLATION_REJECTED);
+
+    private final RoomRepository roomRepository;
+    private final HotelRepository hotelRepository;
+    private final BookingRepository bookingRepository;
+    private final int bufferSize;
+    private final Duration maxDuration;
+
+    private final Map<String, Channel> channels = new ConcurrentHashMap<>();
+    private final AtomicInteger watchers = new AtomicInteger();
+    private final Flux<ServerSentEvent<RoomAvailabilityEvent>> heartbeat;
+    private final Scheduler publisher = Schedulers.newSingle("availability-stream", true);
+
+    public AvailabilityStreamServiceImpl(RoomRepository roomRepository,
+                                         HotelRepository hotelRepository,
+                                         BookingRepository bookingRepository,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${app.availability-stream.buffer-size:16}") int bufferSize,
+                                         @Value("${app.availability-stream.heartbeat-ms:20000}") long heartbeatMs,
+                                         @Value("${app.availability-stream.max-duration-ms:300000}") long maxDurationMs) {
+        this.roomRepository = roomRepository;
+        this.hotelRepository = hotelRepository;
+        this.bookingRepository = bookingRepository;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.maxDuration = Duration.ofMillis(maxDurationMs);
+        this.heartbeat = Flux.interval(Duration.ofMillis(heartbeatMs))
+                .map(tick -> ServerSentEvent.<RoomAvailabilityEvent>builder().comment("ping").build())
+                .share();
+
+        Gauge.builder("availability.stream.watchers", watchers, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder("availability.stream.channels", channels, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public Flux<ServerSentEvent<RoomAvailabilityEvent>> streamRoom(Long roomId) {
+        if (roomId == null) {
+            throw new IllegalArgumentException("Room ID cannot be null");
+        }
+        if (!roomRepository.existsById(roomId)) {
+            throw new ResourceNotFoundException("Room not found with id: " + roomId);
+        }
+        return watch(roomKey(roomId));
+    }
+
+    @Override
+    public Flux<ServerSentEvent<RoomAvailabilityEvent>> streamHotel(Long hotelId) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        if (!hotelRepository.existsById(hotelId)) {
+            throw new ResourceNotFoundException("Hotel not found with id: " + hotelId);
+        }
+        return watch(hotelKey(hotelId));
+    }
+
+    @Override
+    public void publishBookingChange(Booking booking, boolean removed) {
+        if (booking.getRoom() == null || booking.getHotel() == null) {
+            return;
+        }
+        boolean blocking = !removed && BLOCKING_STATUSES.contains(booking.getStatus());
+        BookingChange change = new BookingChange(booking.getRoom().getId(), booking.getHotel().getId(), blocking,
+                booking.getCheckInDate(), booking.getCheckOutDate());
+
+        afterCommit(() -> {
+            if (isWatched(change)) {
+                publisher.schedule(() -> emit(change));
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.dispose();
+        channels.values().forEach(channel -> channel.sink.tryEmitComplete());
+    }
+
+    private Flux<ServerSentEvent<RoomAvailabilityEvent>> watch(String key) {
+        return Flux.defer(() -> {
+            Channel channel = acquire(key);
+            Flux<ServerSentEvent<RoomAvailabilityEvent>> events = channel.sink.asFlux()
+                    .onBackpressureBuffer(bufferSize, dropped -> { }, BufferOverflowStrategy.DROP_OLDEST)
+                    .map(event -> ServerSentEvent.builder(event).event(EVENT_NAME).build());
+            return Flux.merge(events, heartbeat)
+                    .take(maxDuration)
+                    .doFinally(signal -> release(key));
+        });
+    }
+
+    private Channel acquire(String key) {
+        watchers.incrementAndGet();
+        return channels.compute(key, (k, channel) -> {
+            if (channel == null) {
+                channel = new Channel();
+            }
+            channel.watchers++;
+            return channel;
+        });
+    }
+
+    private void release(String key) {
+        watchers.decrementAndGet();
+        channels.computeIfPresent(key, (k, channel) -> --channel.watchers > 0 ? channel : null);
+    }
+
+    private boolean isWatched(BookingChange change) {
+        return channels.containsKey(roomKey(change.roomId())) || channels.containsKey(hotelKey(change.hotelId()));
+    }
+
+    private void emit(BookingChange change) {
+        String type = change.blocking() ? RoomAvailabilityEvent.BOOKED : RoomAvailabilityEvent.RELEASED;
+        RoomAvailabilityEvent event;
+        try {
+            List<LocalDate> booked = bookedDates(change.roomId());
+            event = new RoomAvailabilityEvent(change.roomId(), change.hotelId(), type, changedDates(change, booked), booked);
+        } catch (RuntimeException e) {
+            // Still tell watchers about the change; they can fall back to booked-dates
+            logger.warn("Failed to load booked dates for room {}: {}", change.roomId(), e.getMessage());
+            event = new RoomAvailabilityEvent(change.roomId(), change.hotelId(), type, null, null);
+        }
+        emit(roomKey(change.roomId()), event);
+        emit(hotelKey(change.hotelId()), event);
+    }
+
+    /**
+     * Nights of the changed stay that are now blocked (BOOKED) or now free (RELEASED).
+     */
+    private static List<LocalDate> changedDates(BookingChange change, List<LocalDate> booked) {
+        List<LocalDate> dates = new ArrayList<>();
+        if (change.checkIn() == null || change.checkOut() == null) {
+            return dates;
+        }
+        Set<LocalDate> blocked = new HashSet<>(booked);
+        for (LocalDate date = change.checkIn(); date.isBefore(change.checkOut()); date = date.plusDays(1)) {
+            if (blocked.contains(date) == change.blocking()) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private void emit(String key, RoomAvailabilityEvent event) {
+        Channel channel = channels.get(key);
+        if (channel != null) {
+            // Only fails with zero subscribers or after shutdown, both safe to ignore
+            channel.sink.tryEmitNext(event);
+        }
+    }
+
+    private List<LocalDate> bookedDates(Long roomId) {
+        TreeSet<LocalDate> dates = new TreeSet<>();
+        for (Object[] range : bookingRepository.findActiveBookingRangesByRoomId(roomId)) {
+            LocalDate date = (LocalDate) range[0];
+            LocalDate end = (LocalDate) range[1];
+            // Check-in inclusive, check-out exclusive
+            while (date.isBefore(end)) {
+                dates.add(date);
+                date = date.plusDays(1);
+            }
+        }
+        return new ArrayList<>(dates);
+    }
+
+    private static String roomKey(Long roomId) {
+        return "room:" + roomId;
+    }
+
+    private static String hotelKey(Long hotelId) {
+        return "hotel:" + hotelId;
+    }
+
+    private static void afterCommit(Runnable action) {
+        // Only publish once the change is visible to the snapshot query
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record BookingChange(Long roomId, Long hotelId, boolean blocking, LocalDate checkIn, LocalDate checkOut) {
+    }
+
+    /**
+     * Shared sink for one room or hotel. The watcher count is only touched
+     * inside ConcurrentHashMap.compute, which serializes it per key.
+     */
+    private static final class Channel {
+        private final Sinks.Many<RoomAvailabilityEvent> sink = Sinks.many().multicast().directBestEffort();
+        private int watchers;
+    }
+}
@@ -0,0 +1,249 @@
+package com.yakrooms.be.service.impl;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import org.hibernate.CacheMode;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.yakrooms.be.model.enums.ExportFormat;
+import com.yakrooms.be.service.BookingExportService;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Implementation of BookingExportService.
+ *
+ * Rows come from a forward-only Hibernate scroll over a flat scalar projection
+ * (booking joined to its hotel, room and user), so no entities or lazy
+ * associations are hydrated and memory stays constant however many bookings a
+ * hotel has. The persistence context is still cleared every batch so nothing
+ * the session picks up along the way can accumulate, and the output is flushed
+ * on the same cadence so the client sees data while the cursor is open.
+ *
+ * Check-in passcodes are deliberately left out of exports. CSV text fields
+ * that a spreadsheet would read as a formula get a leading apostrophe.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class BookingExportServiceImpl implements BookingExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingExportServiceImpl.class);
+
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .build();
+
+    private static final String[] COLUMNS = {
+        "id", "hotelId", "hotelName", "roomId", "roomNumber", "userId", "userEmail",
+        "guestName", "phone", "cid", "checkInDate", "checkOutDate", "guests",
+        "status", "paymentStatus", "totalPrice", "destination", "origin", "createdAt"
+    };
+
+    private static final String EXPORT_SELECT = """
+        SELECT b.id, h.id, h.name, r.id, r.roomNumber, u.id, u.email,
+               b.guestName, b.phone, b.cid, b.checkInDate, b.checkOutDate, b.guests,
+               b.status, b.paymentStatus, b.totalPrice, b.destination, b.origin, b.createdAt
+        FROM Booking b
+        JOIN b.hotel h
+        JOIN b.room r
+        LEFT JOIN b.user u
+        """;
+
+    private static final String HOTEL_EXPORT_QUERY =
+        EXPORT_SELECT + "WHERE h.id = :id ORDER BY b.createdAt DESC, b.id DESC";
+
+    private static final String USER_EXPORT_QUERY =
+        EXPORT_SELECT + "WHERE u.id = :id ORDER BY b.createdAt DESC, b.id DESC";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final int fetchSize;
+    private final int batchSize;
+
+    public BookingExportServiceImpl(@Value("${app.export.fetch-size:-2147483648}") int fetchSize,
+                                    @Value("${app.export.batch-size:500}") int batchSize) {
+        this.fetchSize = fetchSize;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportHotelBookings(Long hotelId, ExportFormat format, OutputStream out) throws IOException {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        return export(HOTEL_EXPORT_QUERY, hotelId, format, out);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportUserBookings(Long userId, ExportFormat format, OutputStream out) throws IOException {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        return export(USER_EXPORT_QUERY, userId, format, out);
+    }
+
+    private long export(String query, Long id, ExportFormat format, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+        Session session = entityManager.unwrap(Session.class);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        RowWriter rows = format == ExportFormat.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+
+        long count = 0;
+        rows.begin();
+        try (ScrollableResults<Object[]> results = session.createQuery(query, Object[].class)
+                .setParameter("id", id)
+                .setReadOnly(true)
+                .setCacheMode(CacheMode.IGNORE)
+                .setFetchSize(fetchSize)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                rows.write(results.get());
+                if (++count % batchSize == 0) {
+                    session.clear();
+                    rows.flush();
+                }
+            }
+        }
+        rows.flush();
+
+        logger.info("Exported {} bookings as {} in {} ms", count, format, System.currentTimeMillis() - start);
+        return count;
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(Object[] row) throws IOException;
+
+        void flush() throws IOException;
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        private NdjsonRowWriter(Writer writer) throws IOException {
+            this.generator = JSON_FACTORY.createGenerator(writer);
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void begin() {
+            // NDJSON has no header
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < COLUMNS.length; i++) {
+                Object value = row[i];
+                generator.writeFieldName(COLUMNS[i]);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof Long longValue) {
+                    generator.writeNumber(longValue);
+                } else if (value instanceof Integer intValue) {
+                    generator.writeNumber(intValue);
+                } else if (value instanceof BigDecimal decimal) {
+                    generator.writeNumber(decimal);
+                } else {
+                    // Dates, enums and strings all go out as their ISO / name text
+                    generator.writeString(value.toString());
+                }
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            // Flushes through the writer to the response stream
+            generator.flush();
+        }
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writeLine(COLUMNS);
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            writeLine(row);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private void writeLine(Object[] values) throws IOException {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] instanceof String text) {
+                    writeField(neutralizeFormula(text));
+                } else if (values[i] != null) {
+                    // Numbers, dates and enums cannot carry a formula
+                    writeField(values[i].toString());
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        // Guest-entered text starting like a formula would run when the export is opened in a spreadsheet
+        private static String neutralizeFormula(String value) {
+            if (value.isEmpty()) {
+                return value;
+            }
+            char first = value.charAt(0);
+            boolean formula = first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+            return formula ? "'" + value : value;
+        }
+
+        // RFC 4180 quoting
+        private void writeField(String value) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+    }
+}
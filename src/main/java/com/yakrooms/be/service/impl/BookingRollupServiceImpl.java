@@ -0,0 +1,322 @@
+package com.yakrooms.be.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yakrooms.be.dto.BookingStatisticsDTO;
+import com.yakrooms.be.dto.MonthlyRevenueStatsDTO;
+import com.yakrooms.be.projection.BookingRollupKeyProjection;
+import com.yakrooms.be.projection.BookingRollupMonthProjection;
+import com.yakrooms.be.repository.BookingDailyRollupRepository;
+import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.service.BookingRollupService;
+
+/**
+ * Implementation of BookingRollupService.
+ *
+ * Rollup rows are keyed by (hotel, day the booking was created), matching the
+ * creation-month grouping the statistics endpoints always used. Instead of
+ * applying deltas, a dirty hotel-day is recomputed from its bookings with one
+ * indexed upsert, so the rows cannot drift. Three paths keep them current:
+ * the booking entity listener marks days dirty after commit, a short-interval
+ * flush recomputes them, and a reconcile job re-derives dirty days from
+ * booking.updated_at in case a node died with unflushed marks. Bulk JPQL
+ * updates skip the listener and mark their bookings through
+ * markBookingsDirty instead.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class BookingRollupServiceImpl implements BookingRollupService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookingRollupServiceImpl.class);
+
+    private final BookingDailyRollupRepository rollupRepository;
+    private final BookingRepository bookingRepository;
+    private final HotelRepository hotelRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Set<DayKey> dirtyDays = ConcurrentHashMap.newKeySet();
+    private volatile LocalDateTime reconcileWatermark;
+
+    public BookingRollupServiceImpl(BookingDailyRollupRepository rollupRepository,
+                                    BookingRepository bookingRepository,
+                                    HotelRepository hotelRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${app.rollup.reconcile-lookback-hours:24}") long reconcileLookbackHours) {
+        this.rollupRepository = rollupRepository;
+        this.bookingRepository = bookingRepository;
+        this.hotelRepository = hotelRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.reconcileWatermark = LocalDateTime.now().minusHours(reconcileLookbackHours);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            if (rollupRepository.count() == 0) {
+                logger.info("Booking rollup table is empty, running initial backfill");
+                backfillAll();
+            }
+        } catch (Exception e) {
+            logger.error("Initial booking rollup backfill failed", e);
+        }
+    }
+
+    @Override
+    public void markDirty(Long hotelId, LocalDate statDate) {
+        if (hotelId == null || statDate == null) {
+            return;
+        }
+        DayKey key = new DayKey(hotelId, statDate);
+
+        // Only recompute once the change is visible to other transactions
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dirtyDays.add(key);
+                }
+            });
+        } else {
+            dirtyDays.add(key);
+        }
+    }
+
+    @Override
+    public void markBookingsDirty(List<Long> bookingIds) {
+        if (bookingIds == null || bookingIds.isEmpty()) {
+            return;
+        }
+        // Hotel and creation day never change, so reading them before the commit is safe
+        for (BookingRollupKeyProjection key : bookingRepository.findRollupKeysByIds(bookingIds)) {
+            markDirty(key.getHotelId(), key.getStatDate());
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.rollup.flush-interval-ms:5000}")
+    @Transactional
+    public int flushDirtyDays() {
+        if (dirtyDays.isEmpty()) {
+            return 0;
+        }
+
+        List<DayKey> drained = new ArrayList<>();
+        Iterator<DayKey> iterator = dirtyDays.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+
+        try {
+            for (DayKey key : drained) {
+                rollupRepository.refreshDay(key.hotelId, key.statDate,
+                        key.statDate.atStartOfDay(), key.statDate.plusDays(1).atStartOfDay());
+            }
+        } catch (RuntimeException e) {
+            // The whole flush rolls back, so every drained day has to be retried
+            dirtyDays.addAll(drained);
+            throw e;
+        }
+
+        logger.debug("Refreshed {} booking rollup rows", drained.size());
+        return drained.size();
+    }
+
+    @Scheduled(fixedDelayString = "${app.rollup.reconcile-interval-ms:600000}",
+               initialDelayString = "${app.rollup.reconcile-interval-ms:600000}")
+    public void reconcileRecentChanges() {
+        LocalDateTime since = reconcileWatermark;
+        LocalDateTime nextWatermark = LocalDateTime.now();
+
+        try {
+            List<BookingRollupKeyProjection> keys = bookingRepository.findRollupKeysUpdatedSince(since);
+            for (BookingRollupKeyProjection key : keys) {
+                dirtyDays.add(new DayKey(key.getHotelId(), key.getStatDate()));
+            }
+            int refreshed = transactionTemplate.execute(status -> flushDirtyDays());
+            reconcileWatermark = nextWatermark;
+            logger.debug("Booking rollup reconcile since {} refreshed {} rows", since, refreshed);
+        } catch (Exception e) {
+            logger.error("Booking rollup reconcile since {} failed, will retry from the same watermark", since, e);
+        }
+    }
+
+    @Override
+    public int backfillHotel(Long hotelId) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        Integer written = transactionTemplate.execute(status -> {
+            rollupRepository.deleteByHotelIdInBatch(hotelId);
+            return rollupRepository.backfillHotel(hotelId);
+        });
+        logger.info("Backfilled {} booking rollup rows for hotel {}", written, hotelId);
+        return written != null ? written : 0;
+    }
+
+    @Override
+    public int backfillAll() {
+        long start = System.currentTimeMillis();
+        List<Long> hotelIds = rollupRepository.findHotelIdsWithBookings();
+
+        // One short transaction per hotel keeps lock time bounded
+        for (Long hotelId : hotelIds) {
+            backfillHotel(hotelId);
+        }
+
+        logger.info("Backfilled booking rollups for {} hotels in {} ms", hotelIds.size(), System.currentTimeMillis() - start);
+        return hotelIds.size();
+    }
+
+    @Override
+    @Transactional
+    public void deleteHotelRollups(Long hotelId) {
+        if (hotelId == null) {
+            return;
+        }
+        dirtyDays.removeIf(key -> key.hotelId.equals(hotelId));
+        int deleted = rollupRepository.deleteByHotelIdInBatch(hotelId);
+        logger.info("Deleted {} booking rollup rows for hotel {}", deleted, hotelId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingStatisticsDTO> getBookingStatisticsByMonth(String startDate) {
+        LocalDate start = parseStartDate(startDate);
+
+        List<BookingStatisticsDTO> statistics = new ArrayList<>();
+        for (BookingRollupMonthProjection month : rollupRepository.findMonthlyTotals(start)) {
+            statistics.add(new BookingStatisticsDTO(month.getMonthYear(), valueOf(month.getBookingCount())));
+        }
+        return statistics;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingStatisticsDTO> getBookingStatisticsByMonthAndHotel(String startDate, Long hotelId) {
+        LocalDate start = parseStartDate(startDate);
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+
+        Map<String, BookingRollupMonthProjection> byMonth = monthlyTotalsByHotel(hotelId, start);
+
+        // Every month from the start month to the current one, zero-filled
+        List<BookingStatisticsDTO> statistics = new ArrayList<>();
+        for (String monthYear : monthSeries(start)) {
+            BookingRollupMonthProjection month = byMonth.get(monthYear);
+            long count = month == null ? 0L : valueOf(month.getBookingCount()) - valueOf(month.getCancelledCount());
+            statistics.add(new BookingStatisticsDTO(monthYear, count));
+        }
+        return statistics;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<MonthlyRevenueStatsDTO> getMonthlyRevenueStats(Long hotelId, String startDate) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        LocalDate start = parseStartDate(startDate);
+
+        String hotelName = hotelRepository.findNameById(hotelId).orElse(null);
+        if (hotelName == null) {
+            return List.of();
+        }
+
+        Map<String, BookingRollupMonthProjection> byMonth = monthlyTotalsByHotel(hotelId, start);
+
+        List<MonthlyRevenueStatsDTO> revenueStats = new ArrayList<>();
+        for (String monthYear : monthSeries(start)) {
+            BookingRollupMonthProjection month = byMonth.get(monthYear);
+            long count = month == null ? 0L : valueOf(month.getRevenueBookingCount());
+            BigDecimal revenue = month == null || month.getRevenue() == null ? BigDecimal.ZERO : month.getRevenue();
+            BigDecimal average = count == 0 ? BigDecimal.ZERO
+                    : revenue.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+            revenueStats.add(new MonthlyRevenueStatsDTO(hotelName, monthYear, revenue, count, average));
+        }
+        return revenueStats;
+    }
+
+    private Map<String, BookingRollupMonthProjection> monthlyTotalsByHotel(Long hotelId, LocalDate start) {
+        Map<String, BookingRollupMonthProjection> byMonth = new HashMap<>();
+        for (BookingRollupMonthProjection month : rollupRepository.findMonthlyTotalsByHotel(hotelId, start.withDayOfMonth(1))) {
+            byMonth.put(month.getMonthYear(), month);
+        }
+        return byMonth;
+    }
+
+    private static List<String> monthSeries(LocalDate start) {
+        List<String> months = new ArrayList<>();
+        YearMonth current = YearMonth.now();
+        for (YearMonth month = YearMonth.from(start); !month.isAfter(current); month = month.plusMonths(1)) {
+            months.add(month.toString());
+        }
+        return months;
+    }
+
+    private static LocalDate parseStartDate(String startDate) {
+        if (startDate == null || startDate.trim().isEmpty()) {
+            throw new IllegalArgumentException("Start date cannot be null or empty");
+        }
+        try {
+            return LocalDate.parse(startDate.trim());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid start date format: " + startDate);
+        }
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static final class DayKey {
+        private final Long hotelId;
+        private final LocalDate statDate;
+
+        private DayKey(Long hotelId, LocalDate statDate) {
+            this.hotelId = hotelId;
+            this.statDate = statDate;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof DayKey)) return false;
+            DayKey other = (DayKey) o;
+            return hotelId.equals(other.hotelId) && statDate.equals(other.statDate);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * hotelId.hashCode() + statDate.hashCode();
+        }
+    }
+}
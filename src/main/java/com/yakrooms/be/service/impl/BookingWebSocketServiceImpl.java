@@ -1,34 +1,48 @@
 package com.yakrooms.be.service.impl;
 
 import com.yakrooms.be.dto.BookingChangeEvent;
+import com.yakrooms.be.dto.RoomStatusChangeEvent;
 import com.yakrooms.be.service.BookingWebSocketService;
+import com.yakrooms.be.service.WebSocketRelayService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Every destination receives one event per frame. Hotel booking and room
+ * status topics are also coalesced: subscribers of the same topic with a
+ * /batched suffix (/topic/hotels/{hotelId}/bookings/batched) get the events
+ * published within the coalescing window as one frame holding a JSON array.
+ */
 @Service
 public class BookingWebSocketServiceImpl implements BookingWebSocketService {
 
     private static final Logger logger = LoggerFactory.getLogger(BookingWebSocketServiceImpl.class);
 
+    // Reaches subscribers on every node, not just this JVM
     @Autowired
-    private SimpMessagingTemplate messagingTemplate;
+    private WebSocketRelayService webSocketRelayService;
 
     @Override
     public void broadcastBookingStatusChange(BookingChangeEvent event) {
         try {
-            // Broadcast to general booking topic
-            messagingTemplate.convertAndSend("/topic/bookings", event);
-           
-            
-            // Broadcast to specific user topic
+            // General booking topic and the user's queue share one serialized payload
+            List<String> destinations = new ArrayList<>(2);
+            destinations.add("/topic/bookings");
             if (event.getUserId() != null) {
-                broadcastToUser(event.getUserId(), event);
+                destinations.add(userDestination(event.getUserId()));
+            }
+            webSocketRelayService.send(destinations, event);
+
+            if (event.getHotelId() != null) {
+                broadcastToHotel(event.getHotelId(), event);
             }
-            
-            logger.info("Broadcasted booking change event: {}", event);
+
+            logger.debug("Broadcasted booking change event: {}", event);
         } catch (Exception e) {
             logger.error("Failed to broadcast booking change event: {}", event, e);
         }
@@ -38,8 +52,8 @@ public class BookingWebSocketServiceImpl implements BookingWebSocketService {
     public void broadcastToHotel(Long hotelId, BookingChangeEvent event) {
         try {
             String destination = "/topic/hotels/" + hotelId + "/bookings";
-            messagingTemplate.convertAndSend(destination, event);
-            logger.info("Broadcasted booking event to hotel {}: {}", hotelId, event.getEventType());
+            webSocketRelayService.sendCoalesced(destination, event);
+            logger.debug("Queued booking event for hotel {}: {}", hotelId, event.getEventType());
         } catch (Exception e) {
             logger.error("Failed to broadcast booking event to hotel {}: {}", hotelId, e.getMessage());
         }
@@ -48,9 +62,8 @@ public class BookingWebSocketServiceImpl implements BookingWebSocketService {
     @Override
     public void broadcastToUser(Long userId, BookingChangeEvent event) {
         try {
-            String destination = "/queue/users/" + userId + "/bookings";
-            messagingTemplate.convertAndSend(destination, event);
-            logger.info("Broadcasted booking event to user {}: {}", userId, event.getEventType());
+            webSocketRelayService.send(userDestination(userId), event);
+            logger.debug("Broadcasted booking event to user {}: {}", userId, event.getEventType());
         } catch (Exception e) {
             logger.error("Failed to broadcast booking event to user {}: {}", userId, e.getMessage());
         }
@@ -60,10 +73,25 @@ public class BookingWebSocketServiceImpl implements BookingWebSocketService {
     public void notifyBookingUpdates(Long hotelId, String message) {
         try {
             String destination = "/topic/hotels/" + hotelId + "/updates";
-            messagingTemplate.convertAndSend(destination, message);
-            logger.info("Broadcasted generic update to hotel {}: {}", hotelId, message);
+            webSocketRelayService.send(destination, message);
+            logger.debug("Broadcasted generic update to hotel {}: {}", hotelId, message);
         } catch (Exception e) {
             logger.error("Failed to broadcast generic update to hotel {}: {}", hotelId, e.getMessage());
         }
     }
-} 
\ No newline at end of file
+
+    @Override
+    public void broadcastRoomStatusChange(RoomStatusChangeEvent event) {
+        try {
+            String destination = "/topic/hotels/" + event.getHotelId() + "/room-status";
+            webSocketRelayService.sendCoalesced(destination, event);
+            logger.debug("Queued room status change for hotel {}: {}", event.getHotelId(), event);
+        } catch (Exception e) {
+            logger.error("Failed to broadcast room status change to hotel {}: {}", event.getHotelId(), e.getMessage());
+        }
+    }
+
+    private static String userDestination(Long userId) {
+        return "/queue/users/" + userId + "/bookings";
+    }
+}
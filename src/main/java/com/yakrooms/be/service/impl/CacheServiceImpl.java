@@ -1,18 +1,22 @@
 package com.yakrooms.be.service.impl;
 
+import com.yakrooms.be.dto.OccupancyAnalyticsDTO;
 import com.yakrooms.be.dto.cache.*;
 import com.yakrooms.be.service.CacheService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import com.yakrooms.be.config.JsonCodecs;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Implementation of cache service using DTOs for Redis operations
@@ -27,7 +31,8 @@ public class CacheServiceImpl implements CacheService {
     private CacheManager cacheManager;
 
     @Autowired(required = false)
-    private ObjectMapper cacheObjectMapper;
+    @Qualifier("cacheJsonCodecs")
+    private JsonCodecs cacheJsonCodecs;
 
     // Hotel Details Cache Operations
     @Override
@@ -190,11 +195,11 @@ public class CacheServiceImpl implements CacheService {
                         }
                         
                         // If not proper DTOs, try ObjectMapper conversion
-                        if (cacheObjectMapper != null) {
+                        if (cacheJsonCodecs != null) {
                             try {
                                 log.debug("Attempting to convert cached object to List<HotelTopCacheDto>");
                                 List<HotelTopCacheDto> converted = rawList.stream()
-                                    .map(obj -> cacheObjectMapper.convertValue(obj, HotelTopCacheDto.class))
+                                    .map(obj -> cacheJsonCodecs.convertValue(obj, HotelTopCacheDto.class))
                                     .collect(java.util.stream.Collectors.toList());
                                 
                                 if (!converted.isEmpty()) {
@@ -307,6 +312,76 @@ public class CacheServiceImpl implements CacheService {
         log.info("Evicted all hotel-related caches");
     }
 
+    // Occupancy Analytics Cache Operations
+    @Override
+    public Optional<OccupancyAnalyticsDTO> getOccupancyAnalyticsFromCache(Long hotelId, LocalDate startDate, LocalDate endDate) {
+        String key = generateOccupancyAnalyticsKey(hotelId, startDate, endDate);
+        try {
+            Cache cache = cacheManager.getCache("occupancyAnalytics");
+            if (cache != null) {
+                Object raw = cache.get(key, Object.class);
+                if (raw instanceof OccupancyAnalyticsDTO) {
+                    return Optional.of((OccupancyAnalyticsDTO) raw);
+                }
+                if (raw != null && cacheJsonCodecs != null) {
+                    log.debug("Retrieved occupancy analytics from cache for key: {}", key);
+                    return Optional.of(cacheJsonCodecs.convertValue(raw, OccupancyAnalyticsDTO.class));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Error retrieving occupancy analytics from cache for key: {}, error: {}", key, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void putOccupancyAnalyticsInCache(Long hotelId, LocalDate startDate, LocalDate endDate, OccupancyAnalyticsDTO analytics) {
+        String key = generateOccupancyAnalyticsKey(hotelId, startDate, endDate);
+        try {
+            Cache cache = cacheManager.getCache("occupancyAnalytics");
+            if (cache != null) {
+                cache.put(key, analytics);
+                log.debug("Stored occupancy analytics in cache for key: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("Error storing occupancy analytics in cache for key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * Windows are arbitrary, so a hotel's entries cannot be listed for eviction.
+     * Instead every key carries the hotel's generation, stored in the same cache,
+     * and eviction moves the generation so the old entries are never read again
+     * and expire with their TTL. An entry always expires before the generation
+     * it was written under, as the generation was stored first.
+     */
+    @Override
+    public void evictOccupancyAnalyticsFromCache(Long hotelId) {
+        try {
+            Cache cache = cacheManager.getCache("occupancyAnalytics");
+            if (cache != null) {
+                cache.put(generateOccupancyGenerationKey(hotelId), ThreadLocalRandom.current().nextLong());
+                log.debug("Evicted occupancy analytics from cache for hotel: {}", hotelId);
+            }
+        } catch (Exception e) {
+            log.warn("Error evicting occupancy analytics from cache for hotel: {}, error: {}", hotelId, e.getMessage());
+        }
+    }
+
+    private String generateOccupancyAnalyticsKey(Long hotelId, LocalDate startDate, LocalDate endDate) {
+        Object generation = null;
+        Cache cache = cacheManager.getCache("occupancyAnalytics");
+        if (cache != null) {
+            Cache.ValueWrapper wrapper = cache.get(generateOccupancyGenerationKey(hotelId));
+            generation = wrapper != null ? wrapper.get() : null;
+        }
+        return hotelId + ":" + (generation != null ? generation : 0) + ":" + startDate + ":" + endDate;
+    }
+
+    private String generateOccupancyGenerationKey(Long hotelId) {
+        return hotelId + ":generation";
+    }
+
     @Override
     public void evictAllCaches() {
         try {
@@ -355,9 +430,9 @@ public class CacheServiceImpl implements CacheService {
                     return Optional.of(typed);
                 }
                 Object raw = cache.get(key, Object.class);
-                if (raw != null && cacheObjectMapper != null) {
+                if (raw != null && cacheJsonCodecs != null) {
                     try {
-                        HotelSearchPageCacheDto converted = cacheObjectMapper.convertValue(raw, HotelSearchPageCacheDto.class);
+                        HotelSearchPageCacheDto converted = cacheJsonCodecs.convertValue(raw, HotelSearchPageCacheDto.class);
                         return Optional.ofNullable(converted);
                     } catch (IllegalArgumentException iae) {
                         log.warn("Failed to convert cached hotel search page: {}", iae.getMessage());
@@ -415,10 +490,10 @@ public class CacheServiceImpl implements CacheService {
                     }
                     
                     // If not, try ObjectMapper conversion
-                    if (cacheObjectMapper != null) {
+                    if (cacheJsonCodecs != null) {
                         try {
                             log.debug("Attempting to convert cached object to HotelListingPageCacheDto for key: {}", key);
-                            HotelListingPageCacheDto converted = cacheObjectMapper.convertValue(raw, HotelListingPageCacheDto.class);
+                            HotelListingPageCacheDto converted = cacheJsonCodecs.convertValue(raw, HotelListingPageCacheDto.class);
                             if (converted != null) {
                                 log.debug("Successfully converted cached object for key: {}", key);
                                 // Replace the cache entry with the properly typed object
@@ -473,6 +548,59 @@ public class CacheServiceImpl implements CacheService {
         }
     }
 
+    // Hotel Card Page Cache Operations
+    @Override
+    public Optional<PageCacheDto<HotelCardCacheDto>> getHotelCardsPageFromCache(String sortType, int page, int size) {
+        return getHotelCardPage("hotelListings", "cards_" + generateListingsPageKey(sortType, page, size));
+    }
+
+    @Override
+    public void putHotelCardsPageInCache(String sortType, int page, int size, PageCacheDto<HotelCardCacheDto> cards) {
+        putHotelCardPage("hotelListings", "cards_" + generateListingsPageKey(sortType, page, size), cards);
+    }
+
+    @Override
+    public Optional<PageCacheDto<HotelCardCacheDto>> getHotelCardSearchPageFromCache(String district, String locality,
+                                                                                    String hotelType, int page, int size) {
+        return getHotelCardPage("searchResults", "cards_" + generateSearchPageKey(district, locality, hotelType, page, size));
+    }
+
+    @Override
+    public void putHotelCardSearchPageInCache(String district, String locality, String hotelType, int page, int size,
+                                              PageCacheDto<HotelCardCacheDto> cards) {
+        putHotelCardPage("searchResults", "cards_" + generateSearchPageKey(district, locality, hotelType, page, size), cards);
+    }
+
+    private Optional<PageCacheDto<HotelCardCacheDto>> getHotelCardPage(String cacheName, String key) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null && cacheJsonCodecs != null) {
+                // Values come back untyped from Redis, so convert to the generic page type explicitly
+                Object raw = cache.get(key, Object.class);
+                if (raw != null) {
+                    PageCacheDto<HotelCardCacheDto> converted = cacheJsonCodecs.convertValue(raw,
+                        cacheJsonCodecs.parametricType(PageCacheDto.class, HotelCardCacheDto.class));
+                    return Optional.ofNullable(converted);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to get hotel card page from cache for key: {}, error: {}", key, e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    private void putHotelCardPage(String cacheName, String key, PageCacheDto<HotelCardCacheDto> cards) {
+        try {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.put(key, cards);
+                log.debug("Stored hotel card page in cache with key: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to store hotel card page in cache: {}", e.getMessage());
+        }
+    }
+
     // Helper methods for generating cache keys
     private String generatePageableKey(Pageable pageable) {
         return String.format("page_%d_size_%d_sort_%s", 
@@ -0,0 +1,162 @@
+package com.yakrooms.be.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.service.CacheService;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.ResponseCacheService;
+
+/**
+ * Implementation of CatalogVersionService.
+ *
+ * The catalog version is a Redis counter at catalog:version. A change
+ * increments it and stores the new value for each changed hotel in the
+ * catalog:version:hotels hash, so a hotel's version is the catalog version of
+ * its last change. A hotel that has not changed since the hash was created
+ * falls back to the catalog version, which is newer than anything it
+ * replaces. Counters that go missing (a flushed Redis) restart from the
+ * current time in milliseconds, so versions handed out before are never
+ * reused.
+ *
+ * Hotels changed in one transaction are collected and bumped together after
+ * commit, and the hotel caches and cached responses are evicted at the same
+ * time: a cached body that outlived its version would otherwise be served
+ * behind a new ETag and then never revalidated.
+ *
+ * If Redis is unavailable reads return null and callers skip ETags.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class CatalogVersionServiceImpl implements CatalogVersionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogVersionServiceImpl.class);
+
+    private static final String CATALOG_KEY = "catalog:version";
+    private static final String HOTELS_KEY = "catalog:version:hotels";
+
+    // KEYS: catalog, hotels; ARGV: now, hotel id (optional). Returns {catalog, hotel}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_VERSIONS = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') "
+                    + "local catalog = redis.call('GET', KEYS[1]) "
+                    + "if ARGV[2] then "
+                    + "  local hotel = redis.call('HGET', KEYS[2], ARGV[2]) "
+                    + "  if hotel then return {catalog, hotel} end "
+                    + "end "
+                    + "return {catalog, catalog}",
+            List.class);
+
+    // KEYS: catalog, hotels; ARGV: now, hotel ids...
+    private static final RedisScript<Long> BUMP_VERSIONS = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], ARGV[1], 'NX') "
+                    + "local version = redis.call('INCR', KEYS[1]) "
+                    + "for i = 2, #ARGV do redis.call('HSET', KEYS[2], ARGV[i], version) end "
+                    + "return version",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheService cacheService;
+    private final ResponseCacheService responseCacheService;
+
+    public CatalogVersionServiceImpl(StringRedisTemplate redisTemplate, CacheService cacheService,
+                                     ResponseCacheService responseCacheService) {
+        this.redisTemplate = redisTemplate;
+        this.cacheService = cacheService;
+        this.responseCacheService = responseCacheService;
+    }
+
+    @Override
+    public Long getCatalogVersion() {
+        List<String> versions = readVersions(null);
+        return versions != null ? Long.valueOf(versions.get(0)) : null;
+    }
+
+    @Override
+    public Long getHotelVersion(Long hotelId) {
+        if (hotelId == null) {
+            return null;
+        }
+        List<String> versions = readVersions(hotelId);
+        return versions != null ? Long.valueOf(versions.get(1)) : null;
+    }
+
+    @Override
+    public void markHotelChanged(Long hotelId) {
+        if (hotelId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(List.of(hotelId));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> changed = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump(changed);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CatalogVersionServiceImpl.this);
+                }
+            });
+            pending = changed;
+        }
+        pending.add(hotelId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> readVersions(Long hotelId) {
+        List<String> args = new ArrayList<>(2);
+        args.add(Long.toString(System.currentTimeMillis()));
+        if (hotelId != null) {
+            args.add(hotelId.toString());
+        }
+        try {
+            List<String> versions = redisTemplate.execute(READ_VERSIONS, List.of(CATALOG_KEY, HOTELS_KEY), args.toArray());
+            return versions != null && versions.size() == 2 ? versions : null;
+        } catch (RuntimeException e) {
+            logger.warn("Catalog version unavailable, serving without ETag: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void bump(Collection<Long> hotelIds) {
+        // Evict first: a request reading the new version must not rebuild its body from a stale cache
+        hotelIds.forEach(cacheService::evictHotelDetailsFromCache);
+        cacheService.evictAllHotelCaches();
+        responseCacheService.invalidateAll();
+
+        List<String> args = new ArrayList<>(hotelIds.size() + 1);
+        args.add(Long.toString(System.currentTimeMillis()));
+        hotelIds.forEach(hotelId -> args.add(hotelId.toString()));
+        try {
+            Long version = redisTemplate.execute(BUMP_VERSIONS, List.of(CATALOG_KEY, HOTELS_KEY), args.toArray());
+            logger.debug("Catalog version {} for changed hotels {}", version, hotelIds);
+        } catch (RuntimeException e) {
+            // Clients keep their ETags until the next change; the evictions above still apply
+            logger.error("Failed to bump catalog version for hotels {}: {}", hotelIds, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.yakrooms.be.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+
+import com.yakrooms.be.service.ConcurrencyLimitService;
+import com.yakrooms.be.util.AdaptiveConcurrencyLimiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementation of ConcurrencyLimitService.
+ *
+ * Budgets are listed in app.concurrency-limit.budgets, each with path
+ * patterns, methods and limiter settings; a request belongs to the first
+ * budget it matches. Long-lived requests (SSE streams) are excluded, since
+ * their latency says nothing about load.
+ *
+ * Every budget has its own AdaptiveConcurrencyLimiter, so booking writes
+ * stuck on row locks or pool connections shrink the booking limit without
+ * starving public reads, and the other way round. Within a budget each
+ * method and pattern is a route with its own latency history, so a slow
+ * report endpoint is not judged against a fast lookup.
+ *
+ * Metrics per budget tag: http.concurrency.limit and http.concurrency.in_flight
+ * gauges, http.concurrency.rejected counter.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class ConcurrencyLimitServiceImpl implements ConcurrencyLimitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitServiceImpl.class);
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<BudgetRoute> routes = new ArrayList<>();
+    private final List<String> excludePatterns;
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new LinkedHashMap<>();
+    private final Map<String, Counter> rejectedCounters = new LinkedHashMap<>();
+    private final boolean enabled;
+
+    public ConcurrencyLimitServiceImpl(MeterRegistry meterRegistry,
+                                       Environment environment,
+                                       @Value("${app.concurrency-limit.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+        this.excludePatterns = Arrays.stream(environment.getProperty(
+                "app.concurrency-limit.exclude-patterns", String[].class, new String[0])).map(String::trim).toList();
+
+        for (String rawName : environment.getProperty("app.concurrency-limit.budgets", String[].class, new String[0])) {
+            String name = rawName.trim();
+            String prefix = "app.concurrency-limit.budget." + name + ".";
+            String[] patterns = environment.getProperty(prefix + "patterns", String[].class, new String[0]);
+            if (patterns.length == 0) {
+                logger.warn("Ignoring concurrency budget {} without patterns", name);
+                continue;
+            }
+            Set<String> methods = Arrays.stream(environment.getProperty(prefix + "methods", String[].class, new String[0]))
+                    .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    environment.getProperty(prefix + "initial-limit", Integer.class, 20),
+                    environment.getProperty(prefix + "min-limit", Integer.class, 2),
+                    environment.getProperty(prefix + "max-limit", Integer.class, 200),
+                    environment.getProperty(prefix + "tolerance", Double.class, 2.0),
+                    environment.getProperty(prefix + "smoothing", Double.class, 0.2),
+                    environment.getProperty(prefix + "long-window-ms", Long.class, 300_000L),
+                    environment.getProperty(prefix + "short-window", Integer.class, 50));
+            routes.add(new BudgetRoute(name, Arrays.stream(patterns).map(String::trim).toList(), methods));
+            limiters.put(name, limiter);
+
+            Gauge.builder("http.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .tag("budget", name).register(meterRegistry);
+            Gauge.builder("http.concurrency.in_flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .tag("budget", name).register(meterRegistry);
+            rejectedCounters.put(name, Counter.builder("http.concurrency.rejected")
+                    .tag("budget", name).register(meterRegistry));
+        }
+
+        logger.info("Concurrency limiting {} with budgets {}", enabled ? "enabled" : "disabled", limiters.keySet());
+    }
+
+    @Override
+    public Route routeFor(String method, String path) {
+        if (!enabled) {
+            return null;
+        }
+        for (String pattern : excludePatterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return null;
+            }
+        }
+        for (BudgetRoute route : routes) {
+            if (!route.methods().isEmpty() && !route.methods().contains(method)) {
+                continue;
+            }
+            for (String pattern : route.patterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return new Route(route.name(), method + ' ' + pattern);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean tryAcquire(Route route) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(route.budget());
+        if (limiter == null || limiter.tryAcquire()) {
+            return true;
+        }
+        rejectedCounters.get(route.budget()).increment();
+        return false;
+    }
+
+    @Override
+    public void release(Route route, long latencyNanos, boolean dropped) {
+        AdaptiveConcurrencyLimiter limiter = limiters.get(route.budget());
+        if (limiter != null) {
+            limiter.release(route.key(), latencyNanos, dropped);
+        }
+    }
+
+    private record BudgetRoute(String name, List<String> patterns, Set<String> methods) {
+    }
+}
@@ -0,0 +1,216 @@
+package com.yakrooms.be.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.yakrooms.be.dto.UploadThingDeleteResponse;
+import com.yakrooms.be.model.entity.PendingFileDeletion;
+import com.yakrooms.be.repository.PendingFileDeletionRepository;
+import com.yakrooms.be.service.FileDeletionQueueService;
+import com.yakrooms.be.service.UploadThingService;
+import com.yakrooms.be.util.UploadThingUrlUtil;
+
+/**
+ * Implementation of FileDeletionQueueService.
+ *
+ * Keys are written to pending_file_deletion in the caller's transaction,
+ * so a rolled-back delete or image change never removes a file and a
+ * committed one always eventually does. A timer drains due rows in batches
+ * of up to batch-size keys per UploadThing call; a failed batch is pushed
+ * back with exponential backoff (base-backoff doubled per attempt, capped at
+ * max-backoff) and left in the table for inspection after max-attempts.
+ *
+ * The timer only hands the drain to the bounded UploadThing executor: each
+ * batch starts a Node.js process that may take up to 30 seconds, which must
+ * not hold the scheduler thread the other periodic jobs share. A run still in
+ * progress makes the next tick a no-op, so one node drains at most once at a
+ * time.
+ *
+ * Deleting a key that is already gone succeeds on UploadThing's side, so a
+ * batch picked up twice (e.g. by two nodes) is harmless.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class FileDeletionQueueServiceImpl implements FileDeletionQueueService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileDeletionQueueServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final PendingFileDeletionRepository pendingFileDeletionRepository;
+    private final UploadThingService uploadThingService;
+    private final Executor uploadThingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    private final AtomicBoolean flushing = new AtomicBoolean();
+
+    public FileDeletionQueueServiceImpl(PendingFileDeletionRepository pendingFileDeletionRepository,
+                                        UploadThingService uploadThingService,
+                                        @Qualifier("uploadThingExecutor") Executor uploadThingExecutor,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.file-deletion.batch-size:100}") int batchSize,
+                                        @Value("${app.file-deletion.max-attempts:10}") int maxAttempts,
+                                        @Value("${app.file-deletion.base-backoff-ms:30000}") long baseBackoffMs,
+                                        @Value("${app.file-deletion.max-backoff-ms:3600000}") long maxBackoffMs) {
+        this.pendingFileDeletionRepository = pendingFileDeletionRepository;
+        this.uploadThingService = uploadThingService;
+        this.uploadThingExecutor = uploadThingExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @Override
+    @Transactional
+    public int enqueue(Collection<String> urlsOrKeys) {
+        if (urlsOrKeys == null || urlsOrKeys.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> keys = new LinkedHashSet<>();
+        for (String value : urlsOrKeys) {
+            String key = toFileKey(value);
+            if (key != null) {
+                keys.add(key);
+            }
+        }
+
+        int queued = 0;
+        for (String key : keys) {
+            queued += pendingFileDeletionRepository.enqueue(key);
+        }
+        if (queued > 0) {
+            logger.debug("Queued {} UploadThing files for deletion", queued);
+        }
+        return queued;
+    }
+
+    /**
+     * Start a flush on the UploadThing executor unless one is still running.
+     */
+    @Scheduled(fixedDelayString = "${app.file-deletion.flush-interval-ms:30000}")
+    public void scheduleFlush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            uploadThingExecutor.execute(() -> {
+                try {
+                    flush();
+                } catch (RuntimeException e) {
+                    logger.error("Queued file deletion run failed: {}", e.getMessage(), e);
+                } finally {
+                    flushing.set(false);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            flushing.set(false);
+            logger.warn("UploadThing executor is saturated, deferring queued file deletions to the next run");
+        }
+    }
+
+    @Override
+    public int flush() {
+        int deleted = 0;
+        while (true) {
+            List<PendingFileDeletion> due = pendingFileDeletionRepository.findDue(
+                    LocalDateTime.now(), maxAttempts, PageRequest.of(0, batchSize));
+            if (due.isEmpty()) {
+                break;
+            }
+
+            List<Long> ids = due.stream().map(PendingFileDeletion::getId).toList();
+            List<String> keys = due.stream().map(PendingFileDeletion::getFileKey).toList();
+            String error = deleteRemote(keys);
+
+            if (error == null) {
+                pendingFileDeletionRepository.deleteAllByIdInBatch(ids);
+                deleted += keys.size();
+            } else {
+                // Rows in a batch share their attempt count closely enough to back off together
+                int attempts = due.stream().mapToInt(PendingFileDeletion::getAttempts).max().orElse(0) + 1;
+                LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(backoffMs(attempts) * 1_000_000L);
+                transactionTemplate.executeWithoutResult(status ->
+                        pendingFileDeletionRepository.markFailed(ids, nextAttemptAt, truncate(error)));
+                if (attempts >= maxAttempts) {
+                    logger.error("Giving up on deleting {} UploadThing files after {} attempts: {}", keys.size(), attempts, error);
+                } else {
+                    logger.warn("Failed to delete {} UploadThing files (attempt {}), retrying at {}: {}",
+                            keys.size(), attempts, nextAttemptAt, error);
+                }
+                // Stop for this run; the remote side is likely down for the rest too
+                break;
+            }
+
+            if (due.size() < batchSize) {
+                break;
+            }
+        }
+
+        if (deleted > 0) {
+            logger.info("Deleted {} queued UploadThing files", deleted);
+        }
+        return deleted;
+    }
+
+    // Returns null on success, the failure reason otherwise
+    private String deleteRemote(List<String> keys) {
+        try {
+            UploadThingDeleteResponse response = uploadThingService.deleteFilesHybrid(keys);
+            return response.isSuccess() ? null : response.getMessage();
+        } catch (RuntimeException e) {
+            return e.getMessage();
+        }
+    }
+
+    private long backoffMs(int attempts) {
+        // base * 2^(attempts - 1), capped; the shift is bounded to avoid overflow
+        long backoff = baseBackoffMs << Math.min(attempts - 1, 20);
+        return Math.min(backoff, maxBackoffMs);
+    }
+
+    private static String toFileKey(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        String trimmed = value.trim();
+        if (UploadThingUrlUtil.isValidUploadThingUrl(trimmed)) {
+            return UploadThingUrlUtil.extractFileKey(trimmed);
+        }
+        // Anything else that looks like a URL is hosted elsewhere and not ours to delete
+        return trimmed.contains("://") || trimmed.contains("/") ? null : trimmed;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return "Unknown error";
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
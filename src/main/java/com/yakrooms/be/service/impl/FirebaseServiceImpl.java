@@ -1,15 +1,27 @@
 package com.yakrooms.be.service.impl;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
+import com.yakrooms.be.dto.cache.LoginUserSnapshot;
 import com.yakrooms.be.dto.mapper.UserMapper;
 import com.yakrooms.be.dto.response.JwtLoginResponse;
 import com.yakrooms.be.model.entity.User;
@@ -17,6 +29,7 @@ import com.yakrooms.be.model.enums.Role;
 import com.yakrooms.be.repository.UserRepository;
 import com.yakrooms.be.security.JwtUtil;
 import com.yakrooms.be.service.FirebaseService;
+import com.yakrooms.be.service.LoginActivityService;
 import com.yakrooms.be.service.RefreshTokenService;
 import com.yakrooms.be.util.FirebaseUserData;
 import com.yakrooms.be.util.CookieUtil;
@@ -38,11 +51,56 @@ public class FirebaseServiceImpl implements FirebaseService {
 	
 	@Autowired
 	CookieUtil cookieUtil;
+	
+	@Autowired
+	LoginActivityService loginActivityService;
+
+	@Autowired
+	@Qualifier("firebaseExecutor")
+	AsyncTaskExecutor firebaseExecutor;
+
+	@Value("${app.executors.firebase.timeout-ms:5000}")
+	long firebaseTimeoutMs;
+
+	private FirebaseToken verifyIdToken(String idToken) throws FirebaseAuthException {
+		try {
+			return onFirebaseExecutor(() -> FirebaseAuth.getInstance().verifyIdToken(idToken));
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof FirebaseAuthException authException) {
+				throw authException;
+			}
+			throw new RuntimeException("Firebase token verification failed", e.getCause());
+		}
+	}
+
+	// Runs on the bounded Firebase executor, so a slow Google certificate fetch
+	// holds the request thread for at most the timeout. On timeout the worker is
+	// interrupted; a fetch blocked in a socket read keeps the worker until the
+	// read itself returns, which the pool size bounds.
+	<T> T onFirebaseExecutor(Callable<T> call) throws ExecutionException {
+		Future<T> future;
+		try {
+			future = firebaseExecutor.submit(call);
+		} catch (TaskRejectedException e) {
+			throw new RuntimeException("Firebase verification is busy, please retry", e);
+		}
+
+		try {
+			return future.get(firebaseTimeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			throw new RuntimeException("Firebase token verification timed out", e);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while verifying Firebase ID token", e);
+		}
+	}
 
 	@Override
 	public JwtLoginResponse verifyTokenAndGetUser(String idToken) {
 		try {
-			FirebaseToken decoded = FirebaseAuth.getInstance().verifyIdToken(idToken);
+			FirebaseToken decoded = verifyIdToken(idToken);
 			String uid = decoded.getUid();
 			String name = (String) decoded.getClaims().getOrDefault("name", "Guest");
 			String email = decoded.getEmail();
@@ -63,7 +121,7 @@ public class FirebaseServiceImpl implements FirebaseService {
 	@Override
 	public JwtLoginResponse verifyTokenAndGetUser(String idToken, HttpServletRequest request, HttpServletResponse response) {
 		try {
-			FirebaseToken decoded = FirebaseAuth.getInstance().verifyIdToken(idToken);
+			FirebaseToken decoded = verifyIdToken(idToken);
 			String uid = decoded.getUid();
 			String name = (String) decoded.getClaims().getOrDefault("name", "Guest");
 			String email = decoded.getEmail();
@@ -102,40 +160,8 @@ public class FirebaseServiceImpl implements FirebaseService {
 		return jwtUtil.generateAccessToken(user);
 	}
 
-	@Transactional
 	private JwtLoginResponse handleUser(FirebaseUserData data) {
-	    Optional<User> optionalUser = userRepo.findByEmailWithCollections(data.getEmail());
-	    User user;
-
-	    if (optionalUser.isPresent()) {
-	        user = optionalUser.get();
-
-	        boolean updated = false;
-	        if (data.getProfilePictureUrl() != null && !data.getProfilePictureUrl().equals(user.getProfilePicUrl())) {
-	            user.setProfilePicUrl(data.getProfilePictureUrl());
-	            updated = true;
-	        }
-	        if (data.getName() != null && !data.getName().equals(user.getName())) {
-	            user.setName(data.getName());
-	            updated = true;
-	        }
-	        if (updated) {
-	            user.setUpdatedAt(LocalDateTime.now());
-	            user.addRole(Role.GUEST);
-	            user = userRepo.save(user);
-	        }
-
-	    } else {
-	        user = new User();
-	        user.setEmail(data.getEmail());
-	        user.setName(data.getName());
-	        user.addRole(Role.GUEST);
-	        user.setProfilePicUrl(data.getProfilePictureUrl());
-	        user.setCreatedAt(LocalDateTime.now());
-	        user.setUpdatedAt(LocalDateTime.now());
-
-	        user = userRepo.save(user);
-	    }
+	    User user = resolveUser(data);
 
 	    // Note: This method is deprecated - use handleUserWithCookies for secure token handling
 	    // Tokens should not be exposed in response body for security reasons
@@ -144,40 +170,8 @@ public class FirebaseServiceImpl implements FirebaseService {
 	    return new JwtLoginResponse(token, UserMapper.toUserResponse(user));
 	}
 	
-	@Transactional
 	private JwtLoginResponse handleUserWithCookies(FirebaseUserData data, HttpServletRequest request, HttpServletResponse response) {
-	    Optional<User> optionalUser = userRepo.findByEmailWithCollections(data.getEmail());
-	    User user;
-
-	    if (optionalUser.isPresent()) {
-	        user = optionalUser.get();
-
-	        boolean updated = false;
-	        if (data.getProfilePictureUrl() != null && !data.getProfilePictureUrl().equals(user.getProfilePicUrl())) {
-	            user.setProfilePicUrl(data.getProfilePictureUrl());
-	            updated = true;
-	        }
-	        if (data.getName() != null && !data.getName().equals(user.getName())) {
-	            user.setName(data.getName());
-	            updated = true;
-	        }
-	        if (updated) {
-	            user.setUpdatedAt(LocalDateTime.now());
-	            user.addRole(Role.GUEST);
-	            user = userRepo.save(user);
-	        }
-
-	    } else {
-	        user = new User();
-	        user.setEmail(data.getEmail());
-	        user.setName(data.getName());
-	        user.addRole(Role.GUEST);
-	        user.setProfilePicUrl(data.getProfilePictureUrl());
-	        user.setCreatedAt(LocalDateTime.now());
-	        user.setUpdatedAt(LocalDateTime.now());
-
-	        user = userRepo.save(user);
-	    }
+	    User user = resolveUser(data);
 
 	    // Generate access token (15 minutes)
 	    String accessToken = jwtUtil.generateAccessToken(user);
@@ -196,6 +190,74 @@ public class FirebaseServiceImpl implements FirebaseService {
 	    return new JwtLoginResponse(UserMapper.toUserResponse(user));
 	}
 	
+	/**
+	 * Find or create the user for a Firebase login.
+	 * Repeat logins are served from the login cache; last login and changed
+	 * profile fields go through the write-behind buffer instead of a save.
+	 * A cached user is rebuilt per login and never saved: a login that needs the
+	 * entity save reloads the row, so roles removed meanwhile are not written back.
+	 */
+	private User resolveUser(FirebaseUserData data) {
+	    LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+	    LoginUserSnapshot cached = loginActivityService.getCachedUser(data.getEmail());
+	    long loadedAt;
+	    User user;
+	    if (cached != null && (cached.roles().contains(Role.GUEST)
+	            || !profileChanged(data, cached.name(), cached.profilePicUrl()))) {
+	        user = cached.toUser();
+	        loadedAt = cached.loadedAtMillis();
+	    } else {
+	        loadedAt = System.currentTimeMillis();
+	        user = userRepo.findByEmailWithCollections(data.getEmail()).orElse(null);
+	    }
+
+	    if (user == null) {
+	        user = new User();
+	        user.setEmail(data.getEmail());
+	        user.setName(data.getName());
+	        user.addRole(Role.GUEST);
+	        user.setProfilePicUrl(data.getProfilePictureUrl());
+	        user.setCreatedAt(now);
+	        user.setUpdatedAt(now);
+	        user.setLastLogin(now);
+
+	        user = userRepo.save(user);
+	        loginActivityService.cacheUser(LoginUserSnapshot.of(user, loadedAt));
+	        return user;
+	    }
+
+	    String name = data.getName() != null ? data.getName() : user.getName();
+	    String profilePicUrl = data.getProfilePictureUrl() != null ? data.getProfilePictureUrl() : user.getProfilePicUrl();
+	    boolean updated = profileChanged(data, user.getName(), user.getProfilePicUrl());
+
+	    if (updated && !user.getRoles().contains(Role.GUEST)) {
+	        // Role changes need the entity save; rare enough to stay synchronous.
+	        // Only reached with a freshly loaded user, see above
+	        user.setName(name);
+	        user.setProfilePicUrl(profilePicUrl);
+	        user.setUpdatedAt(now);
+	        user.addRole(Role.GUEST);
+	        user.setLastLogin(now);
+	        user = userRepo.save(user);
+	    } else if (updated) {
+	        loginActivityService.recordProfileChange(user.getId(), name, profilePicUrl, user.getUpdatedAt(), now);
+	        user.setName(name);
+	        user.setProfilePicUrl(profilePicUrl);
+	        user.setUpdatedAt(now);
+	        loginActivityService.recordLogin(user.getId(), now);
+	    } else {
+	        loginActivityService.recordLogin(user.getId(), now);
+	    }
+
+	    loginActivityService.cacheUser(LoginUserSnapshot.of(user, loadedAt));
+	    return user;
+	}
+
+	private static boolean profileChanged(FirebaseUserData data, String name, String profilePicUrl) {
+	    return (data.getName() != null && !Objects.equals(data.getName(), name))
+	            || (data.getProfilePictureUrl() != null && !Objects.equals(data.getProfilePictureUrl(), profilePicUrl));
+	}
+	
 	/**
 	 * Get client IP address for security tracking
 	 */
@@ -0,0 +1,273 @@
+package com.yakrooms.be.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import com.yakrooms.be.dto.HotelSuggestionDTO;
+import com.yakrooms.be.dto.HotelSuggestionDTO.SuggestionType;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.projection.HotelSuggestionSourceProjection;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.service.HotelAutocompleteService;
+import com.yakrooms.be.util.SuggestionTrie;
+
+/**
+ * Implementation of HotelAutocompleteService.
+ *
+ * Districts and localities are weighted by the number of verified hotels in them,
+ * hotel names carry a weight of one. Hotel names and localities are also reachable
+ * from the start of each of their words, so "tiger" finds "Hotel Tiger's Nest".
+ *
+ * Lookups read the trie without locking; index maintenance is serialized on a
+ * ReentrantLock rather than the monitor, since a rebuild holds it across the
+ * hotel query and a monitor would pin virtual threads for that long.
+ * Incremental updates are applied once the caller's transaction commits, so a
+ * rolled-back edit never reaches the index, and a rebuild fills a new trie
+ * before swapping it in, so lookups never see a partial index.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class HotelAutocompleteServiceImpl implements HotelAutocompleteService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelAutocompleteServiceImpl.class);
+
+    private static final long HOTEL_NAME_WEIGHT = 1L;
+
+    private final HotelRepository hotelRepository;
+    private final int maxSuggestions;
+
+    private volatile SuggestionTrie<HotelSuggestionDTO> trie;
+
+    private final ReentrantLock indexLock = new ReentrantLock();
+
+    // Index bookkeeping - guarded by indexLock
+    private final Map<Long, IndexedHotel> indexedHotels = new HashMap<>();
+    private final Map<String, PlaceCount> districtCounts = new HashMap<>();
+    private final Map<String, PlaceCount> localityCounts = new HashMap<>();
+
+    public HotelAutocompleteServiceImpl(HotelRepository hotelRepository,
+                                        @Value("${app.autocomplete.max-suggestions:10}") int maxSuggestions) {
+        this.hotelRepository = hotelRepository;
+        this.maxSuggestions = maxSuggestions;
+        this.trie = new SuggestionTrie<>(maxSuggestions);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            rebuildIndex();
+        } catch (Exception e) {
+            logger.error("Failed to build hotel autocomplete index at startup", e);
+        }
+    }
+
+    @Override
+    public List<HotelSuggestionDTO> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, maxSuggestions));
+    }
+
+    @Override
+    public void indexHotel(Hotel hotel) {
+        if (hotel == null || hotel.getId() == null) {
+            return;
+        }
+
+        // Snapshot now: the entity may change or be detached before the transaction commits
+        Long hotelId = hotel.getId();
+        boolean verified = hotel.isVerified();
+        IndexedHotel indexed = new IndexedHotel(hotelId, hotel.getName(), hotel.getDistrict(), hotel.getLocality());
+
+        afterCommit(() -> {
+            indexLock.lock();
+            try {
+                unindex(hotelId);
+                if (verified) {
+                    index(trie, indexed);
+                }
+            } finally {
+                indexLock.unlock();
+            }
+            logger.debug("Re-indexed hotel {} for autocomplete (verified: {})", hotelId, verified);
+        });
+    }
+
+    @Override
+    public void removeHotel(Long hotelId) {
+        if (hotelId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            indexLock.lock();
+            try {
+                unindex(hotelId);
+            } finally {
+                indexLock.unlock();
+            }
+            logger.debug("Removed hotel {} from autocomplete index", hotelId);
+        });
+    }
+
+    @Override
+    public int rebuildIndex() {
+        indexLock.lock();
+        try {
+            long start = System.currentTimeMillis();
+            List<HotelSuggestionSourceProjection> sources = hotelRepository.findAllVerifiedSuggestionSources();
+
+            // Bookkeeping is only read under the lock; the trie is published once complete
+            indexedHotels.clear();
+            districtCounts.clear();
+            localityCounts.clear();
+            SuggestionTrie<HotelSuggestionDTO> rebuilt = new SuggestionTrie<>(maxSuggestions);
+
+            for (HotelSuggestionSourceProjection source : sources) {
+                index(rebuilt, new IndexedHotel(source.getId(), source.getName(), source.getDistrict(), source.getLocality()));
+            }
+            trie = rebuilt;
+
+            logger.info("Built hotel autocomplete index: {} hotels, {} districts, {} localities in {} ms",
+                    indexedHotels.size(), districtCounts.size(), localityCounts.size(),
+                    System.currentTimeMillis() - start);
+            return indexedHotels.size();
+        } finally {
+            indexLock.unlock();
+        }
+    }
+
+    // Index maintenance - always called with indexLock held
+
+    private void index(SuggestionTrie<HotelSuggestionDTO> trie, IndexedHotel hotel) {
+        indexedHotels.put(hotel.id, hotel);
+
+        if (StringUtils.hasText(hotel.name)) {
+            trie.put(hotelTermId(hotel.id), wordStarts(hotel.name), HOTEL_NAME_WEIGHT,
+                    new HotelSuggestionDTO(SuggestionType.HOTEL, hotel.name.trim(), hotel.district, hotel.id, HOTEL_NAME_WEIGHT));
+        }
+        if (StringUtils.hasText(hotel.district)) {
+            PlaceCount district = districtCounts.computeIfAbsent(districtKey(hotel),
+                    key -> new PlaceCount(hotel.district.trim(), null));
+            district.count++;
+            trie.put("D:" + districtKey(hotel), List.of(district.text), district.count,
+                    new HotelSuggestionDTO(SuggestionType.DISTRICT, district.text, null, null, district.count));
+        }
+        if (StringUtils.hasText(hotel.locality)) {
+            PlaceCount locality = localityCounts.computeIfAbsent(localityKey(hotel),
+                    key -> new PlaceCount(hotel.locality.trim(), hotel.district));
+            locality.count++;
+            trie.put("L:" + localityKey(hotel), wordStarts(locality.text), locality.count,
+                    new HotelSuggestionDTO(SuggestionType.LOCALITY, locality.text, locality.district, null, locality.count));
+        }
+    }
+
+    private void unindex(Long hotelId) {
+        IndexedHotel hotel = indexedHotels.remove(hotelId);
+        if (hotel == null) {
+            return;
+        }
+
+        trie.remove(hotelTermId(hotelId));
+        if (StringUtils.hasText(hotel.district)) {
+            String key = districtKey(hotel);
+            PlaceCount district = districtCounts.get(key);
+            if (district != null && --district.count <= 0) {
+                districtCounts.remove(key);
+                trie.remove("D:" + key);
+            } else if (district != null) {
+                trie.put("D:" + key, List.of(district.text), district.count,
+                        new HotelSuggestionDTO(SuggestionType.DISTRICT, district.text, null, null, district.count));
+            }
+        }
+        if (StringUtils.hasText(hotel.locality)) {
+            String key = localityKey(hotel);
+            PlaceCount locality = localityCounts.get(key);
+            if (locality != null && --locality.count <= 0) {
+                localityCounts.remove(key);
+                trie.remove("L:" + key);
+            } else if (locality != null) {
+                trie.put("L:" + key, wordStarts(locality.text), locality.count,
+                        new HotelSuggestionDTO(SuggestionType.LOCALITY, locality.text, locality.district, null, locality.count));
+            }
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        // A rolled-back edit must not reach the index
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String hotelTermId(Long hotelId) {
+        return "H:" + hotelId;
+    }
+
+    private static String districtKey(IndexedHotel hotel) {
+        return SuggestionTrie.normalize(hotel.district);
+    }
+
+    private static String localityKey(IndexedHotel hotel) {
+        return SuggestionTrie.normalize(hotel.district) + "|" + SuggestionTrie.normalize(hotel.locality);
+    }
+
+    /**
+     * The full phrase plus every suffix starting at a word boundary.
+     */
+    private static List<String> wordStarts(String phrase) {
+        String normalized = SuggestionTrie.normalize(phrase);
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0; i = normalized.indexOf(' ', i + 1)) {
+            if (i + 1 < normalized.length()) {
+                keys.add(normalized.substring(i + 1));
+            }
+        }
+        return keys;
+    }
+
+    private static final class IndexedHotel {
+        private final Long id;
+        private final String name;
+        private final String district;
+        private final String locality;
+
+        private IndexedHotel(Long id, String name, String district, String locality) {
+            this.id = id;
+            this.name = name;
+            this.district = district;
+            this.locality = locality;
+        }
+    }
+
+    private static final class PlaceCount {
+        private final String text;
+        private final String district;
+        private long count;
+
+        private PlaceCount(String text, String district) {
+            this.text = text;
+            this.district = district;
+        }
+    }
+}
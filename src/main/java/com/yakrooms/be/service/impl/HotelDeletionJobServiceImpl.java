@@ -0,0 +1,496 @@
+package com.yakrooms.be.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yakrooms.be.dto.response.HotelDeletionJobResponse;
+import com.yakrooms.be.exception.ResourceNotFoundException;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.HotelDeletionJob;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.model.enums.HotelDeletionStatus;
+import com.yakrooms.be.model.enums.HotelDeletionStep;
+import com.yakrooms.be.model.enums.Role;
+import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.repository.HotelDeletionJobRepository;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.repository.NotificationRepository;
+import com.yakrooms.be.repository.RestaurantRepository;
+import com.yakrooms.be.repository.ReviewRepository;
+import com.yakrooms.be.repository.RoomRepository;
+import com.yakrooms.be.repository.StaffRepository;
+import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.BookingRollupService;
+import com.yakrooms.be.service.CacheService;
+import com.yakrooms.be.service.FileDeletionQueueService;
+import com.yakrooms.be.service.HotelAutocompleteService;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.HotelDeletionJobService;
+import com.yakrooms.be.service.NotificationCounterService;
+import com.yakrooms.be.service.RoomStatusBoardService;
+import com.yakrooms.be.service.TokenRevocationService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of HotelDeletionJobService.
+ *
+ * A job walks HotelDeletionStep in order. Each step selects up to chunk-size
+ * ids of its table and deletes them in a short transaction that also advances
+ * the job's checkpoint, so locks are held for one chunk at a time and a job
+ * picked up again (after a restart, or by another node once the heartbeat is
+ * stale) carries on from the step it was in. Room images are queued for
+ * deletion with the room chunk that drops them and the hotel's own files with
+ * the final delete, so no file is removed while a row still references it.
+ *
+ * A failed run starts over from the first step, which costs one empty query
+ * per finished table and also picks up rows added meanwhile (e.g. a booking
+ * made while the job ran); the job is marked FAILED after max-attempts.
+ *
+ * Submitting a job unverifies the hotel in the same transaction, which takes
+ * it out of listings, search and autocomplete, and new bookings and
+ * re-verification are refused while the job is active, so no booking
+ * appears behind the BOOKINGS step and trips the room foreign key later.
+ *
+ * Jobs run one at a time on hotelDeletionExecutor, off the scheduler thread.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class HotelDeletionJobServiceImpl implements HotelDeletionJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotelDeletionJobServiceImpl.class);
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private static final List<HotelDeletionStatus> ACTIVE_STATUSES =
+            List.of(HotelDeletionStatus.PENDING, HotelDeletionStatus.RUNNING);
+
+    private final HotelDeletionJobRepository hotelDeletionJobRepository;
+    private final HotelRepository hotelRepository;
+    private final NotificationRepository notificationRepository;
+    private final BookingRepository bookingRepository;
+    private final RoomRepository roomRepository;
+    private final StaffRepository staffRepository;
+    private final ReviewRepository reviewRepository;
+    private final RestaurantRepository restaurantRepository;
+    private final UserRepository userRepository;
+    private final BookingRollupService bookingRollupService;
+    private final RoomStatusBoardService roomStatusBoardService;
+    private final FileDeletionQueueService fileDeletionQueueService;
+    private final CacheService cacheService;
+    private final HotelAutocompleteService hotelAutocompleteService;
+    private final NotificationCounterService notificationCounterService;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginActivityService loginActivityService;
+    private final Executor hotelDeletionExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long staleAfterMs;
+    private final int maxAttempts;
+
+    // Jobs queued or running on this node, so a slow job is not handed to the executor again
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopping;
+
+    public HotelDeletionJobServiceImpl(HotelDeletionJobRepository hotelDeletionJobRepository,
+                                       HotelRepository hotelRepository,
+                                       NotificationRepository notificationRepository,
+                                       BookingRepository bookingRepository,
+                                       RoomRepository roomRepository,
+                                       StaffRepository staffRepository,
+                                       ReviewRepository reviewRepository,
+                                       RestaurantRepository restaurantRepository,
+                                       UserRepository userRepository,
+                                       BookingRollupService bookingRollupService,
+                                       RoomStatusBoardService roomStatusBoardService,
+                                       FileDeletionQueueService fileDeletionQueueService,
+                                       CacheService cacheService,
+                                       HotelAutocompleteService hotelAutocompleteService,
+                                       NotificationCounterService notificationCounterService,
+                                       TokenRevocationService tokenRevocationService,
+                                       LoginActivityService loginActivityService,
+                                       @Qualifier("hotelDeletionExecutor") Executor hotelDeletionExecutor,
+                                       PlatformTransactionManager transactionManager,
+                                       @Value("${app.hotel-deletion.chunk-size:500}") int chunkSize,
+                                       @Value("${app.hotel-deletion.stale-after-ms:300000}") long staleAfterMs,
+                                       @Value("${app.hotel-deletion.max-attempts:3}") int maxAttempts) {
+        this.hotelDeletionJobRepository = hotelDeletionJobRepository;
+        this.hotelRepository = hotelRepository;
+        this.notificationRepository = notificationRepository;
+        this.bookingRepository = bookingRepository;
+        this.roomRepository = roomRepository;
+        this.staffRepository = staffRepository;
+        this.reviewRepository = reviewRepository;
+        this.restaurantRepository = restaurantRepository;
+        this.userRepository = userRepository;
+        this.bookingRollupService = bookingRollupService;
+        this.roomStatusBoardService = roomStatusBoardService;
+        this.fileDeletionQueueService = fileDeletionQueueService;
+        this.cacheService = cacheService;
+        this.hotelAutocompleteService = hotelAutocompleteService;
+        this.notificationCounterService = notificationCounterService;
+        this.tokenRevocationService = tokenRevocationService;
+        this.loginActivityService = loginActivityService;
+        this.hotelDeletionExecutor = hotelDeletionExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.staleAfterMs = staleAfterMs;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    @Override
+    @Transactional
+    public HotelDeletionJobResponse submit(Long hotelId) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+
+        HotelDeletionJob active = hotelDeletionJobRepository
+                .findFirstByHotelIdAndStatusInOrderByIdDesc(hotelId, ACTIVE_STATUSES)
+                .orElse(null);
+        if (active != null) {
+            return toResponse(active);
+        }
+
+        Hotel hotel = hotelRepository.findById(hotelId)
+                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + hotelId));
+
+        LocalDateTime now = LocalDateTime.now();
+        HotelDeletionJob job = new HotelDeletionJob();
+        job.setHotelId(hotelId);
+        job.setHotelName(hotel.getName());
+        job.setStatus(HotelDeletionStatus.PENDING);
+        job.setStep(HotelDeletionStep.values()[0]);
+        job.setCreatedAt(now);
+        job.setUpdatedAt(now);
+        HotelDeletionJob saved = hotelDeletionJobRepository.save(job);
+        logger.info("Submitted deletion job {} for hotel ID: {}", saved.getId(), hotelId);
+
+        // Hidden from the moment the job exists; the autocomplete removal applies on commit
+        hotel.setVerified(false);
+        hotelAutocompleteService.removeHotel(hotelId);
+
+        // Start right away instead of waiting for the next poll
+        afterCommit(() -> {
+            evictHotelCaches(hotelId);
+            dispatch(saved.getId());
+        });
+        return toResponse(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isBeingDeleted(Long hotelId) {
+        return hotelId != null && hotelDeletionJobRepository.existsByHotelIdAndStatusIn(hotelId, ACTIVE_STATUSES);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public HotelDeletionJobResponse getLatestJob(Long hotelId) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        return hotelDeletionJobRepository.findFirstByHotelIdOrderByIdDesc(hotelId)
+                .map(HotelDeletionJobServiceImpl::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("No deletion job found for hotel id: " + hotelId));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.hotel-deletion.poll-interval-ms:10000}")
+    public void processPendingJobs() {
+        if (stopping) {
+            return;
+        }
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(staleAfterMs * 1_000_000L);
+        for (Long jobId : hotelDeletionJobRepository.findRunnableIds(staleBefore)) {
+            dispatch(jobId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Running jobs stop after their current chunk and go back to PENDING
+        stopping = true;
+    }
+
+    private void dispatch(Long jobId) {
+        if (!inFlight.add(jobId)) {
+            return;
+        }
+        try {
+            hotelDeletionExecutor.execute(() -> {
+                try {
+                    run(jobId);
+                } finally {
+                    inFlight.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // Still PENDING in the table; the next poll tries again
+            inFlight.remove(jobId);
+            logger.warn("Deletion executor busy, job {} stays queued", jobId);
+        }
+    }
+
+    private void run(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                hotelDeletionJobRepository.claim(jobId, now, now.minusNanos(staleAfterMs * 1_000_000L)));
+        if (claimed == null || claimed == 0) {
+            // Finished meanwhile or picked up by another node
+            return;
+        }
+
+        HotelDeletionJob job = hotelDeletionJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        Long hotelId = job.getHotelId();
+        logger.info("Running deletion job {} for hotel ID: {} from step {}", jobId, hotelId, job.getStep());
+
+        try {
+            HotelDeletionStep step = job.getStep();
+            while (step != HotelDeletionStep.DONE) {
+                if (!runStep(jobId, hotelId, step)) {
+                    requeue(jobId);
+                    logger.info("Deletion job {} paused at step {} for shutdown", jobId, step);
+                    return;
+                }
+                step = step.next();
+            }
+        } catch (RuntimeException e) {
+            fail(jobId, e);
+        }
+    }
+
+    // Returns false when interrupted by shutdown before the step finished
+    private boolean runStep(Long jobId, Long hotelId, HotelDeletionStep step) {
+        switch (step) {
+            case NOTIFICATIONS:
+                return deleteInChunks(jobId, step,
+                        page -> notificationRepository.findIdsByHotelId(hotelId, page),
+                        this::deleteNotifications,
+                        null);
+            case BOOKINGS:
+                // Bulk delete bypasses the booking entity listener, so drop the rollups explicitly
+                return deleteInChunks(jobId, step,
+                        page -> bookingRepository.findIdsByHotelId(hotelId, page),
+                        bookingRepository::deleteAllByIdInBatch,
+                        () -> bookingRollupService.deleteHotelRollups(hotelId));
+            case ROOMS:
+                return deleteInChunks(jobId, step,
+                        page -> roomRepository.findIdsByHotelId(hotelId, page),
+                        this::deleteRooms,
+                        () -> roomStatusBoardService.evictHotel(hotelId));
+            case STAFF:
+                return deleteInChunks(jobId, step,
+                        page -> staffRepository.findIdsByHotelId(hotelId, page),
+                        staffRepository::deleteAllByIdInBatch,
+                        null);
+            case REVIEWS:
+                return deleteInChunks(jobId, step,
+                        page -> reviewRepository.findIdsByHotelId(hotelId, page),
+                        reviewRepository::deleteAllByIdInBatch,
+                        null);
+            case RESTAURANT:
+                return deleteInChunks(jobId, step,
+                        page -> restaurantRepository.findIdsByHotelId(hotelId, page),
+                        restaurantRepository::deleteAllByIdInBatch,
+                        null);
+            case USERS:
+                // Users are detached rather than deleted; each chunk drops out of the next query
+                return deleteInChunks(jobId, step,
+                        page -> userRepository.findIdsByHotelId(hotelId, page),
+                        this::detachUsers,
+                        null);
+            case HOTEL:
+                deleteHotel(jobId, hotelId);
+                return true;
+            default:
+                return true;
+        }
+    }
+
+    private boolean deleteInChunks(Long jobId, HotelDeletionStep step,
+                                   Function<Pageable, List<Long>> findIds,
+                                   Consumer<List<Long>> delete,
+                                   Runnable whenDone) {
+        Pageable firstChunk = PageRequest.of(0, chunkSize);
+        while (true) {
+            if (stopping) {
+                return false;
+            }
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = findIds.apply(firstChunk);
+                if (ids.isEmpty()) {
+                    if (whenDone != null) {
+                        whenDone.run();
+                    }
+                    hotelDeletionJobRepository.recordProgress(jobId, step.next(), 0, LocalDateTime.now());
+                    return 0;
+                }
+                delete.accept(ids);
+                hotelDeletionJobRepository.recordProgress(jobId, step, ids.size(), LocalDateTime.now());
+                return ids.size();
+            });
+            if (deleted == null || deleted == 0) {
+                return true;
+            }
+            logger.debug("Deletion job {}: {} {} rows", jobId, deleted, step);
+        }
+    }
+
+    private void deleteNotifications(List<Long> notificationIds) {
+        // Bulk delete bypasses the counter listener
+        notificationCounterService.evict(notificationRepository.findUserIdsByIds(notificationIds));
+        notificationRepository.deleteAllByIdInBatch(notificationIds);
+    }
+
+    private void deleteRooms(List<Long> roomIds) {
+        // Queued in this transaction, so the files go only if the rooms do
+        List<String> images = new ArrayList<>();
+        for (Object[] row : roomRepository.findImageUrlsByRoomIds(roomIds)) {
+            images.add((String) row[1]);
+        }
+        fileDeletionQueueService.enqueue(images);
+        roomRepository.deleteAllByIdInBatch(roomIds);
+    }
+
+    private void detachUsers(List<Long> userIds) {
+        List<User> users = userRepository.findAllById(userIds);
+        users.forEach(user -> {
+            user.setHotel(null);
+            user.removeRole(Role.HOTEL_ADMIN);
+        });
+        userRepository.saveAll(users);
+        users.forEach(user -> {
+            cacheService.evictUserHotelsFromCache(user.getId());
+            loginActivityService.evictUser(user.getEmail());
+        });
+        // Their access tokens still carry HOTEL_ADMIN and the hotel id
+        tokenRevocationService.revokeAllForUsers(userIds);
+    }
+
+    private void deleteHotel(Long jobId, Long hotelId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            hotelRepository.findById(hotelId).ifPresent(hotel -> {
+                fileDeletionQueueService.enqueue(uploadedFiles(hotel));
+                hotelRepository.delete(hotel);
+            });
+
+            HotelDeletionJob job = hotelDeletionJobRepository.findById(jobId).orElseThrow();
+            LocalDateTime now = LocalDateTime.now();
+            job.setStatus(HotelDeletionStatus.COMPLETED);
+            job.setStep(HotelDeletionStep.DONE);
+            job.setDeletedRows(job.getDeletedRows() + 1);
+            job.setLastError(null);
+            job.setHeartbeatAt(now);
+            job.setUpdatedAt(now);
+            job.setCompletedAt(now);
+        });
+
+        evictHotelCaches(hotelId);
+        hotelAutocompleteService.removeHotel(hotelId);
+        logger.info("Deletion job {} finished, deleted hotel with ID: {}", jobId, hotelId);
+    }
+
+    private void evictHotelCaches(Long hotelId) {
+        cacheService.evictHotelDetailsFromCache(hotelId);
+        cacheService.evictAllHotelCaches();
+        cacheService.evictTopHotelsFromCache();
+    }
+
+    private void requeue(Long jobId) {
+        transactionTemplate.executeWithoutResult(status ->
+                hotelDeletionJobRepository.findById(jobId).ifPresent(job -> {
+                    job.setStatus(HotelDeletionStatus.PENDING);
+                    job.setUpdatedAt(LocalDateTime.now());
+                }));
+    }
+
+    private void fail(Long jobId, RuntimeException e) {
+        transactionTemplate.executeWithoutResult(status ->
+                hotelDeletionJobRepository.findById(jobId).ifPresent(job -> {
+                    int attempts = job.getAttempts() + 1;
+                    job.setAttempts(attempts);
+                    job.setLastError(truncate(e.getMessage()));
+                    job.setStep(HotelDeletionStep.values()[0]);
+                    job.setStatus(attempts >= maxAttempts ? HotelDeletionStatus.FAILED : HotelDeletionStatus.PENDING);
+                    job.setUpdatedAt(LocalDateTime.now());
+                    if (attempts >= maxAttempts) {
+                        logger.error("Deletion job {} for hotel ID: {} failed after {} attempts", jobId, job.getHotelId(), attempts, e);
+                    } else {
+                        logger.warn("Deletion job {} for hotel ID: {} failed (attempt {}), will retry: {}",
+                                jobId, job.getHotelId(), attempts, e.getMessage());
+                    }
+                }));
+    }
+
+    private static List<String> uploadedFiles(Hotel hotel) {
+        List<String> files = new ArrayList<>(hotel.getPhotoUrls());
+        files.add(hotel.getLogoUrl());
+        files.add(hotel.getLicenseUrl());
+        files.add(hotel.getIdProofUrl());
+        return files;
+    }
+
+    private static HotelDeletionJobResponse toResponse(HotelDeletionJob job) {
+        HotelDeletionJobResponse response = new HotelDeletionJobResponse();
+        response.setJobId(job.getId());
+        response.setHotelId(job.getHotelId());
+        response.setHotelName(job.getHotelName());
+        response.setStatus(job.getStatus());
+        response.setStep(job.getStep());
+        response.setDeletedRows(job.getDeletedRows());
+        response.setAttempts(job.getAttempts());
+        response.setLastError(job.getLastError());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setUpdatedAt(job.getUpdatedAt());
+        response.setCompletedAt(job.getCompletedAt());
+        return response;
+    }
+
+    private static String truncate(String error) {
+        if (error == null) {
+            return "Unknown error";
+        }
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private static void afterCommit(Runnable action) {
+        // The worker must see the committed job row
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.yakrooms.be.service.impl;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -20,9 +21,11 @@ import com.yakrooms.be.dto.cache.*;
 import com.yakrooms.be.dto.mapper.CacheMapper;
 import com.yakrooms.be.dto.request.HotelRequest;
 import com.yakrooms.be.dto.request.HotelDeletionRequest;
+import com.yakrooms.be.dto.response.HotelDeletionJobResponse;
 import com.yakrooms.be.dto.response.HotelResponse;
 import com.yakrooms.be.exception.ResourceNotFoundException;
 import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.projection.HotelCardProjection;
 import com.yakrooms.be.projection.HotelListingProjection;
 import com.yakrooms.be.projection.HotelWithCollectionsAndRatingProjection;
 import com.yakrooms.be.projection.HotelWithLowestPriceProjection;
@@ -224,6 +227,32 @@ public class HotelServiceCacheImpl implements HotelService {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PageCacheDto<HotelCardCacheDto>> getHotelCards(Pageable pageable, boolean highestPriceFirst, Set<String> fields) {
+        validateUnsorted(pageable);
+        log.debug("Fetching hotel cards from database with pagination: {}", pageable);
+        Page<HotelCardProjection> hotels = highestPriceFirst
+                ? hotelRepository.findVerifiedHotelCardsByHighestPrice(pageable)
+                : hotelRepository.findVerifiedHotelCardsByLowestPrice(pageable);
+
+        PageCacheDto<HotelCardCacheDto> cards = cacheMapper.retainCardFields(cacheMapper.toHotelCardPageCacheDto(hotels), fields);
+        return new PageImpl<>(List.of(cards), PageRequest.of(cards.getPageNumber(), cards.getPageSize()), cards.getTotalElements());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<PageCacheDto<HotelCardCacheDto>> searchHotelCards(String district, String locality, String hotelType,
+                                                                  int page, int size, Set<String> fields) {
+        validatePagination(page, size);
+
+        // Fetch from database (no caching in this implementation)
+        Page<HotelCardProjection> hotels = hotelRepository.findVerifiedHotelCardsFiltered(district, locality, hotelType, PageRequest.of(page, size));
+
+        PageCacheDto<HotelCardCacheDto> cards = cacheMapper.retainCardFields(cacheMapper.toHotelCardPageCacheDto(hotels), fields);
+        return new PageImpl<>(List.of(cards), PageRequest.of(cards.getPageNumber(), cards.getPageSize()), cards.getTotalElements());
+    }
+
     @Override
     @Transactional
     public HotelResponse createHotel(HotelRequest hotelRequest, Long userId) {
@@ -251,7 +280,7 @@ public class HotelServiceCacheImpl implements HotelService {
 
     @Override
     @Transactional
-    public void deleteHotel(Long id) {
+    public HotelDeletionJobResponse deleteHotel(Long id) {
         log.info("Deleting hotel and evicting caches for hotel ID: {}", id);
         
         cacheService.evictHotelDetailsFromCache(id);
@@ -389,6 +418,12 @@ public class HotelServiceCacheImpl implements HotelService {
                 .collect(Collectors.toList());
     }
 
+    private void validateUnsorted(Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalArgumentException("Hotel cards are ordered by price; sort is not supported");
+        }
+    }
+
     private void validatePagination(int page, int size) {
         if (page < 0) {
             throw new IllegalArgumentException("Page number must be non-negative");
@@ -1,53 +1,61 @@
 package com.yakrooms.be.service.impl;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import com.yakrooms.be.dto.HotelListingDto;
+import com.yakrooms.be.dto.cache.HotelCardCacheDto;
 import com.yakrooms.be.dto.cache.HotelListingCacheDto;
 import com.yakrooms.be.dto.cache.HotelListingPageCacheDto;
 import com.yakrooms.be.dto.cache.HotelSearchPageCacheDto;
 import com.yakrooms.be.dto.cache.HotelTopCacheDto;
+import com.yakrooms.be.dto.cache.PageCacheDto;
 import com.yakrooms.be.dto.mapper.CacheMapper;
 import com.yakrooms.be.dto.mapper.HotelMapper;
 import com.yakrooms.be.dto.request.HotelRequest;
 import com.yakrooms.be.dto.request.HotelDeletionRequest;
+import com.yakrooms.be.dto.response.HotelDeletionJobResponse;
 import com.yakrooms.be.dto.response.HotelResponse;
 import com.yakrooms.be.exception.ResourceConflictException;
 import com.yakrooms.be.exception.ResourceNotFoundException;
 import com.yakrooms.be.model.entity.Hotel;
 import com.yakrooms.be.model.entity.User;
 import com.yakrooms.be.model.enums.Role;
+import com.yakrooms.be.projection.HotelCardProjection;
 import com.yakrooms.be.projection.HotelListingProjection;
 import com.yakrooms.be.projection.HotelWithCollectionsAndRatingProjection;
 import com.yakrooms.be.projection.HotelWithLowestPriceProjection;
 import com.yakrooms.be.projection.HotelWithPriceProjection;
-import com.yakrooms.be.repository.BookingRepository;
 import com.yakrooms.be.repository.HotelRepository;
 import com.yakrooms.be.repository.NotificationRepository;
-import com.yakrooms.be.repository.RestaurantRepository;
-import com.yakrooms.be.repository.ReviewRepository;
-import com.yakrooms.be.repository.RoomRepository;
-import com.yakrooms.be.repository.StaffRepository;
 import com.yakrooms.be.repository.UserRepository;
 
 import com.yakrooms.be.service.CacheService;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.FileDeletionQueueService;
+import com.yakrooms.be.service.HotelAutocompleteService;
+import com.yakrooms.be.service.HotelDeletionJobService;
 import com.yakrooms.be.service.HotelService;
+import com.yakrooms.be.service.LoginActivityService;
 import com.yakrooms.be.service.MailService;
 import com.yakrooms.be.service.NotificationService;
 
@@ -63,44 +71,47 @@ public class HotelServiceImpl implements HotelService {
 
     private final HotelRepository hotelRepository;
     private final UserRepository userRepository;
-    private final BookingRepository bookingRepository;
-    private final RoomRepository roomRepository;
     private final NotificationRepository notificationRepository;
-    private final StaffRepository staffRepository;
-    private final ReviewRepository reviewRepository;
-    private final RestaurantRepository restaurantRepository;
     private final HotelMapper hotelMapper;
     private final MailService mailService;
     private final CacheService cacheService;
     private final CacheMapper cacheMapper;
     private final NotificationService notificationService;
+    private final HotelAutocompleteService hotelAutocompleteService;
+    private final Executor mailExecutor;
+    private final FileDeletionQueueService fileDeletionQueueService;
+    private final HotelDeletionJobService hotelDeletionJobService;
+    private final LoginActivityService loginActivityService;
+    private final CatalogVersionService catalogVersionService;
 
     public HotelServiceImpl(HotelRepository hotelRepository,
                            UserRepository userRepository,
-                           BookingRepository bookingRepository,
-                           RoomRepository roomRepository,
                            NotificationRepository notificationRepository,
-                           StaffRepository staffRepository,
-                           ReviewRepository reviewRepository,
-                           RestaurantRepository restaurantRepository,
                            HotelMapper hotelMapper,
                            MailService mailService,
                            CacheService cacheService,
                            CacheMapper cacheMapper,
-                           NotificationService notificationService) {
+                           NotificationService notificationService,
+                           HotelAutocompleteService hotelAutocompleteService,
+                           @Qualifier("mailExecutor") Executor mailExecutor,
+                           FileDeletionQueueService fileDeletionQueueService,
+                           HotelDeletionJobService hotelDeletionJobService,
+                           LoginActivityService loginActivityService,
+                           CatalogVersionService catalogVersionService) {
         this.hotelRepository = hotelRepository;
         this.userRepository = userRepository;
-        this.bookingRepository = bookingRepository;
-        this.roomRepository = roomRepository;
         this.notificationRepository = notificationRepository;
-        this.staffRepository = staffRepository;
-        this.reviewRepository = reviewRepository;
-        this.restaurantRepository = restaurantRepository;
         this.hotelMapper = hotelMapper;
         this.mailService = mailService;
         this.cacheService = cacheService;
         this.cacheMapper = cacheMapper;
         this.notificationService = notificationService;
+        this.hotelAutocompleteService = hotelAutocompleteService;
+        this.mailExecutor = mailExecutor;
+        this.fileDeletionQueueService = fileDeletionQueueService;
+        this.hotelDeletionJobService = hotelDeletionJobService;
+        this.loginActivityService = loginActivityService;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @Override
@@ -131,6 +142,8 @@ public class HotelServiceImpl implements HotelService {
         cacheService.evictAllHotelCaches();
         // Also evict user-specific cache for this user
         cacheService.evictUserHotelsFromCache(userId);
+        // The next login must pick up HOTEL_ADMIN and the hotel id
+        loginActivityService.evictUser(user.getEmail());
         log.info("Evicted all hotel caches after creating hotel with ID: {}", savedHotel.getId());
         
         return hotelMapper.toDto(savedHotel);
@@ -218,10 +231,18 @@ public class HotelServiceImpl implements HotelService {
         }
 
 
+        List<String> previousFiles = uploadedFiles(hotel);
         hotelMapper.updateHotelFromRequest(request, hotel); 
         
         Hotel savedHotel = hotelRepository.save(hotel);
         log.info("Updated hotel with ID: {}", id);
+
+        // Replaced photos and documents are deleted from UploadThing once this update commits
+        previousFiles.removeAll(uploadedFiles(savedHotel));
+        fileDeletionQueueService.enqueue(previousFiles);
+
+        // Photo and amenity edits only touch the element collections, which the catalog listener never sees
+        catalogVersionService.markHotelChanged(id);
         
         // Evict hotel-specific caches and all hotel-related caches
         cacheService.evictHotelDetailsFromCache(id);
@@ -235,77 +256,18 @@ public class HotelServiceImpl implements HotelService {
         }
         
         log.info("Evicted all hotel caches after updating hotel with ID: {}", id);
+
+        // Keep autocomplete suggestions in step with edited name/district/locality
+        hotelAutocompleteService.indexHotel(savedHotel);
         
         return hotelMapper.toDto(savedHotel);
     }
 
     @Override
     @Transactional
-    public void deleteHotel(Long id) {
-        if (id == null) {
-            throw new IllegalArgumentException("Hotel ID cannot be null");
-        }
-
-        Hotel hotel = hotelRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + id));
-
-        // Delete notifications first (they reference room_id)
-        notificationRepository.deleteByHotelIdInBatch(id);
-        log.info("Deleted notifications for hotel ID: {}", id);
-
-        // Delete bookings in batch
-        bookingRepository.deleteByHotelIdInBatch(id);
-        log.info("Deleted bookings for hotel ID: {}", id);
-
-        // Delete rooms in batch (this will cascade to room items and other room-related entities)
-        // Check if rooms exist before attempting deletion to avoid optimistic locking issues
-        long roomCount = roomRepository.countByHotelId(id);
-        if (roomCount > 0) {
-            try {
-                int deletedRooms = roomRepository.deleteByHotelIdInBatch(id);
-                log.info("Deleted {} rooms for hotel ID: {}", deletedRooms, id);
-            } catch (org.springframework.orm.ObjectOptimisticLockingFailureException e) {
-                log.warn("Some rooms for hotel ID {} were already deleted by another process, continuing with hotel deletion", id);
-                // Continue with hotel deletion - this is not a critical error
-            }
-        } else {
-            log.info("No rooms found for hotel ID: {}, skipping room deletion", id);
-        }
-
-        // Delete staff in batch
-        staffRepository.deleteByHotelIdInBatch(id);
-        log.info("Deleted staff for hotel ID: {}", id);
-
-        // Delete reviews in batch
-        reviewRepository.deleteByHotelIdInBatch(id);
-        log.info("Deleted reviews for hotel ID: {}", id);
-
-        // Delete restaurant in batch
-        restaurantRepository.deleteByHotelIdInBatch(id);
-        log.info("Deleted restaurant for hotel ID: {}", id);
-
-        // Update users in batch
-        List<User> users = userRepository.findByHotelIdWithRoles(id);
-        users.forEach(user -> {
-            user.setHotel(null);
-            user.removeRole(Role.HOTEL_ADMIN);
-        });
-        userRepository.saveAll(users);
-        log.info("Updated {} users for hotel ID: {}", users.size(), id);
-
-        // Evict all hotel-related caches before deleting the hotel
-        cacheService.evictHotelDetailsFromCache(id);
-        cacheService.evictAllHotelCaches();
-        cacheService.evictTopHotelsFromCache();
-        
-        // Evict user-specific caches for affected users
-        users.forEach(user -> cacheService.evictUserHotelsFromCache(user.getId()));
-        
-        log.info("Evicted all hotel caches before deleting hotel with ID: {}", id);
-
-        // Delete hotel
-        hotelRepository.delete(hotel);
-        log.info("Deleted hotel with ID: {}", id);
+    public HotelDeletionJobResponse deleteHotel(Long id) {
+        // Rows are deleted in chunks by the background job; see HotelDeletionJobServiceImpl
+        return hotelDeletionJobService.submit(id);
     }
 
     @Override
@@ -318,6 +280,10 @@ public class HotelServiceImpl implements HotelService {
         Hotel hotel = hotelRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + id));
 
+        if (hotelDeletionJobService.isBeingDeleted(id)) {
+            throw new ResourceConflictException("Hotel with id " + id + " is being deleted and cannot be verified");
+        }
+
         // Check if already verified
         if (hotel.isVerified()) {
             log.info("Hotel with ID: {} is already verified", id);
@@ -328,6 +294,9 @@ public class HotelServiceImpl implements HotelService {
         hotel.setVerified(true);
         hotel = updateHotelVerificationStatus(hotel);
         log.info("Verified hotel with ID: {}", id);
+
+        // Verified hotels become searchable, so they join the autocomplete index
+        hotelAutocompleteService.indexHotel(hotel);
         
         // Cache operations and email sending - no database connection needed
         return handlePostVerificationOperations(hotel);
@@ -350,18 +319,17 @@ public class HotelServiceImpl implements HotelService {
             log.warn("Failed to evict caches for hotel ID: {}, continuing with email processing", hotel.getId(), e);
         }
         
-        // Handle email sending
+        // Hand the email to the mail executor; emailSent means it was accepted for delivery
         String emailError = null;
         boolean emailSent = false;
         
         if (StringUtils.hasText(hotel.getEmail())) {
             try {
-                mailService.sendHotelVerificationEmail(hotel.getEmail(), hotel.getName());
-                log.info("Verification email sent for hotel: {}", hotel.getName());
+                sendVerificationEmailAsync(hotel);
                 emailSent = true;
-            } catch (Exception e) {
-                log.error("Failed to send verification email for hotel: {}", hotel.getName(), e);
-                emailError = e.getMessage();
+            } catch (TaskRejectedException e) {
+                log.warn("Mail executor is full, verification email not sent for hotel: {}", hotel.getName());
+                emailError = "Email queue is full, please retry later";
             }
         } else {
             emailError = "No email address provided for hotel";
@@ -370,6 +338,15 @@ public class HotelServiceImpl implements HotelService {
         return buildVerificationResult(hotel, false, emailSent, emailError);
     }
 
+    // Hotel files that may live on UploadThing; the queue skips anything hosted elsewhere
+    private static List<String> uploadedFiles(Hotel hotel) {
+        List<String> files = new ArrayList<>(hotel.getPhotoUrls());
+        files.add(hotel.getLogoUrl());
+        files.add(hotel.getLicenseUrl());
+        files.add(hotel.getIdProofUrl());
+        return files;
+    }
+
     private Map<String, Object> buildVerificationResult(Hotel hotel, boolean alreadyVerified, boolean emailSent, String emailError) {
         Map<String, Object> result = new HashMap<>();
         result.put("hotelVerified", true);
@@ -389,16 +366,17 @@ public class HotelServiceImpl implements HotelService {
         return result;
     }
 
-    @Async
-    protected void sendVerificationEmailAsync(Hotel hotel) {
-        if (StringUtils.hasText(hotel.getEmail())) {
+    private void sendVerificationEmailAsync(Hotel hotel) {
+        String email = hotel.getEmail();
+        String name = hotel.getName();
+        mailExecutor.execute(() -> {
             try {
-                mailService.sendHotelVerificationEmail(hotel.getEmail(), hotel.getName());
-                log.info("Verification email sent for hotel: {}", hotel.getName());
+                mailService.sendHotelVerificationEmail(email, name);
+                log.info("Verification email sent for hotel: {}", name);
             } catch (Exception e) {
-                log.error("Failed to send verification email for hotel: {}", hotel.getName(), e);
+                log.error("Failed to send verification email for hotel: {}", name, e);
             }
-        }
+        });
     }
 
     @Override
@@ -536,6 +514,55 @@ public class HotelServiceImpl implements HotelService {
         );
     }
 
+    @Override
+    public Page<PageCacheDto<HotelCardCacheDto>> getHotelCards(Pageable pageable, boolean highestPriceFirst, Set<String> fields) {
+        validateUnsorted(pageable);
+        String sortType = highestPriceFirst ? "highest_price" : "lowest_price";
+
+        PageCacheDto<HotelCardCacheDto> cards = cacheService
+                .getHotelCardsPageFromCache(sortType, pageable.getPageNumber(), pageable.getPageSize())
+                .orElseGet(() -> {
+                    log.debug("Fetching hotel cards ({}) from database with pagination: {}", sortType, pageable);
+                    Page<HotelCardProjection> hotels = highestPriceFirst
+                            ? hotelRepository.findVerifiedHotelCardsByHighestPrice(pageable)
+                            : hotelRepository.findVerifiedHotelCardsByLowestPrice(pageable);
+                    PageCacheDto<HotelCardCacheDto> cacheDto = cacheMapper.toHotelCardPageCacheDto(hotels);
+                    cacheService.putHotelCardsPageInCache(sortType, pageable.getPageNumber(), pageable.getPageSize(), cacheDto);
+                    return cacheDto;
+                });
+
+        return toCardPage(cacheMapper.retainCardFields(cards, fields));
+    }
+
+    @Override
+    public Page<PageCacheDto<HotelCardCacheDto>> searchHotelCards(String district, String locality, String hotelType,
+                                                                  int page, int size, Set<String> fields) {
+        validatePagination(page, size);
+
+        PageCacheDto<HotelCardCacheDto> cards = cacheService
+                .getHotelCardSearchPageFromCache(district, locality, hotelType, page, size)
+                .orElseGet(() -> {
+                    log.debug("Searching hotel cards from database - district: {}, locality: {}, type: {}, page: {}, size: {}",
+                            district, locality, hotelType, page, size);
+                    Page<HotelCardProjection> hotels = hotelRepository.findVerifiedHotelCardsFiltered(
+                            district, locality, hotelType, PageRequest.of(page, size));
+                    PageCacheDto<HotelCardCacheDto> cacheDto = cacheMapper.toHotelCardPageCacheDto(hotels);
+                    cacheService.putHotelCardSearchPageInCache(district, locality, hotelType, page, size, cacheDto);
+                    return cacheDto;
+                });
+
+        return toCardPage(cacheMapper.retainCardFields(cards, fields));
+    }
+
+    // Same single-page wrapping as the listing endpoints, so clients read cards at the same path
+    private Page<PageCacheDto<HotelCardCacheDto>> toCardPage(PageCacheDto<HotelCardCacheDto> cards) {
+        return new PageImpl<>(
+            List.of(cards),
+            PageRequest.of(cards.getPageNumber(), cards.getPageSize()),
+            cards.getTotalElements()
+        );
+    }
+
     // Validation methods
     private void validateCreateHotelRequest(HotelRequest request, Long userId) {
         if (request == null) {
@@ -561,6 +588,13 @@ public class HotelServiceImpl implements HotelService {
         }
     }
 
+    // Card pages have a fixed price order and are cached by page and size alone
+    private void validateUnsorted(Pageable pageable) {
+        if (pageable.getSort().isSorted()) {
+            throw new IllegalArgumentException("Hotel cards are ordered by price; sort is not supported");
+        }
+    }
+
     private void validatePagination(int page, int size) {
         if (page < 0) {
             throw new IllegalArgumentException("Page number cannot be negative");
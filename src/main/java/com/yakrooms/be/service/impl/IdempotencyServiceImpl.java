@@ -0,0 +1,290 @@
+package com.yakrooms.be.service.impl;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.yakrooms.be.config.JsonCodecs;
+import com.yakrooms.be.exception.IdempotencyKeyReuseException;
+import com.yakrooms.be.exception.RequestInProgressException;
+import com.yakrooms.be.exception.ResourceConflictException;
+import com.yakrooms.be.security.JwtAuthenticationDetails;
+import com.yakrooms.be.service.IdempotencyService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of IdempotencyService.
+ *
+ * Records live under idempotency:{operation}:{userId}:{key}. The first call
+ * claims the key with SET NX as a pending record carrying a random claim id,
+ * for in-flight-ttl so a crashed node does not block the key for long. While
+ * the action runs, the claim's TTL is refreshed every third of in-flight-ttl,
+ * so a slow call never loses its claim to a retry. Once the action returns the
+ * claim is replaced with the status and body. Only successes are stored:
+ * booking endpoints map lock timeouts and other transient failures to 4xx, so
+ * an error response or exception releases the key and a retry runs again.
+ * Completed records are kept for ttl.
+ *
+ * A duplicate that finds the key pending is answered at once with 409 and
+ * Retry-After rather than waiting, so it holds no request thread or booking
+ * slot. Each record carries a hash of the request, and reusing a key for a
+ * different request is rejected with 422.
+ *
+ * If the response cannot be stored, the key is kept as processed without a
+ * response rather than released, so a retry gets 409 instead of repeating the
+ * booking. Refreshing and releasing a claim only touch the key while it still
+ * holds that claim.
+ *
+ * If Redis is unavailable the action runs without idempotency.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyServiceImpl.class);
+
+    private static final String KEY_PREFIX = "idempotency:";
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String STATE_PENDING = "pending";
+    private static final String STATE_DONE = "done";
+    private static final String STATE_UNRECORDED = "unrecorded";
+
+    // PEXPIRE / DEL the key only while it still holds this caller's claim
+    private static final RedisScript<Long> REFRESH_CLAIM = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end return 0",
+            Long.class);
+    private static final RedisScript<Long> RELEASE_CLAIM = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final JsonCodecs jsonCodecs;
+    private final Duration ttl;
+    private final Duration inFlightTtl;
+    private final long retryAfterSeconds;
+
+    private final ScheduledExecutorService claimRefresher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "idempotency-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public IdempotencyServiceImpl(StringRedisTemplate redisTemplate,
+                                  ObjectMapper objectMapper,
+                                  JsonCodecs jsonCodecs,
+                                  @Value("${app.idempotency.ttl-ms:86400000}") long ttlMs,
+                                  @Value("${app.idempotency.in-flight-ttl-ms:60000}") long inFlightTtlMs,
+                                  @Value("${app.idempotency.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.jsonCodecs = jsonCodecs;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.inFlightTtl = Duration.ofMillis(Math.max(300, inFlightTtlMs));
+        this.retryAfterSeconds = Math.max(1, retryAfterSeconds);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        claimRefresher.shutdownNow();
+    }
+
+    @Override
+    public <T> ResponseEntity<T> execute(String operation, String idempotencyKey, Object request,
+                                         Class<T> responseType, Supplier<ResponseEntity<T>> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String key = KEY_PREFIX + operation + ':' + currentUser() + ':' + idempotencyKey;
+        String fingerprint = fingerprint(request);
+        String claim = pendingRecord(fingerprint);
+
+        // A second pass only happens when the record vanished between SET NX and GET
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Boolean claimed;
+            try {
+                claimed = redisTemplate.opsForValue().setIfAbsent(key, claim, inFlightTtl);
+            } catch (RuntimeException e) {
+                logger.warn("Idempotency store unavailable, running {} without it: {}", operation, e.getMessage());
+                return action.get();
+            }
+            if (Boolean.TRUE.equals(claimed)) {
+                return runFirst(key, claim, fingerprint, action);
+            }
+
+            JsonNode record = read(key);
+            if (record == null) {
+                continue;
+            }
+            if (!fingerprint.equals(record.path("fingerprint").asText())) {
+                throw new IdempotencyKeyReuseException(HEADER + " was already used for a different request");
+            }
+            String state = record.path("state").asText();
+            if (STATE_DONE.equals(state)) {
+                return replay(record, responseType);
+            }
+            if (STATE_UNRECORDED.equals(state)) {
+                throw new ResourceConflictException("A request with this " + HEADER
+                        + " was already processed but its response is not available");
+            }
+            throw new RequestInProgressException("A request with this " + HEADER + " is still being processed",
+                    retryAfterSeconds);
+        }
+        throw new RequestInProgressException("A request with this " + HEADER + " is still being processed",
+                retryAfterSeconds);
+    }
+
+    private <T> ResponseEntity<T> runFirst(String key, String claim, String fingerprint, Supplier<ResponseEntity<T>> action) {
+        long refreshMs = inFlightTtl.toMillis() / 3;
+        ScheduledFuture<?> refresh = claimRefresher.scheduleWithFixedDelay(
+                () -> refreshClaim(key, claim), refreshMs, refreshMs, TimeUnit.MILLISECONDS);
+        ResponseEntity<T> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            refresh.cancel(false);
+            release(key, claim);
+            throw e;
+        }
+        refresh.cancel(false);
+
+        if (response.getStatusCode().is2xxSuccessful()) {
+            store(key, fingerprint, response);
+        } else {
+            release(key, claim);
+        }
+        return response;
+    }
+
+    private void store(String key, String fingerprint, ResponseEntity<?> response) {
+        try {
+            ObjectNode record = objectMapper.createObjectNode()
+                    .put("state", STATE_DONE)
+                    .put("fingerprint", fingerprint)
+                    .put("status", response.getStatusCode().value());
+            record.set("body", objectMapper.valueToTree(response.getBody()));
+            redisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(record), ttl);
+            return;
+        } catch (RuntimeException | JsonProcessingException e) {
+            logger.error("Failed to store idempotent response for {}: {}", key, e.getMessage());
+        }
+
+        // Releasing the key would let a retry repeat the action
+        try {
+            String unrecorded = objectMapper.createObjectNode()
+                    .put("state", STATE_UNRECORDED)
+                    .put("fingerprint", fingerprint)
+                    .toString();
+            redisTemplate.opsForValue().set(key, unrecorded, ttl);
+        } catch (RuntimeException e) {
+            logger.error("Failed to mark idempotency key {} as processed, a retry after {} ms may repeat the action: {}",
+                    key, inFlightTtl.toMillis(), e.getMessage());
+        }
+    }
+
+    private void refreshClaim(String key, String claim) {
+        try {
+            redisTemplate.execute(REFRESH_CLAIM, List.of(key), claim, Long.toString(inFlightTtl.toMillis()));
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh idempotency claim {}: {}", key, e.getMessage());
+        }
+    }
+
+    private JsonNode read(String key) {
+        String value;
+        try {
+            value = redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            throw new RequestInProgressException("Could not check " + HEADER + ", please retry", retryAfterSeconds);
+        }
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(value);
+        } catch (JsonProcessingException e) {
+            logger.warn("Dropping unreadable idempotency record {}: {}", key, e.getMessage());
+            release(key, value);
+            return null;
+        }
+    }
+
+    private <T> ResponseEntity<T> replay(JsonNode record, Class<T> responseType) {
+        try {
+            JsonNode body = record.get("body");
+            T value = body == null || body.isNull() ? null : jsonCodecs.readerFor(responseType).<T>readValue(body);
+            return ResponseEntity.status(record.path("status").asInt(200))
+                    .header(REPLAYED_HEADER, "true")
+                    .body(value);
+        } catch (IOException e) {
+            throw new IllegalStateException("Stored idempotent response could not be read", e);
+        }
+    }
+
+    private void release(String key, String claim) {
+        try {
+            redisTemplate.execute(RELEASE_CLAIM, List.of(key), claim);
+        } catch (RuntimeException e) {
+            // The in-flight TTL frees the key eventually
+            logger.warn("Failed to release idempotency key {}: {}", key, e.getMessage());
+        }
+    }
+
+    private String pendingRecord(String fingerprint) {
+        return objectMapper.createObjectNode()
+                .put("state", STATE_PENDING)
+                .put("fingerprint", fingerprint)
+                .put("claim", UUID.randomUUID().toString())
+                .toString();
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(request);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            // Still idempotent, just without the different-request check
+            logger.warn("Failed to fingerprint idempotent request: {}", e.getMessage());
+            return "";
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtAuthenticationDetails details) {
+            return String.valueOf(details.getUserId());
+        }
+        return "anonymous";
+    }
+}
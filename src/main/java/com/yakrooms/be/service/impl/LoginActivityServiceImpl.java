@@ -0,0 +1,275 @@
+package com.yakrooms.be.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yakrooms.be.dto.cache.LoginUserSnapshot;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.TokenRevocationService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of LoginActivityService.
+ *
+ * Logins and profile changes are buffered per user id, so a user who logs in
+ * several times between flushes costs one row update. Every flush-interval
+ * the buffer is drained and written with two batched statements in one
+ * transaction; a failed flush puts its entries back, merged with anything
+ * recorded meanwhile. The buffer holds at most one entry per user.
+ *
+ * A profile change only applies if updated_at still matches the value the
+ * login saw, so a buffered Firebase name never overwrites an edit made through
+ * the API in between. last_login only moves forward.
+ *
+ * Users are cached by email for user-cache-ttl so a repeat login skips the
+ * roles/hotel fetch. Entries are immutable snapshots; callers rebuild a User
+ * from them and never save it. Saves through JPA (UserLoginCacheListener) and
+ * the role and hotel services evict the entry, now and again after commit.
+ * Every role removal or hotel detach also revokes the user's tokens, and that
+ * revocation reaches all nodes, so an entry loaded before it is treated as a
+ * miss there too; other changes rely on the TTL, counted from the load.
+ *
+ * Metrics: login.activity.pending gauge, login.activity.flushed counter and
+ * login.user.cache counter tagged result=hit|miss.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class LoginActivityServiceImpl implements LoginActivityService {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginActivityServiceImpl.class);
+
+    private static final String UPDATE_LAST_LOGIN_SQL =
+            "UPDATE users SET last_login = ? WHERE id = ? AND (last_login IS NULL OR last_login < ?)";
+    private static final String UPDATE_PROFILE_SQL =
+            "UPDATE users SET name = ?, profile_pic_url = ?, updated_at = ? WHERE id = ? AND updated_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenRevocationService tokenRevocationService;
+    private final int batchSize;
+    private final long userCacheTtlMs;
+    private final int userCacheMaxSize;
+
+    private final Map<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+    private final Map<String, LoginUserSnapshot> users = new ConcurrentHashMap<>();
+
+    private final Counter flushedCounter;
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    public LoginActivityServiceImpl(DataSource dataSource,
+                                    PlatformTransactionManager transactionManager,
+                                    TokenRevocationService tokenRevocationService,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.login-activity.batch-size:500}") int batchSize,
+                                    @Value("${app.login-activity.user-cache-ttl-ms:30000}") long userCacheTtlMs,
+                                    @Value("${app.login-activity.user-cache-max-size:10000}") int userCacheMaxSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tokenRevocationService = tokenRevocationService;
+        this.batchSize = Math.max(1, batchSize);
+        this.userCacheTtlMs = Math.max(0, userCacheTtlMs);
+        this.userCacheMaxSize = Math.max(1, userCacheMaxSize);
+
+        Gauge.builder("login.activity.pending", pending, Map::size).register(meterRegistry);
+        this.flushedCounter = Counter.builder("login.activity.flushed").register(meterRegistry);
+        this.cacheHitCounter = Counter.builder("login.user.cache").tag("result", "hit").register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("login.user.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public LoginUserSnapshot getCachedUser(String email) {
+        if (email == null || userCacheTtlMs == 0) {
+            return null;
+        }
+        String key = cacheKey(email);
+        LoginUserSnapshot cached = users.get(key);
+        if (cached == null || isStale(cached, System.currentTimeMillis())) {
+            if (cached != null) {
+                users.remove(key, cached);
+            }
+            cacheMissCounter.increment();
+            return null;
+        }
+        cacheHitCounter.increment();
+        return cached;
+    }
+
+    @Override
+    public void cacheUser(LoginUserSnapshot user) {
+        if (user == null || user.email() == null || userCacheTtlMs == 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (users.size() >= userCacheMaxSize) {
+            users.values().removeIf(cached -> isExpired(cached, now));
+            if (users.size() >= userCacheMaxSize) {
+                users.clear();
+            }
+        }
+        users.put(cacheKey(user.email()), user);
+    }
+
+    @Override
+    public void evictUser(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = cacheKey(email);
+        users.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    users.remove(key);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void recordLogin(Long userId, LocalDateTime loginAt) {
+        if (userId == null || loginAt == null) {
+            return;
+        }
+        pending.merge(userId, PendingUpdate.login(loginAt), PendingUpdate::merge);
+    }
+
+    @Override
+    public void recordProfileChange(Long userId, String name, String profilePicUrl,
+                                    LocalDateTime expectedUpdatedAt, LocalDateTime updatedAt) {
+        if (userId == null || expectedUpdatedAt == null || updatedAt == null) {
+            return;
+        }
+        pending.merge(userId, PendingUpdate.profile(updatedAt, name, profilePicUrl, expectedUpdatedAt),
+                PendingUpdate::merge);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.login-activity.flush-interval-ms:5000}")
+    public int flush() {
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, PendingUpdate> drained = new HashMap<>();
+        for (Long userId : List.copyOf(pending.keySet())) {
+            PendingUpdate update = pending.remove(userId);
+            if (update != null) {
+                drained.put(userId, update);
+            }
+        }
+        if (drained.isEmpty()) {
+            return 0;
+        }
+
+        List<Map.Entry<Long, PendingUpdate>> logins = new ArrayList<>(drained.entrySet());
+        List<Map.Entry<Long, PendingUpdate>> profiles = logins.stream()
+                .filter(entry -> entry.getValue().profileChanged())
+                .toList();
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!profiles.isEmpty()) {
+                    jdbcTemplate.batchUpdate(UPDATE_PROFILE_SQL, profiles, batchSize, (ps, entry) -> {
+                        PendingUpdate update = entry.getValue();
+                        ps.setString(1, update.name());
+                        ps.setString(2, update.profilePicUrl());
+                        ps.setTimestamp(3, Timestamp.valueOf(update.updatedAt()));
+                        ps.setLong(4, entry.getKey());
+                        ps.setTimestamp(5, Timestamp.valueOf(update.expectedUpdatedAt()));
+                    });
+                }
+                jdbcTemplate.batchUpdate(UPDATE_LAST_LOGIN_SQL, logins, batchSize, (ps, entry) -> {
+                    Timestamp lastLogin = Timestamp.valueOf(entry.getValue().lastLogin());
+                    ps.setTimestamp(1, lastLogin);
+                    ps.setLong(2, entry.getKey());
+                    ps.setTimestamp(3, lastLogin);
+                });
+            });
+        } catch (RuntimeException e) {
+            // Put them back without overwriting anything newer
+            drained.forEach((userId, update) -> pending.merge(userId, update, (newer, older) -> older.merge(newer)));
+            logger.warn("Failed to flush {} buffered login updates, retrying next run: {}", drained.size(), e.getMessage());
+            return 0;
+        }
+
+        flushedCounter.increment(drained.size());
+        logger.debug("Flushed login updates for {} users ({} profile changes)", drained.size(), profiles.size());
+        return drained.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private boolean isExpired(LoginUserSnapshot cached, long nowMillis) {
+        return nowMillis - cached.loadedAtMillis() >= userCacheTtlMs;
+    }
+
+    private boolean isStale(LoginUserSnapshot cached, long nowMillis) {
+        return isExpired(cached, nowMillis)
+                || tokenRevocationService.isRevoked(cached.id(), null, new Date(cached.loadedAtMillis()));
+    }
+
+    private static String cacheKey(String email) {
+        // Stored emails are lower-cased and trimmed by User's lifecycle callbacks
+        return email.toLowerCase(Locale.ROOT).trim();
+    }
+
+    /**
+     * Buffered changes for one user; merging keeps the latest login and
+     * profile values and the earliest expected updated_at.
+     */
+    private record PendingUpdate(LocalDateTime lastLogin,
+                                 boolean profileChanged,
+                                 String name,
+                                 String profilePicUrl,
+                                 LocalDateTime expectedUpdatedAt,
+                                 LocalDateTime updatedAt) {
+
+        static PendingUpdate login(LocalDateTime loginAt) {
+            return new PendingUpdate(loginAt, false, null, null, null, null);
+        }
+
+        static PendingUpdate profile(LocalDateTime at, String name, String profilePicUrl, LocalDateTime expectedUpdatedAt) {
+            return new PendingUpdate(at, true, name, profilePicUrl, expectedUpdatedAt, at);
+        }
+
+        PendingUpdate merge(PendingUpdate newer) {
+            LocalDateTime login = newer.lastLogin.isAfter(lastLogin) ? newer.lastLogin : lastLogin;
+            if (!newer.profileChanged) {
+                return new PendingUpdate(login, profileChanged, name, profilePicUrl, expectedUpdatedAt, updatedAt);
+            }
+            LocalDateTime expected = profileChanged ? expectedUpdatedAt : newer.expectedUpdatedAt;
+            return new PendingUpdate(login, true, newer.name, newer.profilePicUrl, expected, newer.updatedAt);
+        }
+    }
+}
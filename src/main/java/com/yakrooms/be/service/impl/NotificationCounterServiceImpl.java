@@ -0,0 +1,153 @@
+package com.yakrooms.be.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.repository.NotificationRepository;
+import com.yakrooms.be.service.NotificationCounterService;
+
+/**
+ * Implementation of NotificationCounterService.
+ *
+ * Counters live under notifications:unread:{userId}. A miss counts the user's
+ * unread rows once (idx_notification_user_read) and stores the result with
+ * SET NX, so a concurrent increment is never overwritten by an older count.
+ * Increments only touch counters that already exist: creating a key from an
+ * increment would start it at 1 for a user with older unread notifications.
+ *
+ * Counters expire after counter-ttl, which bounds how long a count can stay
+ * off after a lost update (a node dying between commit and increment, or a
+ * notification committed while a miss was being recounted).
+ * If Redis is unavailable the count is read from the database.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class NotificationCounterServiceImpl implements NotificationCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationCounterServiceImpl.class);
+
+    private static final String KEY_PREFIX = "notifications:unread:";
+
+    // INCR only when the counter exists; the TTL is kept
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return redis.call('INCRBY', KEYS[1], ARGV[1]) end return -1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+
+    public NotificationCounterServiceImpl(StringRedisTemplate redisTemplate,
+                                          NotificationRepository notificationRepository,
+                                          @Value("${app.notifications.counter-ttl-ms:3600000}") long ttlMs) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = Duration.ofMillis(ttlMs);
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+
+        String key = key(userId);
+        try {
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Unread counter unavailable for user {}, counting in database: {}", userId, e.getMessage());
+            return notificationRepository.countUnreadByUserId(userId);
+        }
+
+        long count = notificationRepository.countUnreadByUserId(userId);
+        try {
+            redisTemplate.opsForValue().setIfAbsent(key, Long.toString(count), ttl);
+        } catch (RuntimeException e) {
+            logger.debug("Failed to store unread counter for user {}: {}", userId, e.getMessage());
+        }
+        return count;
+    }
+
+    @Override
+    public void increment(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                redisTemplate.execute(INCREMENT_IF_PRESENT, List.of(key(userId)), "1");
+            } catch (RuntimeException e) {
+                // The counter is now low by one; drop it so the next read recounts
+                logger.warn("Failed to increment unread counter for user {}: {}", userId, e.getMessage());
+                deleteQuietly(List.of(key(userId)));
+            }
+        });
+    }
+
+    @Override
+    public void reset(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            try {
+                redisTemplate.opsForValue().set(key(userId), "0", ttl);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to reset unread counter for user {}: {}", userId, e.getMessage());
+                deleteQuietly(List.of(key(userId)));
+            }
+        });
+    }
+
+    @Override
+    public void evict(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = userIds.stream().filter(Objects::nonNull).distinct().map(NotificationCounterServiceImpl::key).toList();
+        afterCommit(() -> deleteQuietly(keys));
+    }
+
+    private void deleteQuietly(List<String> keys) {
+        try {
+            redisTemplate.delete(keys);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to drop unread counters {}: {}", keys, e.getMessage());
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static void afterCommit(Runnable action) {
+        // Counters follow committed state only; a rolled-back notification never counts
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.yakrooms.be.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yakrooms.be.model.enums.NotificationType;
+import com.yakrooms.be.repository.NotificationArchiveRepository;
+import com.yakrooms.be.repository.NotificationRepository;
+import com.yakrooms.be.service.NotificationCounterService;
+import com.yakrooms.be.service.NotificationRetentionService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementation of NotificationRetentionService.
+ *
+ * Retention is configured per NotificationType as
+ * app.notifications.retention.days.&lt;TYPE&gt;, falling back to default-days;
+ * zero or less keeps that type forever. Each chunk selects up to chunk-size
+ * expired ids through idx_notification_type_created, copies them to the
+ * archive and deletes them by primary key in one short transaction, so no
+ * statement scans or locks more than a chunk. A pause between chunks and a
+ * per-run row limit keep a large backlog from crowding out other work; it is
+ * worked off over several runs.
+ *
+ * MySQL partitioning was not used: InnoDB does not allow foreign keys on
+ * partitioned tables, and notifications references users and bookings.
+ *
+ * Metrics: notifications.rows and notifications.archive.rows (InnoDB
+ * estimates), notifications.oldest.age.seconds, and the counters
+ * notifications.retention.archived / .deleted / .archive.trimmed.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationRetentionServiceImpl.class);
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final NotificationCounterService notificationCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<NotificationType, Integer> retentionDays = new EnumMap<>(NotificationType.class);
+    private final int defaultDays;
+    private final boolean archive;
+    private final int archiveDays;
+    private final int chunkSize;
+    private final int maxRowsPerRun;
+    private final long pauseMs;
+
+    private final AtomicLong liveRows = new AtomicLong();
+    private final AtomicLong archiveRows = new AtomicLong();
+    private final AtomicLong oldestAgeSeconds = new AtomicLong();
+    private final Counter archivedCounter;
+    private final Counter deletedCounter;
+    private final Counter trimmedCounter;
+
+    public NotificationRetentionServiceImpl(NotificationRepository notificationRepository,
+                                            NotificationArchiveRepository notificationArchiveRepository,
+                                            NotificationCounterService notificationCounterService,
+                                            PlatformTransactionManager transactionManager,
+                                            MeterRegistry meterRegistry,
+                                            Environment environment,
+                                            @Value("${app.notifications.retention.default-days:90}") int defaultDays,
+                                            @Value("${app.notifications.retention.archive:true}") boolean archive,
+                                            @Value("${app.notifications.retention.archive-days:365}") int archiveDays,
+                                            @Value("${app.notifications.retention.chunk-size:500}") int chunkSize,
+                                            @Value("${app.notifications.retention.max-rows-per-run:50000}") int maxRowsPerRun,
+                                            @Value("${app.notifications.retention.pause-ms:50}") long pauseMs) {
+        this.notificationRepository = notificationRepository;
+        this.notificationArchiveRepository = notificationArchiveRepository;
+        this.notificationCounterService = notificationCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultDays = defaultDays;
+        this.archive = archive;
+        this.archiveDays = archiveDays;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxRowsPerRun = Math.max(1, maxRowsPerRun);
+        this.pauseMs = Math.max(0, pauseMs);
+
+        for (NotificationType type : NotificationType.values()) {
+            retentionDays.put(type, environment.getProperty(
+                    "app.notifications.retention.days." + type.name(), Integer.class, defaultDays));
+        }
+
+        Gauge.builder("notifications.rows", liveRows, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("notifications.archive.rows", archiveRows, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("notifications.oldest.age.seconds", oldestAgeSeconds, AtomicLong::get).register(meterRegistry);
+        this.archivedCounter = Counter.builder("notifications.retention.archived").register(meterRegistry);
+        this.deletedCounter = Counter.builder("notifications.retention.deleted").register(meterRegistry);
+        this.trimmedCounter = Counter.builder("notifications.retention.archive.trimmed").register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${app.notifications.retention.initial-delay-ms:300000}",
+               fixedDelayString = "${app.notifications.retention.interval-ms:3600000}")
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+
+        for (Map.Entry<NotificationType, Integer> entry : retentionDays.entrySet()) {
+            if (entry.getValue() <= 0 || removed >= maxRowsPerRun) {
+                continue;
+            }
+            LocalDateTime cutoff = now.minusDays(entry.getValue());
+            String type = entry.getKey().name();
+            removed += purgeInChunks(maxRowsPerRun - removed,
+                    page -> notificationRepository.findIdsByTypeCreatedBefore(type, cutoff, page));
+        }
+
+        // Rows whose type is not (or no longer) a NotificationType follow the default
+        if (defaultDays > 0 && removed < maxRowsPerRun) {
+            LocalDateTime cutoff = now.minusDays(defaultDays);
+            List<String> known = Arrays.stream(NotificationType.values()).map(Enum::name).toList();
+            removed += purgeInChunks(maxRowsPerRun - removed,
+                    page -> notificationRepository.findIdsByOtherTypesCreatedBefore(known, cutoff, page));
+        }
+
+        int trimmed = archive && archiveDays > 0 ? trimArchive(now.minusDays(archiveDays)) : 0;
+
+        if (removed > 0 || trimmed > 0) {
+            logger.info("Notification retention: {} {} from the live table, {} trimmed from the archive",
+                    removed, archive ? "archived" : "deleted", trimmed);
+        }
+        refreshStats(now);
+        return removed;
+    }
+
+    private int purgeInChunks(int budget, Function<Pageable, List<Long>> findIds) {
+        int removed = 0;
+        while (removed < budget) {
+            Pageable chunk = PageRequest.of(0, Math.min(chunkSize, budget - removed));
+            Integer count = transactionTemplate.execute(status -> {
+                List<Long> ids = findIds.apply(chunk);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                if (archive) {
+                    notificationArchiveRepository.archive(ids);
+                }
+                // Bulk delete bypasses the counter listener; unread rows may be among them
+                notificationCounterService.evict(notificationRepository.findUserIdsByIds(ids));
+                notificationRepository.deleteAllByIdInBatch(ids);
+                return ids.size();
+            });
+            if (count == null || count == 0) {
+                break;
+            }
+            removed += count;
+            (archive ? archivedCounter : deletedCounter).increment(count);
+            if (count < chunk.getPageSize() || !pause()) {
+                break;
+            }
+        }
+        return removed;
+    }
+
+    private int trimArchive(LocalDateTime cutoff) {
+        int trimmed = 0;
+        while (trimmed < maxRowsPerRun) {
+            int limit = Math.min(chunkSize, maxRowsPerRun - trimmed);
+            Integer count = transactionTemplate.execute(status ->
+                    notificationArchiveRepository.deleteArchivedBefore(cutoff, limit));
+            if (count == null || count == 0) {
+                break;
+            }
+            trimmed += count;
+            trimmedCounter.increment(count);
+            if (count < limit || !pause()) {
+                break;
+            }
+        }
+        return trimmed;
+    }
+
+    private void refreshStats(LocalDateTime now) {
+        try {
+            liveRows.set(toLong(notificationRepository.estimateRowCount()));
+            archiveRows.set(toLong(notificationArchiveRepository.estimateRowCount()));
+            LocalDateTime oldest = notificationRepository.findOldestCreatedAt();
+            oldestAgeSeconds.set(oldest == null ? 0 : Duration.between(oldest, now).getSeconds());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to refresh notification table stats: {}", e.getMessage());
+        }
+    }
+
+    // Returns false if interrupted, so the run stops early and resumes next time
+    private boolean pause() {
+        if (pauseMs == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static long toLong(Number value) {
+        return value == null ? 0 : value.longValue();
+    }
+}
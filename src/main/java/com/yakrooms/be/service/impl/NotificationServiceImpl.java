@@ -1,15 +1,20 @@
 package com.yakrooms.be.service.impl;
 
+import com.yakrooms.be.dto.NotificationDTO;
+import com.yakrooms.be.dto.mapper.NotificationMapper;
 import com.yakrooms.be.model.entity.Booking;
 import com.yakrooms.be.model.entity.Notification;
 import com.yakrooms.be.model.entity.User;
 import com.yakrooms.be.model.enums.NotificationType;
 import com.yakrooms.be.repository.NotificationRepository;
 import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.NotificationCounterService;
 import com.yakrooms.be.service.NotificationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +35,9 @@ public class NotificationServiceImpl implements NotificationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private NotificationCounterService notificationCounterService;
+
     // ========== BASIC NOTIFICATION OPERATIONS ==========
 
     @Override
@@ -47,17 +55,27 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     @Transactional
     public void markAllAsRead(User user) {
-        List<Notification> unread = notificationRepository.findByUserAndIsReadFalse(user);
-        for (Notification n : unread) {
-            n.setRead(true);
+        markAllAsRead(user.getId());
+    }
+
+    @Override
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
         }
-        notificationRepository.saveAll(unread);
+        int updated = notificationRepository.markAllAsReadByUserId(userId);
+        notificationCounterService.reset(userId);
+        logger.debug("Marked {} notifications as read for user {}", updated, userId);
+        return updated;
     }
 
     @Override
     @Transactional
     public void deleteAllNotifications(User user) {
         notificationRepository.deleteBookingCreatedByUserId(user.getId());
+        // Native delete bypasses the entity listener
+        notificationCounterService.evict(List.of(user.getId()));
     }
 
     @Override
@@ -120,6 +138,21 @@ public class NotificationServiceImpl implements NotificationService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NotificationDTO> getNotificationFeed(Long userId, boolean unreadOnly, Pageable pageable) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        return notificationRepository.findFeedByUserId(userId, unreadOnly, pageable)
+                .map(NotificationMapper::toDto);
+    }
+
+    @Override
+    public long getUnreadCount(Long userId) {
+        return notificationCounterService.getUnreadCount(userId);
+    }
+
     // ========== UNIFIED NOTIFICATION CREATION ==========
 
     @Override
@@ -0,0 +1,420 @@
+package com.yakrooms.be.service.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.dto.OccupancyAnalyticsDTO;
+import com.yakrooms.be.dto.OccupancyMetricsDTO;
+import com.yakrooms.be.exception.ResourceNotFoundException;
+import com.yakrooms.be.model.enums.RoomType;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.service.CacheService;
+import com.yakrooms.be.service.OccupancyAnalyticsService;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of OccupancyAnalyticsService.
+ *
+ * Booking rows for the window are streamed straight off a forward-only JDBC
+ * result set (no entity hydration) into primitive per-room-type columns:
+ * check-in and check-out as epoch days, price in cents. Each room type is then
+ * expanded into per-night arrays indexed by (epoch day - window start) on a
+ * dedicated fork-join pool, splitting large room types further by stay range.
+ * Revenue is spread evenly across a stay's nights with the remainder cents on
+ * the first nights, so clipped stays contribute exactly their share.
+ *
+ * Available room nights use the hotel's current room inventory.
+ *
+ * Results are cached per hotel and window. Booking and room changes evict the
+ * hotel's results after commit, collected once per transaction.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class OccupancyAnalyticsServiceImpl implements OccupancyAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(OccupancyAnalyticsServiceImpl.class);
+
+    // TO_DAYS('1970-01-01') - converts MySQL day numbers to java.time epoch days
+    private static final int MYSQL_EPOCH_DAY_OFFSET = 719528;
+
+    // Stays counted as occupying a room, matching the availability conflict checks
+    private static final String BOOKING_STREAM_SQL = """
+        SELECT
+            r.room_type,
+            TO_DAYS(b.check_in_date) - %d AS check_in_day,
+            TO_DAYS(b.check_out_date) - %d AS check_out_day,
+            ROUND(b.total_price * 100) AS price_cents
+        FROM booking b
+        JOIN room r ON r.id = b.room_id
+        WHERE b.hotel_id = ?
+        AND b.status IN ('CONFIRMED', 'CHECKED_IN', 'CHECKED_OUT', 'CANCELLATION_REQUESTED', 'CANCELLATION_REJECTED')
+        AND b.check_in_date <= ?
+        AND b.check_out_date > ?
+        """.formatted(MYSQL_EPOCH_DAY_OFFSET, MYSQL_EPOCH_DAY_OFFSET);
+
+    private static final String ROOM_INVENTORY_SQL =
+        "SELECT r.room_type, COUNT(*) FROM room r WHERE r.hotel_id = ? GROUP BY r.room_type";
+
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final HotelRepository hotelRepository;
+    private final CacheService cacheService;
+    private final ForkJoinPool analyticsPool;
+    private final int maxWindowDays;
+    private final int splitThreshold;
+
+    public OccupancyAnalyticsServiceImpl(DataSource dataSource,
+                                         HotelRepository hotelRepository,
+                                         CacheService cacheService,
+                                         @Value("${app.analytics.fetch-size:-2147483648}") int fetchSize,
+                                         @Value("${app.analytics.parallelism:0}") int parallelism,
+                                         @Value("${app.analytics.max-window-days:366}") int maxWindowDays,
+                                         @Value("${app.analytics.split-threshold:4096}") int splitThreshold) {
+        // MySQL Connector/J streams row by row when the fetch size is Integer.MIN_VALUE
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.hotelRepository = hotelRepository;
+        this.cacheService = cacheService;
+        this.analyticsPool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+        this.maxWindowDays = maxWindowDays;
+        this.splitThreshold = splitThreshold;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        analyticsPool.shutdown();
+    }
+
+    @Override
+    public OccupancyAnalyticsDTO getOccupancyAnalytics(Long hotelId, String startDate, String endDate) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        LocalDate start = parseDate(startDate, "start");
+        LocalDate end = parseDate(endDate, "end");
+        if (end.isBefore(start)) {
+            throw new IllegalArgumentException("End date cannot be before start date");
+        }
+        long windowDays = ChronoUnit.DAYS.between(start, end) + 1;
+        if (windowDays > maxWindowDays) {
+            throw new IllegalArgumentException("Date window cannot exceed " + maxWindowDays + " days");
+        }
+
+        Optional<OccupancyAnalyticsDTO> cached = cacheService.getOccupancyAnalyticsFromCache(hotelId, start, end);
+        if (cached.isPresent()) {
+            logger.debug("Retrieved occupancy analytics from cache for hotel {} ({} - {})", hotelId, start, end);
+            return cached.get();
+        }
+
+        if (hotelRepository.findNameById(hotelId).isEmpty()) {
+            throw new ResourceNotFoundException("Hotel not found with id: " + hotelId);
+        }
+
+        long started = System.nanoTime();
+        OccupancyAnalyticsDTO result = compute(hotelId, start, end, (int) windowDays);
+        logger.info("Computed occupancy analytics for hotel {} over {} days in {} ms",
+                hotelId, windowDays, (System.nanoTime() - started) / 1_000_000);
+
+        cacheService.putOccupancyAnalyticsInCache(hotelId, start, end, result);
+        return result;
+    }
+
+    @Override
+    public void evictHotel(Long hotelId) {
+        if (hotelId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cacheService.evictOccupancyAnalyticsFromCache(hotelId);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<Long> changed = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(this, changed);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    changed.forEach(cacheService::evictOccupancyAnalyticsFromCache);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(OccupancyAnalyticsServiceImpl.this);
+                }
+            });
+            pending = changed;
+        }
+        pending.add(hotelId);
+    }
+
+    private OccupancyAnalyticsDTO compute(Long hotelId, LocalDate start, LocalDate end, int days) {
+        int[] roomsByType = loadRoomInventory(hotelId);
+        StayColumns[] staysByType = streamStays(hotelId, start, end);
+        int windowStart = (int) start.toEpochDay();
+
+        // Fork one task per room type; each splits further if it has many stays
+        List<ExpandTask> tasks = new ArrayList<>();
+        for (int type = 0; type < ROOM_TYPES.length; type++) {
+            if (staysByType[type].size > 0) {
+                tasks.add(new ExpandTask(type, staysByType[type], 0, staysByType[type].size, windowStart, days, splitThreshold));
+            }
+        }
+        NightArrays[] nightsByType = new NightArrays[ROOM_TYPES.length];
+        if (!tasks.isEmpty()) {
+            analyticsPool.invoke(new RecursiveTask<Void>() {
+                @Override
+                protected Void compute() {
+                    invokeAll(tasks);
+                    return null;
+                }
+            });
+            for (ExpandTask task : tasks) {
+                nightsByType[task.type] = task.join();
+            }
+        }
+
+        return assemble(hotelId, start, end, days, roomsByType, nightsByType);
+    }
+
+    private int[] loadRoomInventory(Long hotelId) {
+        int[] roomsByType = new int[ROOM_TYPES.length];
+        streamingJdbcTemplate.query(ROOM_INVENTORY_SQL, rs -> {
+            roomsByType[RoomType.valueOf(rs.getString(1)).ordinal()] = rs.getInt(2);
+        }, hotelId);
+        return roomsByType;
+    }
+
+    private StayColumns[] streamStays(Long hotelId, LocalDate start, LocalDate end) {
+        StayColumns[] staysByType = new StayColumns[ROOM_TYPES.length];
+        for (int type = 0; type < staysByType.length; type++) {
+            staysByType[type] = new StayColumns();
+        }
+
+        streamingJdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(BOOKING_STREAM_SQL);
+            statement.setLong(1, hotelId);
+            statement.setObject(2, end);
+            statement.setObject(3, start);
+            return statement;
+        }, rs -> {
+            int type = RoomType.valueOf(rs.getString(1)).ordinal();
+            staysByType[type].add(rs.getInt(2), rs.getInt(3), rs.getLong(4));
+        });
+        return staysByType;
+    }
+
+    private OccupancyAnalyticsDTO assemble(Long hotelId, LocalDate start, LocalDate end, int days,
+                                           int[] roomsByType, NightArrays[] nightsByType) {
+        int totalRooms = 0;
+        for (int rooms : roomsByType) {
+            totalRooms += rooms;
+        }
+
+        OccupancyAnalyticsDTO result = new OccupancyAnalyticsDTO();
+        result.setHotelId(hotelId);
+        result.setStartDate(start);
+        result.setEndDate(end);
+        result.setRoomCount(totalRooms);
+        result.setGeneratedAt(LocalDateTime.now());
+
+        // Per day and per month across all room types
+        long windowSold = 0;
+        long windowCents = 0;
+        long monthSold = 0;
+        long monthCents = 0;
+        int monthDays = 0;
+        YearMonth month = YearMonth.from(start);
+        for (int day = 0; day < days; day++) {
+            LocalDate date = start.plusDays(day);
+            if (!YearMonth.from(date).equals(month)) {
+                result.getMonthly().add(metrics(month.toString(), (long) totalRooms * monthDays, monthSold, monthCents));
+                month = YearMonth.from(date);
+                monthSold = 0;
+                monthCents = 0;
+                monthDays = 0;
+            }
+
+            long daySold = 0;
+            long dayCents = 0;
+            for (NightArrays nights : nightsByType) {
+                if (nights != null) {
+                    daySold += nights.sold[day];
+                    dayCents += nights.cents[day];
+                }
+            }
+            result.getDaily().add(metrics(date.toString(), totalRooms, daySold, dayCents));
+            monthSold += daySold;
+            monthCents += dayCents;
+            monthDays++;
+            windowSold += daySold;
+            windowCents += dayCents;
+        }
+        result.getMonthly().add(metrics(month.toString(), (long) totalRooms * monthDays, monthSold, monthCents));
+
+        // Per room type over the whole window
+        for (int type = 0; type < ROOM_TYPES.length; type++) {
+            NightArrays nights = nightsByType[type];
+            if (roomsByType[type] == 0 && nights == null) {
+                continue;
+            }
+            long typeSold = nights == null ? 0 : Arrays.stream(nights.sold).asLongStream().sum();
+            long typeCents = nights == null ? 0 : Arrays.stream(nights.cents).sum();
+            result.getRoomTypes().add(metrics(ROOM_TYPES[type].name(), (long) roomsByType[type] * days, typeSold, typeCents));
+        }
+
+        result.setSummary(metrics("TOTAL", (long) totalRooms * days, windowSold, windowCents));
+        return result;
+    }
+
+    private static OccupancyMetricsDTO metrics(String label, long available, long sold, long cents) {
+        BigDecimal revenue = BigDecimal.valueOf(cents, 2);
+        double occupancy = available == 0 ? 0.0 : Math.round(sold * 10000.0 / available) / 100.0;
+        BigDecimal adr = sold == 0 ? BigDecimal.ZERO.setScale(2)
+                : revenue.divide(BigDecimal.valueOf(sold), 2, RoundingMode.HALF_UP);
+        BigDecimal revPar = available == 0 ? BigDecimal.ZERO.setScale(2)
+                : revenue.divide(BigDecimal.valueOf(available), 2, RoundingMode.HALF_UP);
+        return new OccupancyMetricsDTO(label, available, sold, revenue, occupancy, adr, revPar);
+    }
+
+    private static LocalDate parseDate(String value, String name) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("The " + name + " date cannot be null or empty");
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid " + name + " date format: " + value);
+        }
+    }
+
+    /**
+     * Growable primitive columns of the stays of one room type.
+     */
+    private static final class StayColumns {
+        private int[] checkIn = new int[64];
+        private int[] checkOut = new int[64];
+        private long[] priceCents = new long[64];
+        private int size;
+
+        private void add(int checkInDay, int checkOutDay, long cents) {
+            if (size == checkIn.length) {
+                int capacity = size * 2;
+                checkIn = Arrays.copyOf(checkIn, capacity);
+                checkOut = Arrays.copyOf(checkOut, capacity);
+                priceCents = Arrays.copyOf(priceCents, capacity);
+            }
+            checkIn[size] = checkInDay;
+            checkOut[size] = checkOutDay;
+            priceCents[size] = cents;
+            size++;
+        }
+    }
+
+    /**
+     * Sold room nights and revenue cents per window day.
+     */
+    private static final class NightArrays {
+        private final int[] sold;
+        private final long[] cents;
+
+        private NightArrays(int days) {
+            this.sold = new int[days];
+            this.cents = new long[days];
+        }
+
+        private void add(NightArrays other) {
+            for (int day = 0; day < sold.length; day++) {
+                sold[day] += other.sold[day];
+                cents[day] += other.cents[day];
+            }
+        }
+    }
+
+    /**
+     * Expands a range of stays into per-night contributions, splitting in halves above the threshold.
+     */
+    private static final class ExpandTask extends RecursiveTask<NightArrays> {
+        private static final long serialVersionUID = 1L;
+
+        private final int type;
+        private final StayColumns stays;
+        private final int from;
+        private final int to;
+        private final int windowStart;
+        private final int days;
+        private final int threshold;
+
+        private ExpandTask(int type, StayColumns stays, int from, int to, int windowStart, int days, int threshold) {
+            this.type = type;
+            this.stays = stays;
+            this.from = from;
+            this.to = to;
+            this.windowStart = windowStart;
+            this.days = days;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected NightArrays compute() {
+            if (to - from > threshold) {
+                int mid = (from + to) >>> 1;
+                ExpandTask left = new ExpandTask(type, stays, from, mid, windowStart, days, threshold);
+                ExpandTask right = new ExpandTask(type, stays, mid, to, windowStart, days, threshold);
+                left.fork();
+                NightArrays result = right.compute();
+                result.add(left.join());
+                return result;
+            }
+
+            NightArrays result = new NightArrays(days);
+            for (int i = from; i < to; i++) {
+                int checkIn = stays.checkIn[i];
+                int nights = stays.checkOut[i] - checkIn;
+                if (nights <= 0) {
+                    continue;
+                }
+                long base = stays.priceCents[i] / nights;
+                long remainder = stays.priceCents[i] % nights;
+
+                int first = Math.max(checkIn, windowStart);
+                int last = Math.min(stays.checkOut[i], windowStart + days);
+                for (int night = first; night < last; night++) {
+                    int slot = night - windowStart;
+                    result.sold[slot]++;
+                    result.cents[slot] += base + (night - checkIn < remainder ? 1 : 0);
+                }
+            }
+            return result;
+        }
+    }
+}
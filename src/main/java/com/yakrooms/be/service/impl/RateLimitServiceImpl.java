@@ -0,0 +1,357 @@
+package com.yakrooms.be.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+
+import com.yakrooms.be.service.RateLimitService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementation of RateLimitService.
+ *
+ * Routes are grouped into classes listed in app.rate-limit.routes; each class
+ * has path patterns, methods, and a token bucket size (capacity) and refill
+ * rate per client, where the client is the user when authenticated and the IP
+ * otherwise. Requests outside every class are not limited.
+ *
+ * Buckets live in local memory, so the per-request check is a map lookup and
+ * a synchronized refill-and-take. In redis sync mode every sync-interval each
+ * node pushes the tokens it took per bucket into a shared bucket in Redis (one
+ * script call per sync-batch buckets) and adopts the shared remainder, so the
+ * cluster converges on one limit while a client can overshoot by at most what
+ * the nodes admit within one interval. If Redis is unavailable each node
+ * enforces its limits alone.
+ *
+ * Idle full buckets are dropped on each sync. The bucket table is an
+ * access-ordered LinkedHashMap, split into lock stripes when large, and past
+ * max-buckets the least recently used bucket is evicted on insert, so a flood
+ * of new clients costs O(1) per request and evicts idle clients before
+ * throttled ones.
+ *
+ * Metrics: http.rate_limit.throttled counter tagged with route and client
+ * (ip|user), and http.rate_limit.buckets gauge.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class RateLimitServiceImpl implements RateLimitService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitServiceImpl.class);
+
+    public static final String SYNC_REDIS = "redis";
+
+    private static final String METRIC_NAME = "http.rate_limit.throttled";
+
+    // For each key with ARGV (capacity, tokens per ms, taken) from position 3:
+    // refill the shared bucket to now, subtract what the node took, return the rest
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> RECONCILE = new DefaultRedisScript<>(
+            "local now = tonumber(ARGV[1]) local ttl = tonumber(ARGV[2]) local result = {} "
+                    + "for i, key in ipairs(KEYS) do "
+                    + "  local base = 3 + (i - 1) * 3 "
+                    + "  local capacity = tonumber(ARGV[base]) local rate = tonumber(ARGV[base + 1]) "
+                    + "  local taken = tonumber(ARGV[base + 2]) "
+                    + "  local bucket = redis.call('HMGET', key, 't', 'ts') "
+                    + "  local tokens = tonumber(bucket[1]) or capacity local ts = tonumber(bucket[2]) or now "
+                    + "  tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate) - taken "
+                    + "  if tokens < -capacity then tokens = -capacity end "
+                    + "  redis.call('HSET', key, 't', tostring(tokens), 'ts', tostring(now)) "
+                    + "  redis.call('PEXPIRE', key, ttl) "
+                    + "  result[i] = tostring(tokens) "
+                    + "end "
+                    + "return result",
+            List.class);
+
+    private final List<RouteClass> routes = new ArrayList<>();
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final List<BucketStripe> stripes = new ArrayList<>();
+    private final Map<String, Counter> throttledCounters = new ConcurrentHashMap<>();
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final boolean redisSync;
+    private final String keyPrefix;
+    private final int syncBatch;
+    private final long idleNanos;
+
+    public RateLimitServiceImpl(StringRedisTemplate redisTemplate,
+                                MeterRegistry meterRegistry,
+                                Environment environment,
+                                @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                                @Value("${app.rate-limit.sync:local}") String sync,
+                                @Value("${app.rate-limit.key-prefix:yakrooms:ratelimit:}") String keyPrefix,
+                                @Value("${app.rate-limit.sync-batch:200}") int syncBatch,
+                                @Value("${app.rate-limit.idle-ms:600000}") long idleMs,
+                                @Value("${app.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.redisSync = SYNC_REDIS.equalsIgnoreCase(sync);
+        this.keyPrefix = keyPrefix;
+        this.syncBatch = Math.max(1, syncBatch);
+        this.idleNanos = Math.max(0, idleMs) * 1_000_000L;
+
+        // Stripes only pay off for large tables; small ones keep one exact LRU order
+        int stripeCount = Math.max(1, Math.min(16, maxBuckets / 1024));
+        int stripeSize = Math.max(1, maxBuckets / stripeCount);
+        for (int i = 0; i < stripeCount; i++) {
+            stripes.add(new BucketStripe(stripeSize));
+        }
+
+        for (String name : environment.getProperty("app.rate-limit.routes", String[].class, new String[0])) {
+            String prefix = "app.rate-limit.route." + name.trim() + ".";
+            String[] patterns = environment.getProperty(prefix + "patterns", String[].class, new String[0]);
+            int capacity = environment.getProperty(prefix + "capacity", Integer.class, 0);
+            double refillPerMinute = environment.getProperty(prefix + "refill-per-minute", Double.class, 0d);
+            if (patterns.length == 0 || capacity <= 0 || refillPerMinute <= 0) {
+                logger.warn("Ignoring rate limit route {}: patterns, capacity and refill-per-minute are required", name);
+                continue;
+            }
+            Set<String> methods = Arrays.stream(environment.getProperty(prefix + "methods", String[].class, new String[0]))
+                    .map(method -> method.trim().toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toSet());
+            routes.add(new RouteClass(name.trim(), Arrays.stream(patterns).map(String::trim).toList(), methods,
+                    capacity, refillPerMinute / 60_000d));
+        }
+
+        Gauge.builder("http.rate_limit.buckets", this, RateLimitServiceImpl::bucketCount).register(meterRegistry);
+        logger.info("Rate limiting {} with routes {} ({} sync)", enabled ? "enabled" : "disabled",
+                routes.stream().map(RouteClass::name).toList(), redisSync ? "redis" : "local");
+    }
+
+    @Override
+    public long tryAcquire(String method, String path, Long userId, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+        RouteClass route = match(method, path);
+        if (route == null) {
+            return 0;
+        }
+
+        String client = userId != null ? "user" : "ip";
+        String subject = userId != null ? userId.toString() : (StringUtils.hasText(clientIp) ? clientIp : "unknown");
+        String key = route.name() + ':' + client + ':' + subject;
+
+        long waitMs = bucket(key, route).tryTake(System.nanoTime());
+        if (waitMs > 0) {
+            throttled(route.name(), client);
+        }
+        return waitMs;
+    }
+
+    /**
+     * Reconcile local buckets with the shared ones in Redis and drop idle
+     * full buckets.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sync-interval-ms:1000}")
+    public void sync() {
+        if (redisSync) {
+            List<Map.Entry<String, Bucket>> dirty = new ArrayList<>();
+            for (BucketStripe stripe : stripes) {
+                synchronized (stripe) {
+                    // Iterating does not count as access, so the LRU order is kept
+                    stripe.forEach((key, bucket) -> {
+                        if (bucket.hasUnsynced()) {
+                            dirty.add(Map.entry(key, bucket));
+                        }
+                    });
+                }
+            }
+            for (int from = 0; from < dirty.size(); from += syncBatch) {
+                reconcile(dirty.subList(from, Math.min(dirty.size(), from + syncBatch)));
+            }
+        }
+        dropFullBuckets(idleNanos);
+    }
+
+    private void reconcile(List<Map.Entry<String, Bucket>> batch) {
+        List<String> keys = new ArrayList<>(batch.size());
+        List<Object> args = new ArrayList<>(2 + batch.size() * 3);
+        args.add(Long.toString(System.currentTimeMillis()));
+        args.add(null);
+        long ttlMs = 0;
+        double[] taken = new double[batch.size()];
+
+        for (int i = 0; i < batch.size(); i++) {
+            Bucket bucket = batch.get(i).getValue();
+            taken[i] = bucket.drainUnsynced();
+            keys.add(keyPrefix + batch.get(i).getKey());
+            args.add(Integer.toString(bucket.route.capacity()));
+            args.add(Double.toString(bucket.route.tokensPerMs()));
+            args.add(Double.toString(taken[i]));
+            // Long enough for an untouched bucket to refill completely
+            ttlMs = Math.max(ttlMs, (long) Math.ceil(2 * bucket.route.capacity() / bucket.route.tokensPerMs()));
+        }
+        args.set(1, Long.toString(Math.max(1000, ttlMs)));
+
+        try {
+            List<?> remaining = redisTemplate.execute(RECONCILE, keys, args.toArray());
+            long now = System.nanoTime();
+            for (int i = 0; i < batch.size() && remaining != null && i < remaining.size(); i++) {
+                batch.get(i).getValue().adopt(Double.parseDouble(String.valueOf(remaining.get(i))), now);
+            }
+        } catch (RuntimeException e) {
+            // Local limits keep applying; the taken tokens are not shared this round
+            logger.warn("Failed to reconcile {} rate limit buckets with Redis: {}", batch.size(), e.getMessage());
+        }
+    }
+
+    private Bucket bucket(String key, RouteClass route) {
+        BucketStripe stripe = stripes.get(Math.floorMod(key.hashCode(), stripes.size()));
+        synchronized (stripe) {
+            // A hit moves the bucket to the tail; an insert past the limit evicts the head
+            return stripe.computeIfAbsent(key, k -> new Bucket(route, System.nanoTime()));
+        }
+    }
+
+    private int bucketCount() {
+        int count = 0;
+        for (BucketStripe stripe : stripes) {
+            synchronized (stripe) {
+                count += stripe.size();
+            }
+        }
+        return count;
+    }
+
+    private void dropFullBuckets(long minIdleNanos) {
+        long now = System.nanoTime();
+        for (BucketStripe stripe : stripes) {
+            synchronized (stripe) {
+                stripe.values().removeIf(bucket -> bucket.isFullAndIdle(now, minIdleNanos));
+            }
+        }
+    }
+
+    private RouteClass match(String method, String path) {
+        for (RouteClass route : routes) {
+            if (!route.methods().isEmpty() && !route.methods().contains(method)) {
+                continue;
+            }
+            for (String pattern : route.patterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private void throttled(String route, String client) {
+        throttledCounters.computeIfAbsent(route + '|' + client,
+                key -> Counter.builder(METRIC_NAME)
+                        .tag("route", route)
+                        .tag("client", client)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    record RouteClass(String name, List<String> patterns, Set<String> methods,
+                      int capacity, double tokensPerMs) {
+    }
+
+    /**
+     * Access-ordered bucket map that evicts its least recently used bucket
+     * past maxSize. Guarded by its own monitor.
+     */
+    private static final class BucketStripe extends LinkedHashMap<String, Bucket> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private BucketStripe(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    /**
+     * Token bucket for one client on one route class. Tokens can go negative
+     * after adopting the shared remainder, which makes the client wait for the
+     * overshoot other nodes admitted.
+     */
+    static final class Bucket {
+        private final RouteClass route;
+        private double tokens;
+        private double unsynced;
+        private long refilledAt;
+        private long lastUsedAt;
+
+        Bucket(RouteClass route, long now) {
+            this.route = route;
+            this.tokens = route.capacity();
+            this.refilledAt = now;
+            this.lastUsedAt = now;
+        }
+
+        synchronized long tryTake(long now) {
+            refill(now);
+            lastUsedAt = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                unsynced += 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - tokens) / route.tokensPerMs()));
+        }
+
+        synchronized boolean hasUnsynced() {
+            return unsynced > 0;
+        }
+
+        synchronized double drainUnsynced() {
+            double taken = unsynced;
+            unsynced = 0;
+            return taken;
+        }
+
+        // Tokens taken while the round trip was in flight are not in the remainder yet
+        synchronized void adopt(double remaining, long now) {
+            tokens = Math.min(route.capacity(), remaining - unsynced);
+            refilledAt = now;
+        }
+
+        synchronized boolean isFullAndIdle(long now, long minIdleNanos) {
+            refill(now);
+            return unsynced == 0 && tokens >= route.capacity() && now - lastUsedAt >= minIdleNanos;
+        }
+
+        private void refill(long now) {
+            double elapsedMs = (now - refilledAt) / 1_000_000d;
+            if (elapsedMs > 0) {
+                tokens = Math.min(route.capacity(), tokens + elapsedMs * route.tokensPerMs());
+                refilledAt = now;
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.yakrooms.be.security.JwtUtil;
 import com.yakrooms.be.service.RefreshTokenService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +26,12 @@ import java.util.Optional;
  * - Rate limiting based on active token count
  * - Device and IP tracking for security monitoring
  * - Secure token hashing before storage
+ * 
+ * Default store (app.refresh-tokens.store=database); see RefreshTokenServiceRedisImpl
  */
 @Service
 @Transactional
+@ConditionalOnProperty(name = "app.refresh-tokens.store", havingValue = "database", matchIfMissing = true)
 public class RefreshTokenServiceImpl implements RefreshTokenService {
     
     @Autowired
@@ -0,0 +1,303 @@
+package com.yakrooms.be.service.impl;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yakrooms.be.dto.response.RefreshTokenResponse;
+import com.yakrooms.be.model.entity.RefreshToken;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.repository.RefreshTokenRepository;
+import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.security.JwtUtil;
+import com.yakrooms.be.service.RefreshTokenService;
+
+/**
+ * Redis implementation of RefreshTokenService, enabled with
+ * app.refresh-tokens.store=redis.
+ *
+ * Each token hash is a Redis hash (refresh:token:{hash}) that expires with the
+ * token, and each user has a sorted set (refresh:user:{userId}) of their token
+ * hashes scored by expiry. Issuing a token drops expired members and evicts the
+ * oldest tokens beyond max-per-user; rotation checks the old token, deletes it
+ * and issues the new one in a single Lua script, so a refresh token can be
+ * redeemed exactly once even under concurrent refreshes. Every refresh gets a
+ * full TTL, giving a sliding session that ends after one TTL of inactivity.
+ *
+ * Expired tokens vanish through Redis TTLs; there is nothing to clean up.
+ * The refresh_tokens table is only written when app.refresh-tokens.audit is
+ * on, as a log of issued and revoked tokens. The user is still read from the
+ * database on refresh so new tokens carry current roles and hotel.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+@ConditionalOnProperty(name = "app.refresh-tokens.store", havingValue = "redis")
+public class RefreshTokenServiceRedisImpl implements RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenServiceRedisImpl.class);
+
+    private static final String TOKEN_PREFIX = "refresh:token:";
+    private static final String USER_PREFIX = "refresh:user:";
+
+    // Shared tail of ISSUE and ROTATE: trim the user's set, evict the oldest, store the new token.
+    // KEYS[1] = new token key, KEYS[2] = user set; ARGV[1..8] = userId, newHash, createdAt,
+    // deviceInfo, ipAddress, ttlMs, nowMs, maxPerUser; ARGV[9] = token key prefix.
+    // Evicted hashes are appended to the reply table.
+    private static final String STORE_TOKEN = """
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[7])
+            local excess = redis.call('ZCARD', KEYS[2]) - tonumber(ARGV[8]) + 1
+            if excess > 0 then
+              local oldest = redis.call('ZPOPMIN', KEYS[2], excess)
+              for i = 1, #oldest, 2 do
+                redis.call('DEL', ARGV[9] .. oldest[i])
+                table.insert(reply, oldest[i])
+              end
+            end
+            redis.call('HSET', KEYS[1], 'userId', ARGV[1], 'createdAt', ARGV[3], 'deviceInfo', ARGV[4], 'ipAddress', ARGV[5])
+            redis.call('PEXPIRE', KEYS[1], ARGV[6])
+            redis.call('ZADD', KEYS[2], tonumber(ARGV[7]) + tonumber(ARGV[6]), ARGV[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[6])
+            return reply
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ISSUE = new DefaultRedisScript<>(
+            "local reply = {1}\n" + STORE_TOKEN, List.class);
+
+    // KEYS[3] = old token key, ARGV[10] = old hash. Replies {0} when the old token is
+    // unknown, expired or already rotated, {-1} when it belongs to another user.
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE = new DefaultRedisScript<>("""
+            local owner = redis.call('HGET', KEYS[3], 'userId')
+            if not owner then return {0} end
+            if owner ~= ARGV[1] then return {-1} end
+            redis.call('DEL', KEYS[3])
+            redis.call('ZREM', KEYS[2], ARGV[10])
+            local reply = {1}
+            """ + STORE_TOKEN, List.class);
+
+    // KEYS[1] = token key; ARGV[1] = hash, ARGV[2] = user set prefix
+    private static final RedisScript<Long> REVOKE = new DefaultRedisScript<>("""
+            local owner = redis.call('HGET', KEYS[1], 'userId')
+            if not owner then return 0 end
+            redis.call('DEL', KEYS[1])
+            redis.call('ZREM', ARGV[2] .. owner, ARGV[1])
+            return 1
+            """, Long.class);
+
+    // KEYS[1] = user set; ARGV[1] = token key prefix
+    private static final RedisScript<Long> REVOKE_ALL = new DefaultRedisScript<>("""
+            local hashes = redis.call('ZRANGE', KEYS[1], 0, -1)
+            for _, hash in ipairs(hashes) do
+              redis.call('DEL', ARGV[1] .. hash)
+            end
+            redis.call('DEL', KEYS[1])
+            return #hashes
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserRepository userRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final long ttlMs;
+    private final int maxTokensPerUser;
+    private final boolean audit;
+    private final TransactionTemplate auditTransaction;
+
+    public RefreshTokenServiceRedisImpl(StringRedisTemplate redisTemplate,
+                                        UserRepository userRepository,
+                                        RefreshTokenRepository refreshTokenRepository,
+                                        JwtUtil jwtUtil,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${jwt.refresh-token-expiration:604800000}") long ttlMs,
+                                        @Value("${jwt.refresh-token.max-per-user:5}") int maxTokensPerUser,
+                                        @Value("${app.refresh-tokens.audit:false}") boolean audit) {
+        this.redisTemplate = redisTemplate;
+        this.userRepository = userRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.ttlMs = ttlMs;
+        this.maxTokensPerUser = Math.max(1, maxTokensPerUser);
+        this.audit = audit;
+        this.auditTransaction = new TransactionTemplate(transactionManager);
+        logger.info("Refresh tokens stored in Redis (max {} per user, audit log {})",
+                this.maxTokensPerUser, audit ? "on" : "off");
+    }
+
+    @Override
+    public RefreshTokenResponse createRefreshToken(User user, String deviceInfo, String ipAddress) {
+        IssuedToken issued = issue(user, deviceInfo, ipAddress);
+        List<Object> reply = executeForList(ISSUE, issued.keys(user.getId()), issued.args(user.getId()));
+        auditIssued(issued, user.getId(), evicted(reply));
+        return issued.toResponse(user.getId());
+    }
+
+    @Override
+    public RefreshTokenResponse validateAndRotateToken(String token, String deviceInfo, String ipAddress) {
+        // Validate JWT token
+        if (!jwtUtil.validateRefreshToken(token)) {
+            throw new SecurityException("Invalid refresh token");
+        }
+
+        Long userId = jwtUtil.extractUserId(token);
+        String oldHash = jwtUtil.generateTokenHash(token);
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new SecurityException("User not found"));
+
+        // The replacement is signed up front; the script only stores it if the old token is still live
+        IssuedToken issued = issue(user, deviceInfo, ipAddress);
+        List<String> keys = new ArrayList<>(issued.keys(userId));
+        keys.add(TOKEN_PREFIX + oldHash);
+        List<Object> args = new ArrayList<>(List.of(issued.args(userId)));
+        args.add(oldHash);
+
+        List<Object> reply = executeForList(ROTATE, keys, args.toArray());
+        long status = reply == null || reply.isEmpty() ? 0 : ((Number) reply.get(0)).longValue();
+        if (status == 0) {
+            throw new SecurityException("Refresh token not found or revoked");
+        }
+        if (status < 0) {
+            logger.warn("Refresh token presented for user {} belongs to another user", userId);
+            throw new SecurityException("Refresh token not found or revoked");
+        }
+
+        List<String> revoked = evicted(reply);
+        revoked.add(oldHash);
+        auditIssued(issued, userId, revoked);
+        return issued.toResponse(userId);
+    }
+
+    @Override
+    public int revokeAllUserTokens(Long userId) {
+        Long revoked = redisTemplate.execute(REVOKE_ALL, List.of(USER_PREFIX + userId), TOKEN_PREFIX);
+        if (audit) {
+            auditTransaction.executeWithoutResult(status ->
+                    refreshTokenRepository.revokeAllTokensByUserId(userId, LocalDateTime.now()));
+        }
+        return revoked == null ? 0 : revoked.intValue();
+    }
+
+    @Override
+    public boolean revokeToken(String tokenHash) {
+        Long revoked = redisTemplate.execute(REVOKE, List.of(TOKEN_PREFIX + tokenHash), tokenHash, USER_PREFIX);
+        if (audit) {
+            auditTransaction.executeWithoutResult(status ->
+                    refreshTokenRepository.revokeTokenByHash(tokenHash, LocalDateTime.now()));
+        }
+        return revoked != null && revoked > 0;
+    }
+
+    @Override
+    public int cleanupExpiredTokens() {
+        // Token keys expire on their own and user sets are trimmed on every issue
+        return 0;
+    }
+
+    @Override
+    public long getActiveTokenCount(Long userId) {
+        Long count = redisTemplate.opsForZSet().count(USER_PREFIX + userId, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+        return count == null ? 0 : count;
+    }
+
+    private IssuedToken issue(User user, String deviceInfo, String ipAddress) {
+        String token = jwtUtil.generateRefreshToken(user);
+        return new IssuedToken(token, jwtUtil.generateTokenHash(token), System.currentTimeMillis(),
+                deviceInfo, ipAddress);
+    }
+
+    // Redis is the source of truth; the audit rows only follow it, after the fact
+    private void auditIssued(IssuedToken issued, Long userId, List<String> revokedHashes) {
+        if (!audit) {
+            return;
+        }
+        auditTransaction.executeWithoutResult(status -> {
+            RefreshToken entry = new RefreshToken();
+            entry.setTokenHash(issued.hash);
+            entry.setUserId(userId);
+            entry.setExpiresAt(issued.expiresAt());
+            entry.setDeviceInfo(issued.deviceInfo);
+            entry.setIpAddress(issued.ipAddress);
+            entry.setIsRevoked(false);
+            refreshTokenRepository.save(entry);
+            LocalDateTime now = LocalDateTime.now();
+            revokedHashes.forEach(hash -> refreshTokenRepository.revokeTokenByHash(hash, now));
+        });
+    }
+
+    // Lua tables come back as a raw List of Longs and Strings
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private List<Object> executeForList(RedisScript<List> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
+
+    private static List<String> evicted(List<Object> reply) {
+        List<String> hashes = new ArrayList<>();
+        if (reply != null) {
+            for (int i = 1; i < reply.size(); i++) {
+                hashes.add(String.valueOf(reply.get(i)));
+            }
+        }
+        return hashes;
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMs) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMs), ZoneId.systemDefault());
+    }
+
+    /**
+     * A signed refresh token and the metadata stored with its hash.
+     */
+    private final class IssuedToken {
+        private final String token;
+        private final String hash;
+        private final long createdAtMs;
+        private final String deviceInfo;
+        private final String ipAddress;
+
+        private IssuedToken(String token, String hash, long createdAtMs, String deviceInfo, String ipAddress) {
+            this.token = token;
+            this.hash = hash;
+            this.createdAtMs = createdAtMs;
+            this.deviceInfo = deviceInfo;
+            this.ipAddress = ipAddress;
+        }
+
+        private List<String> keys(Long userId) {
+            return List.of(TOKEN_PREFIX + hash, USER_PREFIX + userId);
+        }
+
+        private Object[] args(Long userId) {
+            return new Object[] {
+                    String.valueOf(userId), hash, String.valueOf(createdAtMs),
+                    deviceInfo == null ? "" : deviceInfo, ipAddress == null ? "" : ipAddress,
+                    String.valueOf(ttlMs), String.valueOf(createdAtMs), String.valueOf(maxTokensPerUser),
+                    TOKEN_PREFIX
+            };
+        }
+
+        private LocalDateTime expiresAt() {
+            return toLocalDateTime(createdAtMs + ttlMs);
+        }
+
+        private RefreshTokenResponse toResponse(Long userId) {
+            return new RefreshTokenResponse(token, userId, expiresAt(), deviceInfo, ipAddress,
+                    toLocalDateTime(createdAtMs));
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.yakrooms.be.service.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.yakrooms.be.config.JsonCodecs;
+import com.yakrooms.be.service.ResponseCacheService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Implementation of ResponseCacheService.
+ *
+ * Entries are kept in memory per canonical request, together with the
+ * version they were built at. A request whose current version matches gets
+ * the stored bytes as they are; any other version rebuilds the entry. Since
+ * versions come from the shared catalog counters, every node notices a
+ * change on its next request without any invalidation message; local
+ * catalog changes also clear the cache right away to free memory.
+ *
+ * Bodies are serialized with the MVC JSON converter's ObjectMapper, through a
+ * writer resolved once per body type, so cached responses are byte-for-byte
+ * what the controller would have written. Bodies
+ * of at least gzip-min-bytes are also gzipped once at the highest level, so
+ * hits skip per-response compression too. Bodies over max-entry-bytes are
+ * served but not cached. Entries sit in an access-ordered map, so past
+ * max-entries the least recently used one is dropped.
+ *
+ * Metrics: http.response_cache counter tagged result=hit|miss and
+ * http.response_cache.entries gauge.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class ResponseCacheServiceImpl implements ResponseCacheService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ResponseCacheServiceImpl.class);
+
+    private final JsonCodecs jsonCodecs;
+    private final boolean enabled;
+    private final int maxEntryBytes;
+    private final int gzipMinBytes;
+
+    // Guarded by its own monitor: an access-ordered map is modified by get
+    private final Entries entries;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public ResponseCacheServiceImpl(MappingJackson2HttpMessageConverter jsonConverter,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.response-cache.enabled:true}") boolean enabled,
+                                    @Value("${app.response-cache.max-entries:1000}") int maxEntries,
+                                    @Value("${app.response-cache.max-entry-bytes:524288}") int maxEntryBytes,
+                                    @Value("${app.response-cache.gzip-min-bytes:1024}") int gzipMinBytes) {
+        this.jsonCodecs = new JsonCodecs(jsonConverter.getObjectMapper());
+        this.enabled = enabled;
+        this.entries = new Entries(Math.max(1, maxEntries));
+        this.maxEntryBytes = maxEntryBytes;
+        this.gzipMinBytes = gzipMinBytes;
+
+        this.hitCounter = Counter.builder("http.response_cache").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("http.response_cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("http.response_cache.entries", entries, ResponseCacheServiceImpl::size).register(meterRegistry);
+    }
+
+    @Override
+    public CachedResponse get(String key, String version, Supplier<?> body) {
+        boolean cacheable = enabled && key != null && version != null;
+        if (cacheable) {
+            Entry entry;
+            synchronized (entries) {
+                entry = entries.get(key);
+            }
+            if (entry != null && entry.version().equals(version)) {
+                hitCounter.increment();
+                return entry.response();
+            }
+        }
+
+        missCounter.increment();
+        CachedResponse response = serialize(body.get());
+        if (cacheable && response.json().length <= maxEntryBytes) {
+            synchronized (entries) {
+                entries.put(key, new Entry(version, response));
+            }
+        }
+        return response;
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private static double size(Entries entries) {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private CachedResponse serialize(Object body) {
+        byte[] json;
+        try {
+            json = jsonCodecs.writerFor(body).writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize response", e);
+        }
+        return new CachedResponse(json, json.length >= gzipMinBytes ? gzip(json) : null);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            out.write(json);
+        } catch (IOException e) {
+            // In-memory streams do not fail; serve the body uncompressed if they ever do
+            logger.warn("Failed to gzip response: {}", e.getMessage());
+            return null;
+        }
+        return buffer.toByteArray();
+    }
+
+    private record Entry(String version, CachedResponse response) {
+    }
+
+    /**
+     * Access-ordered map of cached responses that drops its least recently
+     * used entry past maxSize.
+     */
+    private static final class Entries extends LinkedHashMap<String, Entry> {
+        private static final long serialVersionUID = 1L;
+
+        private final int maxSize;
+
+        private Entries(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    }
+}
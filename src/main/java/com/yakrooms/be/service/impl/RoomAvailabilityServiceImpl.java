@@ -18,6 +18,7 @@ import com.yakrooms.be.model.enums.BookingStatus;
 import com.yakrooms.be.repository.BookingRepository;
 import com.yakrooms.be.repository.RoomRepository;
 import com.yakrooms.be.service.RoomAvailabilityService;
+import com.yakrooms.be.service.RoomStatusBoardService;
 
 /**
  * Implementation of RoomAvailabilityService.
@@ -37,11 +38,14 @@ public class RoomAvailabilityServiceImpl implements RoomAvailabilityService {
     
     private final BookingRepository bookingRepository;
     private final RoomRepository roomRepository;
+    private final RoomStatusBoardService roomStatusBoardService;
     
     @Autowired
-    public RoomAvailabilityServiceImpl(BookingRepository bookingRepository, RoomRepository roomRepository) {
+    public RoomAvailabilityServiceImpl(BookingRepository bookingRepository, RoomRepository roomRepository,
+                                       RoomStatusBoardService roomStatusBoardService) {
         this.bookingRepository = bookingRepository;
         this.roomRepository = roomRepository;
+        this.roomStatusBoardService = roomStatusBoardService;
     }
     
     @Override
@@ -96,6 +100,8 @@ public class RoomAvailabilityServiceImpl implements RoomAvailabilityService {
         
         // Bulk update room availability to true
         int updatedCount = roomRepository.bulkUpdateRoomAvailability(roomIdsToMakeAvailable, true);
+        // Bulk JPQL updates bypass the entity listeners
+        roomStatusBoardService.markRoomsChanged(roomIdsToMakeAvailable);
         
         logger.info("Successfully made {} rooms available due to checkout completion on {}", 
                    updatedCount, today);
@@ -127,6 +133,8 @@ public class RoomAvailabilityServiceImpl implements RoomAvailabilityService {
         
         // Bulk update room availability to false
         int updatedCount = roomRepository.bulkUpdateRoomAvailability(roomIdsToMakeUnavailable, false);
+        // Bulk JPQL updates bypass the entity listeners
+        roomStatusBoardService.markRoomsChanged(roomIdsToMakeUnavailable);
         
         logger.info("Successfully made {} rooms unavailable due to checkin starting on {}", 
                    updatedCount, today);
@@ -13,7 +13,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -21,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 import com.yakrooms.be.dto.RoomResponseDTO;
 import com.yakrooms.be.dto.RoomStatusDTO;
 import com.yakrooms.be.dto.mapper.RoomMapper;
-import com.yakrooms.be.dto.mapper.RoomStatusMapper;
 import com.yakrooms.be.dto.request.RoomRequest;
 import com.yakrooms.be.dto.response.RoomResponse;
 import com.yakrooms.be.dto.RoomBookedDatesDTO;
@@ -29,11 +27,14 @@ import com.yakrooms.be.exception.ResourceNotFoundException;
 import com.yakrooms.be.model.entity.Hotel;
 import com.yakrooms.be.model.entity.Room;
 import com.yakrooms.be.model.entity.Booking;
-import com.yakrooms.be.projection.RoomStatusProjection;
 import com.yakrooms.be.repository.HotelRepository;
 import com.yakrooms.be.repository.RoomRepository;
 import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.FileDeletionQueueService;
 import com.yakrooms.be.service.RoomService;
+import com.yakrooms.be.service.RoomStatusBoardService;
+import com.yakrooms.be.service.WebSocketRelayService;
 
 @Service
 @Transactional
@@ -44,23 +45,29 @@ public class RoomServiceImpl implements RoomService {
     private final RoomRepository roomRepository;
     private final HotelRepository hotelRepository;
     private final RoomMapper roomMapper;
-    private final RoomStatusMapper roomStatusMapper;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomStatusBoardService roomStatusBoardService;
+    private final WebSocketRelayService webSocketRelayService;
     private final BookingRepository bookingRepository;
+    private final FileDeletionQueueService fileDeletionQueueService;
+    private final CatalogVersionService catalogVersionService;
 
     @Autowired
     public RoomServiceImpl(RoomRepository roomRepository,
                           HotelRepository hotelRepository,
                           RoomMapper roomMapper,
-                          RoomStatusMapper roomStatusMapper,
-                          SimpMessagingTemplate messagingTemplate,
-                          BookingRepository bookingRepository) {
+                          RoomStatusBoardService roomStatusBoardService,
+                          WebSocketRelayService webSocketRelayService,
+                          BookingRepository bookingRepository,
+                          FileDeletionQueueService fileDeletionQueueService,
+                          CatalogVersionService catalogVersionService) {
         this.roomRepository = roomRepository;
         this.hotelRepository = hotelRepository;
         this.roomMapper = roomMapper;
-        this.roomStatusMapper = roomStatusMapper;
-        this.messagingTemplate = messagingTemplate;
+        this.roomStatusBoardService = roomStatusBoardService;
+        this.webSocketRelayService = webSocketRelayService;
         this.bookingRepository = bookingRepository;
+        this.fileDeletionQueueService = fileDeletionQueueService;
+        this.catalogVersionService = catalogVersionService;
     }
 
     @Override
@@ -113,9 +120,17 @@ public class RoomServiceImpl implements RoomService {
         Room room = roomRepository.findByIdWithItems(roomId)
                 .orElseThrow(() -> new ResourceNotFoundException("Room not found with id: " + roomId));
 
+        List<String> previousImages = new ArrayList<>(room.getImageUrl());
         roomMapper.updateRoomFromRequest(request, room);
         Room updatedRoom = roomRepository.save(room);
 
+        // Replaced images are deleted from UploadThing once this update commits
+        previousImages.removeAll(updatedRoom.getImageUrl());
+        fileDeletionQueueService.enqueue(previousImages);
+
+        // Catalog listener skips room updates (mostly availability flips), so mark real edits here
+        catalogVersionService.markHotelChanged(updatedRoom.getHotel().getId());
+
         logger.info("Updated room with ID: {}", roomId);
         
         // Broadcast updates via WebSocket in a separate transaction
@@ -133,10 +148,15 @@ public class RoomServiceImpl implements RoomService {
     public void deleteRoom(Long roomId) {
         validateInput(roomId, "Room ID cannot be null");
 
+        List<String> images = roomRepository.findImageUrlsByRoomIds(List.of(roomId)).stream()
+                .map(row -> (String) row[1])
+                .collect(Collectors.toList());
+
         try {
             // Use deleteById which handles non-existent entities gracefully
             roomRepository.deleteById(roomId);
             logger.info("Deleted room with ID: {}", roomId);
+            fileDeletionQueueService.enqueue(images);
         } catch (ObjectOptimisticLockingFailureException e) {
             // Room was already deleted by another process
             logger.warn("Room with ID {} was already deleted by another process", roomId);
@@ -198,8 +218,7 @@ public class RoomServiceImpl implements RoomService {
         if (roomNumber == null || roomNumber.trim().isEmpty()) {
             throw new IllegalArgumentException("Room number cannot be null or empty");
         }
-        Page<RoomStatusProjection> projectionPage = roomRepository.getRoomStatusByHotelIdAndRoomNumber(hotelId, roomNumber.trim(), pageable);
-        return roomStatusMapper.toDtoPage(projectionPage);
+        return roomStatusBoardService.searchByRoomNumber(hotelId, roomNumber, pageable);
     }
 
     // Alternative methods returning RoomResponse instead of RoomResponseDTO
@@ -353,7 +372,7 @@ public class RoomServiceImpl implements RoomService {
                         .map(roomMapper::toDto)
                         .collect(Collectors.toList());
 
-                messagingTemplate.convertAndSend("/topic/rooms/" + hotelId, activeRoomDTOs);
+                webSocketRelayService.send("/topic/rooms/" + hotelId, activeRoomDTOs);
                 logger.debug("Broadcasted room updates for hotel: {}", hotelId);
             } catch (Exception e) {
                 logger.error("Failed to broadcast room updates for hotel: {}", hotelId, e);
@@ -407,8 +426,7 @@ public class RoomServiceImpl implements RoomService {
 	@Transactional(readOnly = true)
 	public Page<RoomStatusDTO> getRoomStatusByHotelId(Long hotelId, Pageable pageable) {
 		validateInput(hotelId, "Hotel ID cannot be null");
-		Page<RoomStatusProjection> projectionPage = roomRepository.getRoomStatusByHotelId(hotelId, pageable);
-		return roomStatusMapper.toDtoPage(projectionPage);
+		return roomStatusBoardService.getRoomStatus(hotelId, pageable);
 	}
     
 }
\ No newline at end of file
@@ -0,0 +1,435 @@
+package com.yakrooms.be.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.dto.RoomStatusChangeEvent;
+import com.yakrooms.be.dto.RoomStatusDTO;
+import com.yakrooms.be.dto.mapper.RoomStatusMapper;
+import com.yakrooms.be.projection.RoomStatusBoardProjection;
+import com.yakrooms.be.repository.RoomRepository;
+import com.yakrooms.be.service.BookingWebSocketService;
+import com.yakrooms.be.service.RoomStatusBoardService;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Implementation of RoomStatusBoardService.
+ *
+ * A hotel's board is loaded on first read with one hotel-scoped query and then
+ * kept current room by room: booking and room entity listeners mark rooms as
+ * changed after commit, and a short-interval flush recomputes just those rooms,
+ * swaps them into the board and pushes a delta to
+ * /topic/hotels/{hotelId}/room-status. Boards are immutable snapshots replaced
+ * on write, so reads never lock.
+ *
+ * Boards are reloaded when the day changes (the current/next booking is chosen
+ * relative to today) and after a maximum age, which also picks up bulk updates
+ * that bypass the listeners.
+ *
+ * Boards are node-local. In local sync mode another node's writes only show up
+ * here after the maximum age, so local mode is for single-node deployments. In
+ * redis sync mode each flush publishes the rooms it applied (room and hotel
+ * ids, no board data) on a channel, and every other node recomputes those
+ * rooms on its next flush if it holds that hotel's board. Deltas are not pushed
+ * again for remote changes; the relay already delivered them to every node's
+ * subscribers. Hotel evictions are published the same way.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class RoomStatusBoardServiceImpl implements RoomStatusBoardService, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(RoomStatusBoardServiceImpl.class);
+
+    public static final String SYNC_REDIS = "redis";
+
+    private static final char CHANGED = 'c';
+    private static final char REMOVED = 'r';
+    private static final char EVICTED = 'e';
+
+    private static final int ROOM_QUERY_CHUNK = 500;
+
+    private static final Comparator<RoomStatusDTO> BY_ROOM_NUMBER = Comparator
+            .comparing(RoomStatusDTO::getRoomNumber, Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER))
+            .thenComparing(RoomStatusDTO::getRoomId, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final RoomRepository roomRepository;
+    private final RoomStatusMapper roomStatusMapper;
+    private final BookingWebSocketService bookingWebSocketService;
+    private final long maxAgeMs;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisSync;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Map<Long, Board> boards = new ConcurrentHashMap<>();
+    private final Set<Long> changedRooms = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> removedRooms = new ConcurrentHashMap<>();
+    // Applied by other nodes: recomputed here but not pushed again
+    private final Set<Long> remoteChangedRooms = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> remoteRemovedRooms = new ConcurrentHashMap<>();
+
+    // Bumped under the service monitor whenever changes are applied; a board
+    // loaded across a bump may predate them and is not cached
+    private long appliedChanges;
+
+    public RoomStatusBoardServiceImpl(RoomRepository roomRepository,
+                                      RoomStatusMapper roomStatusMapper,
+                                      BookingWebSocketService bookingWebSocketService,
+                                      ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                      ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+                                      @Value("${app.room-status.max-age-ms:900000}") long maxAgeMs,
+                                      @Value("${app.room-status.sync:local}") String sync,
+                                      @Value("${app.room-status.channel:yakrooms:room-status}") String channel) {
+        this.roomRepository = roomRepository;
+        this.roomStatusMapper = roomStatusMapper;
+        this.bookingWebSocketService = bookingWebSocketService;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.maxAgeMs = maxAgeMs;
+        this.redisSync = SYNC_REDIS.equalsIgnoreCase(sync);
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!redisSync) {
+            logger.info("Room status boards in local mode, other nodes' changes show up after {} ms", maxAgeMs);
+            return;
+        }
+        RedisMessageListenerContainer container = listenerContainerProvider.getIfAvailable();
+        if (container == null) {
+            throw new IllegalStateException("Room status sync is redis but no RedisMessageListenerContainer is configured");
+        }
+        container.addMessageListener(this, new ChannelTopic(channel));
+        logger.info("Room status boards in redis mode, listening on {}", channel);
+    }
+
+    @Override
+    public Page<RoomStatusDTO> getRoomStatus(Long hotelId, Pageable pageable) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        return page(board(hotelId).sorted, pageable);
+    }
+
+    @Override
+    public Page<RoomStatusDTO> searchByRoomNumber(Long hotelId, String roomNumber, Pageable pageable) {
+        if (hotelId == null) {
+            throw new IllegalArgumentException("Hotel ID cannot be null");
+        }
+        if (roomNumber == null || roomNumber.trim().isEmpty()) {
+            throw new IllegalArgumentException("Room number cannot be null or empty");
+        }
+
+        String fragment = roomNumber.trim().toUpperCase(Locale.ROOT);
+        List<RoomStatusDTO> matches = new ArrayList<>();
+        for (RoomStatusDTO entry : board(hotelId).sorted) {
+            if (entry.getRoomNumber() != null && entry.getRoomNumber().toUpperCase(Locale.ROOT).contains(fragment)) {
+                matches.add(entry);
+            }
+        }
+        return page(matches, pageable);
+    }
+
+    @Override
+    public void markRoomChanged(Long roomId) {
+        if (roomId == null) {
+            return;
+        }
+        afterCommit(() -> changedRooms.add(roomId));
+    }
+
+    @Override
+    public void markRoomsChanged(Collection<Long> roomIds) {
+        if (roomIds == null || roomIds.isEmpty()) {
+            return;
+        }
+        List<Long> copy = new ArrayList<>(roomIds);
+        afterCommit(() -> changedRooms.addAll(copy));
+    }
+
+    @Override
+    public void markRoomRemoved(Long hotelId, Long roomId) {
+        if (hotelId == null || roomId == null) {
+            return;
+        }
+        afterCommit(() -> removedRooms.put(roomId, hotelId));
+    }
+
+    @Override
+    public void evictHotel(Long hotelId) {
+        if (hotelId != null) {
+            afterCommit(() -> {
+                boards.remove(hotelId);
+                publish(List.of(String.valueOf(EVICTED) + ':' + hotelId));
+            });
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+        if (lines.length == 0 || nodeId.equals(lines[0])) {
+            // Applied and pushed by this node already
+            return;
+        }
+        for (int i = 1; i < lines.length; i++) {
+            String[] parts = lines[i].split(":");
+            try {
+                if (parts[0].length() != 1) {
+                    throw new IllegalArgumentException(lines[i]);
+                }
+                switch (parts[0].charAt(0)) {
+                    case CHANGED -> {
+                        // Only hotels with a board here need the room recomputed
+                        if (boards.containsKey(Long.valueOf(parts[2]))) {
+                            remoteChangedRooms.add(Long.valueOf(parts[1]));
+                        }
+                    }
+                    case REMOVED -> remoteRemovedRooms.put(Long.valueOf(parts[1]), Long.valueOf(parts[2]));
+                    case EVICTED -> boards.remove(Long.valueOf(parts[1]));
+                    default -> throw new IllegalArgumentException(lines[i]);
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Skipping malformed room status sync entry: {}", lines[i]);
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.room-status.flush-interval-ms:1000}")
+    public int flushChanges() {
+        if (changedRooms.isEmpty() && removedRooms.isEmpty()
+                && remoteChangedRooms.isEmpty() && remoteRemovedRooms.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> removed = drain(removedRooms);
+        Map<Long, Long> remoteRemoved = drain(remoteRemovedRooms);
+        Set<Long> changed = drain(changedRooms);
+        Set<Long> remoteChanged = drain(remoteChangedRooms);
+        changed.removeAll(removed.keySet());
+        remoteChanged.removeAll(changed);
+        remoteChanged.removeAll(removed.keySet());
+        remoteChanged.removeAll(remoteRemoved.keySet());
+
+        List<RoomStatusBoardProjection> rows = new ArrayList<>(changed.size() + remoteChanged.size());
+        try {
+            List<Long> ids = new ArrayList<>(changed);
+            ids.addAll(remoteChanged);
+            for (int i = 0; i < ids.size(); i += ROOM_QUERY_CHUNK) {
+                rows.addAll(roomRepository.findRoomStatusBoardByRoomIds(ids.subList(i, Math.min(i + ROOM_QUERY_CHUNK, ids.size()))));
+            }
+        } catch (RuntimeException e) {
+            // Nothing was applied yet, so retry everything on the next run
+            changedRooms.addAll(changed);
+            removed.forEach(removedRooms::putIfAbsent);
+            remoteChangedRooms.addAll(remoteChanged);
+            remoteRemoved.forEach(remoteRemovedRooms::putIfAbsent);
+            throw e;
+        }
+
+        List<RoomStatusChangeEvent> events = new ArrayList<>(rows.size() + removed.size());
+        List<String> applied = new ArrayList<>(changed.size() + removed.size());
+        synchronized (this) {
+            appliedChanges++;
+            for (RoomStatusBoardProjection row : rows) {
+                boolean local = changed.contains(row.getRoomId());
+                if (local) {
+                    applied.add(String.valueOf(CHANGED) + ':' + row.getRoomId() + ':' + row.getHotelId());
+                }
+                RoomStatusDTO entry = roomStatusMapper.toDto(row);
+                Board board = boards.get(row.getHotelId());
+                if (board != null) {
+                    if (entry.equals(board.rooms.get(row.getRoomId()))) {
+                        continue;
+                    }
+                    boards.put(row.getHotelId(), board.with(entry));
+                }
+                if (local) {
+                    events.add(new RoomStatusChangeEvent(row.getHotelId(), row.getRoomId(),
+                            RoomStatusChangeEvent.ROOM_STATUS_UPDATED, entry));
+                }
+            }
+            for (Map.Entry<Long, Long> entry : remoteRemoved.entrySet()) {
+                Board board = boards.get(entry.getValue());
+                if (board != null) {
+                    boards.put(entry.getValue(), board.without(entry.getKey()));
+                }
+            }
+            for (Map.Entry<Long, Long> entry : removed.entrySet()) {
+                applied.add(String.valueOf(REMOVED) + ':' + entry.getKey() + ':' + entry.getValue());
+                Board board = boards.get(entry.getValue());
+                if (board != null) {
+                    boards.put(entry.getValue(), board.without(entry.getKey()));
+                }
+                events.add(new RoomStatusChangeEvent(entry.getValue(), entry.getKey(),
+                        RoomStatusChangeEvent.ROOM_REMOVED, null));
+            }
+        }
+
+        for (RoomStatusChangeEvent event : events) {
+            bookingWebSocketService.broadcastRoomStatusChange(event);
+        }
+        publish(applied);
+
+        int processed = changed.size() + removed.size() + remoteChanged.size() + remoteRemoved.size();
+        logger.debug("Applied {} room status changes, pushed {} deltas", processed, events.size());
+        return processed;
+    }
+
+    private void publish(List<String> entries) {
+        if (!redisSync || entries.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(nodeId);
+        for (String entry : entries) {
+            message.append('\n').append(entry);
+        }
+        try {
+            redisTemplateProvider.getObject().convertAndSend(channel, message.toString());
+        } catch (Exception e) {
+            // Other nodes catch up when their boards reach the maximum age
+            logger.warn("Failed to publish {} room status changes to Redis: {}", entries.size(), e.getMessage());
+        }
+    }
+
+    private static Set<Long> drain(Set<Long> source) {
+        Set<Long> drained = new HashSet<>();
+        Iterator<Long> iterator = source.iterator();
+        while (iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private static Map<Long, Long> drain(Map<Long, Long> source) {
+        Map<Long, Long> drained = new HashMap<>();
+        Iterator<Map.Entry<Long, Long>> iterator = source.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Long> entry = iterator.next();
+            drained.put(entry.getKey(), entry.getValue());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    private Board board(Long hotelId) {
+        LocalDate today = LocalDate.now();
+        Board board = boards.get(hotelId);
+        if (board != null && board.day.equals(today)
+                && System.currentTimeMillis() - board.loadedAt < maxAgeMs) {
+            return board;
+        }
+
+        long applied;
+        synchronized (this) {
+            applied = appliedChanges;
+        }
+
+        long start = System.currentTimeMillis();
+        Map<Long, RoomStatusDTO> rooms = new HashMap<>();
+        for (RoomStatusBoardProjection row : roomRepository.findRoomStatusBoardByHotelId(hotelId)) {
+            rooms.put(row.getRoomId(), roomStatusMapper.toDto(row));
+        }
+        Board loaded = new Board(rooms, today, start);
+
+        synchronized (this) {
+            if (appliedChanges == applied) {
+                boards.put(hotelId, loaded);
+            }
+        }
+        logger.debug("Loaded room status board for hotel {}: {} rooms in {} ms",
+                hotelId, rooms.size(), System.currentTimeMillis() - start);
+        return loaded;
+    }
+
+    private static Page<RoomStatusDTO> page(List<RoomStatusDTO> entries, Pageable pageable) {
+        if (pageable == null || pageable.isUnpaged()) {
+            return new PageImpl<>(entries);
+        }
+        int from = (int) Math.min(pageable.getOffset(), entries.size());
+        int to = Math.min(from + pageable.getPageSize(), entries.size());
+        return new PageImpl<>(new ArrayList<>(entries.subList(from, to)), pageable, entries.size());
+    }
+
+    private static void afterCommit(Runnable action) {
+        // Only recompute once the change is visible to other transactions
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static final class Board {
+        private final Map<Long, RoomStatusDTO> rooms;
+        private final List<RoomStatusDTO> sorted;
+        private final LocalDate day;
+        private final long loadedAt;
+
+        private Board(Map<Long, RoomStatusDTO> rooms, LocalDate day, long loadedAt) {
+            this.rooms = Collections.unmodifiableMap(rooms);
+            List<RoomStatusDTO> sorted = new ArrayList<>(rooms.values());
+            sorted.sort(BY_ROOM_NUMBER);
+            this.sorted = Collections.unmodifiableList(sorted);
+            this.day = day;
+            this.loadedAt = loadedAt;
+        }
+
+        private Board with(RoomStatusDTO entry) {
+            Map<Long, RoomStatusDTO> copy = new HashMap<>(rooms);
+            copy.put(entry.getRoomId(), entry);
+            return new Board(copy, day, loadedAt);
+        }
+
+        private Board without(Long roomId) {
+            if (!rooms.containsKey(roomId)) {
+                return this;
+            }
+            Map<Long, RoomStatusDTO> copy = new HashMap<>(rooms);
+            copy.remove(roomId);
+            return new Board(copy, day, loadedAt);
+        }
+    }
+}
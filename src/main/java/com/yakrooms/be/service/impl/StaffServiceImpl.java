@@ -13,7 +13,9 @@ import com.yakrooms.be.projection.StaffProjection;
 import com.yakrooms.be.repository.HotelRepository;
 import com.yakrooms.be.repository.StaffRepository;
 import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.LoginActivityService;
 import com.yakrooms.be.service.StaffService;
+import com.yakrooms.be.service.TokenRevocationService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,13 +35,19 @@ public class StaffServiceImpl implements StaffService {
     private final StaffRepository staffRepository;
     private final HotelRepository hotelRepository;
     private final UserRepository userRepository;
+    private final TokenRevocationService tokenRevocationService;
+    private final LoginActivityService loginActivityService;
     
     public StaffServiceImpl(StaffRepository staffRepository,
                            HotelRepository hotelRepository,
-                           UserRepository userRepository) {
+                           UserRepository userRepository,
+                           TokenRevocationService tokenRevocationService,
+                           LoginActivityService loginActivityService) {
         this.staffRepository = staffRepository;
         this.hotelRepository = hotelRepository;
         this.userRepository = userRepository;
+        this.tokenRevocationService = tokenRevocationService;
+        this.loginActivityService = loginActivityService;
     }
     
     @Override
@@ -112,6 +120,9 @@ public class StaffServiceImpl implements StaffService {
         
         if (staff.getUser() != null) {
             userRepository.delete(staff.getUser());
+            // The deleted user's access tokens still carry STAFF and the hotel id
+            tokenRevocationService.revokeAllForUsers(List.of(staff.getUser().getId()));
+            loginActivityService.evictUser(staff.getUser().getEmail());
         }
         
         staffRepository.deleteById(id);
@@ -0,0 +1,285 @@
+package com.yakrooms.be.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.service.TokenRevocationService;
+import com.yakrooms.be.util.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Implementation of TokenRevocationService.
+ *
+ * Revocations are held in two exact maps, jti to token expiry and userId to
+ * revocation epoch (tokens issued at or before it are revoked), fronted by a
+ * Bloom filter over both key sets. A check for a token that was never revoked
+ * is a few bit reads with no lock and no allocation; only a filter hit reads
+ * the maps. JWT iat has second precision, so a token minted in the same second
+ * as a user revocation is revoked too.
+ *
+ * Entries are only useful until the tokens they cover expire (at most
+ * jwt.access-token-expiration after the epoch). Every refresh-interval the maps
+ * are pruned and the filter rebuilt and swapped, so it does not fill up.
+ *
+ * In redis sync mode each revocation is added to a sorted set scored by the
+ * time it stops mattering and published on a channel in one script; every
+ * node applies published revocations and reloads the set on startup and on
+ * each refresh, which covers messages missed while a node was disconnected.
+ * If Redis is unavailable the revocation still applies on this node.
+ *
+ * Metrics: token.revocation.entries gauge and token.revocation.rejected counter.
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class TokenRevocationServiceImpl implements TokenRevocationService, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRevocationServiceImpl.class);
+
+    public static final String SYNC_REDIS = "redis";
+
+    private static final String TOKEN_PREFIX = "t";
+    private static final String USER_PREFIX = "u";
+
+    // ZADD the revocation, drop entries that no longer matter, tell the other nodes
+    private static final RedisScript<Long> PUBLISH_REVOCATION = new DefaultRedisScript<>(
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3]) "
+                    + "redis.call('PUBLISH', ARGV[4], ARGV[2]) "
+                    + "return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisSync;
+    private final String key;
+    private final String channel;
+    private final long accessTokenTtlMs;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    private final Map<Long, Long> userEpochs = new ConcurrentHashMap<>();
+    // Writers hold the lock so a rebuild never misses a concurrent revocation
+    private final Object lock = new Object();
+    private volatile BloomFilter filter;
+
+    private final Counter rejectedCounter;
+
+    public TokenRevocationServiceImpl(StringRedisTemplate redisTemplate,
+                                      ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${app.token-revocation.sync:local}") String sync,
+                                      @Value("${app.token-revocation.key:yakrooms:token-revocations}") String key,
+                                      @Value("${app.token-revocation.channel:yakrooms:token-revocations}") String channel,
+                                      @Value("${jwt.access-token-expiration:900000}") long accessTokenTtlMs,
+                                      @Value("${app.token-revocation.expected-entries:10000}") int expectedEntries,
+                                      @Value("${app.token-revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisSync = SYNC_REDIS.equalsIgnoreCase(sync);
+        this.key = key;
+        this.channel = channel;
+        this.accessTokenTtlMs = accessTokenTtlMs;
+        this.expectedEntries = Math.max(1, expectedEntries);
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(this.expectedEntries, falsePositiveRate);
+
+        Gauge.builder("token.revocation.entries", this, service -> service.revokedTokens.size() + service.userEpochs.size())
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("token.revocation.rejected").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!redisSync) {
+            logger.info("Token revocation in local mode, revocations apply to this node only");
+            return;
+        }
+        RedisMessageListenerContainer container = listenerContainerProvider.getIfAvailable();
+        if (container == null) {
+            throw new IllegalStateException("Token revocation sync is redis but no RedisMessageListenerContainer is configured");
+        }
+        // Subscribe before the first load so nothing published in between is missed
+        container.addMessageListener(this, new ChannelTopic(channel));
+        refresh();
+        logger.info("Token revocation in redis mode, listening on {}", channel);
+    }
+
+    @Override
+    public void revokeToken(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null) {
+            return;
+        }
+        long expiresAtMs = expiresAt.getTime();
+        if (expiresAtMs <= System.currentTimeMillis()) {
+            return;
+        }
+        applyToken(jti, expiresAtMs);
+        broadcast(TOKEN_PREFIX + ':' + expiresAtMs + ':' + jti, expiresAtMs);
+    }
+
+    @Override
+    public void revokeAllForUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        long epochMs = System.currentTimeMillis();
+        applyUserEpoch(userId, epochMs);
+        broadcast(USER_PREFIX + ':' + epochMs + ':' + userId, epochMs + accessTokenTtlMs);
+        logger.debug("Revoked access tokens issued to user {} up to {}", userId, epochMs);
+    }
+
+    @Override
+    public void revokeAllForUsers(Collection<Long> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        // Revoking before commit would let a token refreshed in between carry the old state
+        afterCommit(() -> ids.forEach(this::revokeAllForUser));
+    }
+
+    @Override
+    public boolean isRevoked(Long userId, String jti, Date issuedAt) {
+        BloomFilter current = filter;
+        boolean userHit = userId != null && current.mightContain(BloomFilter.hash(userId));
+        boolean tokenHit = jti != null && current.mightContain(BloomFilter.hash(jti));
+        if (!userHit && !tokenHit) {
+            return false;
+        }
+
+        boolean revoked = tokenHit && revokedTokens.containsKey(jti);
+        if (!revoked && userHit) {
+            Long epochMs = userEpochs.get(userId);
+            revoked = epochMs != null && (issuedAt == null || issuedAt.getTime() <= epochMs);
+        }
+        if (revoked) {
+            rejectedCounter.increment();
+        }
+        return revoked;
+    }
+
+    /**
+     * Drop revocations whose tokens have expired, pick up any that were missed
+     * over pub/sub, and swap in a filter holding only the live entries.
+     */
+    @Scheduled(initialDelayString = "${app.token-revocation.refresh-interval-ms:60000}",
+               fixedDelayString = "${app.token-revocation.refresh-interval-ms:60000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        Set<String> members = redisSync ? loadMembers(now) : Set.of();
+
+        synchronized (lock) {
+            revokedTokens.entrySet().removeIf(entry -> entry.getValue() <= now);
+            userEpochs.entrySet().removeIf(entry -> entry.getValue() + accessTokenTtlMs <= now);
+            members.forEach(this::applyMember);
+
+            int entries = revokedTokens.size() + userEpochs.size();
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, entries * 2), falsePositiveRate);
+            revokedTokens.keySet().forEach(jti -> rebuilt.put(BloomFilter.hash(jti)));
+            userEpochs.keySet().forEach(userId -> rebuilt.put(BloomFilter.hash(userId)));
+            filter = rebuilt;
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        applyMember(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private Set<String> loadMembers(long now) {
+        try {
+            Set<String> members = redisTemplate.opsForZSet().rangeByScore(key, now, Double.POSITIVE_INFINITY);
+            return members != null ? members : Set.of();
+        } catch (RuntimeException e) {
+            logger.warn("Failed to load token revocations from Redis, keeping local state: {}", e.getMessage());
+            return Set.of();
+        }
+    }
+
+    private void broadcast(String member, long relevantUntilMs) {
+        if (!redisSync) {
+            return;
+        }
+        try {
+            redisTemplate.execute(PUBLISH_REVOCATION, List.of(key),
+                    Long.toString(relevantUntilMs), member, Long.toString(System.currentTimeMillis()), channel);
+        } catch (RuntimeException e) {
+            logger.error("Failed to share token revocation {} through Redis, other nodes will not see it: {}",
+                    member, e.getMessage());
+        }
+    }
+
+    // Members are t:{expiresAtMs}:{jti} or u:{epochMs}:{userId}
+    private void applyMember(String member) {
+        String[] parts = member.split(":", 3);
+        try {
+            if (parts.length == 3 && TOKEN_PREFIX.equals(parts[0])) {
+                applyToken(parts[2], Long.parseLong(parts[1]));
+                return;
+            }
+            if (parts.length == 3 && USER_PREFIX.equals(parts[0])) {
+                applyUserEpoch(Long.valueOf(parts[2]), Long.parseLong(parts[1]));
+                return;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to the warning
+        }
+        logger.warn("Ignoring malformed token revocation {}", member);
+    }
+
+    private void applyToken(String jti, long expiresAtMs) {
+        synchronized (lock) {
+            revokedTokens.merge(jti, expiresAtMs, Math::max);
+            filter.put(BloomFilter.hash(jti));
+        }
+    }
+
+    private void applyUserEpoch(Long userId, long epochMs) {
+        synchronized (lock) {
+            userEpochs.merge(userId, epochMs, Math::max);
+            filter.put(BloomFilter.hash(userId));
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -5,11 +5,13 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ import com.yakrooms.be.repository.HotelRepository;
 import com.yakrooms.be.repository.RoomRepository;
 import com.yakrooms.be.repository.UserRepository;
 
+import com.yakrooms.be.service.HotelDeletionJobService;
 import com.yakrooms.be.service.MailService;
 import com.yakrooms.be.service.NotificationService;
 
@@ -63,6 +66,9 @@ public class UnifiedBookingServiceImpl implements UnifiedBookingService {
     private final NotificationService notificationService;
     private final BookingWebSocketService bookingWebSocketService;
     private final RoomAvailabilityService roomAvailabilityService;
+    private final HotelDeletionJobService hotelDeletionJobService;
+    private final Executor notificationExecutor;
+    private final Executor mailExecutor;
     
     public UnifiedBookingServiceImpl(
             BookingRepository bookingRepository,
@@ -73,7 +79,10 @@ public class UnifiedBookingServiceImpl implements UnifiedBookingService {
             BookingMapper bookingMapper,
             NotificationService notificationService,
             BookingWebSocketService bookingWebSocketService,
-            RoomAvailabilityService roomAvailabilityService) {
+            RoomAvailabilityService roomAvailabilityService,
+            HotelDeletionJobService hotelDeletionJobService,
+            @Qualifier("notificationExecutor") Executor notificationExecutor,
+            @Qualifier("mailExecutor") Executor mailExecutor) {
         
         this.bookingRepository = bookingRepository;
         this.roomRepository = roomRepository;
@@ -84,6 +93,9 @@ public class UnifiedBookingServiceImpl implements UnifiedBookingService {
         this.notificationService = notificationService;
         this.bookingWebSocketService = bookingWebSocketService;
         this.roomAvailabilityService = roomAvailabilityService;
+        this.hotelDeletionJobService = hotelDeletionJobService;
+        this.notificationExecutor = notificationExecutor;
+        this.mailExecutor = mailExecutor;
     }
     
     @Override
@@ -487,6 +499,11 @@ public class UnifiedBookingServiceImpl implements UnifiedBookingService {
         Hotel hotel = hotelRepository.findById(request.getHotelId())
             .orElseThrow(() -> new ResourceNotFoundException("Hotel not found with id: " + request.getHotelId()));
         
+        // A booking behind the deletion job's BOOKINGS step would block deleting its room
+        if (hotelDeletionJobService.isBeingDeleted(hotel.getId())) {
+            throw new BusinessException("Hotel is being deleted and takes no new bookings");
+        }
+        
         // Create booking entity
         Booking booking = new Booking();
         booking.setUser(user);
@@ -511,57 +528,59 @@ public class UnifiedBookingServiceImpl implements UnifiedBookingService {
 
     
     /**
-     * Handle booking notifications asynchronously.
+     * Handle booking notifications asynchronously. In-app notifications and the
+     * confirmation email run on separate bounded executors, so a slow SMTP
+     * server delays neither the booking request nor the notifications. Work
+     * rejected by a full executor is logged and dropped.
      * 
      * @param booking The booking to send notifications for
      */
     private void handleBookingNotificationsAsync(Booking booking) {
-        CompletableFuture.runAsync(() -> {
-            try {
-                logger.info("Sending notifications for booking: {}", booking.getId());
-
-                // Use the booking object directly - no need to fetch again
-                Booking fullBooking = booking;
-
+        try {
+            notificationExecutor.execute(() -> {
                 // Create notifications for both guest and hotel owner
                 try {
-                    List<Notification> notifications = notificationService.createBookingNotifications(fullBooking);
-                    logger.info("Created {} booking notifications for booking: {}", notifications.size(), fullBooking.getId());
+                    List<Notification> notifications = notificationService.createBookingNotifications(booking);
+                    logger.info("Created {} booking notifications for booking: {}", notifications.size(), booking.getId());
                 } catch (Exception e) {
-                    logger.error("Failed to create booking notifications for booking {}: {}", fullBooking.getId(), e.getMessage());
-                }
-                
-                // Send email confirmation if user has email
-                if (fullBooking.getUser() != null && 
-                    fullBooking.getUser().getEmail() != null && 
-                    !fullBooking.getUser().getEmail().trim().isEmpty()) {
-                    try {
-                        String guestName = fullBooking.getGuestName() != null ? fullBooking.getGuestName() : 
-                                         (fullBooking.getUser().getName() != null ? fullBooking.getUser().getName() : "Guest");
-                        
-                        mailService.sendPasscodeEmailToGuest(
-                            fullBooking.getUser().getEmail(),
-                            guestName,
-                            fullBooking.getPasscode(),
-                            fullBooking.getHotel().getName(),
-                            fullBooking.getRoom().getRoomNumber(),
-                            fullBooking.getCheckInDate(),
-                            fullBooking.getCheckOutDate(),
-                            fullBooking.getId()
-                        );
-                        logger.info("Booking confirmation email sent to: {}", fullBooking.getUser().getEmail());
-                    } catch (Exception e) {
-                        logger.warn("Failed to send booking confirmation email to {}: {}", 
-                                   fullBooking.getUser().getEmail(), e.getMessage());
-                    }
+                    logger.error("Failed to create booking notifications for booking {}: {}", booking.getId(), e.getMessage());
                 }
+            });
+        } catch (TaskRejectedException e) {
+            logger.warn("Notification executor is full, skipping booking notifications for booking: {}", booking.getId());
+        }
 
-                // WebSocket notifications removed as per requirements
-
-            } catch (Exception e) {
-                logger.error("Failed to send notifications for booking: {}", booking.getId(), e);
-            }
-        });
+        // Send email confirmation if user has email
+        if (booking.getUser() == null ||
+            booking.getUser().getEmail() == null ||
+            booking.getUser().getEmail().trim().isEmpty()) {
+            return;
+        }
+        try {
+            mailExecutor.execute(() -> {
+                try {
+                    String guestName = booking.getGuestName() != null ? booking.getGuestName() : 
+                                     (booking.getUser().getName() != null ? booking.getUser().getName() : "Guest");
+                    
+                    mailService.sendPasscodeEmailToGuest(
+                        booking.getUser().getEmail(),
+                        guestName,
+                        booking.getPasscode(),
+                        booking.getHotel().getName(),
+                        booking.getRoom().getRoomNumber(),
+                        booking.getCheckInDate(),
+                        booking.getCheckOutDate(),
+                        booking.getId()
+                    );
+                    logger.info("Booking confirmation email sent to: {}", booking.getUser().getEmail());
+                } catch (Exception e) {
+                    logger.warn("Failed to send booking confirmation email to {}: {}", 
+                               booking.getUser().getEmail(), e.getMessage());
+                }
+            });
+        } catch (TaskRejectedException e) {
+            logger.warn("Mail executor is full, skipping confirmation email for booking: {}", booking.getId());
+        }
     }
     
     @Override
@@ -3,6 +3,8 @@ package com.yakrooms.be.service.impl;
 import com.yakrooms.be.model.entity.User;
 import com.yakrooms.be.model.enums.Role;
 import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.TokenRevocationService;
 import com.yakrooms.be.service.UserRoleService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -18,6 +20,12 @@ public class UserRoleServiceImpl implements UserRoleService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private TokenRevocationService tokenRevocationService;
+
+    @Autowired
+    private LoginActivityService loginActivityService;
+
     @Override
     @Transactional
     public void addRoleToUser(Long userId, Role role) {
@@ -25,6 +33,8 @@ public class UserRoleServiceImpl implements UserRoleService {
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
         user.addRole(role);
         userRepository.save(user);
+        // A role-only change leaves the users row untouched, so no JPA update event evicts it
+        loginActivityService.evictUser(user.getEmail());
     }
 
     @Override
@@ -32,8 +42,14 @@ public class UserRoleServiceImpl implements UserRoleService {
     public void removeRoleFromUser(Long userId, Role role) {
         User user = userRepository.findByIdWithCollections(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        boolean hadRole = user.hasRole(role);
         user.removeRole(role);
         userRepository.save(user);
+        loginActivityService.evictUser(user.getEmail());
+        if (hadRole) {
+            // Access tokens issued until now still carry the removed role
+            tokenRevocationService.revokeAllForUsers(List.of(userId));
+        }
     }
 
     @Override
@@ -57,7 +73,12 @@ public class UserRoleServiceImpl implements UserRoleService {
     public void setUserRoles(Long userId, List<Role> roles) {
         User user = userRepository.findByIdWithCollections(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+        boolean removesRole = !roles.containsAll(user.getRoles());
         user.setRoles(new HashSet<>(roles));
         userRepository.save(user);
+        loginActivityService.evictUser(user.getEmail());
+        if (removesRole) {
+            tokenRevocationService.revokeAllForUsers(List.of(userId));
+        }
     }
 } 
\ No newline at end of file
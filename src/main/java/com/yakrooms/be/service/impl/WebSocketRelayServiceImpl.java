@@ -0,0 +1,307 @@
+package com.yakrooms.be.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.yakrooms.be.config.JsonCodecs;
+import com.yakrooms.be.service.WebSocketRelayService;
+import com.yakrooms.be.util.WebSocketDestinations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Implementation of WebSocketRelayService.
+ *
+ * Payloads are serialized to JSON once with the shared application mapper and
+ * the same bytes are handed to the broker for every destination. Coalesced
+ * destinations still get one object per frame, so existing subscribers see no
+ * change; the serialized events are also buffered for a short window and go
+ * out on the destination's /batched counterpart as one JSON array frame, so a
+ * burst of changes costs one frame per subscriber that opted in.
+ *
+ * In redis mode a message is delivered to this node's subscribers right away
+ * and published on {prefix}{channel}, where the channel is the destination's
+ * first segment after /topic or /queue (hotels, users, bookings, ...). A relay
+ * message is the sending node's id, the destination and the JSON body,
+ * separated by newlines. Every node listens on {prefix}* and delivers other
+ * nodes' messages to its local subscribers; its own come back from Redis too
+ * and are skipped, as they were already delivered.
+ *
+ * Counters: websocket.relay.messages tagged with channel and outcome
+ * (published, delivered, publish_failed, delivery_failed).
+ *
+ * @author YakRooms Team
+ * @version 1.0
+ */
+@Service
+public class WebSocketRelayServiceImpl implements WebSocketRelayService, MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(WebSocketRelayServiceImpl.class);
+
+    public static final String MODE_REDIS = "redis";
+
+    private static final String METRIC_NAME = "websocket.relay.messages";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final JsonCodecs jsonCodecs;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider;
+    private final boolean redisMode;
+    private final String channelPrefix;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final long coalesceWindowMs;
+    private final int coalesceMaxBatch;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, Batch> pendingBatches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService coalesceScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ws-coalesce");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public WebSocketRelayServiceImpl(SimpMessagingTemplate messagingTemplate,
+                                     JsonCodecs jsonCodecs,
+                                     MeterRegistry meterRegistry,
+                                     ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+                                     ObjectProvider<RedisMessageListenerContainer> listenerContainerProvider,
+                                     @Value("${app.websocket.relay.mode:local}") String mode,
+                                     @Value("${app.websocket.relay.channel-prefix:yakrooms:ws:}") String channelPrefix,
+                                     @Value("${app.websocket.coalesce-window-ms:50}") long coalesceWindowMs,
+                                     @Value("${app.websocket.coalesce-max-batch:100}") int coalesceMaxBatch) {
+        this.messagingTemplate = messagingTemplate;
+        this.jsonCodecs = jsonCodecs;
+        this.meterRegistry = meterRegistry;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.listenerContainerProvider = listenerContainerProvider;
+        this.redisMode = MODE_REDIS.equalsIgnoreCase(mode);
+        this.channelPrefix = channelPrefix;
+        this.coalesceWindowMs = coalesceWindowMs;
+        this.coalesceMaxBatch = Math.max(1, coalesceMaxBatch);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        if (!redisMode) {
+            logger.info("WebSocket relay in local mode, messages reach this node's subscribers only");
+            return;
+        }
+        RedisMessageListenerContainer container = listenerContainerProvider.getIfAvailable();
+        if (container == null) {
+            throw new IllegalStateException("WebSocket relay mode is redis but no RedisMessageListenerContainer is configured");
+        }
+        container.addMessageListener(this, new PatternTopic(channelPrefix + "*"));
+        logger.info("WebSocket relay in redis mode, listening on {}*", channelPrefix);
+    }
+
+    @Override
+    public void send(String destination, Object payload) {
+        send(List.of(destination), payload);
+    }
+
+    @Override
+    public void send(Collection<String> destinations, Object payload) {
+        byte[] json = serialize(destinations, payload);
+        if (json == null) {
+            return;
+        }
+        for (String destination : destinations) {
+            publish(destination, json);
+        }
+    }
+
+    @Override
+    public void sendCoalesced(String destination, Object payload) {
+        byte[] json = serialize(List.of(destination), payload);
+        if (json == null) {
+            return;
+        }
+        publish(destination, json);
+
+        String batched = WebSocketDestinations.batchedOf(destination);
+        if (coalesceWindowMs <= 0) {
+            // Batched destinations always carry arrays, whatever the window
+            Batch single = new Batch();
+            single.add(json);
+            publish(batched, single.toJsonArray());
+            return;
+        }
+
+        boolean[] full = new boolean[1];
+        pendingBatches.compute(batched, (key, batch) -> {
+            if (batch == null) {
+                batch = new Batch();
+                coalesceScheduler.schedule(() -> flushBatch(key), coalesceWindowMs, TimeUnit.MILLISECONDS);
+            }
+            batch.add(json);
+            full[0] = batch.size() >= coalesceMaxBatch;
+            return batch;
+        });
+        if (full[0]) {
+            flushBatch(batched);
+        }
+    }
+
+    private void flushBatch(String destination) {
+        Batch batch = pendingBatches.remove(destination);
+        if (batch != null) {
+            // The scheduled flush of an early-flushed batch finds nothing and returns
+            publish(destination, batch.toJsonArray());
+        }
+    }
+
+    private byte[] serialize(Collection<String> destinations, Object payload) {
+        try {
+            return jsonCodecs.writerFor(payload).writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            for (String destination : destinations) {
+                increment(WebSocketDestinations.channelOf(destination), "delivery_failed");
+            }
+            logger.error("Failed to serialize WebSocket payload for {}: {}", destinations, e.getMessage());
+            return null;
+        }
+    }
+
+    private void publish(String destination, byte[] json) {
+        String channel = WebSocketDestinations.channelOf(destination);
+        deliver(destination, json, channel);
+        if (!redisMode) {
+            return;
+        }
+
+        try {
+            redisTemplateProvider.getObject().convertAndSend(channelPrefix + channel,
+                    nodeId + '\n' + destination + '\n' + new String(json, StandardCharsets.UTF_8));
+            increment(channel, "published");
+        } catch (Exception e) {
+            increment(channel, "publish_failed");
+            logger.warn("Failed to publish WebSocket message for {} to Redis, delivered locally only: {}",
+                    destination, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coalesceScheduler.shutdown();
+        for (String destination : List.copyOf(pendingBatches.keySet())) {
+            flushBatch(destination);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String redisChannel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String channel = redisChannel.startsWith(channelPrefix) ? redisChannel.substring(channelPrefix.length()) : redisChannel;
+
+        byte[] body = message.getBody();
+        int originEnd = indexOf(body, (byte) '\n', 0);
+        int destinationEnd = originEnd > 0 ? indexOf(body, (byte) '\n', originEnd + 1) : -1;
+        if (destinationEnd <= originEnd + 1) {
+            increment(channel, "delivery_failed");
+            logger.warn("Dropping malformed WebSocket relay message on {}", redisChannel);
+            return;
+        }
+        if (nodeId.equals(new String(body, 0, originEnd, StandardCharsets.UTF_8))) {
+            // Already delivered to this node's subscribers when it was sent
+            return;
+        }
+        String destination = new String(body, originEnd + 1, destinationEnd - originEnd - 1, StandardCharsets.UTF_8);
+        deliver(destination, Arrays.copyOfRange(body, destinationEnd + 1, body.length), channel);
+    }
+
+    private void deliver(String destination, byte[] json, String channel) {
+        try {
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+            messagingTemplate.send(destination, MessageBuilder.createMessage(json, accessor.getMessageHeaders()));
+            increment(channel, "delivered");
+        } catch (Exception e) {
+            increment(channel, "delivery_failed");
+            logger.error("Failed to deliver WebSocket message to {}: {}", destination, e.getMessage());
+        }
+    }
+
+    private void increment(String channel, String outcome) {
+        counters.computeIfAbsent(channel + '|' + outcome,
+                key -> Counter.builder(METRIC_NAME)
+                        .tag("channel", channel)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    private static int indexOf(byte[] bytes, byte value, int from) {
+        for (int i = from; i < bytes.length; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Already-serialized events waiting for one destination, joined into a JSON
+     * array on flush without re-serializing them.
+     */
+    private static final class Batch {
+        private final List<byte[]> items = new ArrayList<>();
+        private int bytes;
+
+        private void add(byte[] json) {
+            items.add(json);
+            bytes += json.length;
+        }
+
+        private int size() {
+            return items.size();
+        }
+
+        private byte[] toJsonArray() {
+            byte[] array = new byte[bytes + items.size() + 1];
+            int position = 0;
+            array[position++] = '[';
+            for (int i = 0; i < items.size(); i++) {
+                if (i > 0) {
+                    array[position++] = ',';
+                }
+                byte[] item = items.get(i);
+                System.arraycopy(item, 0, array, position, item.length);
+                position += item.length;
+            }
+            array[position] = ']';
+            return array;
+        }
+    }
+}
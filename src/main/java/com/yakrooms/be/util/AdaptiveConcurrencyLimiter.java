@@ -0,0 +1,151 @@
+package com.yakrooms.be.util;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to the gradient between long-term and
+ * short-term latency.
+ *
+ * Each route keeps its own long-term latency, an exponential average with a
+ * time constant of long-window, so a budget that mixes fast and slow
+ * endpoints compares every request with its own endpoint. The window is in
+ * time rather than requests so that a burst of queueing cannot quickly
+ * become the new normal. The short-term signal is an average over about
+ * short-window requests of latency / long-term latency.
+ * On each release the limit moves towards
+ *
+ *   limit * clamp(tolerance / short-term ratio, 0.5, 1) + sqrt(limit)
+ *
+ * by the smoothing factor, so it grows while latency stays within tolerance
+ * of normal and shrinks, at most by half per step, as queueing pushes it up.
+ * A failed request counts as a ratio of twice the tolerance. While fewer than
+ * half the slots are in use the limit is left alone: it neither drifts up
+ * nor decays during quiet periods. A route whose latency settles well below
+ * its long-term value, e.g. after a slow period, pulls the long-term value
+ * down faster. Requests over the limit are refused immediately instead of
+ * queueing.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final int WARMUP_SAMPLES = 10;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longWindowNanos;
+    private final double shortAlpha;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    // Guarded by this
+    private final Map<String, RouteLatency> routes = new HashMap<>();
+    private double shortRatio = 1;
+
+    /**
+     * @param initialLimit  starting limit
+     * @param minLimit      lowest the limit may shrink to
+     * @param maxLimit      highest the limit may grow to
+     * @param tolerance     short-term latency over tolerance * long-term starts shrinking the limit
+     * @param smoothing     share of each new estimate applied to the limit, in (0, 1]
+     * @param longWindowMillis  time constant of each route's long-term latency
+     * @param shortWindow       requests the short-term ratio averages over
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      double tolerance, double smoothing, long longWindowMillis, int shortWindow) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= minLimit <= maxLimit");
+        }
+        if (tolerance < 1 || smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("tolerance must be at least 1 and smoothing in (0, 1]");
+        }
+        if (shortWindow < 1 || longWindowMillis < 1) {
+            throw new IllegalArgumentException("Windows must be positive");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindowNanos = longWindowMillis * 1_000_000d;
+        this.shortAlpha = 2.0 / (shortWindow + 1);
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Take a slot if fewer than limit requests are in flight.
+     * Every successful call must be paired with {@link #release(String, long, boolean)}.
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Return a slot and feed the request's outcome into the limit.
+     *
+     * @param route         the endpoint the request belongs to; latencies are only compared within a route
+     * @param latencyNanos  how long the request held its slot
+     * @param dropped       true if the request failed in a way that signals overload
+     */
+    public void release(String route, long latencyNanos, boolean dropped) {
+        int wasInFlight = inFlight.getAndDecrement();
+        update(route, latencyNanos, dropped, wasInFlight, System.nanoTime());
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    synchronized void update(String route, long latencyNanos, boolean dropped, int wasInFlight, long now) {
+        double latency = Math.max(1, latencyNanos);
+        RouteLatency stats = routes.computeIfAbsent(route, key -> new RouteLatency());
+        long elapsed = Math.max(0, now - stats.updatedAt);
+        stats.updatedAt = now;
+        if (stats.samples < WARMUP_SAMPLES) {
+            // Plain mean until there is enough to compare against
+            stats.samples++;
+            stats.longTerm += (latency - stats.longTerm) / stats.samples;
+            stats.shortTerm = stats.longTerm;
+            return;
+        }
+
+        double ratio = latency / stats.longTerm;
+        shortRatio += shortAlpha * ((dropped ? Math.max(2 * tolerance, ratio) : ratio) - shortRatio);
+        stats.longTerm += -Math.expm1(-elapsed / longWindowNanos) * (latency - stats.longTerm);
+        stats.shortTerm += shortAlpha * (latency - stats.shortTerm);
+        if (stats.shortTerm * 2 < stats.longTerm) {
+            // Latency settled well below normal: the long-term value still carries a slow period
+            stats.longTerm *= 0.95;
+        }
+
+        double current = limit;
+        if (wasInFlight * 2 < current) {
+            return;
+        }
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1, tolerance / shortRatio));
+        double estimate = current * gradient + Math.sqrt(current);
+        limit = Math.max(minLimit, Math.min(maxLimit, current + smoothing * (estimate - current)));
+    }
+
+    private static final class RouteLatency {
+        private int samples;
+        private long updatedAt;
+        private double longTerm;
+        private double shortTerm;
+    }
+}
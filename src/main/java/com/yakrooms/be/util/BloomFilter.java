@@ -0,0 +1,94 @@
+package com.yakrooms.be.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over 64-bit keys.
+ *
+ * Callers hash their own keys to a long (see {@link #hash(String)} and
+ * {@link #hash(long)}), so a lookup costs k bit reads and no allocation. Bit
+ * positions come from double hashing the two halves of the key. The filter
+ * never forgets: to drop keys, build a new one and swap the reference.
+ *
+ * Lookups never lock and may run concurrently with {@link #put(long)}; a key
+ * is visible to readers once put returns.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions    number of keys the filter is sized for
+     * @param falsePositiveRate     target false positive rate at that size
+     */
+    public BloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        int insertions = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE / Long.SIZE, Math.max(1, (bits + Long.SIZE - 1) / Long.SIZE));
+        this.words = new AtomicLongArray(words);
+        this.bitCount = words * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+    }
+
+    public void put(long key) {
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            long mask = 1L << bit;
+            int word = bit >>> 6;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(long key) {
+        int h1 = (int) key;
+        int h2 = (int) (key >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            int bit = index(h1 + i * h2);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int index(int combined) {
+        // Flip negatives instead of Math.abs, which leaves Integer.MIN_VALUE negative
+        return (combined < 0 ? ~combined : combined) % bitCount;
+    }
+
+    /**
+     * 64-bit key for a string; String.hashCode spread with the murmur3 finalizer.
+     */
+    public static long hash(String value) {
+        return mix(value.hashCode() * 0x9E3779B97F4A7C15L);
+    }
+
+    /**
+     * 64-bit key for a number, e.g. an entity id.
+     */
+    public static long hash(long value) {
+        return mix(value ^ 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
@@ -0,0 +1,374 @@
+package com.yakrooms.be.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Frequency-weighted prefix trie used for search box autocomplete.
+ *
+ * Every node keeps a precomputed, weight-ordered array of the best K terms
+ * reachable below it, so a lookup is a walk down the prefix followed by a copy
+ * of that array into the result list. Readers never lock: child tables and
+ * top-K arrays are immutable snapshots published through volatile fields, and
+ * writers replace them under the trie monitor.
+ *
+ * @param <T> payload returned for each matching term
+ */
+public class SuggestionTrie<T> {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Term<?>[] NO_TERMS = new Term<?>[0];
+
+    private final int maxSuggestions;
+    private final Node root = new Node();
+    private final Map<String, Term<T>> terms = new HashMap<>();
+
+    public SuggestionTrie(int maxSuggestions) {
+        if (maxSuggestions < 1) {
+            throw new IllegalArgumentException("maxSuggestions must be at least 1");
+        }
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    /**
+     * Insert or replace a term.
+     *
+     * @param termId  stable identifier used for later updates and removal
+     * @param keys    phrases the term should be reachable from (normalized internally)
+     * @param weight  ranking weight, higher first
+     * @param payload value returned to callers
+     */
+    public synchronized void put(String termId, Collection<String> keys, long weight, T payload) {
+        Term<T> previous = terms.remove(termId);
+        if (previous != null) {
+            detach(previous);
+        }
+
+        List<String> normalizedKeys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            String normalized = normalize(key);
+            if (!normalized.isEmpty() && !normalizedKeys.contains(normalized)) {
+                normalizedKeys.add(normalized);
+            }
+        }
+        if (normalizedKeys.isEmpty()) {
+            return;
+        }
+
+        Term<T> term = new Term<>(termId, normalizedKeys, weight, payload);
+        terms.put(termId, term);
+        for (String key : normalizedKeys) {
+            Node[] path = pathFor(key, true);
+            Node leaf = path[path.length - 1];
+            leaf.terminals = append(leaf.terminals, term);
+            recomputePath(path);
+        }
+    }
+
+    /**
+     * Remove a term if present.
+     */
+    public synchronized void remove(String termId) {
+        Term<T> previous = terms.remove(termId);
+        if (previous != null) {
+            detach(previous);
+        }
+    }
+
+    /**
+     * Remove every term.
+     */
+    public synchronized void clear() {
+        terms.clear();
+        root.edges = Edges.EMPTY;
+        root.terminals = NO_TERMS;
+        root.top = NO_TERMS;
+    }
+
+    public synchronized int size() {
+        return terms.size();
+    }
+
+    /**
+     * Return up to {@code limit} payloads whose keys start with {@code prefix}.
+     * The prefix is normalized on the fly, so the only allocation is the result list.
+     */
+    public List<T> suggest(String prefix, int limit) {
+        if (prefix == null || limit < 1) {
+            return List.of();
+        }
+
+        int start = 0;
+        int end = prefix.length();
+        while (start < end && Character.isWhitespace(prefix.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(prefix.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return List.of();
+        }
+
+        Node node = root;
+        boolean previousWasSpace = false;
+        for (int i = start; i < end && node != null; i++) {
+            char c = prefix.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (previousWasSpace) {
+                    continue;
+                }
+                previousWasSpace = true;
+                c = ' ';
+            } else {
+                previousWasSpace = false;
+                c = Character.toLowerCase(c);
+            }
+            node = node.edges.child(c);
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        Term<?>[] top = node.top;
+        int count = Math.min(limit, top.length);
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            @SuppressWarnings("unchecked")
+            T payload = (T) top[i].payload;
+            result.add(payload);
+        }
+        return result;
+    }
+
+    /**
+     * Lower-case, trim and collapse internal whitespace to single spaces.
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    // Write path helpers - always called with the trie monitor held
+
+    private void detach(Term<T> term) {
+        for (String key : term.keys) {
+            Node[] path = pathFor(key, false);
+            if (path == null) {
+                continue;
+            }
+            Node leaf = path[path.length - 1];
+            leaf.terminals = without(leaf.terminals, term);
+            prune(path, key);
+            recomputePath(path);
+        }
+    }
+
+    private Node[] pathFor(String key, boolean create) {
+        Node[] path = new Node[key.length() + 1];
+        Node node = root;
+        path[0] = node;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            Node child = node.edges.child(c);
+            if (child == null) {
+                if (!create) {
+                    return null;
+                }
+                child = new Node();
+                node.edges = node.edges.with(c, child);
+            }
+            node = child;
+            path[i + 1] = node;
+        }
+        return path;
+    }
+
+    private void prune(Node[] path, String key) {
+        for (int depth = path.length - 1; depth > 0; depth--) {
+            Node node = path[depth];
+            if (node.terminals.length > 0 || node.edges.keys.length > 0) {
+                return;
+            }
+            Node parent = path[depth - 1];
+            parent.edges = parent.edges.without(key.charAt(depth - 1));
+        }
+    }
+
+    private void recomputePath(Node[] path) {
+        for (int depth = path.length - 1; depth >= 0; depth--) {
+            recompute(path[depth]);
+        }
+    }
+
+    private void recompute(Node node) {
+        Term<?>[] best = new Term<?>[maxSuggestions];
+        int size = 0;
+        for (Term<?> candidate : node.terminals) {
+            size = offer(best, size, candidate);
+        }
+        for (Node child : node.edges.children) {
+            for (Term<?> candidate : child.top) {
+                size = offer(best, size, candidate);
+            }
+        }
+        Term<?>[] top = new Term<?>[size];
+        System.arraycopy(best, 0, top, 0, size);
+        node.top = top;
+    }
+
+    /**
+     * Insertion into a bounded, ordered array. The same term can reach a node
+     * through several of its keys, so duplicates are skipped.
+     */
+    private static int offer(Term<?>[] best, int size, Term<?> candidate) {
+        for (int i = 0; i < size; i++) {
+            if (best[i] == candidate) {
+                return size;
+            }
+        }
+        int position = size;
+        while (position > 0 && candidate.ranksBefore(best[position - 1])) {
+            position--;
+        }
+        if (position >= best.length) {
+            return size;
+        }
+        int newSize = Math.min(size + 1, best.length);
+        System.arraycopy(best, position, best, position + 1, newSize - position - 1);
+        best[position] = candidate;
+        return newSize;
+    }
+
+    private static Term<?>[] append(Term<?>[] terms, Term<?> term) {
+        Term<?>[] copy = new Term<?>[terms.length + 1];
+        System.arraycopy(terms, 0, copy, 0, terms.length);
+        copy[terms.length] = term;
+        return copy;
+    }
+
+    private static Term<?>[] without(Term<?>[] terms, Term<?> term) {
+        int index = -1;
+        for (int i = 0; i < terms.length; i++) {
+            if (terms[i] == term) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            return terms;
+        }
+        Term<?>[] copy = new Term<?>[terms.length - 1];
+        System.arraycopy(terms, 0, copy, 0, index);
+        System.arraycopy(terms, index + 1, copy, index, terms.length - index - 1);
+        return copy;
+    }
+
+    private static final class Term<T> {
+        private final String id;
+        private final List<String> keys;
+        private final long weight;
+        private final T payload;
+
+        private Term(String id, List<String> keys, long weight, T payload) {
+            this.id = id;
+            this.keys = keys;
+            this.weight = weight;
+            this.payload = payload;
+        }
+
+        private boolean ranksBefore(Term<?> other) {
+            if (weight != other.weight) {
+                return weight > other.weight;
+            }
+            int byKey = keys.get(0).compareTo(other.keys.get(0));
+            if (byKey != 0) {
+                return byKey < 0;
+            }
+            return id.compareTo(other.id) < 0;
+        }
+    }
+
+    private static final class Node {
+        private volatile Edges edges = Edges.EMPTY;
+        private volatile Term<?>[] terminals = NO_TERMS;
+        private volatile Term<?>[] top = NO_TERMS;
+    }
+
+    /**
+     * Immutable child table: sorted keys with parallel children, looked up by binary search.
+     */
+    private static final class Edges {
+        private static final Edges EMPTY = new Edges(NO_KEYS, new Node[0]);
+
+        private final char[] keys;
+        private final Node[] children;
+
+        private Edges(char[] keys, Node[] children) {
+            this.keys = keys;
+            this.children = children;
+        }
+
+        private Node child(char c) {
+            int low = 0;
+            int high = keys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char key = keys[mid];
+                if (key < c) {
+                    low = mid + 1;
+                } else if (key > c) {
+                    high = mid - 1;
+                } else {
+                    return children[mid];
+                }
+            }
+            return null;
+        }
+
+        private Edges with(char c, Node child) {
+            int position = 0;
+            while (position < keys.length && keys[position] < c) {
+                position++;
+            }
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, position);
+            System.arraycopy(children, 0, newChildren, 0, position);
+            newKeys[position] = c;
+            newChildren[position] = child;
+            System.arraycopy(keys, position, newKeys, position + 1, keys.length - position);
+            System.arraycopy(children, position, newChildren, position + 1, children.length - position);
+            return new Edges(newKeys, newChildren);
+        }
+
+        private Edges without(char c) {
+            int index = -1;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return this;
+            }
+            if (keys.length == 1) {
+                return EMPTY;
+            }
+            char[] newKeys = new char[keys.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(keys, 0, newKeys, 0, index);
+            System.arraycopy(children, 0, newChildren, 0, index);
+            System.arraycopy(keys, index + 1, newKeys, index, keys.length - index - 1);
+            System.arraycopy(children, index + 1, newChildren, index, children.length - index - 1);
+            return new Edges(newKeys, newChildren);
+        }
+    }
+}
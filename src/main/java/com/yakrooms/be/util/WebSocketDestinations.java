@@ -0,0 +1,71 @@
+package com.yakrooms.be.util;
+
+import java.util.Set;
+
+/**
+ * Utility class for STOMP destination handling shared by the WebSocket relay
+ * and session telemetry.
+ */
+public class WebSocketDestinations {
+
+    /**
+     * Channel reported for destinations outside {@link #KNOWN_CHANNELS}.
+     */
+    public static final String OTHER_CHANNEL = "other";
+
+    // Channels the application publishes to; clients may subscribe to anything
+    private static final Set<String> KNOWN_CHANNELS = Set.of("bookings", "hotels", "rooms", "users");
+
+    /**
+     * Suffix of the opt-in destination carrying JSON array frames for a
+     * coalesced destination: /topic/hotels/5/bookings/batched.
+     */
+    public static final String BATCHED_SUFFIX = "/batched";
+
+    private WebSocketDestinations() {
+        // Utility class - prevent instantiation
+    }
+
+    /**
+     * First segment after the broker prefix: /topic/hotels/5/bookings -> hotels.
+     * Keeps relay channel names and metric tags bounded regardless of IDs.
+     *
+     * @param destination STOMP destination
+     * @return Channel name, or "unknown" for a null destination
+     */
+    public static String channelOf(String destination) {
+        if (destination == null) {
+            return "unknown";
+        }
+        String path = destination.startsWith("/") ? destination.substring(1) : destination;
+        int first = path.indexOf('/');
+        if (first < 0) {
+            return path;
+        }
+        int second = path.indexOf('/', first + 1);
+        return second < 0 ? path.substring(first + 1) : path.substring(first + 1, second);
+    }
+
+    /**
+     * Channel of a client-chosen destination for use as a metric tag: one of
+     * the application's channels, or {@link #OTHER_CHANNEL} for anything else,
+     * so clients cannot create meters.
+     *
+     * @param destination STOMP destination
+     * @return Known channel name or "other"
+     */
+    public static String knownChannelOf(String destination) {
+        String channel = channelOf(destination);
+        return KNOWN_CHANNELS.contains(channel) ? channel : OTHER_CHANNEL;
+    }
+
+    /**
+     * Batched counterpart of a coalesced destination.
+     *
+     * @param destination STOMP destination, e.g. /topic/hotels/5/bookings
+     * @return The destination with {@link #BATCHED_SUFFIX} appended
+     */
+    public static String batchedOf(String destination) {
+        return destination + BATCHED_SUFFIX;
+    }
+}
@@ -0,0 +1,27 @@
+-- Per-hotel, per-day booking rollups for the statistics endpoints
+-- Rows are keyed by the day a booking was created and are recomputed from the
+-- booking table whenever one of that day's bookings changes
+
+CREATE TABLE IF NOT EXISTS booking_daily_rollup (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hotel_id BIGINT NOT NULL COMMENT 'Hotel the bookings belong to',
+    stat_date DATE NOT NULL COMMENT 'Day the bookings were created',
+    booking_count BIGINT NOT NULL DEFAULT 0 COMMENT 'All bookings created that day',
+    cancelled_count BIGINT NOT NULL DEFAULT 0 COMMENT 'Bookings currently CANCELLED',
+    revenue_booking_count BIGINT NOT NULL DEFAULT 0 COMMENT 'Bookings counted towards revenue (CONFIRMED, CHECKED_IN, CHECKED_OUT)',
+    room_nights BIGINT NOT NULL DEFAULT 0 COMMENT 'Nights booked by revenue bookings',
+    revenue DECIMAL(14,2) NOT NULL DEFAULT 0 COMMENT 'Total price of revenue bookings',
+    refreshed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'When the row was last recomputed',
+
+    UNIQUE KEY uk_booking_rollup_hotel_date (hotel_id, stat_date),
+    INDEX idx_booking_rollup_date (stat_date)
+) ENGINE=InnoDB
+  CHARACTER SET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='Daily booking and revenue rollups per hotel';
+
+-- Recomputing one hotel-day must be an index range scan, not a table scan
+CREATE INDEX idx_booking_hotel_created ON booking(hotel_id, created_at);
+
+-- Lets the reconcile job find bookings changed since its last run
+CREATE INDEX idx_booking_updated_at ON booking(updated_at);
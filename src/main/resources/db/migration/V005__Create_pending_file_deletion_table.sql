@@ -0,0 +1,18 @@
+-- Durable queue of UploadThing files to delete
+-- Rows are written in the transaction that drops the last reference to a file
+-- and removed once the batched remote delete succeeds
+
+CREATE TABLE IF NOT EXISTS pending_file_deletion (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    file_key VARCHAR(255) NOT NULL COMMENT 'UploadThing file key',
+    attempts INT NOT NULL DEFAULT 0 COMMENT 'Failed delete attempts so far',
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Earliest time of the next attempt',
+    last_error VARCHAR(500) NULL COMMENT 'Reason the last attempt failed',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'When the file was queued',
+
+    UNIQUE KEY uk_pending_file_deletion_key (file_key),
+    INDEX idx_pending_file_deletion_due (next_attempt_at)
+) ENGINE=InnoDB
+  CHARACTER SET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='UploadThing files waiting to be deleted';
@@ -0,0 +1,24 @@
+-- Background hotel deletion jobs
+-- The step column is the resume checkpoint: every chunk commits together with
+-- its progress, so a restarted job picks up at the step it was in
+
+CREATE TABLE IF NOT EXISTS hotel_deletion_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    hotel_id BIGINT NOT NULL COMMENT 'Hotel being deleted (no FK, the hotel row goes away)',
+    hotel_name VARCHAR(255) NULL COMMENT 'Hotel name when the job was submitted',
+    status VARCHAR(20) NOT NULL COMMENT 'PENDING, RUNNING, COMPLETED or FAILED',
+    step VARCHAR(20) NOT NULL COMMENT 'Step to run next',
+    deleted_rows BIGINT NOT NULL DEFAULT 0 COMMENT 'Rows deleted or detached so far',
+    attempts INT NOT NULL DEFAULT 0 COMMENT 'Failed runs so far',
+    last_error VARCHAR(500) NULL COMMENT 'Reason the last run failed',
+    heartbeat_at TIMESTAMP NULL COMMENT 'Last progress of the running worker',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'When the job was submitted',
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT 'Last change of the job row',
+    completed_at TIMESTAMP NULL COMMENT 'When the hotel was gone',
+
+    INDEX idx_hotel_deletion_job_hotel (hotel_id),
+    INDEX idx_hotel_deletion_job_status (status, heartbeat_at)
+) ENGINE=InnoDB
+  CHARACTER SET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='Chunked background hotel deletions';
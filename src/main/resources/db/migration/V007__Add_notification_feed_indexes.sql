@@ -0,0 +1,7 @@
+-- Indexes for the paginated notification feed and unread counts
+-- The feed reads a user's notifications newest first; the unread count and
+-- mark-all-read touch a user's unread rows only
+
+CREATE INDEX idx_notification_user_created ON notifications(user_id, created_at);
+
+CREATE INDEX idx_notification_user_read ON notifications(user_id, is_read);
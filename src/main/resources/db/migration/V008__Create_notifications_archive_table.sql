@@ -0,0 +1,25 @@
+-- Notification retention
+-- Expired notifications are copied here and deleted from the live table in
+-- small chunks. The archive has no foreign keys, so it never blocks deleting
+-- users, bookings or hotels; it is trimmed by archived_at separately
+
+CREATE TABLE IF NOT EXISTS notifications_archive (
+    id BIGINT PRIMARY KEY COMMENT 'Id of the original notification',
+    user_id BIGINT NOT NULL COMMENT 'Recipient (no FK)',
+    booking_id BIGINT NULL COMMENT 'Related booking (no FK)',
+    title VARCHAR(255) NULL,
+    message VARCHAR(255) NULL,
+    type VARCHAR(255) NULL COMMENT 'NotificationType name',
+    is_read BIT(1) NOT NULL,
+    created_at DATETIME(6) NOT NULL COMMENT 'When the notification was created',
+    archived_at DATETIME(6) NOT NULL COMMENT 'When the retention job moved it here',
+
+    INDEX idx_notification_archive_user (user_id, created_at),
+    INDEX idx_notification_archive_archived (archived_at)
+) ENGINE=InnoDB
+  CHARACTER SET=utf8mb4
+  COLLATE=utf8mb4_unicode_ci
+  COMMENT='Notifications past their retention period';
+
+-- Retention scans one type at a time, oldest first
+CREATE INDEX idx_notification_type_created ON notifications(type, created_at);
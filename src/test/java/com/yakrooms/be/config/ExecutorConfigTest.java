@@ -0,0 +1,84 @@
+package com.yakrooms.be.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExecutorConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorConfig config = new ExecutorConfig(meterRegistry, false);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void timersAreTaggedWithTheBeanName() throws Exception {
+        executor = config.mailExecutor(1, 1, 10);
+        executor.initialize();
+
+        executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+        // The execution time is recorded after the task's future completes
+        executor.shutdown();
+
+        assertThat(meterRegistry.get("executor.task.wait").tag("name", "mailExecutor").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.task.execution").tag("name", "mailExecutor").timer().count()).isEqualTo(1);
+        assertThat(executor.getThreadNamePrefix()).isEqualTo("mail-");
+    }
+
+    @Test
+    void fullQueueRejectsAndCounts() throws Exception {
+        executor = config.firebaseExecutor(1, 1, 1);
+        executor.initialize();
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+
+        executor.execute(() -> {
+            running.countDown();
+            awaitQuietly(release);
+        });
+        running.await(5, TimeUnit.SECONDS);
+        executor.execute(() -> awaitQuietly(release));
+
+        assertThatThrownBy(() -> executor.execute(() -> { })).isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "firebaseExecutor").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void scheduledJobsGetTheirOwnSchedulerPool() {
+        ThreadPoolTaskScheduler scheduler = config.taskScheduler(
+                new ThreadPoolTaskSchedulerBuilder().poolSize(10).threadNamePrefix("scheduling-"));
+        scheduler.initialize();
+        try {
+            assertThat(scheduler.getScheduledThreadPoolExecutor().getCorePoolSize()).isEqualTo(10);
+            assertThat(scheduler.getThreadNamePrefix()).isEqualTo("scheduling-");
+        } finally {
+            scheduler.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.yakrooms.be.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yakrooms.be.dto.cache.HotelCardCacheDto;
+import com.yakrooms.be.dto.cache.PageCacheDto;
+import com.yakrooms.be.model.enums.HotelType;
+
+class JsonCodecsTest {
+
+    private final ObjectMapper cacheMapper = new RedisConfig().cacheObjectMapper(new ObjectMapper());
+    private final JsonCodecs codecs = new JsonCodecs(cacheMapper);
+
+    @Test
+    void writersAndReadersAreBuiltOncePerType() {
+        PageCacheDto<HotelCardCacheDto> page = page();
+
+        assertThat(codecs.writerFor(page)).isSameAs(codecs.writerFor(new PageCacheDto<>()));
+        assertThat(codecs.writerFor(page)).isNotSameAs(codecs.writerFor(page.getContent().get(0)));
+        assertThat(codecs.readerFor(HotelCardCacheDto.class)).isSameAs(codecs.readerFor(HotelCardCacheDto.class));
+        assertThat(codecs.readerFor(cardPageType())).isSameAs(codecs.readerFor(cardPageType()));
+    }
+
+    @Test
+    void convertValueMatchesTheMapper() throws Exception {
+        // Untyped page as it comes back from Redis
+        Object raw = cacheMapper.readValue(cacheMapper.writeValueAsBytes(page()), Map.class);
+
+        PageCacheDto<HotelCardCacheDto> converted = codecs.convertValue(raw, cardPageType());
+
+        assertThat(converted.getContent().get(0)).isInstanceOf(HotelCardCacheDto.class);
+        assertThat(cacheMapper.writeValueAsString(converted))
+                .isEqualTo(cacheMapper.writeValueAsString(cacheMapper.convertValue(raw, cardPageType())));
+        assertThat(codecs.<HotelCardCacheDto>convertValue(null, HotelCardCacheDto.class)).isNull();
+    }
+
+    @Test
+    void unconvertibleValuesFailLikeTheMapper() {
+        assertThatThrownBy(() -> codecs.convertValue(List.of("not a card"), HotelCardCacheDto.class))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private JavaType cardPageType() {
+        return codecs.parametricType(PageCacheDto.class, HotelCardCacheDto.class);
+    }
+
+    private static PageCacheDto<HotelCardCacheDto> page() {
+        List<HotelCardCacheDto> cards = List.of(
+                new HotelCardCacheDto(1L, "Dragon Nest", "Thimphu", "Core", HotelType.values()[0], 2500.0,
+                        "https://utfs.io/f/dragon-nest.jpg", 4.5),
+                new HotelCardCacheDto(2L, "Paro Inn", "Paro", "Town", HotelType.values()[0], null, null, null));
+        return new PageCacheDto<>(cards, 0, 20, 2, 1, true, true, 2, false);
+    }
+}
@@ -0,0 +1,132 @@
+package com.yakrooms.be.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.yakrooms.be.dto.NotificationDTO;
+import com.yakrooms.be.dto.PasscodeVerificationDTO;
+import com.yakrooms.be.dto.RoomResponseDTO;
+import com.yakrooms.be.dto.cache.HotelWithLowestPriceCacheDto;
+
+/**
+ * The cache ObjectMapper must not leak into REST and STOMP serialization, and
+ * Blackbird must reach both mappers without changing what they write.
+ */
+class RedisConfigTest {
+
+    // The spring.jackson.* settings of application.properties
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(JacksonAutoConfiguration.class))
+            .withPropertyValues(
+                    "spring.jackson.serialization.write-dates-as-timestamps=false",
+                    "spring.jackson.deserialization.fail-on-unknown-properties=false",
+                    "spring.jackson.mapper.require-handlers-for-java8-times=false",
+                    "spring.jackson.time-zone=UTC");
+
+    private final List<Object> responses = List.of(
+            new NotificationDTO(1L, "pema", "101", "Booked", "Room 101 booked", "BOOKING", true,
+                    LocalDateTime.of(2025, 3, 1, 9, 30)),
+            new PasscodeVerificationDTO(true, "Valid passcode"),
+            new HotelWithLowestPriceCacheDto());
+
+    @Test
+    void restOutputIsWhatSpringBootWritesWithoutTheCacheMapper() {
+        runner.run(withoutCacheMapper -> runner.withUserConfiguration(RedisConfig.class)
+                .withBean(CacheManager.class, NoOpCacheManager::new)
+                .run(context -> {
+                    ObjectMapper before = withoutCacheMapper.getBean(ObjectMapper.class);
+                    ObjectMapper after = context.getBean(ObjectMapper.class);
+
+                    assertThat(after).isSameAs(context.getBean("jacksonObjectMapper"));
+                    assertThat(after).isNotSameAs(context.getBean("cacheObjectMapper"));
+                    for (Object response : responses) {
+                        assertThat(after.writeValueAsString(response)).isEqualTo(before.writeValueAsString(response));
+                    }
+                }));
+    }
+
+    @Test
+    void blackbirdReachesBothMappersWithoutChangingRestOutput() {
+        runner.run(withoutBlackbird -> runner.withUserConfiguration(JacksonConfig.class, RedisConfig.class)
+                .withBean(CacheManager.class, NoOpCacheManager::new)
+                .run(context -> {
+                    ObjectMapper before = withoutBlackbird.getBean(ObjectMapper.class);
+                    ObjectMapper after = context.getBean(ObjectMapper.class);
+                    ObjectMapper cacheMapper = context.getBean("cacheObjectMapper", ObjectMapper.class);
+
+                    assertThat(after.getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+                    assertThat(cacheMapper.getRegisteredModuleIds()).contains(BlackbirdModule.class.getName());
+                    for (Object response : responses) {
+                        assertThat(after.writeValueAsString(response)).isEqualTo(before.writeValueAsString(response));
+                    }
+                }));
+    }
+
+    @Test
+    void codecsUseTheirOwnMapper() {
+        runner.withUserConfiguration(JacksonConfig.class, RedisConfig.class)
+                .withBean(CacheManager.class, NoOpCacheManager::new)
+                .run(context -> {
+                    JsonCodecs codecs = context.getBean(JsonCodecs.class);
+                    JsonCodecs cacheCodecs = context.getBean("cacheJsonCodecs", JsonCodecs.class);
+                    NotificationDTO notification = (NotificationDTO) responses.get(0);
+
+                    assertThat(codecs).isSameAs(context.getBean("jsonCodecs"));
+                    assertThat(codecs.writerFor(notification).writeValueAsString(notification))
+                            .isEqualTo(context.getBean(ObjectMapper.class).writeValueAsString(notification));
+                    assertThat(cacheCodecs.writerFor(notification).writeValueAsString(notification))
+                            .isEqualTo(context.getBean("cacheObjectMapper", ObjectMapper.class)
+                                    .writeValueAsString(notification));
+                });
+    }
+
+    @Test
+    void restOutputHasOneNamePerBooleanProperty() {
+        runner.withUserConfiguration(RedisConfig.class)
+                .withBean(CacheManager.class, NoOpCacheManager::new)
+                .run(context -> {
+                    ObjectMapper mapper = context.getBean(ObjectMapper.class);
+
+                    assertThat(mapper.valueToTree(responses.get(0)).has("isRead")).isFalse();
+                    assertThat(mapper.valueToTree(responses.get(0)).path("read").asBoolean()).isTrue();
+                    assertThat(mapper.valueToTree(responses.get(1)).has("isValid")).isFalse();
+                    assertThat(mapper.valueToTree(responses.get(2)).has("isVerified")).isFalse();
+                    RoomResponseDTO room = new RoomResponseDTO();
+                    room.setAvailable(true);
+                    assertThat(mapper.valueToTree(room).has("isAvailable")).isFalse();
+
+                    // Field names are not bindable from request bodies
+                    NotificationDTO notification = mapper.readValue("{\"isRead\":true}", NotificationDTO.class);
+                    assertThat(notification.isRead()).isFalse();
+                });
+    }
+
+    @Test
+    void cacheMapperRoundTripsFields() {
+        runner.withUserConfiguration(RedisConfig.class)
+                .withBean(CacheManager.class, NoOpCacheManager::new)
+                .run(context -> {
+                    ObjectMapper cacheMapper = context.getBean("cacheObjectMapper", ObjectMapper.class);
+                    NotificationDTO notification = (NotificationDTO) responses.get(0);
+
+                    JsonNode json = cacheMapper.valueToTree(notification);
+                    NotificationDTO copy = cacheMapper.treeToValue(json, NotificationDTO.class);
+
+                    assertThat(json.path("createdAt").asText()).isEqualTo("2025-03-01T09:30:00");
+                    assertThat(copy.isRead()).isTrue();
+                    assertThat(copy.getCreatedAt()).isEqualTo(notification.getCreatedAt());
+                });
+    }
+}
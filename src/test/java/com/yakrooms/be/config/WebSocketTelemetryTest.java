@@ -0,0 +1,112 @@
+package com.yakrooms.be.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class WebSocketTelemetryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WebSocketTelemetry telemetry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        telemetry = new WebSocketTelemetry(meterRegistry, mock(ObjectProvider.class), mock(ObjectProvider.class));
+        telemetry.onConnect(new SessionConnectEvent(this, stomp(StompCommand.CONNECT, "s1", null, null)));
+        telemetry.onConnect(new SessionConnectEvent(this, stomp(StompCommand.CONNECT, "s2", null, null)));
+    }
+
+    @Test
+    void knownChannelsAreTaggedByName() {
+        subscribe("s1", "sub-1", "/topic/hotels/5/bookings");
+        subscribe("s2", "sub-1", "/topic/hotels/6/room-status/batched");
+        subscribe("s2", "sub-2", "/queue/users/3/bookings");
+
+        assertThat(subscriptions("hotels")).isEqualTo(2);
+        assertThat(subscriptions("users")).isEqualTo(1);
+    }
+
+    @Test
+    void clientChosenDestinationsShareTheOtherTag() {
+        for (int i = 0; i < 50; i++) {
+            subscribe("s1", "sub-" + i, "/topic/random-" + i + "/x");
+        }
+
+        assertThat(subscriptions("other")).isEqualTo(50);
+        assertThat(meterRegistry.find("websocket.subscriptions").gauges()).hasSize(1);
+    }
+
+    @Test
+    void lastUnsubscribeRemovesTheGauge() {
+        subscribe("s1", "sub-1", "/topic/hotels/5/bookings");
+        subscribe("s2", "sub-1", "/topic/hotels/5/bookings");
+
+        unsubscribe("s1", "sub-1");
+        assertThat(subscriptions("hotels")).isEqualTo(1);
+
+        unsubscribe("s2", "sub-1");
+        assertThat(meterRegistry.find("websocket.subscriptions").tag("channel", "hotels").gauge()).isNull();
+
+        subscribe("s1", "sub-2", "/topic/hotels/5/bookings");
+        assertThat(subscriptions("hotels")).isEqualTo(1);
+    }
+
+    @Test
+    void disconnectReleasesEverySubscriptionOnce() {
+        subscribe("s1", "sub-1", "/topic/bookings");
+        subscribe("s1", "sub-2", "/topic/unknown");
+        subscribe("s2", "sub-1", "/topic/bookings");
+
+        SessionDisconnectEvent disconnect = new SessionDisconnectEvent(this,
+                stomp(StompCommand.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL);
+        telemetry.onDisconnect(disconnect);
+        telemetry.onDisconnect(disconnect);
+
+        assertThat(subscriptions("bookings")).isEqualTo(1);
+        assertThat(meterRegistry.find("websocket.subscriptions").tag("channel", "other").gauge()).isNull();
+        assertThat(meterRegistry.get("websocket.sessions.active").gauge().value()).isEqualTo(1);
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        telemetry.onSubscribe(new SessionSubscribeEvent(this,
+                stomp(StompCommand.SUBSCRIBE, sessionId, subscriptionId, destination)));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        telemetry.onUnsubscribe(new SessionUnsubscribeEvent(this,
+                stomp(StompCommand.UNSUBSCRIBE, sessionId, subscriptionId, null)));
+    }
+
+    private double subscriptions(String channel) {
+        Gauge gauge = meterRegistry.get("websocket.subscriptions").tag("channel", channel).gauge();
+        return gauge.value();
+    }
+
+    private static Message<byte[]> stomp(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,81 @@
+package com.yakrooms.be.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import com.yakrooms.be.model.enums.ExportFormat;
+import com.yakrooms.be.service.BookingExportService;
+
+class BookingControllerExportTest {
+
+    private final BookingExportService bookingExportService = mock(BookingExportService.class);
+    private final BookingController controller = new BookingController();
+
+    BookingControllerExportTest() {
+        ReflectionTestUtils.setField(controller, "bookingExportService", bookingExportService);
+        ReflectionTestUtils.setField(controller, "exportTimeoutMs", 600_000L);
+    }
+
+    @Test
+    void exportCarriesItsOwnTimeoutAndStreamsIntoTheResponse() throws Exception {
+        when(bookingExportService.exportHotelBookings(eq(7L), eq(ExportFormat.CSV), any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("id\r\n1\r\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        WebAsyncTask<Void> task = controller.exportHotelBookings(7L, "csv", response);
+
+        assertThat(task.getTimeout()).isEqualTo(600_000L);
+        assertThat(response.getContentType()).isEqualTo("text/csv;charset=UTF-8");
+        assertThat(response.getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"hotel-7-bookings.csv\"");
+        // Nothing is written until the async task runs
+        assertThat(response.getContentAsByteArray()).isEmpty();
+
+        task.getCallable().call();
+
+        assertThat(response.getContentAsString()).isEqualTo("id\r\n1\r\n");
+        assertThat(response.isCommitted()).isTrue();
+    }
+
+    @Test
+    void asyncDispatchLeavesTheStreamedBodyAlone() throws Exception {
+        when(bookingExportService.exportUserBookings(eq(5L), eq(ExportFormat.NDJSON), any())).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(2);
+            out.write("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+
+        MvcResult started = mockMvc.perform(get("/api/bookings/user/5/export").accept("application/x-ndjson"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(content().string("{\"id\":1}\n"));
+    }
+}
@@ -0,0 +1,209 @@
+package com.yakrooms.be.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.yakrooms.be.dto.cache.HotelCardCacheDto;
+import com.yakrooms.be.dto.cache.PageCacheDto;
+import com.yakrooms.be.dto.response.HotelResponse;
+import com.yakrooms.be.exception.GlobalExceptionHandler;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.HotelService;
+import com.yakrooms.be.service.impl.ResponseCacheServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class HotelControllerCatalogTest {
+
+    private final HotelService hotelService = mock(HotelService.class);
+    private final CatalogVersionService catalogVersionService = mock(CatalogVersionService.class);
+    private final HotelController controller = new HotelController();
+    private MockMvc mockMvc;
+
+    HotelControllerCatalogTest() {
+        ReflectionTestUtils.setField(controller, "hotelService", hotelService);
+        ReflectionTestUtils.setField(controller, "catalogVersionService", catalogVersionService);
+        ReflectionTestUtils.setField(controller, "catalogMaxAgeSeconds", 60L);
+        ReflectionTestUtils.setField(controller, "catalogStaleWhileRevalidateSeconds", 300L);
+        useResponseCache(1);
+    }
+
+    @Test
+    void currentETagIsAnsweredWithNotModified() throws Exception {
+        when(catalogVersionService.getHotelVersion(5L)).thenReturn(41L);
+        when(hotelService.getHotelById(5L)).thenReturn(hotel("Dragon Nest"));
+
+        mockMvc.perform(get("/api/hotels/details/5"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h5-41\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING));
+
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.IF_NONE_MATCH, "\"h5-41\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h5-41\""))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().bytes(new byte[0]));
+        verify(hotelService, times(1)).getHotelById(5L);
+    }
+
+    @Test
+    void aCatalogWriteChangesTheETagAndTheBody() throws Exception {
+        // Room, price, photo and review writes all end in markHotelChanged, which moves this version
+        when(catalogVersionService.getHotelVersion(5L)).thenReturn(41L, 42L);
+        when(hotelService.getHotelById(5L)).thenReturn(hotel("Dragon Nest"), hotel("Dragon Nest Lodge"));
+
+        mockMvc.perform(get("/api/hotels/details/5"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h5-41\""));
+
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.IF_NONE_MATCH, "\"h5-41\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h5-42\""))
+                .andExpect(content().json("{\"name\":\"Dragon Nest Lodge\"}"));
+    }
+
+    @Test
+    void gzipAndIdentityBodiesHaveDifferentETags() throws Exception {
+        when(catalogVersionService.getHotelVersion(5L)).thenReturn(41L);
+        when(hotelService.getHotelById(5L)).thenReturn(hotel("Dragon Nest"));
+
+        MvcResult gzipped = mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.ACCEPT_ENCODING, "gzip, br"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h5-41-gzip\""))
+                .andReturn();
+        assertThat(gunzip(gzipped.getResponse().getContentAsByteArray())).contains("\"name\":\"Dragon Nest\"");
+
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"h5-41-gzip\""))
+                .andExpect(status().isNotModified());
+
+        // The compressed representation's ETag does not validate the identity one, and vice versa
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.IF_NONE_MATCH, "\"h5-41-gzip\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h5-41\""));
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"h5-41\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"));
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"h5-41\""));
+    }
+
+    @Test
+    void bodiesTooSmallToGzipAreSentAsIs() throws Exception {
+        useResponseCache(1_000_000);
+        when(catalogVersionService.getHotelVersion(5L)).thenReturn(41L);
+        when(hotelService.getHotelById(5L)).thenReturn(hotel("Dragon Nest"));
+
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING))
+                .andExpect(content().json("{\"name\":\"Dragon Nest\"}"));
+    }
+
+    @Test
+    void cardFieldsAreParsedIntoASelection() throws Exception {
+        when(catalogVersionService.getCatalogVersion()).thenReturn(7L);
+        when(hotelService.getHotelCards(any(Pageable.class), anyBoolean(), any())).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/hotels/list").param("fields", "card")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/hotels/sortedByHighestPrice").param("fields", " name, photoUrl,"))
+                .andExpect(status().isOk());
+
+        verify(hotelService).getHotelCards(any(Pageable.class), eq(false), eq(HotelCardCacheDto.FIELDS));
+        verify(hotelService).getHotelCards(any(Pageable.class), eq(true), eq(Set.of("name", "photoUrl")));
+    }
+
+    @Test
+    void unknownCardFieldsAreRejected() throws Exception {
+        mockMvc.perform(get("/api/hotels/list").param("fields", "name,email"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string(containsString("Unsupported field 'email'")));
+
+        verify(hotelService, never()).getHotelCards(any(Pageable.class), anyBoolean(), any());
+    }
+
+    @Test
+    void cardAndFullPagesAreCachedSeparately() throws Exception {
+        when(catalogVersionService.getCatalogVersion()).thenReturn(7L);
+        PageCacheDto<HotelCardCacheDto> cards = new PageCacheDto<>(List.of(new HotelCardCacheDto(
+                1L, "Dragon Nest", null, null, null, 2500.0, null, null)), 0, 10, 1, 1, true, true, 1, false);
+        when(hotelService.getHotelCards(any(Pageable.class), eq(false), any())).thenReturn(
+                new PageImpl<>(List.of(cards)));
+        when(hotelService.getAllHotels(any(Pageable.class))).thenReturn(Page.empty());
+
+        mockMvc.perform(get("/api/hotels/list").param("fields", "card"))
+                .andExpect(content().string(containsString("Dragon Nest")));
+        mockMvc.perform(get("/api/hotels/list"))
+                .andExpect(content().string(not(containsString("Dragon Nest"))));
+        mockMvc.perform(get("/api/hotels/list").param("fields", "name"));
+
+        verify(hotelService, times(2)).getHotelCards(any(Pageable.class), eq(false), any());
+        verify(hotelService).getAllHotels(any(Pageable.class));
+    }
+
+    @Test
+    void noVersionMeansNoETag() throws Exception {
+        when(catalogVersionService.getHotelVersion(5L)).thenReturn(null);
+        when(hotelService.getHotelById(5L)).thenReturn(hotel("Dragon Nest"));
+
+        mockMvc.perform(get("/api/hotels/details/5").header(HttpHeaders.IF_NONE_MATCH, "\"h5-41\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private void useResponseCache(int gzipMinBytes) {
+        ReflectionTestUtils.setField(controller, "responseCacheService", new ResponseCacheServiceImpl(
+                new MappingJackson2HttpMessageConverter(), new SimpleMeterRegistry(), true, 100, 524_288, gzipMinBytes));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    private static HotelResponse hotel(String name) {
+        HotelResponse hotel = new HotelResponse();
+        hotel.setName(name);
+        return hotel;
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes());
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.yakrooms.be.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Throughput of the servlet container with and without
+ * spring.threads.virtual.enabled, at a fixed heap.
+ *
+ * Boots the embedded Tomcat and MVC stack with the production Tomcat and
+ * Hikari sizes. A request models a booking call. It waits db-ms for a JDBC
+ * query, holding one of pool permits like a Hikari connection. Then it waits
+ * io-ms on unpooled blocking I/O such as Lettuce sync calls, SMTP or Firebase.
+ * MySQL, Redis and the mail server are not started, so the numbers compare
+ * the threading models, not the application's end-to-end latency.
+ *
+ * Not a unit test; run each mode in its own JVM on a Java 21 runtime:
+ * <pre>
+ * mvn -Pvirtual-threads test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt
+ * java -Xmx256m -cp target/test-classes:$(cat target/cp.txt) \
+ *     com.yakrooms.be.loadtest.VirtualThreadLoadComparison virtual=false
+ * java -Xmx256m -cp target/test-classes:$(cat target/cp.txt) \
+ *     com.yakrooms.be.loadtest.VirtualThreadLoadComparison virtual=true
+ * </pre>
+ * Options (key=value): virtual, threads (200), pool (30), db-ms (10),
+ * io-ms (40), clients (50,200,800), seconds (15), warmup-seconds (5).
+ */
+public final class VirtualThreadLoadComparison {
+
+    private static final int HISTOGRAM_BUCKETS = 300_000;
+
+    private VirtualThreadLoadComparison() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+        boolean virtual = Boolean.parseBoolean(options.getOrDefault("virtual", "false"));
+        int seconds = Integer.parseInt(options.getOrDefault("seconds", "15"));
+        int warmupSeconds = Integer.parseInt(options.getOrDefault("warmup-seconds", "5"));
+        int[] clientCounts = Arrays.stream(options.getOrDefault("clients", "50,200,800").split(","))
+                .mapToInt(Integer::parseInt).toArray();
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .properties(
+                        "spring.config.name=loadtest",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "server.tomcat.threads.max=" + options.getOrDefault("threads", "200"),
+                        "server.tomcat.threads.min-spare=25",
+                        "server.tomcat.max-connections=10000",
+                        "server.tomcat.accept-count=200",
+                        "loadtest.pool=" + options.getOrDefault("pool", "30"),
+                        "loadtest.db-ms=" + options.getOrDefault("db-ms", "10"),
+                        "loadtest.io-ms=" + options.getOrDefault("io-ms", "40"))
+                .run();
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + "/load");
+
+            System.out.printf("java %s, virtual=%s, max heap %d MB, %d CPU%n", Runtime.version(), virtual,
+                    Runtime.getRuntime().maxMemory() >> 20, Runtime.getRuntime().availableProcessors());
+            System.out.println("clients  req/s   p50 ms  p99 ms  errors  peak heap MB  peak threads");
+            for (int clients : clientCounts) {
+                drive(uri, clients, warmupSeconds);
+                resetPeaks();
+                Result result = drive(uri, clients, seconds);
+                System.out.printf("%7d  %6.0f  %6.1f  %6.1f  %6d  %12d  %12d%n", clients,
+                        result.completed / (double) seconds, result.percentile(50), result.percentile(99),
+                        result.errors, peakHeapMb(), ManagementFactory.getThreadMXBean().getPeakThreadCount());
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    private static Result drive(URI uri, int clients, int seconds) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        AtomicLong errors = new AtomicLong();
+        // 0.1 ms buckets up to 30 s, shared by all clients so the harness itself stays small
+        AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+        ExecutorService drivers = Executors.newFixedThreadPool(clients, runnable -> {
+            Thread thread = new Thread(runnable, "load-client");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < clients; i++) {
+            drivers.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    long start = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        long bucket = (System.nanoTime() - start) / 100_000;
+                        histogram.incrementAndGet((int) Math.min(bucket, HISTOGRAM_BUCKETS - 1));
+                    } catch (Exception e) {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        drivers.shutdown();
+        drivers.awaitTermination(seconds + 60L, TimeUnit.SECONDS);
+
+        long[] counts = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = histogram.get(i);
+        }
+        return new Result(Arrays.stream(counts).sum(), errors.get(), counts);
+    }
+
+    private static void resetPeaks() {
+        ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long peakHeapMb() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum() >> 20;
+    }
+
+    private record Result(long completed, long errors, long[] histogram) {
+        double percentile(int p) {
+            long rank = (long) Math.ceil(p / 100.0 * completed);
+            long seen = 0;
+            for (int bucket = 0; bucket < histogram.length; bucket++) {
+                seen += histogram[bucket];
+                if (seen >= rank && seen > 0) {
+                    return (bucket + 1) / 10.0;
+                }
+            }
+            return 0;
+        }
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({
+            ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class })
+    static class LoadTestApplication {
+
+        @Bean
+        LoadController loadController(org.springframework.core.env.Environment environment) {
+            return new LoadController(
+                    Integer.parseInt(environment.getRequiredProperty("loadtest.pool")),
+                    Long.parseLong(environment.getRequiredProperty("loadtest.db-ms")),
+                    Long.parseLong(environment.getRequiredProperty("loadtest.io-ms")));
+        }
+    }
+
+    @RestController
+    static class LoadController {
+        private final Semaphore connections;
+        private final long dbMs;
+        private final long ioMs;
+
+        LoadController(int pool, long dbMs, long ioMs) {
+            this.connections = new Semaphore(pool, true);
+            this.dbMs = dbMs;
+            this.ioMs = ioMs;
+        }
+
+        @GetMapping("/load")
+        Map<String, Object> load() throws InterruptedException {
+            connections.acquire();
+            try {
+                Thread.sleep(dbMs);
+            } finally {
+                connections.release();
+            }
+            Thread.sleep(ioMs);
+            return Map.of("status", "ok", "thread", Thread.currentThread().toString());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.yakrooms.be.model.listener;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.Review;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.model.enums.RoomType;
+import com.yakrooms.be.service.AvailabilityStreamService;
+import com.yakrooms.be.service.BookingRollupService;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.NotificationCounterService;
+import com.yakrooms.be.service.OccupancyAnalyticsService;
+import com.yakrooms.be.service.RoomStatusBoardService;
+
+/**
+ * Flushes catalog writes through Hibernate on H2 and checks which of them
+ * reach CatalogVersionService through the entity listener.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@Import({CatalogVersionListener.class, RoomStatusBoardListener.class, OccupancyAnalyticsListener.class,
+        UserLoginCacheListener.class, NotificationCounterListener.class, BookingRollupListener.class,
+        RoomAvailabilityListener.class})
+class CatalogVersionListenerTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockitoBean
+    private CatalogVersionService catalogVersionService;
+    @MockitoBean
+    private RoomStatusBoardService roomStatusBoardService;
+    @MockitoBean
+    private OccupancyAnalyticsService occupancyAnalyticsService;
+    @MockitoBean
+    private LoginActivityService loginActivityService;
+    @MockitoBean
+    private NotificationCounterService notificationCounterService;
+    @MockitoBean
+    private BookingRollupService bookingRollupService;
+    @MockitoBean
+    private AvailabilityStreamService availabilityStreamService;
+
+    private Hotel hotel;
+    private Room room;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel();
+        hotel.setName("Dragon Nest");
+        hotel.setEmail("desk@dragonnest.bt");
+        hotel.setPhone("17000000");
+        hotel.setAddress("Norzin Lam");
+        hotel.setDistrict("Thimphu");
+        hotel.setLocality("Core");
+        entityManager.persist(hotel);
+
+        room = new Room();
+        room.setHotel(hotel);
+        room.setRoomNumber("101");
+        room.setRoomType(RoomType.DOUBLE);
+        room.setPrice(2500.0);
+        room.setMaxGuests(2);
+        entityManager.persist(room);
+        entityManager.flush();
+        clearInvocations(catalogVersionService);
+    }
+
+    @Test
+    void addedRoomMovesItsHotel() {
+        Room suite = new Room();
+        suite.setHotel(hotel);
+        suite.setRoomNumber("201");
+        suite.setRoomType(RoomType.SUITE);
+        suite.setPrice(6000.0);
+        suite.setMaxGuests(4);
+        entityManager.persist(suite);
+        entityManager.flush();
+
+        verify(catalogVersionService).markHotelChanged(hotel.getId());
+    }
+
+    @Test
+    void roomUpdatesAreLeftToRoomService() {
+        // Price edits are marked by RoomServiceImpl.updateRoom; availability flips are not catalog changes
+        room.setPrice(3000.0);
+        room.setAvailable(false);
+        entityManager.flush();
+
+        verify(catalogVersionService, never()).markHotelChanged(hotel.getId());
+    }
+
+    @Test
+    void hotelFieldEditMovesTheHotel() {
+        hotel.setDescription("Now with a rooftop cafe");
+        entityManager.flush();
+
+        verify(catalogVersionService).markHotelChanged(hotel.getId());
+    }
+
+    @Test
+    void photoOnlyEditDoesNotReachTheListener() {
+        // A change to the photo collection alone does not update the hotel row, so HotelServiceImpl marks it
+        hotel.addPhotoUrl("https://utfs.io/f/lobby.jpg");
+        entityManager.flush();
+
+        verify(catalogVersionService, never()).markHotelChanged(hotel.getId());
+    }
+
+    @Test
+    void addedAndRemovedReviewsMoveTheirHotel() {
+        User guest = new User();
+        guest.setEmail("guest@example.bt");
+        entityManager.persist(guest);
+        entityManager.flush();
+        clearInvocations(catalogVersionService);
+
+        Review review = new Review();
+        review.setHotel(hotel);
+        review.setUser(guest);
+        review.setRating(5);
+        entityManager.persist(review);
+        entityManager.flush();
+        verify(catalogVersionService).markHotelChanged(hotel.getId());
+
+        clearInvocations(catalogVersionService);
+        entityManager.remove(review);
+        entityManager.flush();
+        verify(catalogVersionService).markHotelChanged(hotel.getId());
+    }
+}
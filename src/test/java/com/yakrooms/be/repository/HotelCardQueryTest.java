@@ -0,0 +1,167 @@
+package com.yakrooms.be.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.model.enums.RoomType;
+import com.yakrooms.be.model.listener.BookingRollupListener;
+import com.yakrooms.be.model.listener.CatalogVersionListener;
+import com.yakrooms.be.model.listener.NotificationCounterListener;
+import com.yakrooms.be.model.listener.OccupancyAnalyticsListener;
+import com.yakrooms.be.model.listener.RoomAvailabilityListener;
+import com.yakrooms.be.model.listener.RoomStatusBoardListener;
+import com.yakrooms.be.model.listener.UserLoginCacheListener;
+import com.yakrooms.be.service.AvailabilityStreamService;
+import com.yakrooms.be.service.BookingRollupService;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.NotificationCounterService;
+import com.yakrooms.be.service.OccupancyAnalyticsService;
+import com.yakrooms.be.service.RoomStatusBoardService;
+
+/**
+ * Runs the hotel card queries next to the full listing queries they stand in
+ * for, on H2 in MySQL mode, and checks that every card page holds the same
+ * hotels in the same order as its full page.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:hotel_cards;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CatalogVersionListener.class, RoomStatusBoardListener.class, OccupancyAnalyticsListener.class,
+        UserLoginCacheListener.class, NotificationCounterListener.class, BookingRollupListener.class,
+        RoomAvailabilityListener.class})
+class HotelCardQueryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private HotelRepository hotelRepository;
+
+    @MockitoBean
+    private CatalogVersionService catalogVersionService;
+    @MockitoBean
+    private RoomStatusBoardService roomStatusBoardService;
+    @MockitoBean
+    private OccupancyAnalyticsService occupancyAnalyticsService;
+    @MockitoBean
+    private LoginActivityService loginActivityService;
+    @MockitoBean
+    private NotificationCounterService notificationCounterService;
+    @MockitoBean
+    private BookingRollupService bookingRollupService;
+    @MockitoBean
+    private AvailabilityStreamService availabilityStreamService;
+
+    @BeforeEach
+    void setUp() {
+        // MySQL's SUBSTRING_INDEX, which the full listing queries only call with a count of 1
+        entityManager.getEntityManager()
+                .createNativeQuery("CREATE ALIAS IF NOT EXISTS SUBSTRING_INDEX AS '"
+                        + "String substringIndex(String value, String delimiter, int count) {"
+                        + " int end = value == null ? -1 : value.indexOf(delimiter);"
+                        + " return end < 0 ? value : value.substring(0, end); }'")
+                .executeUpdate();
+
+        // Several hotels share a lowest price and two have no rooms, so page boundaries fall inside ties
+        hotel("Dragon Nest", true, 2500.0, 4000.0);
+        hotel("Taktsang View", true, 2500.0);
+        hotel("Paro Inn", true);
+        hotel("Punakha Lodge", true, 1800.0);
+        hotel("Haa Retreat", true, 2500.0);
+        hotel("Bumthang House", true);
+        hotel("Unlisted Stay", false, 900.0);
+        hotel("Gangtey Farm", true, 6000.0);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void lowestPriceCardPagesMatchFullPages() {
+        List<Long> cards = ids(pageable -> hotelRepository.findVerifiedHotelCardsByLowestPrice(pageable)
+                .map(card -> card.getId()));
+        List<Long> full = ids(pageable -> hotelRepository.findAllVerifiedHotelsWithLowestPriceSorted(pageable)
+                .map(hotel -> hotel.getId()));
+
+        assertThat(cards).hasSize(7).doesNotHaveDuplicates().isEqualTo(full);
+    }
+
+    @Test
+    void highestPriceCardPagesMatchFullPages() {
+        List<Long> cards = ids(pageable -> hotelRepository.findVerifiedHotelCardsByHighestPrice(pageable)
+                .map(card -> card.getId()));
+        List<Long> full = ids(pageable -> hotelRepository.findAllVerifiedHotelsWithLowestPriceDesc(pageable)
+                .map(hotel -> hotel.getId()));
+
+        assertThat(cards).hasSize(7).doesNotHaveDuplicates().isEqualTo(full);
+    }
+
+    @Test
+    void filteredCardPagesMatchFullSearchPages() {
+        List<Long> cards = ids(pageable -> hotelRepository
+                .findVerifiedHotelCardsFiltered("Thimphu", null, null, pageable).map(card -> card.getId()));
+        List<Long> full = ids(pageable -> hotelRepository
+                .findAllVerifiedHotelsWithLowestPriceSortedAndFiltered("Thimphu", null, null, pageable)
+                .map(hotel -> hotel.getId()));
+
+        assertThat(cards).hasSize(7).doesNotHaveDuplicates().isEqualTo(full);
+    }
+
+    // Walks every page of size 2
+    private static List<Long> ids(Function<Pageable, Page<Long>> query) {
+        List<Long> ids = new ArrayList<>();
+        Page<Long> page = query.apply(PageRequest.of(0, 2));
+        ids.addAll(page.getContent());
+        while (page.hasNext()) {
+            page = query.apply(page.nextPageable());
+            ids.addAll(page.getContent());
+        }
+        return ids;
+    }
+
+    private void hotel(String name, boolean verified, Double... roomPrices) {
+        Hotel hotel = new Hotel();
+        hotel.setName(name);
+        hotel.setEmail(name.toLowerCase().replace(' ', '.') + "@example.bt");
+        hotel.setPhone("17000000");
+        hotel.setAddress("Main Street");
+        hotel.setDistrict("Thimphu");
+        hotel.setLocality("Core");
+        hotel.setVerified(verified);
+        hotel.addPhotoUrl("https://utfs.io/f/" + name.replace(' ', '-') + ".jpg");
+        entityManager.persist(hotel);
+
+        int number = 101;
+        for (Double price : roomPrices) {
+            Room room = new Room();
+            room.setHotel(hotel);
+            room.setRoomNumber(Integer.toString(number++));
+            room.setRoomType(RoomType.DOUBLE);
+            room.setPrice(price);
+            room.setMaxGuests(2);
+            entityManager.persist(room);
+        }
+    }
+}
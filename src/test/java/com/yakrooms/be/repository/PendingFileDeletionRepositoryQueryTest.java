@@ -0,0 +1,83 @@
+package com.yakrooms.be.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * Runs the native enqueue statement of PendingFileDeletionRepository, as
+ * declared on the repository, against the V005 table in H2's MySQL mode.
+ */
+class PendingFileDeletionRepositoryQueryTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException, IOException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:pending_file_deletion;MODE=MySQL;DATABASE_TO_LOWER=TRUE");
+        try (Statement statement = connection.createStatement();
+             InputStream migration = getClass().getResourceAsStream(
+                     "/db/migration/V005__Create_pending_file_deletion_table.sql")) {
+            statement.execute(new String(migration.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Test
+    void enqueueInsertsEachKeyOnce() throws Exception {
+        assertThat(enqueue("abc123")).isEqualTo(1);
+        assertThat(enqueue("abc123")).isZero();
+        assertThat(enqueue("def456")).isEqualTo(1);
+
+        assertThat(count("SELECT COUNT(*) FROM pending_file_deletion")).isEqualTo(2);
+    }
+
+    @Test
+    void enqueueLeavesAnExistingRowsRetryStateAlone() throws Exception {
+        enqueue("abc123");
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE pending_file_deletion SET attempts = 3, last_error = 'down'");
+        }
+
+        assertThat(enqueue("abc123")).isZero();
+
+        assertThat(count("SELECT attempts FROM pending_file_deletion WHERE file_key = 'abc123'")).isEqualTo(3);
+    }
+
+    private int enqueue(String fileKey) throws Exception {
+        String sql = PendingFileDeletionRepository.class.getMethod("enqueue", String.class)
+                .getAnnotation(Query.class).value()
+                .replace(":fileKey", "?");
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, fileKey);
+            return statement.executeUpdate();
+        }
+    }
+
+    private long count(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+}
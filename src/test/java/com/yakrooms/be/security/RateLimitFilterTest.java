@@ -0,0 +1,32 @@
+package com.yakrooms.be.security;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yakrooms.be.service.RateLimitService;
+
+class RateLimitFilterTest {
+
+    @Test
+    void clientIsTheRemoteAddressNotAForwardedHeader() throws Exception {
+        RateLimitService rateLimitService = mock(RateLimitService.class);
+        RateLimitFilter filter = new RateLimitFilter();
+        ReflectionTestUtils.setField(filter, "rateLimitService", rateLimitService);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/hotels/search");
+        request.setRemoteAddr("203.0.113.7");
+        request.addHeader("X-Forwarded-For", "1.2.3.4");
+        request.addHeader("X-Real-IP", "1.2.3.4");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(rateLimitService).tryAcquire(eq("GET"), eq("/api/hotels/search"), isNull(), eq("203.0.113.7"));
+    }
+}
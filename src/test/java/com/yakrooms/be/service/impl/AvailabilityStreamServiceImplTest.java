@@ -0,0 +1,110 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yakrooms.be.dto.RoomAvailabilityEvent;
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.model.enums.BookingStatus;
+import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.repository.RoomRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+class AvailabilityStreamServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final AvailabilityStreamServiceImpl service = new AvailabilityStreamServiceImpl(roomRepository,
+            mock(HotelRepository.class), bookingRepository, new SimpleMeterRegistry(), 16, 60_000, 60_000);
+
+    @AfterEach
+    void shutdown() {
+        service.shutdown();
+    }
+
+    @Test
+    void bookedEventCarriesBlockedNightsOnly() {
+        when(roomRepository.existsById(1L)).thenReturn(true);
+        when(bookingRepository.findActiveBookingRangesByRoomId(1L))
+                .thenReturn(List.<Object[]>of(new Object[] { DAY, DAY.plusDays(2) }));
+
+        RoomAvailabilityEvent event = firstEvent(service.streamRoom(1L),
+                () -> service.publishBookingChange(booking(BookingStatus.CONFIRMED, DAY, DAY.plusDays(2)), false));
+
+        assertThat(event.getEventType()).isEqualTo(RoomAvailabilityEvent.BOOKED);
+        assertThat(event.getDates()).containsExactly(DAY, DAY.plusDays(1));
+        assertThat(event.getBookedDates()).containsExactly(DAY, DAY.plusDays(1));
+    }
+
+    @Test
+    void releasedEventLeavesOutNightsStillHeldByAnotherBooking() {
+        when(roomRepository.existsById(1L)).thenReturn(true);
+        // Another booking still holds the middle night
+        when(bookingRepository.findActiveBookingRangesByRoomId(1L))
+                .thenReturn(List.<Object[]>of(new Object[] { DAY.plusDays(1), DAY.plusDays(2) }));
+
+        RoomAvailabilityEvent event = firstEvent(service.streamRoom(1L),
+                () -> service.publishBookingChange(booking(BookingStatus.CANCELLED, DAY, DAY.plusDays(3)), false));
+
+        assertThat(event.getEventType()).isEqualTo(RoomAvailabilityEvent.RELEASED);
+        assertThat(event.getDates()).containsExactly(DAY, DAY.plusDays(2));
+        assertThat(event.getBookedDates()).containsExactly(DAY.plusDays(1));
+    }
+
+    @Test
+    void serializedEventExposesNoBookingDetails() throws Exception {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        String json = mapper.writeValueAsString(new RoomAvailabilityEvent(1L, 2L, RoomAvailabilityEvent.BOOKED,
+                List.of(DAY), List.of(DAY)));
+
+        assertThat(mapper.readTree(json).fieldNames()).toIterable()
+                .containsExactlyInAnyOrder("roomId", "hotelId", "eventType", "dates", "bookedDates", "timestamp");
+    }
+
+    private static RoomAvailabilityEvent firstEvent(Flux<ServerSentEvent<RoomAvailabilityEvent>> stream, Runnable change) {
+        RoomAvailabilityEvent[] received = new RoomAvailabilityEvent[1];
+        StepVerifier.create(stream.filter(sse -> sse.data() != null).take(1))
+                .then(change)
+                .assertNext(sse -> received[0] = sse.data())
+                .expectComplete()
+                .verify(Duration.ofSeconds(5));
+        return received[0];
+    }
+
+    private static Booking booking(BookingStatus status, LocalDate checkIn, LocalDate checkOut) {
+        Hotel hotel = new Hotel();
+        hotel.setId(2L);
+        Room room = new Room();
+        room.setId(1L);
+        room.setHotel(hotel);
+        Booking booking = new Booking();
+        booking.setId(99L);
+        booking.setHotel(hotel);
+        booking.setRoom(room);
+        booking.setStatus(status);
+        booking.setCheckInDate(checkIn);
+        booking.setCheckOutDate(checkOut);
+        return booking;
+    }
+}
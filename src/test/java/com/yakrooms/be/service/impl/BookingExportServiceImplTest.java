@@ -0,0 +1,126 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yakrooms.be.model.enums.BookingStatus;
+import com.yakrooms.be.model.enums.ExportFormat;
+import com.yakrooms.be.model.enums.PaymentStatus;
+
+import jakarta.persistence.EntityManager;
+
+class BookingExportServiceImplTest {
+
+    private final Session session = mock(Session.class);
+    private final BookingExportServiceImpl service = new BookingExportServiceImpl(Integer.MIN_VALUE, 2);
+
+    BookingExportServiceImplTest() {
+        EntityManager entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+    }
+
+    @Test
+    void csvQuotesFieldsAndEscapesQuotes() throws IOException {
+        List<String> lines = exportCsv(row(1L, "Pema, \"Pem\" Dorji", "+97517000000", "Thimphu\nBhutan"));
+
+        assertThat(lines.get(0)).startsWith("id,hotelId,hotelName,");
+        assertThat(lines.get(1)).contains(",\"Pema, \"\"Pem\"\" Dorji\",");
+        assertThat(lines.get(1)).contains(",\"Thimphu\nBhutan\",");
+    }
+
+    @Test
+    void csvNeutralizesFormulasInTextOnly() throws IOException {
+        List<String> lines = exportCsv(
+                row(1L, "=HYPERLINK(\"http://evil\")", "+97517000000", "@SUM(A1)"),
+                row(2L, "-2+3", "\t=1", "\rcmd"));
+
+        assertThat(lines.get(1)).contains(",\"'=HYPERLINK(\"\"http://evil\"\")\",");
+        assertThat(lines.get(1)).contains(",'+97517000000,");
+        assertThat(lines.get(1)).contains(",'@SUM(A1),");
+        assertThat(lines.get(2)).contains(",'-2+3,");
+        assertThat(lines.get(2)).contains(",'\t=1,");
+        assertThat(lines.get(2)).contains(",\"'\rcmd\",");
+        // A negative price is a number, not guest text
+        assertThat(lines.get(2)).contains(",-1500.00,");
+    }
+
+    @Test
+    void rowsAreStreamedAndFlushedEveryBatch() throws IOException {
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= 5; id++) {
+            rows.add(row(id, "Guest " + id, "17000000", "Paro"));
+        }
+        ByteArrayOutputStream out = mock(ByteArrayOutputStream.class);
+
+        long count = export(ExportFormat.NDJSON, out, rows.toArray(new Object[0][]));
+
+        assertThat(count).isEqualTo(5);
+        // Batch size 2: after rows 2 and 4, and once at the end
+        verify(out, times(3)).flush();
+        // The first batch was cleared out of the session
+        verify(session, times(2)).clear();
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        export(ExportFormat.NDJSON, out, row(1L, "=1+1", "17000000", null), row(2L, "Karma", null, "Paro"));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("{\"id\":1,\"hotelId\":7,").contains("\"guestName\":\"=1+1\"")
+                .contains("\"destination\":null").contains("\"totalPrice\":-1500.00");
+        assertThat(lines[1]).contains("\"phone\":null");
+    }
+
+    private List<String> exportCsv(Object[]... rows) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        export(ExportFormat.CSV, out, rows);
+        return List.of(out.toString(StandardCharsets.UTF_8).split("\r\n"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private long export(ExportFormat format, ByteArrayOutputStream out, Object[]... rows) throws IOException {
+        Query<Object[]> query = mock(Query.class, RETURNS_SELF);
+        ScrollableResults<Object[]> results = mock(ScrollableResults.class);
+        when(session.createQuery(anyString(), any(Class.class))).thenReturn(query);
+        when(query.scroll(ScrollMode.FORWARD_ONLY)).thenReturn(results);
+        int[] cursor = {-1};
+        when(results.next()).thenAnswer(invocation -> ++cursor[0] < rows.length);
+        when(results.get()).thenAnswer(invocation -> rows[cursor[0]]);
+        return service.exportHotelBookings(7L, format, out);
+    }
+
+    private static Object[] row(Long id, String guestName, String phone, String destination) {
+        return new Object[] {
+            id, 7L, "Hotel Druk", 3L, "101", 5L, "pema@dochula.bt",
+            guestName, phone, "11705000123", LocalDate.of(2025, 3, 14), LocalDate.of(2025, 3, 16), 2,
+            BookingStatus.CONFIRMED, PaymentStatus.PAID, new BigDecimal("-1500.00"), destination, "Paro",
+            LocalDateTime.of(2025, 3, 1, 9, 30)
+        };
+    }
+}
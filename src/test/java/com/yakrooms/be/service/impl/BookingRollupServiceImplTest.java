@@ -0,0 +1,151 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.enums.BookingStatus;
+import com.yakrooms.be.model.listener.BookingRollupListener;
+import com.yakrooms.be.projection.BookingRollupKeyProjection;
+import com.yakrooms.be.repository.BookingDailyRollupRepository;
+import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.repository.HotelRepository;
+
+class BookingRollupServiceImplTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 3, 14);
+
+    private final BookingDailyRollupRepository rollupRepository = mock(BookingDailyRollupRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final BookingRollupServiceImpl service = new BookingRollupServiceImpl(rollupRepository, bookingRepository,
+            mock(HotelRepository.class), mock(PlatformTransactionManager.class), 24);
+    private final BookingRollupListener listener = new BookingRollupListener(service);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void createdBookingIsRefreshedOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onBookingChanged(booking(7L, BookingStatus.PENDING));
+
+        assertThat(service.flushDirtyDays()).isZero();
+        commit();
+
+        assertThat(service.flushDirtyDays()).isEqualTo(1);
+        verify(rollupRepository).refreshDay(7L, DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void statusChangeAndCancelRefreshTheDayTheBookingWasCreated() {
+        Booking booking = booking(7L, BookingStatus.PENDING);
+
+        TransactionSynchronizationManager.initSynchronization();
+        booking.setStatus(BookingStatus.CONFIRMED);
+        listener.onBookingChanged(booking);
+        booking.setStatus(BookingStatus.CANCELLED);
+        listener.onBookingChanged(booking);
+        commit();
+
+        // Both changes land on the same row, recomputed once
+        assertThat(service.flushDirtyDays()).isEqualTo(1);
+        verify(rollupRepository, times(1)).refreshDay(7L, DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void rolledBackChangeIsNeverRefreshed() {
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onBookingChanged(booking(7L, BookingStatus.CANCELLED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(service.flushDirtyDays()).isZero();
+        verifyNoInteractions(rollupRepository);
+    }
+
+    @Test
+    void bulkStatusUpdateMarksTheDaysOfItsBookings() {
+        when(bookingRepository.findRollupKeysByIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(key(7L, DAY), key(8L, DAY.minusDays(1))));
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.markBookingsDirty(List.of(1L, 2L, 3L));
+        commit();
+
+        assertThat(service.flushDirtyDays()).isEqualTo(2);
+        verify(rollupRepository).refreshDay(7L, DAY, DAY.atStartOfDay(), DAY.plusDays(1).atStartOfDay());
+        verify(rollupRepository).refreshDay(8L, DAY.minusDays(1), DAY.minusDays(1).atStartOfDay(), DAY.atStartOfDay());
+    }
+
+    @Test
+    void emptyBulkUpdateDoesNotQuery() {
+        service.markBookingsDirty(List.of());
+
+        verify(bookingRepository, never()).findRollupKeysByIds(any());
+    }
+
+    @Test
+    void failedFlushKeepsTheDaysForTheNextOne() {
+        service.markDirty(7L, DAY);
+        when(rollupRepository.refreshDay(anyLong(), any(), any(), any())).thenThrow(new IllegalStateException("down"));
+
+        assertThatThrownBy(service::flushDirtyDays).isInstanceOf(IllegalStateException.class);
+
+        doReturn(1).when(rollupRepository).refreshDay(anyLong(), any(), any(), any());
+        assertThat(service.flushDirtyDays()).isEqualTo(1);
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static Booking booking(Long hotelId, BookingStatus status) {
+        Hotel hotel = new Hotel();
+        hotel.setId(hotelId);
+        Booking booking = new Booking();
+        booking.setHotel(hotel);
+        booking.setStatus(status);
+        booking.setCreatedAt(LocalDateTime.of(DAY, LocalTime.of(15, 20)));
+        return booking;
+    }
+
+    private static BookingRollupKeyProjection key(Long hotelId, LocalDate statDate) {
+        return new BookingRollupKeyProjection() {
+            @Override
+            public Long getHotelId() {
+                return hotelId;
+            }
+
+            @Override
+            public LocalDate getStatDate() {
+                return statDate;
+            }
+        };
+    }
+}
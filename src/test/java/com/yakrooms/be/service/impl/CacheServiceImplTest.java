@@ -0,0 +1,45 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yakrooms.be.dto.OccupancyAnalyticsDTO;
+
+class CacheServiceImplTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 3, 1);
+    private static final LocalDate END = LocalDate.of(2025, 3, 31);
+
+    private final CacheServiceImpl cacheService = new CacheServiceImpl();
+
+    CacheServiceImplTest() {
+        ReflectionTestUtils.setField(cacheService, "cacheManager", new ConcurrentMapCacheManager("occupancyAnalytics"));
+    }
+
+    @Test
+    void evictingAHotelDropsAllItsWindowsAndNoOtherHotels() {
+        cacheService.putOccupancyAnalyticsInCache(7L, START, END, analytics(7L));
+        cacheService.putOccupancyAnalyticsInCache(7L, START, START, analytics(7L));
+        cacheService.putOccupancyAnalyticsInCache(8L, START, END, analytics(8L));
+
+        cacheService.evictOccupancyAnalyticsFromCache(7L);
+
+        assertThat(cacheService.getOccupancyAnalyticsFromCache(7L, START, END)).isEmpty();
+        assertThat(cacheService.getOccupancyAnalyticsFromCache(7L, START, START)).isEmpty();
+        assertThat(cacheService.getOccupancyAnalyticsFromCache(8L, START, END)).isPresent();
+
+        cacheService.putOccupancyAnalyticsInCache(7L, START, END, analytics(7L));
+        assertThat(cacheService.getOccupancyAnalyticsFromCache(7L, START, END)).isPresent();
+    }
+
+    private static OccupancyAnalyticsDTO analytics(Long hotelId) {
+        OccupancyAnalyticsDTO analytics = new OccupancyAnalyticsDTO();
+        analytics.setHotelId(hotelId);
+        return analytics;
+    }
+}
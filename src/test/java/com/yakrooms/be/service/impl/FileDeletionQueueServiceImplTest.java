@@ -0,0 +1,291 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.yakrooms.be.config.ExecutorConfig;
+import com.yakrooms.be.model.entity.PendingFileDeletion;
+import com.yakrooms.be.repository.PendingFileDeletionRepository;
+import com.yakrooms.be.service.UploadThingService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs the deletion queue against uploadthing-delete-stub.js through the real
+ * UploadThingService. A wrapper script logs every invocation and switches the
+ * stub into failure mode while a flag file exists; the repository is an
+ * in-memory table with the same enqueue, findDue and markFailed semantics.
+ */
+class FileDeletionQueueServiceImplTest {
+
+    private static final Path STUB = Path.of("uploadthing-delete-stub.js").toAbsolutePath();
+
+    @TempDir
+    Path tempDir;
+
+    private Path callLog;
+    private Path failFlag;
+    private Path slowFlag;
+    private UploadThingService uploadThingService;
+    private final Map<Long, PendingFileDeletion> table = new TreeMap<>();
+    private final AtomicLong ids = new AtomicLong();
+    private PendingFileDeletionRepository repository;
+
+    @BeforeAll
+    static void requireNode() {
+        Assumptions.assumeTrue(Files.exists(STUB), "stub script not found");
+        try {
+            Process node = new ProcessBuilder("node", "--version").start();
+            Assumptions.assumeTrue(node.waitFor(10, TimeUnit.SECONDS) && node.exitValue() == 0, "node not available");
+        } catch (IOException | InterruptedException e) {
+            Assumptions.abort("node not available");
+        }
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        callLog = tempDir.resolve("calls.log");
+        failFlag = tempDir.resolve("fail");
+        slowFlag = tempDir.resolve("slow");
+        Path wrapper = tempDir.resolve("stub-wrapper.js");
+        Files.writeString(wrapper, String.join("\n",
+                "const fs = require('fs');",
+                "fs.appendFileSync('" + callLog + "', process.argv.slice(2).join(' ') + '\\n');",
+                "if (fs.existsSync('" + failFlag + "')) { process.env.UPLOADTHING_STUB_FAIL = '1'; }",
+                "while (fs.existsSync('" + slowFlag + "')) { Atomics.wait(new Int32Array(new SharedArrayBuffer(4)), 0, 0, 20); }",
+                "require('" + STUB + "');",
+                ""));
+        uploadThingService = new UploadThingService(mock(WebClient.class), Runnable::run, wrapper.toString());
+        repository = inMemoryRepository();
+    }
+
+    @Test
+    void flushDeletesDueKeysInBatches() throws IOException {
+        FileDeletionQueueServiceImpl queue = queue(3, 10, 1000, 60_000);
+        queue.enqueue(List.of("k1", "k2", "k3", "k4", "k5", "k6", "k7"));
+
+        assertThat(queue.flush()).isEqualTo(7);
+
+        assertThat(calls()).containsExactly("k1 k2 k3", "k4 k5 k6", "k7");
+        assertThat(table).isEmpty();
+    }
+
+    @Test
+    void failedBatchIsBackedOffAndStopsTheRun() throws IOException {
+        FileDeletionQueueServiceImpl queue = queue(2, 10, 1000, 60_000);
+        queue.enqueue(List.of("k1", "k2", "k3", "k4"));
+        Files.createFile(failFlag);
+
+        LocalDateTime before = LocalDateTime.now();
+        assertThat(queue.flush()).isZero();
+
+        // One call only: the remaining batch waits for the next run
+        assertThat(calls()).containsExactly("k1 k2");
+        assertThat(row("k1").getAttempts()).isEqualTo(1);
+        assertThat(row("k1").getNextAttemptAt()).isCloseTo(before.plusSeconds(1), within(900, ChronoUnit.MILLIS));
+        assertThat(row("k1").getLastError()).contains("Stubbed failure");
+        assertThat(row("k3").getAttempts()).isZero();
+        assertThat(table).hasSize(4);
+    }
+
+    @Test
+    void backoffDoublesUntilCappedAndGivesUpAfterMaxAttempts() throws IOException {
+        FileDeletionQueueServiceImpl queue = queue(10, 5, 1000, 5000);
+        queue.enqueue(List.of("k1"));
+        Files.createFile(failFlag);
+
+        long[] expectedBackoffMs = { 1000, 2000, 4000, 5000, 5000 };
+        for (int attempt = 1; attempt <= expectedBackoffMs.length; attempt++) {
+            makeDue();
+            LocalDateTime before = LocalDateTime.now();
+            queue.flush();
+
+            PendingFileDeletion row = row("k1");
+            assertThat(row.getAttempts()).isEqualTo(attempt);
+            long delayMs = ChronoUnit.MILLIS.between(before, row.getNextAttemptAt());
+            assertThat(delayMs).isBetween(expectedBackoffMs[attempt - 1] - 100, expectedBackoffMs[attempt - 1] + 900);
+        }
+
+        // Out of attempts: left in the table, never sent again
+        makeDue();
+        queue.flush();
+        assertThat(calls()).hasSize(5);
+        assertThat(table).hasSize(1);
+    }
+
+    @Test
+    void failedKeysAreDeletedOnceTheRemoteRecovers() throws IOException {
+        FileDeletionQueueServiceImpl queue = queue(10, 10, 1000, 60_000);
+        queue.enqueue(List.of("k1", "k2"));
+        Files.createFile(failFlag);
+        queue.flush();
+
+        Files.delete(failFlag);
+        assertThat(queue.flush()).as("not due yet").isZero();
+        makeDue();
+        assertThat(queue.flush()).isEqualTo(2);
+
+        assertThat(calls()).containsExactly("k1 k2", "k1 k2");
+        assertThat(table).isEmpty();
+    }
+
+    @Test
+    void slowDeletesDoNotHoldUpTheScheduler() throws Exception {
+        ThreadPoolTaskExecutor executor = new ExecutorConfig(new SimpleMeterRegistry(), false)
+                .uploadThingExecutor(1, 1, 10);
+        executor.initialize();
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.initialize();
+        try {
+            FileDeletionQueueServiceImpl queue = queue(executor, 10, 10, 1000, 60_000);
+            queue.enqueue(List.of("k1", "k2"));
+            Files.createFile(slowFlag);
+
+            // Same single scheduler thread as another periodic job
+            AtomicInteger otherJobRuns = new AtomicInteger();
+            scheduler.scheduleWithFixedDelay(queue::scheduleFlush, Duration.ofMillis(20));
+            scheduler.scheduleWithFixedDelay(otherJobRuns::incrementAndGet, Duration.ofMillis(20));
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (calls().isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            int runsWhileDeleting = otherJobRuns.get();
+            Thread.sleep(300);
+
+            assertThat(otherJobRuns.get()).as("other job keeps running while the delete is stuck")
+                    .isGreaterThan(runsWhileDeleting + 5);
+            assertThat(calls()).as("no second run while the first is in progress").containsExactly("k1 k2");
+
+            Files.delete(slowFlag);
+            while (!table.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(20);
+            }
+            assertThat(table).isEmpty();
+        } finally {
+            Files.deleteIfExists(slowFlag);
+            scheduler.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void enqueueIsIdempotentAndSkipsForeignUrls() {
+        FileDeletionQueueServiceImpl queue = queue(10, 10, 1000, 60_000);
+        List<String> values = new ArrayList<>(List.of(
+                "https://utfs.io/f/abc123",
+                "abc123",
+                " https://utfs.io/f/abc123 ",
+                "https://cdn.example.com/images/abc123.jpg",
+                "folder/abc123",
+                "   "));
+        values.add(null);
+
+        assertThat(queue.enqueue(values)).isEqualTo(1);
+        assertThat(queue.enqueue(List.of("https://utfs.io/f/abc123", "def456"))).isEqualTo(1);
+        assertThat(queue.enqueue(List.of("abc123", "def456"))).isZero();
+
+        assertThat(table.values()).extracting(PendingFileDeletion::getFileKey).containsExactly("abc123", "def456");
+    }
+
+    private FileDeletionQueueServiceImpl queue(int batchSize, int maxAttempts, long baseBackoffMs, long maxBackoffMs) {
+        return queue(Runnable::run, batchSize, maxAttempts, baseBackoffMs, maxBackoffMs);
+    }
+
+    private FileDeletionQueueServiceImpl queue(Executor executor, int batchSize, int maxAttempts,
+                                               long baseBackoffMs, long maxBackoffMs) {
+        return new FileDeletionQueueServiceImpl(repository, uploadThingService, executor,
+                mock(PlatformTransactionManager.class), batchSize, maxAttempts, baseBackoffMs, maxBackoffMs);
+    }
+
+    private List<String> calls() throws IOException {
+        return Files.exists(callLog) ? Files.readAllLines(callLog) : List.of();
+    }
+
+    private PendingFileDeletion row(String key) {
+        return table.values().stream().filter(p -> p.getFileKey().equals(key)).findFirst().orElseThrow();
+    }
+
+    private void makeDue() {
+        table.values().forEach(p -> p.setNextAttemptAt(LocalDateTime.now().minusSeconds(1)));
+    }
+
+    // INSERT IGNORE on the unique file_key, oldest-due-first paging, batched delete and attempt bump
+    @SuppressWarnings("unchecked")
+    private PendingFileDeletionRepository inMemoryRepository() {
+        PendingFileDeletionRepository repo = mock(PendingFileDeletionRepository.class);
+        when(repo.enqueue(anyString())).thenAnswer(inv -> {
+            String key = inv.getArgument(0);
+            if (table.values().stream().anyMatch(p -> p.getFileKey().equals(key))) {
+                return 0;
+            }
+            PendingFileDeletion row = new PendingFileDeletion();
+            row.setId(ids.incrementAndGet());
+            row.setFileKey(key);
+            row.setNextAttemptAt(LocalDateTime.now());
+            row.setCreatedAt(LocalDateTime.now());
+            table.put(row.getId(), row);
+            return 1;
+        });
+        when(repo.findDue(any(LocalDateTime.class), anyInt(), any(Pageable.class))).thenAnswer(inv -> {
+            LocalDateTime now = inv.getArgument(0);
+            int maxAttempts = inv.getArgument(1);
+            Pageable page = inv.getArgument(2);
+            return table.values().stream()
+                    .filter(p -> !p.getNextAttemptAt().isAfter(now) && p.getAttempts() < maxAttempts)
+                    .sorted(Comparator.comparing(PendingFileDeletion::getNextAttemptAt))
+                    .limit(page.getPageSize())
+                    .toList();
+        });
+        doAnswer(inv -> {
+            ((Iterable<Long>) inv.getArgument(0)).forEach(table::remove);
+            return null;
+        }).when(repo).deleteAllByIdInBatch(any());
+        when(repo.markFailed(any(), any(LocalDateTime.class), anyString())).thenAnswer(inv -> {
+            Collection<Long> failed = inv.getArgument(0);
+            failed.forEach(id -> {
+                PendingFileDeletion row = table.get(id);
+                row.setAttempts(row.getAttempts() + 1);
+                row.setNextAttemptAt(inv.getArgument(1));
+                row.setLastError(inv.getArgument(2));
+            });
+            return failed.size();
+        });
+        return repo;
+    }
+}
@@ -0,0 +1,82 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.yakrooms.be.config.ExecutorConfig;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class FirebaseServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FirebaseServiceImpl service = new FirebaseServiceImpl();
+    private ThreadPoolTaskExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ExecutorConfig(meterRegistry, false).firebaseExecutor(1, 1, 0);
+        executor.initialize();
+        ReflectionTestUtils.setField(service, "firebaseExecutor", executor);
+        ReflectionTestUtils.setField(service, "firebaseTimeoutMs", 100L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void timeoutReturnsAndInterruptsTheWorker() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> service.onFirebaseExecutor(() -> {
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return "late";
+        })).isInstanceOf(RuntimeException.class).hasMessageContaining("timed out");
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(5_000);
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void busyExecutorFailsFast() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        assertThatThrownBy(() -> service.onFirebaseExecutor(() -> "token"))
+                .hasMessageContaining("busy")
+                .hasCauseInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("executor.rejected").tag("name", "firebaseExecutor").counter().count()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    void failuresKeepTheirCause() {
+        assertThatThrownBy(() -> service.onFirebaseExecutor(() -> {
+            throw new IllegalStateException("bad token");
+        })).isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.dto.HotelSuggestionDTO;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.projection.HotelSuggestionSourceProjection;
+import com.yakrooms.be.repository.HotelRepository;
+
+class HotelAutocompleteServiceImplTest {
+
+    private final HotelRepository hotelRepository = mock(HotelRepository.class);
+    private final HotelAutocompleteServiceImpl service = new HotelAutocompleteServiceImpl(hotelRepository, 10);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void indexesImmediatelyOutsideTransaction() {
+        service.indexHotel(hotel(1L, "Hotel Druk", "Thimphu", "Norzin"));
+
+        assertThat(texts("druk")).containsExactly("Hotel Druk");
+    }
+
+    @Test
+    void appliesIndexUpdateOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.indexHotel(hotel(1L, "Hotel Druk", "Thimphu", "Norzin"));
+        assertThat(texts("druk")).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertThat(texts("druk")).containsExactly("Hotel Druk");
+    }
+
+    @Test
+    void rolledBackUpdateNeverReachesIndex() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.indexHotel(hotel(1L, "Hotel Druk", "Thimphu", "Norzin"));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(texts("druk")).isEmpty();
+    }
+
+    @Test
+    void rebuildReplacesIndexAndCountsPlaces() {
+        service.indexHotel(hotel(9L, "Old Lodge", "Paro", "Bondey"));
+        when(hotelRepository.findAllVerifiedSuggestionSources()).thenReturn(List.of(
+                source(1L, "Hotel Druk", "Thimphu", "Norzin"),
+                source(2L, "Hotel Namgay", "Thimphu", "Changzamtok")));
+
+        assertThat(service.rebuildIndex()).isEqualTo(2);
+
+        assertThat(texts("old")).isEmpty();
+        List<HotelSuggestionDTO> districts = service.suggest("thim", 10);
+        assertThat(districts).extracting(HotelSuggestionDTO::getText).containsExactly("Thimphu");
+        assertThat(districts.get(0).getWeight()).isEqualTo(2);
+    }
+
+    private List<String> texts(String prefix) {
+        return service.suggest(prefix, 10).stream().map(HotelSuggestionDTO::getText).toList();
+    }
+
+    private static Hotel hotel(Long id, String name, String district, String locality) {
+        Hotel hotel = new Hotel();
+        hotel.setId(id);
+        hotel.setName(name);
+        hotel.setDistrict(district);
+        hotel.setLocality(locality);
+        hotel.setVerified(true);
+        return hotel;
+    }
+
+    private static HotelSuggestionSourceProjection source(Long id, String name, String district, String locality) {
+        return new HotelSuggestionSourceProjection() {
+            public Long getId() { return id; }
+            public String getName() { return name; }
+            public String getDistrict() { return district; }
+            public String getLocality() { return locality; }
+        };
+    }
+}
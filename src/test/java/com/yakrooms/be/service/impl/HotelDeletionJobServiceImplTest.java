@@ -0,0 +1,271 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.dto.response.HotelDeletionJobResponse;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.HotelDeletionJob;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.model.enums.HotelDeletionStatus;
+import com.yakrooms.be.model.enums.HotelDeletionStep;
+import com.yakrooms.be.model.enums.Role;
+import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.repository.HotelDeletionJobRepository;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.repository.NotificationRepository;
+import com.yakrooms.be.repository.RestaurantRepository;
+import com.yakrooms.be.repository.ReviewRepository;
+import com.yakrooms.be.repository.RoomRepository;
+import com.yakrooms.be.repository.StaffRepository;
+import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.BookingRollupService;
+import com.yakrooms.be.service.CacheService;
+import com.yakrooms.be.service.FileDeletionQueueService;
+import com.yakrooms.be.service.HotelAutocompleteService;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.NotificationCounterService;
+import com.yakrooms.be.service.RoomStatusBoardService;
+import com.yakrooms.be.service.TokenRevocationService;
+
+class HotelDeletionJobServiceImplTest {
+
+    private static final long HOTEL_ID = 7L;
+    private static final long JOB_ID = 70L;
+
+    private final HotelDeletionJobRepository jobRepository = mock(HotelDeletionJobRepository.class);
+    private final HotelRepository hotelRepository = mock(HotelRepository.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final BookingRepository bookingRepository = mock(BookingRepository.class);
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final StaffRepository staffRepository = mock(StaffRepository.class);
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final RestaurantRepository restaurantRepository = mock(RestaurantRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final BookingRollupService bookingRollupService = mock(BookingRollupService.class);
+    private final RoomStatusBoardService roomStatusBoardService = mock(RoomStatusBoardService.class);
+    private final FileDeletionQueueService fileDeletionQueueService = mock(FileDeletionQueueService.class);
+    private final CacheService cacheService = mock(CacheService.class);
+    private final HotelAutocompleteService hotelAutocompleteService = mock(HotelAutocompleteService.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final LoginActivityService loginActivityService = mock(LoginActivityService.class);
+
+    private Hotel hotel;
+    private HotelDeletionJob job;
+
+    @BeforeEach
+    void setUp() {
+        hotel = new Hotel();
+        hotel.setId(HOTEL_ID);
+        hotel.setName("Dochula Resort");
+        hotel.setVerified(true);
+        when(hotelRepository.findById(HOTEL_ID)).thenReturn(Optional.of(hotel));
+
+        job = new HotelDeletionJob();
+        job.setId(JOB_ID);
+        job.setHotelId(HOTEL_ID);
+        job.setStatus(HotelDeletionStatus.PENDING);
+        job.setStep(HotelDeletionStep.NOTIFICATIONS);
+        when(jobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+        when(jobRepository.claim(eq(JOB_ID), any(), any())).thenReturn(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void submitHidesTheHotelAndStartsTheJobAfterCommit() {
+        when(jobRepository.save(any())).thenAnswer(inv -> {
+            HotelDeletionJob saved = inv.getArgument(0);
+            saved.setId(JOB_ID);
+            return saved;
+        });
+        HotelDeletionJobServiceImpl service = service(500, 3);
+
+        TransactionSynchronizationManager.initSynchronization();
+        HotelDeletionJobResponse response = service.submit(HOTEL_ID);
+
+        assertThat(response.getStatus()).isEqualTo(HotelDeletionStatus.PENDING);
+        assertThat(hotel.isVerified()).isFalse();
+        verify(hotelAutocompleteService).removeHotel(HOTEL_ID);
+        verifyNoInteractions(cacheService);
+        verify(jobRepository, never()).claim(anyLong(), any(), any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(cacheService, atLeastOnce()).evictHotelDetailsFromCache(HOTEL_ID);
+        verify(jobRepository).claim(eq(JOB_ID), any(), any());
+    }
+
+    @Test
+    void submitReturnsTheActiveJobInsteadOfStartingAnother() {
+        job.setStatus(HotelDeletionStatus.RUNNING);
+        when(jobRepository.findFirstByHotelIdAndStatusInOrderByIdDesc(eq(HOTEL_ID), any())).thenReturn(Optional.of(job));
+
+        HotelDeletionJobResponse response = service(500, 3).submit(HOTEL_ID);
+
+        assertThat(response.getJobId()).isEqualTo(JOB_ID);
+        assertThat(hotel.isVerified()).isTrue();
+        verify(jobRepository, never()).save(any());
+    }
+
+    @Test
+    void tablesAreDeletedInChunksWithACheckpointPerChunk() {
+        when(notificationRepository.findIdsByHotelId(eq(HOTEL_ID), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L), List.of());
+        when(bookingRepository.findIdsByHotelId(eq(HOTEL_ID), any(Pageable.class)))
+                .thenReturn(List.of(10L), List.of());
+
+        run(service(2, 3));
+
+        InOrder order = inOrder(notificationRepository, bookingRepository, jobRepository, bookingRollupService);
+        order.verify(notificationRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        order.verify(jobRepository).recordProgress(eq(JOB_ID), eq(HotelDeletionStep.NOTIFICATIONS), eq(2L), any());
+        order.verify(notificationRepository).deleteAllByIdInBatch(List.of(3L, 4L));
+        order.verify(jobRepository).recordProgress(eq(JOB_ID), eq(HotelDeletionStep.NOTIFICATIONS), eq(2L), any());
+        order.verify(notificationRepository).deleteAllByIdInBatch(List.of(5L));
+        order.verify(jobRepository).recordProgress(eq(JOB_ID), eq(HotelDeletionStep.NOTIFICATIONS), eq(1L), any());
+        order.verify(jobRepository).recordProgress(eq(JOB_ID), eq(HotelDeletionStep.BOOKINGS), eq(0L), any());
+        order.verify(bookingRepository).deleteAllByIdInBatch(List.of(10L));
+        order.verify(bookingRollupService).deleteHotelRollups(HOTEL_ID);
+
+        verify(hotelRepository).delete(hotel);
+        assertThat(job.getStatus()).isEqualTo(HotelDeletionStatus.COMPLETED);
+        assertThat(job.getStep()).isEqualTo(HotelDeletionStep.DONE);
+    }
+
+    @Test
+    void detachedAdminsLoseTheRoleTokensAndLoginCacheEntry() {
+        User admin = new User();
+        admin.setId(5L);
+        admin.setEmail("owner@dochula.bt");
+        admin.setHotel(hotel);
+        admin.addRole(Role.GUEST);
+        admin.addRole(Role.HOTEL_ADMIN);
+        job.setStep(HotelDeletionStep.USERS);
+        when(userRepository.findIdsByHotelId(eq(HOTEL_ID), any(Pageable.class))).thenReturn(List.of(5L), List.of());
+        when(userRepository.findAllById(List.of(5L))).thenReturn(List.of(admin));
+
+        run(service(2, 3));
+
+        assertThat(admin.getHotel()).isNull();
+        assertThat(admin.getRoles()).containsExactly(Role.GUEST);
+        verify(tokenRevocationService).revokeAllForUsers(List.of(5L));
+        verify(loginActivityService).evictUser("owner@dochula.bt");
+    }
+
+    @Test
+    void resumedJobStartsAtItsCheckpointedStep() {
+        job.setStep(HotelDeletionStep.ROOMS);
+        job.setStatus(HotelDeletionStatus.RUNNING);
+
+        run(service(2, 3));
+
+        verify(notificationRepository, never()).findIdsByHotelId(anyLong(), any());
+        verify(bookingRepository, never()).findIdsByHotelId(anyLong(), any());
+        verify(roomRepository).findIdsByHotelId(eq(HOTEL_ID), any(Pageable.class));
+        verify(roomStatusBoardService).evictHotel(HOTEL_ID);
+        assertThat(job.getStatus()).isEqualTo(HotelDeletionStatus.COMPLETED);
+    }
+
+    @Test
+    void jobClaimedElsewhereIsNotRun() {
+        when(jobRepository.claim(eq(JOB_ID), any(), any())).thenReturn(0);
+
+        run(service(2, 3));
+
+        verifyNoInteractions(notificationRepository);
+        verify(hotelRepository, never()).delete(any(Hotel.class));
+    }
+
+    @Test
+    void failedRunRestartsFromTheFirstStepUntilMaxAttempts() {
+        job.setStep(HotelDeletionStep.ROOMS);
+        when(roomRepository.findIdsByHotelId(eq(HOTEL_ID), any(Pageable.class))).thenReturn(List.of(20L));
+        doThrow(new IllegalStateException("FK violation")).when(roomRepository).deleteAllByIdInBatch(any());
+        HotelDeletionJobServiceImpl service = service(2, 2);
+
+        run(service);
+
+        assertThat(job.getAttempts()).isEqualTo(1);
+        assertThat(job.getStep()).isEqualTo(HotelDeletionStep.NOTIFICATIONS);
+        assertThat(job.getStatus()).isEqualTo(HotelDeletionStatus.PENDING);
+        assertThat(job.getLastError()).isEqualTo("FK violation");
+
+        run(service);
+
+        assertThat(job.getAttempts()).isEqualTo(2);
+        assertThat(job.getStatus()).isEqualTo(HotelDeletionStatus.FAILED);
+        verify(hotelRepository, never()).delete(any(Hotel.class));
+    }
+
+    @Test
+    void shutdownPausesAfterTheCurrentChunkAndRequeues() {
+        HotelDeletionJobServiceImpl service = service(2, 3);
+        when(notificationRepository.findIdsByHotelId(eq(HOTEL_ID), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+        doAnswer(inv -> {
+            service.shutdown();
+            return null;
+        }).when(notificationRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+
+        run(service);
+
+        verify(notificationRepository, never()).deleteAllByIdInBatch(List.of(3L));
+        verify(jobRepository).recordProgress(eq(JOB_ID), eq(HotelDeletionStep.NOTIFICATIONS), eq(2L), any());
+        assertThat(job.getStatus()).isEqualTo(HotelDeletionStatus.PENDING);
+        verify(hotelRepository, never()).delete(any(Hotel.class));
+    }
+
+    @Test
+    void isBeingDeletedReflectsActiveJobs() {
+        when(jobRepository.existsByHotelIdAndStatusIn(eq(HOTEL_ID), any())).thenReturn(true);
+
+        assertThat(service(2, 3).isBeingDeleted(HOTEL_ID)).isTrue();
+        assertThat(service(2, 3).isBeingDeleted(8L)).isFalse();
+        assertThat(service(2, 3).isBeingDeleted(null)).isFalse();
+    }
+
+    private void run(HotelDeletionJobServiceImpl service) {
+        when(jobRepository.findRunnableIds(any())).thenReturn(List.of(JOB_ID));
+        service.processPendingJobs();
+    }
+
+    private HotelDeletionJobServiceImpl service(int chunkSize, int maxAttempts) {
+        return new HotelDeletionJobServiceImpl(jobRepository, hotelRepository, notificationRepository,
+                bookingRepository, roomRepository, staffRepository, reviewRepository, restaurantRepository,
+                userRepository, bookingRollupService, roomStatusBoardService, fileDeletionQueueService,
+                cacheService, hotelAutocompleteService, mock(NotificationCounterService.class),
+                tokenRevocationService, loginActivityService, Runnable::run, mock(PlatformTransactionManager.class),
+                chunkSize, 300_000, maxAttempts);
+    }
+}
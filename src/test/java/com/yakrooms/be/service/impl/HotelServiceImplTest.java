@@ -0,0 +1,121 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import com.yakrooms.be.dto.cache.HotelCardCacheDto;
+import com.yakrooms.be.dto.cache.PageCacheDto;
+import com.yakrooms.be.dto.mapper.CacheMapper;
+import com.yakrooms.be.dto.mapper.HotelMapper;
+import com.yakrooms.be.dto.request.HotelRequest;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.enums.HotelType;
+import com.yakrooms.be.projection.HotelCardProjection;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.repository.NotificationRepository;
+import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.CacheService;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.FileDeletionQueueService;
+import com.yakrooms.be.service.HotelAutocompleteService;
+import com.yakrooms.be.service.HotelDeletionJobService;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.MailService;
+import com.yakrooms.be.service.NotificationService;
+
+class HotelServiceImplTest {
+
+    private final HotelRepository hotelRepository = mock(HotelRepository.class);
+    private final CacheService cacheService = mock(CacheService.class);
+    private final FileDeletionQueueService fileDeletionQueueService = mock(FileDeletionQueueService.class);
+    private final CatalogVersionService catalogVersionService = mock(CatalogVersionService.class);
+
+    private final HotelServiceImpl service = new HotelServiceImpl(hotelRepository, mock(UserRepository.class),
+            mock(NotificationRepository.class), new HotelMapper(), mock(MailService.class), cacheService,
+            new CacheMapper(), mock(NotificationService.class), mock(HotelAutocompleteService.class),
+            mock(Executor.class), fileDeletionQueueService, mock(HotelDeletionJobService.class),
+            mock(LoginActivityService.class), catalogVersionService);
+
+    @Test
+    void photoOnlyEditMovesTheCatalogVersion() {
+        Hotel hotel = new Hotel();
+        hotel.setId(5L);
+        hotel.setEmail("desk@dragonnest.bt");
+        hotel.setPhotoUrls(new HashSet<>(Set.of("https://utfs.io/f/old.jpg")));
+        when(hotelRepository.findById(5L)).thenReturn(Optional.of(hotel));
+        when(hotelRepository.save(any(Hotel.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        HotelRequest request = new HotelRequest();
+        request.setPhotoUrls(List.of("https://utfs.io/f/new.jpg"));
+        service.updateHotel(5L, request);
+
+        assertThat(hotel.getPhotoUrls()).containsExactly("https://utfs.io/f/new.jpg");
+        verify(catalogVersionService).markHotelChanged(5L);
+        verify(fileDeletionQueueService).enqueue(List.of("https://utfs.io/f/old.jpg"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cardsKeepOnlyTheSelectedFieldsButCacheWholeCards() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        when(cacheService.getHotelCardsPageFromCache("lowest_price", 0, 10)).thenReturn(Optional.empty());
+        when(hotelRepository.findVerifiedHotelCardsByLowestPrice(pageable)).thenReturn(new PageImpl<>(List.of(
+                new Card(1L, "Dragon Nest", 2500.0), new Card(2L, "Taktsang View", 4000.0)), pageable, 2));
+
+        PageCacheDto<HotelCardCacheDto> page = service.getHotelCards(pageable, false, Set.of("id", "lowestPrice"))
+                .getContent().get(0);
+
+        assertThat(page.getContent())
+                .extracting(HotelCardCacheDto::getId, HotelCardCacheDto::getName, HotelCardCacheDto::getLowestPrice)
+                .containsExactly(tuple(1L, null, 2500.0), tuple(2L, null, 4000.0));
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        ArgumentCaptor<PageCacheDto<HotelCardCacheDto>> cached = ArgumentCaptor.forClass(PageCacheDto.class);
+        verify(cacheService).putHotelCardsPageInCache(eq("lowest_price"), eq(0), eq(10), cached.capture());
+        assertThat(cached.getValue().getContent()).extracting(HotelCardCacheDto::getName)
+                .containsExactly("Dragon Nest", "Taktsang View");
+    }
+
+    @Test
+    void sortedCardRequestsAreRejected() {
+        PageRequest byName = PageRequest.of(0, 10, Sort.by("name"));
+
+        assertThatThrownBy(() -> service.getHotelCards(byName, true, HotelCardCacheDto.FIELDS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("sort is not supported");
+        verifyNoInteractions(hotelRepository);
+        verify(cacheService, never()).getHotelCardsPageFromCache(anyString(), anyInt(), anyInt());
+    }
+
+    private record Card(Long id, String name, Double lowestPrice) implements HotelCardProjection {
+        public Long getId() { return id; }
+        public String getName() { return name; }
+        public String getDistrict() { return "Thimphu"; }
+        public String getLocality() { return "Core"; }
+        public HotelType getHotelType() { return HotelType.THREE_STAR; }
+        public Double getLowestPrice() { return lowestPrice; }
+        public String getPhotoUrl() { return null; }
+        public Double getAverageRating() { return 4.5; }
+    }
+}
@@ -0,0 +1,252 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yakrooms.be.config.JsonCodecs;
+import com.yakrooms.be.exception.IdempotencyKeyReuseException;
+import com.yakrooms.be.exception.RequestInProgressException;
+import com.yakrooms.be.exception.ResourceConflictException;
+import com.yakrooms.be.service.IdempotencyService;
+
+/**
+ * Runs the service against an in-memory stand-in for the Redis commands it
+ * uses (SET NX PX, GET, SET PX and the claim refresh/release scripts) that
+ * honours expiry times.
+ */
+class IdempotencyServiceImplTest {
+
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private final AtomicInteger runs = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdempotencyServiceImpl service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenAnswer(inv -> {
+            Entry entry = Entry.expiringIn(inv.getArgument(1), inv.<Duration>getArgument(2).toMillis());
+            return live(inv.getArgument(0)) == null && store.putIfAbsent(inv.getArgument(0), entry) == null;
+        });
+        when(values.get(anyString())).thenAnswer(inv -> {
+            Entry entry = live(inv.getArgument(0));
+            return entry != null ? entry.value() : null;
+        });
+        doAnswer(inv -> {
+            store.put(inv.getArgument(0), Entry.expiringIn(inv.getArgument(1), inv.<Duration>getArgument(2).toMillis()));
+            return null;
+        }).when(values).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+            RedisScript<Long> script = inv.getArgument(0);
+            String key = inv.<List<String>>getArgument(1).get(0);
+            Object[] args = inv.getArguments();
+            Entry entry = live(key);
+            if (entry == null || !entry.value().equals(args[2])) {
+                return 0L;
+            }
+            if (script.getScriptAsString().contains("PEXPIRE")) {
+                store.put(key, Entry.expiringIn(entry.value(), Long.parseLong((String) args[3])));
+            } else {
+                store.remove(key);
+            }
+            return 1L;
+        });
+        service = service(60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void retryReplaysTheStoredResponse() {
+        ResponseEntity<String> first = execute("key-1", "request", created("booking-1"));
+        ResponseEntity<String> retry = execute("key-1", "request", created("booking-2"));
+
+        assertThat(first.getBody()).isEqualTo("booking-1");
+        assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getBody()).isEqualTo("booking-1");
+        assertThat(retry.getHeaders().getFirst(IdempotencyService.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void reusingAKeyForAnotherRequestIsRejected() {
+        execute("key-1", "request", created("booking-1"));
+
+        assertThatThrownBy(() -> execute("key-1", "other request", created("booking-2")))
+                .isInstanceOf(IdempotencyKeyReuseException.class);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void concurrentDuplicateGetsRetryAfterWithoutWaiting() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<ResponseEntity<String>> first = CompletableFuture.supplyAsync(() ->
+                execute("key-1", "request", () -> {
+                    started.countDown();
+                    await(release);
+                    return ResponseEntity.status(HttpStatus.CREATED).body("booking-1");
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> execute("key-1", "request", created("booking-2")))
+                .isInstanceOfSatisfying(RequestInProgressException.class,
+                        e -> assertThat(e.getRetryAfterSeconds()).isEqualTo(1));
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(1_000);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getBody()).isEqualTo("booking-1");
+        assertThat(execute("key-1", "request", created("booking-3")).getBody()).isEqualTo("booking-1");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void claimIsRefreshedWhileTheFirstCallRuns() {
+        service.shutdown();
+        service = service(300);
+
+        ResponseEntity<String> first = execute("key-1", "request", () -> {
+            sleep(1_000);
+            // Well past the 300 ms in-flight TTL, the claim still blocks duplicates
+            assertThatThrownBy(() -> execute("key-1", "request", created("booking-2")))
+                    .isInstanceOf(RequestInProgressException.class);
+            return ResponseEntity.status(HttpStatus.CREATED).body("booking-1");
+        });
+
+        assertThat(first.getBody()).isEqualTo("booking-1");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void expiredClaimOfADeadCallLetsARetryRun() {
+        service.shutdown();
+        service = service(300);
+        store.put(key("key-1"), Entry.expiringIn("{\"state\":\"pending\",\"fingerprint\":\"x\",\"claim\":\"dead\"}", 300));
+
+        sleep(400);
+
+        assertThat(execute("key-1", "request", created("booking-1")).getBody()).isEqualTo("booking-1");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void errorResponsesReleaseTheKey() {
+        execute("key-1", "request", () -> ResponseEntity.status(HttpStatus.CONFLICT).body("room taken"));
+
+        assertThat(execute("key-1", "request", created("booking-1")).getBody()).isEqualTo("booking-1");
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void unstoredResponseKeepsTheKeyInsteadOfReleasingIt() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(values).set(anyString(), contains("\"done\""), any(Duration.class));
+
+        execute("key-1", "request", created("booking-1"));
+
+        assertThatThrownBy(() -> execute("key-1", "request", created("booking-2")))
+                .isInstanceOf(ResourceConflictException.class)
+                .isNotInstanceOf(RequestInProgressException.class)
+                .hasMessageContaining("already processed");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void runsWithoutIdempotencyWhenRedisIsDown() {
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        execute("key-1", "request", created("booking-1"));
+        execute("key-1", "request", created("booking-2"));
+
+        assertThat(runs).hasValue(2);
+    }
+
+    private IdempotencyServiceImpl service(long inFlightTtlMs) {
+        return new IdempotencyServiceImpl(redisTemplate, objectMapper, new JsonCodecs(objectMapper), 86_400_000, inFlightTtlMs, 1);
+    }
+
+    private ResponseEntity<String> execute(String idempotencyKey, String request,
+                                           Supplier<ResponseEntity<String>> action) {
+        return service.execute("booking-create", idempotencyKey, request, String.class, () -> {
+            runs.incrementAndGet();
+            return action.get();
+        });
+    }
+
+    private static Supplier<ResponseEntity<String>> created(String body) {
+        return () -> ResponseEntity.status(HttpStatus.CREATED).body(body);
+    }
+
+    private static String key(String idempotencyKey) {
+        return "idempotency:booking-create:anonymous:" + idempotencyKey;
+    }
+
+    private Entry live(String key) {
+        Entry entry = store.get(key);
+        if (entry != null && entry.expiresAt() <= System.currentTimeMillis()) {
+            store.remove(key, entry);
+            return null;
+        }
+        return entry;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record Entry(String value, long expiresAt) {
+        static Entry expiringIn(String value, long ttlMs) {
+            return new Entry(value, System.currentTimeMillis() + ttlMs);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.dto.cache.LoginUserSnapshot;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.model.enums.Role;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoginActivityServiceImplTest {
+
+    private static final String EMAIL = "owner@dochula.bt";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TokenRevocationServiceImpl tokenRevocationService = new TokenRevocationServiceImpl(
+            mock(StringRedisTemplate.class), noContainer(), meterRegistry, "local", "key", "channel", 900_000, 100, 0.001);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void snapshotIsDetachedFromTheUserItWasTakenFrom() {
+        User admin = admin();
+        LoginUserSnapshot snapshot = LoginUserSnapshot.of(admin, System.currentTimeMillis());
+
+        admin.removeRole(Role.HOTEL_ADMIN);
+        admin.setHotel(null);
+
+        assertThat(snapshot.roles()).containsExactlyInAnyOrder(Role.GUEST, Role.HOTEL_ADMIN);
+        assertThat(snapshot.hotelId()).isEqualTo(7L);
+        assertThatThrownBy(() -> snapshot.roles().remove(Role.GUEST)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void everyLoginGetsItsOwnUser() {
+        LoginActivityServiceImpl service = service(30_000);
+        service.cacheUser(LoginUserSnapshot.of(admin(), System.currentTimeMillis()));
+
+        User first = service.getCachedUser(EMAIL).toUser();
+        first.setName("Changed");
+        first.removeRole(Role.HOTEL_ADMIN);
+        User second = service.getCachedUser(EMAIL.toUpperCase()).toUser();
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getName()).isEqualTo("Pema");
+        assertThat(second.getRoles()).contains(Role.HOTEL_ADMIN);
+        assertThat(second.getHotel().getId()).isEqualTo(7L);
+    }
+
+    @Test
+    void entryExpiresTtlAfterTheRowWasLoaded() {
+        LoginActivityServiceImpl service = service(1_000);
+        service.cacheUser(LoginUserSnapshot.of(admin(), System.currentTimeMillis() - 2_000));
+
+        assertThat(service.getCachedUser(EMAIL)).isNull();
+        assertThat(meterRegistry.counter("login.user.cache", "result", "miss").count()).isEqualTo(1);
+    }
+
+    @Test
+    void revocationAfterTheLoadMakesTheEntryAMiss() throws InterruptedException {
+        LoginActivityServiceImpl service = service(30_000);
+        service.cacheUser(LoginUserSnapshot.of(admin(), System.currentTimeMillis()));
+
+        // What a role removal on any node does
+        tokenRevocationService.revokeAllForUser(5L);
+        assertThat(service.getCachedUser(EMAIL)).isNull();
+
+        Thread.sleep(5);
+        service.cacheUser(LoginUserSnapshot.of(admin(), System.currentTimeMillis()));
+        assertThat(service.getCachedUser(EMAIL)).isNotNull();
+    }
+
+    @Test
+    void evictionIsRepeatedAfterCommit() {
+        LoginActivityServiceImpl service = service(30_000);
+        service.cacheUser(LoginUserSnapshot.of(admin(), System.currentTimeMillis()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.evictUser(EMAIL);
+        assertThat(service.getCachedUser(EMAIL)).isNull();
+
+        // A login before the commit still reads the old row
+        service.cacheUser(LoginUserSnapshot.of(admin(), System.currentTimeMillis()));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(service.getCachedUser(EMAIL)).isNull();
+    }
+
+    private LoginActivityServiceImpl service(long ttlMs) {
+        return new LoginActivityServiceImpl(mock(DataSource.class), mock(PlatformTransactionManager.class),
+                tokenRevocationService, meterRegistry, 500, ttlMs, 100);
+    }
+
+    private static User admin() {
+        Hotel hotel = new Hotel();
+        hotel.setId(7L);
+        User user = new User();
+        user.setId(5L);
+        user.setEmail(EMAIL);
+        user.setName("Pema");
+        user.setHotel(hotel);
+        user.addRole(Role.GUEST);
+        user.addRole(Role.HOTEL_ADMIN);
+        return user;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<RedisMessageListenerContainer> noContainer() {
+        return mock(ObjectProvider.class);
+    }
+}
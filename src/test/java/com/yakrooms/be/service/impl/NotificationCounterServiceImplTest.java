@@ -0,0 +1,191 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.model.entity.Notification;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.model.listener.NotificationCounterListener;
+import com.yakrooms.be.repository.NotificationRepository;
+import com.yakrooms.be.service.NotificationCounterService;
+
+/**
+ * Unread counters against an in-memory stand-in for the Redis value and
+ * script operations the service uses.
+ */
+class NotificationCounterServiceImplTest {
+
+    private static final String KEY = "notifications:unread:5";
+
+    private final Map<String, String> redis = new HashMap<>();
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private NotificationCounterServiceImpl service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        when(values.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenAnswer(inv -> redis.putIfAbsent(inv.getArgument(0), inv.getArgument(1)) == null);
+        doAnswer(inv -> redis.put(inv.getArgument(0), inv.getArgument(1)))
+                .when(values).set(anyString(), anyString(), any(Duration.class));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("1"))).thenAnswer(inv -> {
+            String key = inv.<List<String>>getArgument(1).get(0);
+            return redis.computeIfPresent(key, (k, v) -> Long.toString(Long.parseLong(v) + 1)) == null ? -1L
+                    : Long.parseLong(redis.get(key));
+        });
+        when(redisTemplate.delete(any(Collection.class))).thenAnswer(inv -> {
+            long removed = 0;
+            for (Object key : inv.<Collection<?>>getArgument(0)) {
+                removed += redis.remove(key) != null ? 1 : 0;
+            }
+            return removed;
+        });
+        service = new NotificationCounterServiceImpl(redisTemplate, notificationRepository, 3_600_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void missCountsOnceThenServesFromRedis() {
+        when(notificationRepository.countUnreadByUserId(5L)).thenReturn(3L);
+
+        assertThat(service.getUnreadCount(5L)).isEqualTo(3);
+        assertThat(service.getUnreadCount(5L)).isEqualTo(3);
+
+        verify(notificationRepository, times(1)).countUnreadByUserId(5L);
+        assertThat(redis).containsEntry(KEY, "3");
+    }
+
+    @Test
+    void missDoesNotOverwriteACounterStoredMeanwhile() {
+        when(notificationRepository.countUnreadByUserId(5L)).thenAnswer(inv -> {
+            redis.put(KEY, "4");
+            return 3L;
+        });
+
+        service.getUnreadCount(5L);
+
+        assertThat(redis).containsEntry(KEY, "4");
+    }
+
+    @Test
+    void incrementOnlyTouchesExistingCounters() {
+        service.increment(5L);
+        assertThat(redis).doesNotContainKey(KEY);
+
+        redis.put(KEY, "2");
+        service.increment(5L);
+        assertThat(redis).containsEntry(KEY, "3");
+    }
+
+    @Test
+    void changesApplyOnCommitAndNotOnRollback() {
+        redis.put(KEY, "2");
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.increment(5L);
+        assertThat(redis).containsEntry(KEY, "2");
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertThat(redis).containsEntry(KEY, "2");
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.increment(5L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(redis).containsEntry(KEY, "3");
+    }
+
+    @Test
+    void resetAndEvict() {
+        redis.put(KEY, "9");
+        service.reset(5L);
+        assertThat(redis).containsEntry(KEY, "0");
+
+        redis.put("notifications:unread:6", "1");
+        service.evict(Arrays.asList(5L, 6L, 6L, null));
+        assertThat(redis).isEmpty();
+    }
+
+    @Test
+    void failedIncrementDropsTheCounter() {
+        redis.put(KEY, "2");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), eq("1")))
+                .thenThrow(new RedisConnectionFailureException("timeout"));
+
+        service.increment(5L);
+
+        assertThat(redis).doesNotContainKey(KEY);
+    }
+
+    @Test
+    void redisOutageFallsBackToTheDatabase() {
+        when(redisTemplate.opsForValue()).thenThrow(new RedisConnectionFailureException("down"));
+        when(notificationRepository.countUnreadByUserId(5L)).thenReturn(7L);
+
+        assertThat(service.getUnreadCount(5L)).isEqualTo(7);
+    }
+
+    @Test
+    void listenerCountsNewUnreadNotificationsAndEvictsOnChange() {
+        NotificationCounterService counters = mock(NotificationCounterService.class);
+        NotificationCounterListener listener = new NotificationCounterListener(counters);
+        User user = new User();
+        user.setId(5L);
+        Notification notification = new Notification();
+        notification.setUser(user);
+
+        listener.onNotificationCreated(notification);
+        notification.setRead(true);
+        listener.onNotificationCreated(notification);
+        listener.onNotificationChanged(notification);
+
+        verify(counters, times(1)).increment(5L);
+        verify(counters).evict(List.of(5L));
+        verify(counters, never()).reset(any());
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
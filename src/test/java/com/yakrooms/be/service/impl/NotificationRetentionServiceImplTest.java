@@ -0,0 +1,135 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.yakrooms.be.repository.NotificationArchiveRepository;
+import com.yakrooms.be.repository.NotificationRepository;
+import com.yakrooms.be.service.NotificationCounterService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationRetentionServiceImplTest {
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationArchiveRepository archiveRepository = mock(NotificationArchiveRepository.class);
+    private final NotificationCounterService counterService = mock(NotificationCounterService.class);
+    private final MockEnvironment environment = new MockEnvironment();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        // Only BOOKING_CREATED expires unless a test says otherwise
+        environment.setProperty("app.notifications.retention.days.BOOKING_CREATED", "30");
+        when(notificationRepository.findUserIdsByIds(anyList())).thenReturn(List.of(5L));
+    }
+
+    @Test
+    void expiredRowsAreArchivedAndDeletedChunkByChunk() {
+        when(notificationRepository.findIdsByTypeCreatedBefore(eq("BOOKING_CREATED"), any(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+
+        int removed = service(0, true, 2, 1000).purgeExpired();
+
+        assertThat(removed).isEqualTo(5);
+        InOrder order = inOrder(archiveRepository, counterService, notificationRepository);
+        order.verify(archiveRepository).archive(List.of(1L, 2L));
+        order.verify(counterService).evict(List.of(5L));
+        order.verify(notificationRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        order.verify(archiveRepository).archive(List.of(3L, 4L));
+        order.verify(notificationRepository).deleteAllByIdInBatch(List.of(3L, 4L));
+        order.verify(archiveRepository).archive(List.of(5L));
+        order.verify(notificationRepository).deleteAllByIdInBatch(List.of(5L));
+        // A short chunk means the type is drained; no extra empty query
+        verify(notificationRepository, times(3)).findIdsByTypeCreatedBefore(eq("BOOKING_CREATED"), any(), any(Pageable.class));
+        assertThat(meterRegistry.counter("notifications.retention.archived").count()).isEqualTo(5);
+    }
+
+    @Test
+    void retentionIsPerTypeAndZeroKeepsATypeForever() {
+        environment.setProperty("app.notifications.retention.days.REMINDER", "7");
+
+        LocalDateTime before = LocalDateTime.now();
+        service(0, true, 2, 1000).purgeExpired();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(notificationRepository).findIdsByTypeCreatedBefore(eq("REMINDER"), cutoff.capture(), any(Pageable.class));
+        assertThat(cutoff.getValue()).isCloseTo(before.minusDays(7), within(5, ChronoUnit.SECONDS));
+        verify(notificationRepository).findIdsByTypeCreatedBefore(eq("BOOKING_CREATED"), any(), any(Pageable.class));
+        verify(notificationRepository, never()).findIdsByTypeCreatedBefore(eq("ADMIN_ALERT"), any(), any(Pageable.class));
+        verify(notificationRepository, never()).findIdsByOtherTypesCreatedBefore(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void defaultRetentionAlsoCoversUnknownTypes() {
+        service(90, true, 2, 1000).purgeExpired();
+
+        verify(notificationRepository).findIdsByTypeCreatedBefore(eq("ADMIN_ALERT"), any(), any(Pageable.class));
+        verify(notificationRepository).findIdsByOtherTypesCreatedBefore(any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    void runStopsAtTheRowLimitAndShrinksTheLastChunk() {
+        environment.setProperty("app.notifications.retention.days.REMINDER", "7");
+        when(notificationRepository.findIdsByTypeCreatedBefore(anyString(), any(), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        int removed = service(0, true, 2, 3).purgeExpired();
+
+        assertThat(removed).isEqualTo(3);
+        ArgumentCaptor<Pageable> pages = ArgumentCaptor.forClass(Pageable.class);
+        verify(notificationRepository, times(2)).findIdsByTypeCreatedBefore(anyString(), any(), pages.capture());
+        assertThat(pages.getAllValues()).extracting(Pageable::getPageSize).containsExactly(2, 1);
+    }
+
+    @Test
+    void withoutArchiveRowsAreOnlyDeleted() {
+        when(notificationRepository.findIdsByTypeCreatedBefore(eq("BOOKING_CREATED"), any(), any(Pageable.class)))
+                .thenReturn(List.of(1L));
+
+        service(0, false, 2, 1000).purgeExpired();
+
+        verify(archiveRepository, never()).archive(any());
+        verify(notificationRepository).deleteAllByIdInBatch(List.of(1L));
+        assertThat(meterRegistry.counter("notifications.retention.deleted").count()).isEqualTo(1);
+    }
+
+    @Test
+    void archiveIsTrimmedInBoundedDeletes() {
+        when(archiveRepository.deleteArchivedBefore(any(), anyInt())).thenReturn(2, 2, 1);
+
+        service(0, true, 2, 1000).purgeExpired();
+
+        verify(archiveRepository, times(3)).deleteArchivedBefore(any(), eq(2));
+        assertThat(meterRegistry.counter("notifications.retention.archive.trimmed").count()).isEqualTo(5);
+    }
+
+    private NotificationRetentionServiceImpl service(int defaultDays, boolean archive, int chunkSize, int maxRowsPerRun) {
+        return new NotificationRetentionServiceImpl(notificationRepository, archiveRepository, counterService,
+                mock(PlatformTransactionManager.class), meterRegistry, environment,
+                defaultDays, archive, 365, chunkSize, maxRowsPerRun, 0);
+    }
+}
@@ -0,0 +1,111 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.yakrooms.be.dto.OccupancyAnalyticsDTO;
+import com.yakrooms.be.model.entity.Booking;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.model.enums.BookingStatus;
+import com.yakrooms.be.model.listener.OccupancyAnalyticsListener;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.service.CacheService;
+
+class OccupancyAnalyticsServiceImplTest {
+
+    private final DataSource dataSource = mock(DataSource.class);
+    private final HotelRepository hotelRepository = mock(HotelRepository.class);
+    private final CacheService cacheService = mock(CacheService.class);
+    private final OccupancyAnalyticsServiceImpl service = new OccupancyAnalyticsServiceImpl(dataSource, hotelRepository,
+            cacheService, Integer.MIN_VALUE, 1, 366, 4096);
+    private final OccupancyAnalyticsListener listener = new OccupancyAnalyticsListener(service);
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void cachedWindowIsServedWithoutTouchingTheDatabase() {
+        OccupancyAnalyticsDTO cached = new OccupancyAnalyticsDTO();
+        when(cacheService.getOccupancyAnalyticsFromCache(7L, LocalDate.of(2025, 3, 1), LocalDate.of(2025, 3, 31)))
+                .thenReturn(Optional.of(cached));
+
+        assertThat(service.getOccupancyAnalytics(7L, "2025-03-01", "2025-03-31")).isSameAs(cached);
+        verifyNoInteractions(dataSource, hotelRepository);
+    }
+
+    @Test
+    void bookingCreateAndCancelEvictTheHotelOnceAfterCommit() {
+        Booking booking = booking(7L);
+
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onChanged(booking);
+        booking.setStatus(BookingStatus.CANCELLED);
+        listener.onChanged(booking);
+        verify(cacheService, never()).evictOccupancyAnalyticsFromCache(7L);
+        commit();
+
+        verify(cacheService, times(1)).evictOccupancyAnalyticsFromCache(7L);
+    }
+
+    @Test
+    void roomChangesEvictTheirHotel() {
+        Hotel hotel = new Hotel();
+        hotel.setId(8L);
+        Room room = new Room();
+        room.setHotel(hotel);
+
+        listener.onChanged(room);
+
+        verify(cacheService).evictOccupancyAnalyticsFromCache(8L);
+    }
+
+    @Test
+    void rolledBackChangeKeepsTheCache() {
+        TransactionSynchronizationManager.initSynchronization();
+        listener.onChanged(booking(7L));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        verify(cacheService, never()).evictOccupancyAnalyticsFromCache(7L);
+        assertThat(TransactionSynchronizationManager.getResource(service)).isNull();
+    }
+
+    private static void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private static Booking booking(Long hotelId) {
+        Hotel hotel = new Hotel();
+        hotel.setId(hotelId);
+        Booking booking = new Booking();
+        booking.setHotel(hotel);
+        booking.setStatus(BookingStatus.CONFIRMED);
+        return booking;
+    }
+}
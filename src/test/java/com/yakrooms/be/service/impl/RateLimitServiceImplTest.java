@@ -0,0 +1,114 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mock.env.MockEnvironment;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RateLimitServiceImplTest {
+
+    private static final long MS = 1_000_000L;
+
+    // 10 tokens, one per 100 ms
+    private final RateLimitServiceImpl.RouteClass route =
+            new RateLimitServiceImpl.RouteClass("search", List.of("/api/hotels/**"), Set.of(), 10, 0.01);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fullBucketAdmitsItsCapacityThenWaitsForTheNextToken() {
+        RateLimitServiceImpl.Bucket bucket = new RateLimitServiceImpl.Bucket(route, 0);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryTake(0)).isZero();
+        }
+        assertThat(bucket.tryTake(0)).isEqualTo(100);
+        // 40 ms into the refill the next token is 60 ms away
+        assertThat(bucket.tryTake(40 * MS)).isEqualTo(60);
+        assertThat(bucket.tryTake(101 * MS)).isZero();
+    }
+
+    @Test
+    void refillIsCappedAtCapacity() {
+        RateLimitServiceImpl.Bucket bucket = new RateLimitServiceImpl.Bucket(route, 0);
+        for (int i = 0; i < 10; i++) {
+            bucket.tryTake(0);
+        }
+
+        long later = 60_000 * MS;
+        for (int i = 0; i < 10; i++) {
+            assertThat(bucket.tryTake(later)).isZero();
+        }
+        assertThat(bucket.tryTake(later)).isEqualTo(100);
+        // Full again, but kept until its taken tokens are synced
+        assertThat(bucket.isFullAndIdle(later + 2000 * MS, 0)).isFalse();
+        bucket.drainUnsynced();
+        assertThat(bucket.isFullAndIdle(later + 2000 * MS, 0)).isTrue();
+    }
+
+    @Test
+    void adoptingAnOvershootMakesTheClientWaitItOut() {
+        RateLimitServiceImpl.Bucket bucket = new RateLimitServiceImpl.Bucket(route, 0);
+        bucket.tryTake(0);
+        bucket.tryTake(0);
+        assertThat(bucket.drainUnsynced()).isEqualTo(2);
+
+        // Taken while the reconcile round trip was in flight
+        bucket.tryTake(0);
+        // Other nodes admitted 5 more than this node's share
+        bucket.adopt(-5, 0);
+
+        assertThat(bucket.hasUnsynced()).isTrue();
+        // -6 tokens: 7 refills until one is whole again
+        assertThat(bucket.tryTake(0)).isEqualTo(700);
+        assertThat(bucket.tryTake(701 * MS)).isZero();
+    }
+
+    @Test
+    void usersAndAddressesHaveTheirOwnBuckets() {
+        RateLimitServiceImpl service = service(100);
+
+        assertThat(service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.1")).isPositive();
+        assertThat(service.tryAcquire("GET", "/api/hotels/search", 5L, "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.2")).isZero();
+        // Other methods and paths are not limited
+        assertThat(service.tryAcquire("POST", "/api/hotels/search", null, "10.0.0.1")).isZero();
+        assertThat(service.tryAcquire("GET", "/api/bookings", null, "10.0.0.1")).isZero();
+
+        assertThat(meterRegistry.counter("http.rate_limit.throttled", "route", "search", "client", "ip").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void bucketTableEvictsTheLeastRecentlyUsedBucket() {
+        RateLimitServiceImpl service = service(2);
+
+        service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.1");
+        service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.2");
+        // Throttled, and now the most recently used
+        assertThat(service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.1")).isPositive();
+        service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.3");
+
+        assertThat(meterRegistry.get("http.rate_limit.buckets").gauge().value()).isEqualTo(2);
+        assertThat(service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.1")).isPositive();
+        assertThat(service.tryAcquire("GET", "/api/hotels/search", null, "10.0.0.2")).isZero();
+    }
+
+    private RateLimitServiceImpl service(int maxBuckets) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.rate-limit.routes", "search")
+                .withProperty("app.rate-limit.route.search.patterns", "/api/hotels/search")
+                .withProperty("app.rate-limit.route.search.methods", "GET")
+                .withProperty("app.rate-limit.route.search.capacity", "1")
+                .withProperty("app.rate-limit.route.search.refill-per-minute", "1");
+        return new RateLimitServiceImpl(mock(StringRedisTemplate.class), meterRegistry, environment,
+                true, "local", "test:", 200, 600_000, maxBuckets);
+    }
+}
@@ -0,0 +1,153 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.yakrooms.be.dto.response.RefreshTokenResponse;
+import com.yakrooms.be.model.entity.RefreshToken;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.repository.RefreshTokenRepository;
+import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.security.JwtUtil;
+
+/**
+ * Key and argument layout passed to the Lua scripts, and how their replies
+ * are turned into results and audit rows. The scripts themselves run in Redis.
+ */
+class RefreshTokenServiceRedisImplTest {
+
+    private static final String NEW_HASH = "a".repeat(64);
+    private static final String OLD_HASH = "b".repeat(64);
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+    private final List<List<String>> scriptKeys = new ArrayList<>();
+    private final List<Object[]> scriptArgs = new ArrayList<>();
+    private List<Object> reply;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(5L);
+        when(userRepository.findById(5L)).thenReturn(Optional.of(user));
+        when(jwtUtil.generateRefreshToken(user)).thenReturn("new-token");
+        when(jwtUtil.generateTokenHash("new-token")).thenReturn(NEW_HASH);
+        when(jwtUtil.generateTokenHash("old-token")).thenReturn(OLD_HASH);
+        when(jwtUtil.validateRefreshToken("old-token")).thenReturn(true);
+        when(jwtUtil.extractUserId("old-token")).thenReturn(5L);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).thenAnswer(inv -> {
+            scriptKeys.add(inv.getArgument(1));
+            Object[] args = new Object[inv.getArguments().length - 2];
+            System.arraycopy(inv.getArguments(), 2, args, 0, args.length);
+            scriptArgs.add(args);
+            return reply;
+        });
+    }
+
+    @Test
+    void issueStoresTheTokenAndAuditsEvictedTokens() {
+        reply = List.of(1L, "evicted-1", "evicted-2");
+
+        RefreshTokenResponse response = service(true).createRefreshToken(user, "iPhone", "10.0.0.1");
+
+        assertThat(response.getToken()).isEqualTo("new-token");
+        assertThat(response.getUserId()).isEqualTo(5L);
+        assertThat(scriptKeys.get(0)).containsExactly("refresh:token:" + NEW_HASH, "refresh:user:5");
+        Object[] args = scriptArgs.get(0);
+        assertThat(args).hasSize(9);
+        assertThat(args[0]).isEqualTo("5");
+        assertThat(args[1]).isEqualTo(NEW_HASH);
+        assertThat(args[3]).isEqualTo("iPhone");
+        assertThat(args[5]).isEqualTo("604800000");
+        assertThat(args[7]).isEqualTo("3");
+
+        ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(saved.capture());
+        assertThat(saved.getValue().getTokenHash()).isEqualTo(NEW_HASH);
+        verify(refreshTokenRepository).revokeTokenByHash(eq("evicted-1"), any());
+        verify(refreshTokenRepository).revokeTokenByHash(eq("evicted-2"), any());
+    }
+
+    @Test
+    void rotationPassesTheOldTokenAndAuditsItsRevocation() {
+        reply = List.of(1L);
+
+        RefreshTokenResponse response = service(true).validateAndRotateToken("old-token", null, null);
+
+        assertThat(response.getToken()).isEqualTo("new-token");
+        assertThat(scriptKeys.get(0)).containsExactly("refresh:token:" + NEW_HASH, "refresh:user:5", "refresh:token:" + OLD_HASH);
+        assertThat(scriptArgs.get(0)).hasSize(10).endsWith(OLD_HASH);
+        assertThat(scriptArgs.get(0)[3]).isEqualTo("");
+        verify(refreshTokenRepository).revokeTokenByHash(eq(OLD_HASH), any());
+    }
+
+    @Test
+    void alreadyRotatedTokenIsRejected() {
+        reply = List.of(0L);
+
+        assertThatThrownBy(() -> service(true).validateAndRotateToken("old-token", null, null))
+                .isInstanceOf(SecurityException.class)
+                .hasMessageContaining("not found or revoked");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void tokenOfAnotherUserIsRejected() {
+        reply = List.of(-1L);
+
+        assertThatThrownBy(() -> service(false).validateAndRotateToken("old-token", null, null))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void emptyReplyIsTreatedAsRevoked() {
+        reply = null;
+
+        assertThatThrownBy(() -> service(false).validateAndRotateToken("old-token", null, null))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void invalidJwtNeverReachesRedis() {
+        assertThatThrownBy(() -> service(false).validateAndRotateToken("forged", null, null))
+                .isInstanceOf(SecurityException.class)
+                .hasMessage("Invalid refresh token");
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void withoutAuditTheDatabaseIsNotWritten() {
+        reply = List.of(1L, "evicted-1");
+
+        service(false).createRefreshToken(user, null, null);
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+
+    private RefreshTokenServiceRedisImpl service(boolean audit) {
+        return new RefreshTokenServiceRedisImpl(redisTemplate, userRepository, refreshTokenRepository, jwtUtil,
+                mock(PlatformTransactionManager.class), 604_800_000L, 3, audit);
+    }
+}
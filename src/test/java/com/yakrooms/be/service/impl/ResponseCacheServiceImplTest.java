@@ -0,0 +1,119 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.yakrooms.be.service.ResponseCacheService.CachedResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ResponseCacheServiceImplTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger builds = new AtomicInteger();
+
+    @Test
+    void sameVersionIsServedFromTheCache() {
+        ResponseCacheServiceImpl cache = cache(10, 1024);
+
+        CachedResponse first = cache.get("topThree", "\"c1\"", body("a"));
+        CachedResponse second = cache.get("topThree", "\"c1\"", body("b"));
+
+        assertThat(second).isSameAs(first);
+        assertThat(json(second)).isEqualTo("[\"a\"]");
+        assertThat(builds).hasValue(1);
+        assertThat(meterRegistry.get("http.response_cache").tag("result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.response_cache").tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void newVersionRebuildsTheEntry() {
+        ResponseCacheServiceImpl cache = cache(10, 1024);
+        cache.get("topThree", "\"c1\"", body("a"));
+
+        assertThat(json(cache.get("topThree", "\"c2\"", body("b")))).isEqualTo("[\"b\"]");
+        assertThat(json(cache.get("topThree", "\"c2\"", body("c")))).isEqualTo("[\"b\"]");
+        assertThat(builds).hasValue(2);
+    }
+
+    @Test
+    void invalidateAllDropsEveryEntry() {
+        ResponseCacheServiceImpl cache = cache(10, 1024);
+        cache.get("topThree", "\"c1\"", body("a"));
+        cache.get("list:0:10:UNSORTED", "\"c1\"", body("a"));
+
+        cache.invalidateAll();
+
+        assertThat(meterRegistry.get("http.response_cache.entries").gauge().value()).isZero();
+        assertThat(json(cache.get("topThree", "\"c1\"", body("b")))).isEqualTo("[\"b\"]");
+    }
+
+    @Test
+    void fullCacheDropsOnlyTheLeastRecentlyUsedEntry() {
+        ResponseCacheServiceImpl cache = cache(2, 1024);
+        cache.get("page-0", "\"c1\"", body("p0"));
+        cache.get("page-1", "\"c1\"", body("p1"));
+        cache.get("page-0", "\"c1\"", body("p0"));
+
+        cache.get("page-2", "\"c1\"", body("p2"));
+
+        assertThat(meterRegistry.get("http.response_cache.entries").gauge().value()).isEqualTo(2);
+        builds.set(0);
+        cache.get("page-0", "\"c1\"", body("p0"));
+        cache.get("page-2", "\"c1\"", body("p2"));
+        assertThat(builds).hasValue(0);
+        cache.get("page-1", "\"c1\"", body("p1"));
+        assertThat(builds).hasValue(1);
+    }
+
+    @Test
+    void largeBodiesAreAlsoKeptGzipped() throws IOException {
+        ResponseCacheServiceImpl cache = cache(10, 64);
+
+        CachedResponse small = cache.get("small", "\"c1\"", body("a"));
+        CachedResponse large = cache.get("large", "\"c1\"", body("a".repeat(500)));
+
+        assertThat(small.gzipped()).isNull();
+        assertThat(large.gzipped()).hasSizeLessThan(large.json().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(large.gzipped()))) {
+            assertThat(in.readAllBytes()).isEqualTo(large.json());
+        }
+    }
+
+    @Test
+    void requestsWithoutAVersionAreNotCached() {
+        ResponseCacheServiceImpl cache = cache(10, 1024);
+
+        cache.get("topThree", null, body("a"));
+        cache.get("topThree", null, body("b"));
+
+        assertThat(builds).hasValue(2);
+        assertThat(meterRegistry.get("http.response_cache.entries").gauge().value()).isZero();
+    }
+
+    private ResponseCacheServiceImpl cache(int maxEntries, int gzipMinBytes) {
+        return new ResponseCacheServiceImpl(new MappingJackson2HttpMessageConverter(), meterRegistry,
+                true, maxEntries, 524_288, gzipMinBytes);
+    }
+
+    private Supplier<List<String>> body(String value) {
+        return () -> {
+            builds.incrementAndGet();
+            return List.of(value);
+        };
+    }
+
+    private static String json(CachedResponse response) {
+        return new String(response.json(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,72 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import com.yakrooms.be.dto.mapper.RoomMapper;
+import com.yakrooms.be.dto.request.RoomRequest;
+import com.yakrooms.be.model.entity.Hotel;
+import com.yakrooms.be.model.entity.Room;
+import com.yakrooms.be.repository.BookingRepository;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.repository.RoomRepository;
+import com.yakrooms.be.service.CatalogVersionService;
+import com.yakrooms.be.service.FileDeletionQueueService;
+import com.yakrooms.be.service.RoomStatusBoardService;
+import com.yakrooms.be.service.WebSocketRelayService;
+
+class RoomServiceImplTest {
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final CatalogVersionService catalogVersionService = mock(CatalogVersionService.class);
+
+    private final RoomServiceImpl service = new RoomServiceImpl(roomRepository, mock(HotelRepository.class),
+            new RoomMapper(), mock(RoomStatusBoardService.class), mock(WebSocketRelayService.class),
+            mock(BookingRepository.class), mock(FileDeletionQueueService.class), catalogVersionService);
+
+    @Test
+    void priceEditMovesTheCatalogVersion() {
+        Room room = room(9L, 5L, 2500.0);
+        when(roomRepository.findByIdWithItems(9L)).thenReturn(Optional.of(room));
+        when(roomRepository.save(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(roomRepository.findActiveAvailableRoomsByHotelId(eq(5L), any(Pageable.class))).thenReturn(Page.empty());
+
+        RoomRequest request = new RoomRequest();
+        request.setPrice(3000.0);
+        service.updateRoom(9L, request);
+
+        assertThat(room.getPrice()).isEqualTo(3000.0);
+        verify(catalogVersionService).markHotelChanged(5L);
+    }
+
+    @Test
+    void availabilityFlipLeavesTheCatalogVersionAlone() {
+        when(roomRepository.findByIdWithItems(9L)).thenReturn(Optional.of(room(9L, 5L, 2500.0)));
+        when(roomRepository.save(any(Room.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.toggleAvailability(9L, false);
+
+        verify(catalogVersionService, never()).markHotelChanged(any());
+    }
+
+    private static Room room(Long roomId, Long hotelId, Double price) {
+        Hotel hotel = new Hotel();
+        hotel.setId(hotelId);
+        Room room = new Room();
+        room.setId(roomId);
+        room.setHotel(hotel);
+        room.setPrice(price);
+        return room;
+    }
+}
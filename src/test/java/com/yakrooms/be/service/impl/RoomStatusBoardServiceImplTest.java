@@ -0,0 +1,163 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.yakrooms.be.dto.RoomStatusChangeEvent;
+import com.yakrooms.be.dto.RoomStatusDTO;
+import com.yakrooms.be.dto.mapper.RoomStatusMapper;
+import com.yakrooms.be.projection.RoomStatusBoardProjection;
+import com.yakrooms.be.repository.RoomRepository;
+import com.yakrooms.be.service.BookingWebSocketService;
+
+class RoomStatusBoardServiceImplTest {
+
+    private final RoomRepository roomRepository = mock(RoomRepository.class);
+    private final BookingWebSocketService bookingWebSocketService = mock(BookingWebSocketService.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+
+    @Test
+    void localChangesUpdateTheBoardAndPushADelta() {
+        RoomStatusBoardServiceImpl service = service("local");
+        when(roomRepository.findRoomStatusBoardByHotelId(1L)).thenReturn(List.of(row(10L, 1L, "101", "AVAILABLE")));
+        assertThat(service.getRoomStatus(1L, PageRequest.of(0, 10)).getContent())
+                .extracting(RoomStatusDTO::getRoomStatus).containsExactly("AVAILABLE");
+
+        when(roomRepository.findRoomStatusBoardByRoomIds(List.of(10L))).thenReturn(List.of(row(10L, 1L, "101", "OCCUPIED")));
+        service.markRoomChanged(10L);
+
+        assertThat(service.flushChanges()).isEqualTo(1);
+        assertThat(service.getRoomStatus(1L, PageRequest.of(0, 10)).getContent())
+                .extracting(RoomStatusDTO::getRoomStatus).containsExactly("OCCUPIED");
+        ArgumentCaptor<RoomStatusChangeEvent> event = ArgumentCaptor.forClass(RoomStatusChangeEvent.class);
+        verify(bookingWebSocketService).broadcastRoomStatusChange(event.capture());
+        assertThat(event.getValue().getRoomId()).isEqualTo(10L);
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void redisModePublishesAppliedRooms() {
+        RoomStatusBoardServiceImpl service = service("redis");
+        when(roomRepository.findRoomStatusBoardByRoomIds(List.of(10L))).thenReturn(List.of(row(10L, 1L, "101", "OCCUPIED")));
+        service.markRoomChanged(10L);
+        service.markRoomRemoved(2L, 20L);
+
+        service.flushChanges();
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("channel"), message.capture());
+        String[] lines = message.getValue().split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(List.of(lines).subList(1, 3)).containsExactly("c:10:1", "r:20:2");
+    }
+
+    @Test
+    void remoteChangesAreRecomputedWithoutPushingAgain() {
+        RoomStatusBoardServiceImpl service = service("redis");
+        when(roomRepository.findRoomStatusBoardByHotelId(1L)).thenReturn(List.of(
+                row(10L, 1L, "101", "AVAILABLE"), row(11L, 1L, "102", "AVAILABLE")));
+        service.getRoomStatus(1L, PageRequest.of(0, 10));
+
+        when(roomRepository.findRoomStatusBoardByRoomIds(List.of(10L))).thenReturn(List.of(row(10L, 1L, "101", "OCCUPIED")));
+        service.onMessage(message("other-node\nc:10:1\nr:11:1\nc:30:3"), null);
+
+        assertThat(service.flushChanges()).isEqualTo(2);
+        assertThat(service.getRoomStatus(1L, PageRequest.of(0, 10)).getContent())
+                .extracting(RoomStatusDTO::getRoomNumber, RoomStatusDTO::getRoomStatus)
+                .containsExactly(tuple("101", "OCCUPIED"));
+        // Room 30 belongs to a hotel without a board here, so it is not queried
+        verify(roomRepository).findRoomStatusBoardByRoomIds(List.of(10L));
+        verify(bookingWebSocketService, never()).broadcastRoomStatusChange(any());
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void ownAndMalformedMessagesAreIgnored() {
+        RoomStatusBoardServiceImpl service = service("redis");
+        when(roomRepository.findRoomStatusBoardByHotelId(1L)).thenReturn(List.of(row(10L, 1L, "101", "AVAILABLE")));
+        service.getRoomStatus(1L, PageRequest.of(0, 10));
+
+        when(roomRepository.findRoomStatusBoardByRoomIds(List.of(10L))).thenReturn(List.of(row(10L, 1L, "101", "OCCUPIED")));
+        service.markRoomChanged(10L);
+        service.flushChanges();
+        ArgumentCaptor<String> published = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq("channel"), published.capture());
+
+        service.onMessage(message(published.getValue()), null);
+        service.onMessage(message("other-node\nc:x:1\nzz:1"), null);
+
+        assertThat(service.flushChanges()).isZero();
+        verify(roomRepository).findRoomStatusBoardByRoomIds(anyList());
+    }
+
+    @Test
+    void evictionsReachOtherNodes() {
+        RoomStatusBoardServiceImpl service = service("redis");
+        when(roomRepository.findRoomStatusBoardByHotelId(1L)).thenReturn(List.of(row(10L, 1L, "101", "AVAILABLE")));
+        service.getRoomStatus(1L, PageRequest.of(0, 10));
+
+        service.evictHotel(1L);
+        verify(redisTemplate).convertAndSend(eq("channel"), endsWith("\ne:1"));
+        service.getRoomStatus(1L, PageRequest.of(0, 10));
+
+        service.onMessage(message("other-node\ne:1"), null);
+        service.getRoomStatus(1L, PageRequest.of(0, 10));
+        verify(roomRepository, times(3)).findRoomStatusBoardByHotelId(1L);
+    }
+
+    private RoomStatusBoardServiceImpl service(String sync) {
+        return new RoomStatusBoardServiceImpl(roomRepository, new RoomStatusMapper(), bookingWebSocketService,
+                provider(redisTemplate), provider(mock(RedisMessageListenerContainer.class)),
+                900_000, sync, "channel");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ObjectProvider<T> provider(T value) {
+        ObjectProvider<T> provider = mock(ObjectProvider.class);
+        when(provider.getObject()).thenReturn(value);
+        when(provider.getIfAvailable()).thenReturn(value);
+        return provider;
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("channel".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static RoomStatusBoardProjection row(Long roomId, Long hotelId, String roomNumber, String status) {
+        return new Row(roomId, hotelId, roomNumber, status);
+    }
+
+    private record Row(Long roomId, Long hotelId, String roomNumber, String roomStatus) implements RoomStatusBoardProjection {
+        public Long getRoomId() { return roomId; }
+        public Long getHotelId() { return hotelId; }
+        public Long getBookingId() { return null; }
+        public LocalDate getCheckInDate() { return null; }
+        public String getRoomNumber() { return roomNumber; }
+        public String getRoomType() { return "DOUBLE"; }
+        public String getRoomStatus() { return roomStatus; }
+        public String getGuestName() { return null; }
+        public LocalDate getCheckOutDate() { return null; }
+    }
+}
@@ -0,0 +1,46 @@
+package com.yakrooms.be.service.impl;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.yakrooms.be.model.entity.Staff;
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.repository.HotelRepository;
+import com.yakrooms.be.repository.StaffRepository;
+import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.TokenRevocationService;
+
+class StaffServiceImplTest {
+
+    private final StaffRepository staffRepository = mock(StaffRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TokenRevocationService tokenRevocationService = mock(TokenRevocationService.class);
+    private final LoginActivityService loginActivityService = mock(LoginActivityService.class);
+    private final StaffServiceImpl service = new StaffServiceImpl(staffRepository, mock(HotelRepository.class),
+            userRepository, tokenRevocationService, loginActivityService);
+
+    @Test
+    void deletingStaffRevokesTheirAccessTokens() {
+        User user = new User();
+        user.setId(5L);
+        user.setEmail("staff@dochula.bt");
+        Staff staff = new Staff();
+        staff.setId(9L);
+        staff.setUser(user);
+        when(staffRepository.findById(9L)).thenReturn(Optional.of(staff));
+
+        service.deleteStaffById(9L);
+
+        verify(userRepository).delete(user);
+        verify(tokenRevocationService).revokeAllForUsers(List.of(5L));
+        verify(loginActivityService).evictUser("staff@dochula.bt");
+        verify(staffRepository).deleteById(9L);
+    }
+}
@@ -0,0 +1,107 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenRevocationServiceImplTest {
+
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void userRevocationCoversTokensIssuedUpToNow() {
+        TokenRevocationServiceImpl service = localService();
+        Date before = new Date(System.currentTimeMillis() - 1000);
+
+        service.revokeAllForUser(5L);
+
+        assertThat(service.isRevoked(5L, "jti-1", before)).isTrue();
+        assertThat(service.isRevoked(5L, "jti-2", new Date(System.currentTimeMillis() + 1000))).isFalse();
+        assertThat(service.isRevoked(6L, "jti-3", before)).isFalse();
+        assertThat(meterRegistry.counter("token.revocation.rejected").count()).isEqualTo(1);
+    }
+
+    @Test
+    void singleTokenRevocation() {
+        TokenRevocationServiceImpl service = localService();
+
+        service.revokeToken("jti-1", new Date(System.currentTimeMillis() + 60_000));
+        service.revokeToken("expired", new Date(System.currentTimeMillis() - 1));
+
+        assertThat(service.isRevoked(5L, "jti-1", new Date())).isTrue();
+        assertThat(service.isRevoked(5L, "jti-2", new Date())).isFalse();
+        assertThat(service.isRevoked(5L, "expired", new Date())).isFalse();
+    }
+
+    @Test
+    void bulkRevocationWaitsForCommit() {
+        TokenRevocationServiceImpl service = localService();
+        Date issuedAt = new Date(System.currentTimeMillis() - 1000);
+
+        TransactionSynchronizationManager.initSynchronization();
+        service.revokeAllForUsers(List.of(5L, 6L));
+        assertThat(service.isRevoked(5L, "jti-1", issuedAt)).isFalse();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(service.isRevoked(5L, "jti-1", issuedAt)).isTrue();
+        assertThat(service.isRevoked(6L, "jti-2", issuedAt)).isTrue();
+    }
+
+    @Test
+    void refreshDropsRevocationsOlderThanTheAccessTokenLifetime() throws InterruptedException {
+        TokenRevocationServiceImpl service = new TokenRevocationServiceImpl(redisTemplate, noContainer(), meterRegistry,
+                "local", "key", "channel", 50, 100, 0.001);
+        Date issuedAt = new Date(System.currentTimeMillis() - 1000);
+        service.revokeAllForUser(5L);
+        service.revokeToken("jti-1", new Date(System.currentTimeMillis() + 50));
+
+        Thread.sleep(100);
+        service.refresh();
+
+        assertThat(service.isRevoked(5L, "jti-1", issuedAt)).isFalse();
+    }
+
+    @Test
+    void localModeNeverTalksToRedis() {
+        TokenRevocationServiceImpl service = localService();
+        service.subscribe();
+        service.revokeAllForUser(5L);
+        service.refresh();
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private TokenRevocationServiceImpl localService() {
+        return new TokenRevocationServiceImpl(redisTemplate, noContainer(), meterRegistry,
+                "local", "key", "channel", 900_000, 100, 0.001);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<RedisMessageListenerContainer> noContainer() {
+        return mock(ObjectProvider.class);
+    }
+}
@@ -0,0 +1,83 @@
+package com.yakrooms.be.service.impl;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.yakrooms.be.model.entity.User;
+import com.yakrooms.be.model.enums.Role;
+import com.yakrooms.be.repository.UserRepository;
+import com.yakrooms.be.service.LoginActivityService;
+import com.yakrooms.be.service.TokenRevocationService;
+
+@ExtendWith(MockitoExtension.class)
+class UserRoleServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private LoginActivityService loginActivityService;
+
+    @InjectMocks
+    private UserRoleServiceImpl service;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setId(5L);
+        user.setEmail("owner@dochula.bt");
+        user.addRole(Role.GUEST);
+        user.addRole(Role.HOTEL_ADMIN);
+        when(userRepository.findByIdWithCollections(5L)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void removingAHeldRoleRevokesTheUsersTokens() {
+        service.removeRoleFromUser(5L, Role.HOTEL_ADMIN);
+
+        verify(tokenRevocationService).revokeAllForUsers(List.of(5L));
+        verify(loginActivityService).evictUser("owner@dochula.bt");
+    }
+
+    @Test
+    void removingARoleTheUserDoesNotHaveRevokesNothing() {
+        service.removeRoleFromUser(5L, Role.STAFF);
+
+        verify(tokenRevocationService, never()).revokeAllForUsers(any());
+    }
+
+    @Test
+    void replacingRolesRevokesOnlyWhenOneIsDropped() {
+        service.setUserRoles(5L, List.of(Role.GUEST, Role.HOTEL_ADMIN, Role.STAFF));
+        verify(tokenRevocationService, never()).revokeAllForUsers(any());
+
+        service.setUserRoles(5L, List.of(Role.GUEST));
+        verify(tokenRevocationService).revokeAllForUsers(List.of(5L));
+    }
+
+    @Test
+    void addingARoleRevokesNothing() {
+        service.addRoleToUser(5L, Role.STAFF);
+
+        verify(tokenRevocationService, never()).revokeAllForUsers(any());
+        // Still evicted, so the next login's token carries the new role
+        verify(loginActivityService).evictUser("owner@dochula.bt");
+    }
+}
@@ -0,0 +1,195 @@
+package com.yakrooms.be.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yakrooms.be.config.JsonCodecs;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Two relay nodes in one JVM, connected by an in-memory stand-in for Redis
+ * pub/sub that hands every published message to all subscribed nodes,
+ * the publisher included, like Redis does.
+ */
+class WebSocketRelayServiceImplTest {
+
+    private static final String DESTINATION = "/topic/hotels/7/bookings";
+
+    private final List<WebSocketRelayServiceImpl> bus = new ArrayList<>();
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void startNodes() {
+        nodeA = new Node();
+        nodeB = new Node();
+    }
+
+    @Test
+    void deliversToSubscribersOnBothNodes() {
+        nodeA.relay.send(DESTINATION, Map.of("bookingId", 42));
+
+        assertThat(nodeA.deliveredBodies()).containsExactly("{\"bookingId\":42}");
+        assertThat(nodeB.deliveredBodies()).containsExactly("{\"bookingId\":42}");
+        assertThat(nodeA.count("published")).isEqualTo(1);
+        assertThat(nodeA.count("delivered")).isEqualTo(1);
+        assertThat(nodeB.count("delivered")).isEqualTo(1);
+    }
+
+    @Test
+    void eachNodeSkipsItsOwnMessages() {
+        nodeA.relay.send(DESTINATION, Map.of("from", "a"));
+        nodeB.relay.send(DESTINATION, Map.of("from", "b"));
+
+        // Each node sees both events exactly once: its own locally, the other's through the relay
+        assertThat(nodeA.deliveredBodies()).containsExactly("{\"from\":\"a\"}", "{\"from\":\"b\"}");
+        assertThat(nodeB.deliveredBodies()).containsExactly("{\"from\":\"a\"}", "{\"from\":\"b\"}");
+    }
+
+    @Test
+    void deliversToEveryDestinationOnBothNodes() {
+        nodeA.relay.send(List.of(DESTINATION, "/queue/users/3/bookings"), Map.of("bookingId", 1));
+
+        assertThat(nodeB.deliveredDestinations()).containsExactly(DESTINATION, "/queue/users/3/bookings");
+        assertThat(nodeA.deliveredDestinations()).containsExactly(DESTINATION, "/queue/users/3/bookings");
+    }
+
+    @Test
+    void coalescedDestinationsKeepSingleEventsAndAddBatchedArrays() {
+        nodeA.relay.sendCoalesced(DESTINATION, Map.of("bookingId", 42));
+
+        for (Node node : List.of(nodeA, nodeB)) {
+            assertThat(node.deliveredDestinations()).containsExactly(DESTINATION, DESTINATION + "/batched");
+            assertThat(node.deliveredBodies()).containsExactly("{\"bookingId\":42}", "[{\"bookingId\":42}]");
+        }
+    }
+
+    @Test
+    void eventsWithinTheWindowShareOneBatchedFrame() throws InterruptedException {
+        Node windowed = new Node(30);
+        windowed.relay.sendCoalesced(DESTINATION, Map.of("bookingId", 42));
+        windowed.relay.sendCoalesced(DESTINATION, Map.of("bookingId", 43));
+
+        // Existing subscribers get one object per frame right away
+        assertThat(nodeB.deliveredBodies()).containsExactly("{\"bookingId\":42}", "{\"bookingId\":43}");
+
+        long deadline = System.currentTimeMillis() + 5000;
+        while (nodeB.deliveredBodies().size() < 3 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(nodeB.deliveredDestinations()).containsExactly(DESTINATION, DESTINATION, DESTINATION + "/batched");
+        assertThat(nodeB.deliveredBodies().get(2)).isEqualTo("[{\"bookingId\":42},{\"bookingId\":43}]");
+        windowed.relay.shutdown();
+    }
+
+    @Test
+    void deliversLocallyWhenPublishFails() {
+        doThrow(new RedisConnectionFailureException("down"))
+                .when(nodeA.redisTemplate).convertAndSend(anyString(), any());
+
+        nodeA.relay.send(DESTINATION, Map.of("bookingId", 42));
+
+        assertThat(nodeA.deliveredBodies()).containsExactly("{\"bookingId\":42}");
+        assertThat(nodeB.deliveredBodies()).isEmpty();
+        assertThat(nodeA.count("publish_failed")).isEqualTo(1);
+    }
+
+    @Test
+    void dropsMalformedRelayMessages() {
+        nodeB.relay.onMessage(new DefaultMessage("yakrooms:ws:hotels".getBytes(StandardCharsets.UTF_8),
+                "no-separators".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(nodeB.deliveredBodies()).isEmpty();
+        assertThat(nodeB.count("delivery_failed")).isEqualTo(1);
+    }
+
+    @Test
+    void subscribesToChannelPattern() {
+        verify(nodeA.listenerContainer).addMessageListener(eq(nodeA.relay), eq(new PatternTopic("yakrooms:ws:*")));
+        verify(nodeA.messagingTemplate, never()).send(anyString(), any());
+    }
+
+    private final class Node {
+        private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+        private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        private final RedisMessageListenerContainer listenerContainer = mock(RedisMessageListenerContainer.class);
+        private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private final WebSocketRelayServiceImpl relay;
+
+        private Node() {
+            this(0);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Node(long coalesceWindowMs) {
+            ObjectProvider<StringRedisTemplate> redisProvider = mock(ObjectProvider.class);
+            when(redisProvider.getObject()).thenReturn(redisTemplate);
+            ObjectProvider<RedisMessageListenerContainer> containerProvider = mock(ObjectProvider.class);
+            when(containerProvider.getIfAvailable()).thenReturn(listenerContainer);
+
+            relay = new WebSocketRelayServiceImpl(messagingTemplate, new JsonCodecs(new ObjectMapper()), meterRegistry,
+                    redisProvider, containerProvider, "redis", "yakrooms:ws:", coalesceWindowMs, 100);
+            relay.subscribe();
+
+            doAnswer(invocation -> {
+                byte[] channel = invocation.<String>getArgument(0).getBytes(StandardCharsets.UTF_8);
+                byte[] body = invocation.<String>getArgument(1).getBytes(StandardCharsets.UTF_8);
+                for (WebSocketRelayServiceImpl subscriber : List.copyOf(bus)) {
+                    subscriber.onMessage(new DefaultMessage(channel, body), "yakrooms:ws:*".getBytes(StandardCharsets.UTF_8));
+                }
+                return 1L;
+            }).when(redisTemplate).convertAndSend(anyString(), any());
+            bus.add(relay);
+        }
+
+        private List<String> deliveredBodies() {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Message<byte[]>> messages = ArgumentCaptor.forClass(Message.class);
+            verify(messagingTemplate, atLeast(0)).send(anyString(), messages.capture());
+            return messages.getAllValues().stream()
+                    .map(message -> new String(message.getPayload(), StandardCharsets.UTF_8))
+                    .toList();
+        }
+
+        private List<String> deliveredDestinations() {
+            ArgumentCaptor<String> destinations = ArgumentCaptor.forClass(String.class);
+            verify(messagingTemplate, atLeast(0)).send(destinations.capture(), any(Message.class));
+            return destinations.getAllValues();
+        }
+
+        private double count(String outcome) {
+            return meterRegistry.find("websocket.relay.messages").tag("outcome", outcome).counters().stream()
+                    .mapToDouble(Counter::count)
+                    .sum();
+        }
+    }
+}
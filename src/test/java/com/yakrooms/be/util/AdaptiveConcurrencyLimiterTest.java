@@ -0,0 +1,141 @@
+package com.yakrooms.be.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Simulated traffic at 100 requests a second: a budget mixing a fast lookup,
+ * a slow report and a cached endpoint whose misses are 40 times slower than
+ * its hits.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MS = 1_000_000L;
+
+    private final Random random = new Random(42);
+    private long now;
+
+    @Test
+    void mixedEndpointsAtNormalLatencyGrowTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        feed(limiter, 5_000, Integer.MAX_VALUE, 1.0, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void queueingShrinksTheLimitAndRecoveryGrowsItBack() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        feed(limiter, 5_000, Integer.MAX_VALUE, 1.0, true);
+
+        // The backend now runs 30 requests at a time; more only queue
+        double average = feed(limiter, 3_000, 30, 1.0, true);
+        assertThat(average).isLessThan(85);
+
+        feed(limiter, 3_000, Integer.MAX_VALUE, 1.0, true);
+        assertThat(limiter.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void lastingSlowdownBecomesTheNewNormal() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        feed(limiter, 5_000, Integer.MAX_VALUE, 1.0, true);
+
+        // Three times slower whatever the limit, e.g. a slower database
+        feed(limiter, 12_000, Integer.MAX_VALUE, 3.0, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(100);
+    }
+
+    @Test
+    void occasionalSlowRequestsDoNotCountAsOverload() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        feed(limiter, 5_000, Integer.MAX_VALUE, 1.0, true);
+
+        for (int i = 0; i < 2_000; i++) {
+            // One request in 20 takes five times its usual time, e.g. a lock wait
+            double slowdown = i % 20 == 0 ? 5.0 : 1.0;
+            now += 10 * MS;
+            limiter.update("GET /api/rooms/available/**", latency(20 * MS, slowdown), false, limiter.getLimit(), now);
+        }
+
+        assertThat(limiter.getLimit()).isGreaterThanOrEqualTo(90);
+    }
+
+    @Test
+    void quietPeriodsNeitherGrowNorShrinkTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(40);
+        feed(limiter, 200, Integer.MAX_VALUE, 1.0, false);
+        assertThat(limiter.getLimit()).isEqualTo(40);
+
+        feed(limiter, 500, Integer.MAX_VALUE, 5.0, false);
+        assertThat(limiter.getLimit()).isEqualTo(40);
+    }
+
+    @Test
+    void failuresShrinkTheLimitEvenAtNormalLatency() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        feed(limiter, 5_000, Integer.MAX_VALUE, 1.0, true);
+
+        for (int i = 0; i < 200; i++) {
+            now += 10 * MS;
+            limiter.update("GET /api/hotels/autocomplete", 2 * MS, true, limiter.getLimit(), now);
+        }
+
+        assertThat(limiter.getLimit()).isLessThan(50);
+    }
+
+    @Test
+    void requestsOverTheLimitAreRefused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, 2.0, 0.2, 300_000, 50);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+
+        limiter.release("GET /api/hotels/list", 5 * MS, false);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 5, 100, 2.0, 0.2, 300_000, 50);
+    }
+
+    /**
+     * Feed requests spread over three routes, 10 ms apart. Past capacity
+     * concurrent requests latency grows with the limit, as in a queue; every
+     * latency is also scaled by slowdown. The limit is fully in use when busy
+     * and nearly idle otherwise.
+     *
+     * @return the average limit over the requests
+     */
+    private double feed(AdaptiveConcurrencyLimiter limiter, int requests, int capacity, double slowdown, boolean busy) {
+        double limitSum = 0;
+        for (int i = 0; i < requests; i++) {
+            now += 10 * MS;
+            int limit = limiter.getLimit();
+            int inFlight = busy ? limit : 1;
+            double factor = slowdown * Math.max(1.0, (double) inFlight / capacity);
+            switch (random.nextInt(3)) {
+                case 0 -> limiter.update("GET /api/hotels/autocomplete", latency(2 * MS, factor), false, inFlight, now);
+                case 1 -> limiter.update("GET /api/booking-statistics/monthly/**", latency(400 * MS, factor), false, inFlight, now);
+                default -> {
+                    long base = random.nextInt(10) < 7 ? 5 * MS : 200 * MS;
+                    limiter.update("GET /api/hotels/details/**", latency(base, factor), false, inFlight, now);
+                }
+            }
+            limitSum += limit;
+        }
+        return limitSum / requests;
+    }
+
+    // Normal latency varies by up to 30% either way
+    private long latency(long base, double factor) {
+        return (long) (base * factor * (0.7 + 0.6 * random.nextDouble()));
+    }
+}
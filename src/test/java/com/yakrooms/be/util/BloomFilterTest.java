@@ -0,0 +1,91 @@
+package com.yakrooms.be.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @Test
+    void everyInsertedKeyIsFound() {
+        BloomFilter filter = new BloomFilter(10_000, 0.001);
+        for (long id = 0; id < 10_000; id++) {
+            filter.put(BloomFilter.hash(id));
+        }
+
+        for (long id = 0; id < 10_000; id++) {
+            assertThat(filter.mightContain(BloomFilter.hash(id))).isTrue();
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTheTargetAtCapacity() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(BloomFilter.hash(UUID.randomUUID().toString()));
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long id = 0; id < probes; id++) {
+            if (filter.mightContain(BloomFilter.hash(id))) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(100, 0.001);
+
+        assertThat(filter.mightContain(BloomFilter.hash(1L))).isFalse();
+        assertThat(filter.mightContain(BloomFilter.hash("jti"))).isFalse();
+    }
+
+    @Test
+    void extremeKeysMapToValidBits() {
+        BloomFilter filter = new BloomFilter(1, 0.5);
+        long[] keys = { 0L, -1L, Long.MIN_VALUE, Long.MAX_VALUE, 0x8000_0000L };
+        for (long key : keys) {
+            filter.put(key);
+        }
+        for (long key : keys) {
+            assertThat(filter.mightContain(key)).isTrue();
+        }
+    }
+
+    @Test
+    void concurrentPutsAreAllVisible() throws InterruptedException {
+        BloomFilter filter = new BloomFilter(40_000, 0.001);
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            long offset = t * 10_000L;
+            writers.add(new Thread(() -> {
+                for (long id = offset; id < offset + 10_000; id++) {
+                    filter.put(BloomFilter.hash(id));
+                }
+            }));
+        }
+        writers.forEach(Thread::start);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        for (long id = 0; id < 40_000; id++) {
+            assertThat(filter.mightContain(BloomFilter.hash(id))).isTrue();
+        }
+    }
+
+    @Test
+    void rejectsInvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> new BloomFilter(100, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BloomFilter(100, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,68 @@
+package com.yakrooms.be.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SuggestionTrieTest {
+
+    @Test
+    void suggestsByWeightUpToLimit() {
+        SuggestionTrie<String> trie = new SuggestionTrie<>(3);
+        trie.put("a", List.of("thimphu"), 5, "Thimphu");
+        trie.put("b", List.of("thinleygang"), 9, "Thinleygang");
+        trie.put("c", List.of("tashigang"), 1, "Tashigang");
+        trie.put("d", List.of("paro"), 7, "Paro");
+
+        assertThat(trie.suggest("th", 10)).containsExactly("Thinleygang", "Thimphu");
+        assertThat(trie.suggest("t", 10)).containsExactly("Thinleygang", "Thimphu", "Tashigang");
+        assertThat(trie.suggest("t", 1)).containsExactly("Thinleygang");
+        assertThat(trie.suggest("x", 10)).isEmpty();
+    }
+
+    @Test
+    void normalizesPrefixCaseAndWhitespace() {
+        SuggestionTrie<String> trie = new SuggestionTrie<>(5);
+        trie.put("h", List.of("Hotel  Tiger's Nest", "tiger's nest"), 1, "Hotel Tiger's Nest");
+
+        assertThat(trie.suggest("  HOTEL   tig", 5)).containsExactly("Hotel Tiger's Nest");
+        assertThat(trie.suggest("Tiger", 5)).containsExactly("Hotel Tiger's Nest");
+        assertThat(trie.suggest("   ", 5)).isEmpty();
+        assertThat(trie.suggest(null, 5)).isEmpty();
+    }
+
+    @Test
+    void replacingTermUpdatesKeysAndWeight() {
+        SuggestionTrie<String> trie = new SuggestionTrie<>(5);
+        trie.put("h1", List.of("alpha"), 1, "Alpha");
+        trie.put("h2", List.of("also"), 2, "Also");
+
+        trie.put("h1", List.of("beta"), 3, "Beta");
+
+        assertThat(trie.suggest("al", 5)).containsExactly("Also");
+        assertThat(trie.suggest("b", 5)).containsExactly("Beta");
+        assertThat(trie.size()).isEqualTo(2);
+    }
+
+    @Test
+    void removeAndClearDropTerms() {
+        SuggestionTrie<String> trie = new SuggestionTrie<>(5);
+        trie.put("h1", List.of("alpha"), 1, "Alpha");
+        trie.put("h2", List.of("alps"), 2, "Alps");
+
+        trie.remove("h2");
+        assertThat(trie.suggest("al", 5)).containsExactly("Alpha");
+
+        trie.clear();
+        assertThat(trie.suggest("al", 5)).isEmpty();
+        assertThat(trie.size()).isZero();
+    }
+
+    @Test
+    void rejectsNonPositiveCapacity() {
+        assertThatThrownBy(() -> new SuggestionTrie<String>(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
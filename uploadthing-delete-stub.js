@@ -0,0 +1,35 @@
+#!/usr/bin/env node
+
+/**
+ * Local stand-in for uploadthing-delete.js
+ *
+ * Prints the same JSON as the real script without calling UploadThing, so the
+ * deletion queue can be exercised locally:
+ *
+ *   uploadthing.delete-script=uploadthing-delete-stub.js
+ *
+ * Set UPLOADTHING_STUB_FAIL=1 to make every call fail and watch the queue back off.
+ * Usage: node uploadthing-delete-stub.js <fileKey1> [fileKey2] ...
+ */
+
+const fileKeys = process.argv.slice(2);
+
+if (fileKeys.length === 0) {
+    console.error('Error: No file keys provided');
+    process.exit(1);
+}
+
+if (process.env.UPLOADTHING_STUB_FAIL === '1') {
+    console.error(JSON.stringify({
+        success: false,
+        message: 'Stubbed failure',
+        fileKeys: fileKeys
+    }));
+    process.exit(1);
+}
+
+console.log(JSON.stringify({
+    success: true,
+    message: `Successfully deleted ${fileKeys.length} file(s)`,
+    deletedFiles: fileKeys
+}));